@@ -0,0 +1,60 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar, it accepts the same arguments as JMH's own {@link org.openjdk.jmh.Main}, but
+ * attaches the {@link GCProfiler} when no profiler is specified, so every run reports the allocation rate along the
+ * throughput and the latency percentiles.
+ * <p>
+ * Example of use:
+ * <pre>
+ * {@code
+ * mvn install
+ * cd benchmarks
+ * mvn package
+ * java -jar target/benchmarks.jar                    # Runs every benchmark.
+ * java -jar target/benchmarks.jar OptionBenchmark    # Runs only the benchmarks of Option.
+ * java -jar target/benchmarks.jar -rf json -rff baseline.json
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Hidden constructor
+     */
+    private BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks selected by the command line arguments.
+     *
+     * @param args JMH command line arguments.
+     * @throws CommandLineOptionException if the arguments are not valid JMH arguments.
+     * @throws RunnerException            if the benchmarks fail to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
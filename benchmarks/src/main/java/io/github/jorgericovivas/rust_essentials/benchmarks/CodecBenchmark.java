@@ -0,0 +1,74 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.codec.BinaryCodec;
+import io.github.jorgericovivas.rust_essentials.codec.Codecs;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and reading a {@link Result} holding an {@link Option} of a tuple record through a typed
+ * {@link BinaryCodec} into a reused {@link ByteBuffer}, against the same value going through
+ * {@link ObjectOutputStream}, which uses the compact form of
+ * {@link io.github.jorgericovivas.rust_essentials.codec.SerialProxy}.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    private BinaryCodec<Result<Option<Tuple2Record<String, Long>>, String>> codec;
+    private Result<Option<Tuple2Record<String, Long>>, String> value;
+    private ByteBuffer buffer;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        codec = Codecs.result(Codecs.option(Codecs.tuple2(Codecs.STRING, Codecs.LONG)), Codecs.STRING);
+        value = Result.ok(Option.some(new Tuple2Record<>("Alice", 1_700_000_000L)));
+        buffer = ByteBuffer.allocate(256);
+        serialized = serialize();
+    }
+
+    private byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Result<Option<Tuple2Record<String, Long>>, String> codecRoundTrip() throws IOException {
+        buffer.clear();
+        codec.write(value, buffer);
+        buffer.flip();
+        return codec.read(buffer);
+    }
+
+    @Benchmark
+    public byte[] javaSerializationWrite() throws IOException {
+        return serialize();
+    }
+
+    @Benchmark
+    public Object javaSerializationRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosedException;
+import io.github.jorgericovivas.rust_essentials.diagnostic.Diagnostic;
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosticDeduplicator;
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosticEncoders;
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosticRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering {@link Diagnostic}s into {@link String}s, into a reused {@link StringBuilder} and into a reused
+ * {@link ByteBuffer} through {@link DiagnosticRenderer}, fingerprinting them against hashing their rendered text,
+ * collapsing repeats through a {@link DiagnosticDeduplicator}, encoding them as JSON Lines and binary frames through
+ * {@link DiagnosticEncoders}, and creating {@link DiagnosedException}s, with and
+ * without stack trace, and reading their message, which is cached after the first read.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DiagnosticBenchmark {
+
+    private Diagnostic conceptOnly;
+    private Diagnostic complete;
+    private DiagnosedException diagnosedException;
+    private StringBuilder builder;
+    private ByteBuffer buffer;
+    private DiagnosticDeduplicator deduplicator;
+    private Writer jsonOut;
+    private DataOutputStream frameOut;
+
+    @Setup
+    public void setup() {
+        conceptOnly = new Diagnostic("This is an error.");
+        complete = new Diagnostic()
+                .withConcept("This is an error.\nThis message tells what the error means.")
+                .withNote("This is a note message.\nThis message tells why the error happened.")
+                .withNote("This is another note message.")
+                .withHelp("This is a help message.\nThis message tells information to help solve in solving the problem.");
+        diagnosedException = new DiagnosedException(complete);
+        builder = new StringBuilder(512);
+        buffer = ByteBuffer.allocate(512);
+        deduplicator = DiagnosticDeduplicator.builder(diagnostic -> {})
+                                             .window(Duration.ofDays(1))
+                                             .build();
+        deduplicator.submit(complete);
+        jsonOut = Writer.nullWriter();
+        frameOut = new DataOutputStream(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String conceptOnlyToString() {
+        return conceptOnly.toString();
+    }
+
+    @Benchmark
+    public String completeToString() {
+        return complete.toString();
+    }
+
+    @Benchmark
+    public StringBuilder completeRenderIntoBuilder() {
+        builder.setLength(0);
+        return DiagnosticRenderer.COLORED.render(complete, builder);
+    }
+
+    @Benchmark
+    public ByteBuffer completeRenderIntoByteBuffer() {
+        buffer.clear();
+        DiagnosticRenderer.COLORED.render(complete, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public String completePlainRender() {
+        return DiagnosticRenderer.PLAIN.render(complete);
+    }
+
+    @Benchmark
+    public long completeFingerprint() {
+        return complete.fingerprint();
+    }
+
+    @Benchmark
+    public int completeToStringHash() {
+        return complete.toString().hashCode();
+    }
+
+    @Benchmark
+    public boolean deduplicatorCollapsesRepeat() {
+        return deduplicator.submit(complete);
+    }
+
+    @Benchmark
+    public void completeJsonLine() throws IOException {
+        DiagnosticEncoders.writeJsonLine(complete, jsonOut);
+    }
+
+    @Benchmark
+    public void completeFrame() throws IOException {
+        DiagnosticEncoders.writeFrame(complete, frameOut);
+    }
+
+    @Benchmark
+    public void diagnosedExceptionJsonLine() throws IOException {
+        DiagnosticEncoders.writeJsonLine(diagnosedException, jsonOut);
+    }
+
+    @Benchmark
+    public String diagnosedExceptionGetMessage() {
+        return diagnosedException.getMessage();
+    }
+
+    @Benchmark
+    public String diagnosedExceptionFirstGetMessage() {
+        return new DiagnosedException(complete).getMessage();
+    }
+
+    @Benchmark
+    public DiagnosedException diagnosedExceptionCreation() {
+        return new DiagnosedException(complete);
+    }
+
+    @Benchmark
+    public DiagnosedException diagnosedExceptionStacklessCreation() {
+        return DiagnosedException.stackless(complete);
+    }
+}
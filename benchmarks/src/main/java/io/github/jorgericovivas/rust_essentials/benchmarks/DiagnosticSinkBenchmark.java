@@ -0,0 +1,59 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.diagnostic.Diagnostic;
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosticRenderer;
+import io.github.jorgericovivas.rust_essentials.diagnostic.DiagnosticSink;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost, for the thread reporting it, of writing a {@link Diagnostic} synchronously through a
+ * {@link PrintStream} against submitting it to a {@link DiagnosticSink} which renders it on its background thread, with
+ * four threads reporting at once, where both discard the written bytes.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class DiagnosticSinkBenchmark {
+
+    private Diagnostic diagnostic;
+    private PrintStream printStream;
+    private DiagnosticSink sink;
+
+    @Setup
+    public void setup() {
+        diagnostic = new Diagnostic("This is an error.\nThis message tells what the error means.")
+                .withNote("This is a note message.")
+                .withHelp("This is a help message.");
+        printStream = new PrintStream(OutputStream.nullOutputStream(), true);
+        sink = DiagnosticSink.builder(Channels.newChannel(OutputStream.nullOutputStream()))
+                             .renderer(DiagnosticRenderer.PLAIN)
+                             .capacity(8192)
+                             .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.close();
+    }
+
+    @Benchmark
+    public void synchronousPrint() {
+        printStream.println(DiagnosticRenderer.PLAIN.render(diagnostic));
+    }
+
+    @Benchmark
+    public boolean sinkSubmit() {
+        return sink.submit(diagnostic);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.tuples.HashedTuple2;
+import io.github.jorgericovivas.rust_essentials.tuples.HashedTuple3;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HashMap} put and get throughput using {@link Tuple3Record}s as keys against {@link HashedTuple3}s,
+ * along with nested tuples where the outer tuple holds the inner one as a component.
+ * <p>
+ * Keys are skewed: their components are small integers, so many of them share the same {@code 31 * result + ...}
+ * hash, and keys are accessed following a power law, so a few of them are looked up most of the time.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashedTupleBenchmark {
+
+    /**
+     * Every component of the keys is between 0 (inclusive) and this value (exclusive).
+     */
+    private static final int SIDE = 32;
+
+    /**
+     * Amount of precomputed accesses, being a power of two.
+     */
+    private static final int ACCESSES = 1 << 16;
+
+    private Tuple3Record<Integer, Integer, Integer>[] recordKeys;
+    private HashedTuple3<Integer, Integer, Integer>[] hashedKeys;
+    private Tuple2Record<Tuple3Record<Integer, Integer, Integer>, String>[] nestedRecordKeys;
+    private HashedTuple2<HashedTuple3<Integer, Integer, Integer>, String>[] nestedHashedKeys;
+    private int[] accesses;
+    private Map<Tuple3Record<Integer, Integer, Integer>, Integer> recordMap;
+    private Map<HashedTuple3<Integer, Integer, Integer>, Integer> hashedMap;
+    private Map<Tuple2Record<Tuple3Record<Integer, Integer, Integer>, String>, Integer> nestedRecordMap;
+    private Map<HashedTuple2<HashedTuple3<Integer, Integer, Integer>, String>, Integer> nestedHashedMap;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        int keys = SIDE * SIDE * SIDE;
+        recordKeys = new Tuple3Record[keys];
+        hashedKeys = new HashedTuple3[keys];
+        nestedRecordKeys = new Tuple2Record[keys];
+        nestedHashedKeys = new HashedTuple2[keys];
+        recordMap = new HashMap<>();
+        hashedMap = new HashMap<>();
+        nestedRecordMap = new HashMap<>();
+        nestedHashedMap = new HashMap<>();
+        for (int index = 0; index < keys; index++) {
+            int x = index / (SIDE * SIDE);
+            int y = (index / SIDE) % SIDE;
+            int z = index % SIDE;
+            recordKeys[index] = new Tuple3Record<>(x, y, z);
+            hashedKeys[index] = recordKeys[index].hashed();
+            nestedRecordKeys[index] = new Tuple2Record<>(recordKeys[index], "key");
+            nestedHashedKeys[index] = new HashedTuple2<>(hashedKeys[index], "key");
+            recordMap.put(recordKeys[index], index);
+            hashedMap.put(hashedKeys[index], index);
+            nestedRecordMap.put(nestedRecordKeys[index], index);
+            nestedHashedMap.put(nestedHashedKeys[index], index);
+        }
+        Random random = new Random(42);
+        accesses = new int[ACCESSES];
+        for (int access = 0; access < ACCESSES; access++) {
+            // Squaring a uniform value skews the accesses towards the first keys.
+            double uniform = random.nextDouble();
+            accesses[access] = (int) (uniform * uniform * keys);
+        }
+    }
+
+    private int nextKey() {
+        return accesses[cursor++ & (ACCESSES - 1)];
+    }
+
+    @Benchmark
+    public Integer recordGet() {
+        return recordMap.get(recordKeys[nextKey()]);
+    }
+
+    @Benchmark
+    public Integer hashedGet() {
+        return hashedMap.get(hashedKeys[nextKey()]);
+    }
+
+    @Benchmark
+    public Integer nestedRecordGet() {
+        return nestedRecordMap.get(nestedRecordKeys[nextKey()]);
+    }
+
+    @Benchmark
+    public Integer nestedHashedGet() {
+        return nestedHashedMap.get(nestedHashedKeys[nextKey()]);
+    }
+
+    @Benchmark
+    public Map<Tuple3Record<Integer, Integer, Integer>, Integer> recordPut() {
+        Map<Tuple3Record<Integer, Integer, Integer>, Integer> map = new HashMap<>();
+        for (int index = 0; index < 1024; index++) {
+            map.put(recordKeys[nextKey()], index);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<HashedTuple3<Integer, Integer, Integer>, Integer> hashedPut() {
+        Map<HashedTuple3<Integer, Integer, Integer>, Integer> map = new HashMap<>();
+        for (int index = 0; index < 1024; index++) {
+            map.put(hashedKeys[nextKey()], index);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.OptionInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating and chaining {@link Option}s against {@link Optional} and plain null checks, both when the value is
+ * present and when it is absent.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionBenchmark {
+
+    /**
+     * Special value used to represent absence when using {@link Option#of(Object, Object[])}.
+     */
+    private static final Integer WRONG_INDEX = -1;
+
+    private Integer present;
+    private Integer absent;
+    private Integer special;
+    private int primitive;
+    private int primitiveSpecial;
+
+    /**
+     * Values are read from fields so the JIT can't fold them as constants.
+     */
+    @Setup
+    public void setup() {
+        present = 1024;
+        absent = null;
+        special = WRONG_INDEX;
+        primitive = present;
+        primitiveSpecial = special;
+    }
+
+    @Benchmark
+    public Option<Integer> optionOfPresent() {
+        return Option.of(present);
+    }
+
+    @Benchmark
+    public Option<Integer> optionOfNull() {
+        return Option.of(absent);
+    }
+
+    @Benchmark
+    public Option<Integer> optionOfPresentWithSpecialValues() {
+        return Option.of(present, WRONG_INDEX, Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public Option<Integer> optionOfSpecialValue() {
+        return Option.of(special, WRONG_INDEX, Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public Option<Integer> optionNone() {
+        return Option.none();
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalOfNullablePresent() {
+        return Optional.ofNullable(present);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalOfNullableNull() {
+        return Optional.ofNullable(absent);
+    }
+
+    @Benchmark
+    public int optionChainPresent() {
+        return Option.of(present).map(value -> value + 1).filter(value -> value > 0).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int optionChainAbsent() {
+        return Option.of(absent).map(value -> value + 1).filter(value -> value > 0).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int optionalChainPresent() {
+        return Optional.ofNullable(present).map(value -> value + 1).filter(value -> value > 0).orElse(0);
+    }
+
+    @Benchmark
+    public int optionalChainAbsent() {
+        return Optional.ofNullable(absent).map(value -> value + 1).filter(value -> value > 0).orElse(0);
+    }
+
+    @Benchmark
+    public int optionIntChainPresent() {
+        return OptionInt.of(primitive, -1).map(value -> value + 1).filter(value -> value > 0).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int optionIntChainAbsent() {
+        return OptionInt.of(primitiveSpecial, -1).map(value -> value + 1).filter(value -> value > 0).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int nullCheckPresent() {
+        if (present == null) {
+            return 0;
+        }
+        int value = present + 1;
+        return value > 0 ? value : 0;
+    }
+
+    @Benchmark
+    public int nullCheckAbsent() {
+        if (absent == null) {
+            return 0;
+        }
+        int value = absent + 1;
+        return value > 0 ? value : 0;
+    }
+}
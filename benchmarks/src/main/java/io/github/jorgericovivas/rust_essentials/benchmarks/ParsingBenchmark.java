@@ -0,0 +1,124 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing with {@link Parsing} against wrapping the JDK parsers in {@link Result#checked}, both for valid and
+ * malformed inputs, and parsing a field in place from a larger buffer against taking a substring first.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParsingBenchmark {
+
+    private String validInt;
+    private String malformedInt;
+    private String validDouble;
+    private String malformedDouble;
+    private String validUuid;
+    private String validInstant;
+    private String malformedInstant;
+    private StringBuilder record;
+
+    @Setup
+    public void setup() {
+        validInt = "1234567";
+        malformedInt = "12345x7";
+        validDouble = "1234.5678";
+        malformedDouble = "1234,5678";
+        validUuid = UUID.randomUUID().toString();
+        validInstant = "2024-01-01T10:15:30.123Z";
+        malformedInstant = "2024-01-01 10:15:30.123Z";
+        record = new StringBuilder("id=1234567;price=1234.5678;at=2024-01-01T10:15:30.123Z");
+    }
+
+    @Benchmark
+    public IntResult<ParseError> parsingIntValid() {
+        return Parsing.parseInt(validInt);
+    }
+
+    @Benchmark
+    public Result<Integer, NumberFormatException> checkedIntValid() {
+        return Result.unchecked(NumberFormatException.class, () -> Integer.parseInt(validInt));
+    }
+
+    @Benchmark
+    public IntResult<ParseError> parsingIntMalformed() {
+        return Parsing.parseInt(malformedInt);
+    }
+
+    @Benchmark
+    public Result<Integer, NumberFormatException> checkedIntMalformed() {
+        return Result.unchecked(NumberFormatException.class, () -> Integer.parseInt(malformedInt));
+    }
+
+    @Benchmark
+    public DoubleResult<ParseError> parsingDoubleValid() {
+        return Parsing.parseDouble(validDouble);
+    }
+
+    @Benchmark
+    public Result<Double, NumberFormatException> checkedDoubleValid() {
+        return Result.unchecked(NumberFormatException.class, () -> Double.parseDouble(validDouble));
+    }
+
+    @Benchmark
+    public DoubleResult<ParseError> parsingDoubleMalformed() {
+        return Parsing.parseDouble(malformedDouble);
+    }
+
+    @Benchmark
+    public Result<Double, NumberFormatException> checkedDoubleMalformed() {
+        return Result.unchecked(NumberFormatException.class, () -> Double.parseDouble(malformedDouble));
+    }
+
+    @Benchmark
+    public Result<UUID, ParseError> parsingUuid() {
+        return Parsing.parseUuid(validUuid);
+    }
+
+    @Benchmark
+    public Result<UUID, IllegalArgumentException> checkedUuid() {
+        return Result.unchecked(IllegalArgumentException.class, () -> UUID.fromString(validUuid));
+    }
+
+    @Benchmark
+    public Result<Instant, ParseError> parsingInstantValid() {
+        return Parsing.parseInstant(validInstant);
+    }
+
+    @Benchmark
+    public Result<Instant, RuntimeException> checkedInstantValid() {
+        return Result.unchecked(RuntimeException.class, () -> Instant.parse(validInstant));
+    }
+
+    @Benchmark
+    public Result<Instant, ParseError> parsingInstantMalformed() {
+        return Parsing.parseInstant(malformedInstant);
+    }
+
+    @Benchmark
+    public Result<Instant, RuntimeException> checkedInstantMalformed() {
+        return Result.unchecked(RuntimeException.class, () -> Instant.parse(malformedInstant));
+    }
+
+    @Benchmark
+    public double parsingRecordInPlace() {
+        return Parsing.parseInt(record, 3, 7).unwrapOr(0) + Parsing.parseDouble(record, 17, 9).unwrapOr(0);
+    }
+
+    @Benchmark
+    public double parsingRecordWithSubstrings() {
+        return Integer.parseInt(record.substring(3, 10)) + Double.parseDouble(record.substring(17, 26));
+    }
+}
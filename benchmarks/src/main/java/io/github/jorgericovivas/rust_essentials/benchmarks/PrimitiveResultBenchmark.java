@@ -0,0 +1,91 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.result.IntResult;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures chaining {@link IntResult}s against the equivalent {@link Result}&lt;{@link Integer}, E&gt; chains, where
+ * every step boxes its value, both in the successful and in the failing path.
+ * <p>
+ * Values are kept out of the {@link Integer} cache so boxing always allocates, run with {@code -prof gc} to compare
+ * the allocation rate of both variants.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveResultBenchmark {
+
+    private static final String NEGATIVE = "The value is negative";
+
+    private int[] values;
+    private Result<Integer, String> boxedOk;
+    private Result<Integer, String> boxedErr;
+    private IntResult<String> primitiveOk;
+    private IntResult<String> primitiveErr;
+
+    @Setup
+    public void setup() {
+        values = new int[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 8 == 0 ? -1 : 1) * (1024 + i);
+        }
+        boxedOk = Result.ok(1024);
+        boxedErr = Result.err(NEGATIVE);
+        primitiveOk = IntResult.ok(1024);
+        primitiveErr = IntResult.err(NEGATIVE);
+    }
+
+    private static Result<Integer, String> boxedPositive(int value) {
+        return value > 0 ? Result.ok(value) : Result.err(NEGATIVE);
+    }
+
+    private static IntResult<String> primitivePositive(int value) {
+        return value > 0 ? IntResult.ok(value) : IntResult.err(NEGATIVE);
+    }
+
+    @Benchmark
+    public int boxedChainOk() {
+        return boxedOk.map(value -> value + 1).andThen(PrimitiveResultBenchmark::boxedPositive).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int primitiveChainOk() {
+        return primitiveOk.map(value -> value + 1).andThen(PrimitiveResultBenchmark::primitivePositive).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int boxedChainErr() {
+        return boxedErr.map(value -> value + 1).andThen(PrimitiveResultBenchmark::boxedPositive).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int primitiveChainErr() {
+        return primitiveErr.map(value -> value + 1).andThen(PrimitiveResultBenchmark::primitivePositive).unwrapOr(0);
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (int value : values) {
+            sum += boxedPositive(value).map(number -> number * 2).mapError(String::length).unwrapOr(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveSum() {
+        long sum = 0;
+        for (int value : values) {
+            sum += primitivePositive(value).map(number -> number * 2).mapError(String::length).unwrapOr(0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.result.ErrorClassifier;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.result.StacklessException;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures capturing operations with {@link Result#checked}, unwrapping {@link Result}s and chaining them, against the
+ * try/catch blocks they replace, both in the successful and in the failing path.
+ * <p>
+ * The failing path is measured both with a regular {@link IOException} and with a {@link StacklessException}, whose
+ * difference is the cost of capturing the stack trace, and classifying a shared {@link StacklessException} through an
+ * {@link ErrorClassifier} is measured against casting it through {@link Result#unchecked}.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBenchmark {
+
+    /**
+     * Error of the failing path that doesn't capture a stack trace.
+     */
+    public static class ValueNotFound extends StacklessException {
+        public ValueNotFound() {
+            super("Could not read the value");
+        }
+    }
+
+    private static final ValueNotFound SHARED_NOT_FOUND = new ValueNotFound();
+
+    private static final ErrorClassifier<Exception> CLASSIFIER = ErrorClassifier.<Exception>builder()
+            .err(IOException.class)
+            .err(ValueNotFound.class)
+            .rethrow(IllegalStateException.class)
+            .build();
+
+    private Integer value;
+    private boolean fail;
+    private Result<Integer, IOException> ok;
+    private Result<Integer, IOException> err;
+
+    @Setup
+    public void setup() {
+        value = 1024;
+        fail = true;
+        ok = Result.ok(value);
+        err = Result.err(new IOException("Could not read the value"));
+    }
+
+    /**
+     * Operation that either returns the value or throws a new {@link IOException}.
+     */
+    private Integer read(boolean fail) throws IOException {
+        if (fail) {
+            throw new IOException("Could not read the value");
+        }
+        return value;
+    }
+
+    /**
+     * Operation that either returns the value or throws a new {@link ValueNotFound}.
+     */
+    private Integer find(boolean fail) throws ValueNotFound {
+        if (fail) {
+            throw new ValueNotFound();
+        }
+        return value;
+    }
+
+    /**
+     * Operation that either returns the value or throws the same shared {@link ValueNotFound}.
+     */
+    private Integer findShared(boolean fail) throws ValueNotFound {
+        if (fail) {
+            throw SHARED_NOT_FOUND;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> checkedOk() {
+        return Result.checked(() -> read(!fail));
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> checkedErr() {
+        return Result.checked(() -> read(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, IOException> uncheckedErr() {
+        return Result.unchecked(IOException.class, () -> read(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, ValueNotFound> checkedStacklessErr() {
+        return Result.checked(() -> find(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, ValueNotFound> uncheckedStacklessErr() {
+        return Result.unchecked(ValueNotFound.class, () -> find(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, ValueNotFound> checkedSharedStacklessErr() {
+        return Result.checked(() -> findShared(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> classifierSharedStacklessErr() {
+        return Result.unchecked(CLASSIFIER, () -> findShared(fail));
+    }
+
+    @Benchmark
+    public Result<Integer, ValueNotFound> uncheckedSharedStacklessErr() {
+        return Result.unchecked(ValueNotFound.class, () -> findShared(fail));
+    }
+
+    @Benchmark
+    public Object tryCatchOk() {
+        try {
+            return read(!fail);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object tryCatchErr() {
+        try {
+            return read(fail);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer okUnwrap() {
+        return ok.unwrap();
+    }
+
+    @Benchmark
+    public Object errUnwrap() {
+        try {
+            return err.unwrap();
+        } catch (IllegalCallerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Integer errUnwrapOr() {
+        return err.unwrapOr(0);
+    }
+
+    @Benchmark
+    public int okChain() {
+        return ok.map(number -> number + 1).andThen(number -> Result.<Integer, IOException>ok(number * 2)).unwrapOr(0);
+    }
+
+    @Benchmark
+    public int errChain() {
+        return err.map(number -> number + 1).andThen(number -> Result.<Integer, IOException>ok(number * 2)).unwrapOr(0);
+    }
+}
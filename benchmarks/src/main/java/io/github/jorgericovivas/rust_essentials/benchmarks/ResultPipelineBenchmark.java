@@ -0,0 +1,103 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.result.ResultPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a ten step {@link ResultPipeline} against chaining the same ten steps on a {@link Result}, both in the
+ * successful path and in a path failing at the first step.
+ * <p>
+ * Run with {@code -prof gc}, which {@link BenchmarkRunner} adds by default, and compare {@code gc.alloc.rate.norm}:
+ * the pipeline only creates the final {@link Result}, while the chain creates one on each step, unless escape
+ * analysis manages to remove them.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultPipelineBenchmark {
+
+    private static final String NOT_FOUND = "Not found";
+
+    private String[] inputs;
+    private ResultPipeline<String, String, String> pipeline;
+
+    @Setup
+    public void setup() {
+        inputs = new String[]{"value", "", "another value", "", "last value"};
+        pipeline = ResultPipeline.<String, String>start()
+                                 .andThen(ResultPipelineBenchmark::notEmpty)
+                                 .map(String::strip)
+                                 .andThen(ResultPipelineBenchmark::notEmpty)
+                                 .map(String::strip)
+                                 .andThen(ResultPipelineBenchmark::notEmpty)
+                                 .map(String::strip)
+                                 .andThen(ResultPipelineBenchmark::notEmpty)
+                                 .map(String::strip)
+                                 .mapError(String::strip)
+                                 .mapError(String::strip);
+    }
+
+    private static Result<String, String> notEmpty(String text) {
+        return text.isEmpty() ? Result.err(NOT_FOUND) : Result.ok(text);
+    }
+
+    private static Result<String, String> chain(String input) {
+        return Result.<String, String>ok(input)
+                     .andThen(ResultPipelineBenchmark::notEmpty)
+                     .map(String::strip)
+                     .andThen(ResultPipelineBenchmark::notEmpty)
+                     .map(String::strip)
+                     .andThen(ResultPipelineBenchmark::notEmpty)
+                     .map(String::strip)
+                     .andThen(ResultPipelineBenchmark::notEmpty)
+                     .map(String::strip)
+                     .mapError(String::strip)
+                     .mapError(String::strip);
+    }
+
+    @Benchmark
+    public Result<String, String> chainOk() {
+        return chain(inputs[0]);
+    }
+
+    @Benchmark
+    public Result<String, String> pipelineOk() {
+        return pipeline.apply(inputs[0]);
+    }
+
+    @Benchmark
+    public Result<String, String> chainErr() {
+        return chain(inputs[1]);
+    }
+
+    @Benchmark
+    public Result<String, String> pipelineErr() {
+        return pipeline.apply(inputs[1]);
+    }
+
+    @Benchmark
+    public int chainMany() {
+        int oks = 0;
+        for (String input : inputs) {
+            oks += chain(input).isOk() ? 1 : 0;
+        }
+        return oks;
+    }
+
+    @Benchmark
+    public int pipelineMany() {
+        int oks = 0;
+        for (String input : inputs) {
+            oks += pipeline.apply(input).isOk() ? 1 : 0;
+        }
+        return oks;
+    }
+}
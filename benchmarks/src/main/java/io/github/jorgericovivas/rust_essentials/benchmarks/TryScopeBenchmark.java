@@ -0,0 +1,96 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.result.Err;
+import io.github.jorgericovivas.rust_essentials.result.Ok;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures combining three {@link Result}s through {@link Result#tryScope} against nesting
+ * {@link Result#andThen} calls and checking each result by hand, both when every result is {@link Ok} and when the
+ * last one is an {@link Err}, where the scope exits through its preallocated signal.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TryScopeBenchmark {
+
+    private Result<Integer, String> first;
+    private Result<Integer, String> second;
+    private Result<Integer, String> third;
+    private Result<Integer, String> failing;
+
+    @Setup
+    public void setup() {
+        first = Result.ok(1);
+        second = Result.ok(2);
+        third = Result.ok(3);
+        failing = Result.err("Could not read the third value");
+    }
+
+    private static Result<Integer, String> andThenChain(Result<Integer, String> first, Result<Integer, String> second,
+                                                        Result<Integer, String> third) {
+        return first.andThen(a -> second.andThen(b -> third.map(c -> a + b + c)));
+    }
+
+    private static Result<Integer, String> scope(Result<Integer, String> first, Result<Integer, String> second,
+                                                 Result<Integer, String> third) {
+        return Result.tryScope(scope -> {
+            int a = scope.q(first);
+            int b = scope.q(second);
+            int c = scope.q(third);
+            return Result.ok(a + b + c);
+        });
+    }
+
+    private static Result<Integer, String> manual(Result<Integer, String> first, Result<Integer, String> second,
+                                                  Result<Integer, String> third) {
+        if (!(first instanceof Ok<Integer, String>(var a))) {
+            return first;
+        }
+        if (!(second instanceof Ok<Integer, String>(var b))) {
+            return second;
+        }
+        if (!(third instanceof Ok<Integer, String>(var c))) {
+            return third;
+        }
+        return Result.ok(a + b + c);
+    }
+
+    @Benchmark
+    public Result<Integer, String> andThenChainOk() {
+        return andThenChain(first, second, third);
+    }
+
+    @Benchmark
+    public Result<Integer, String> tryScopeOk() {
+        return scope(first, second, third);
+    }
+
+    @Benchmark
+    public Result<Integer, String> manualOk() {
+        return manual(first, second, third);
+    }
+
+    @Benchmark
+    public Result<Integer, String> andThenChainErr() {
+        return andThenChain(first, second, failing);
+    }
+
+    @Benchmark
+    public Result<Integer, String> tryScopeErr() {
+        return scope(first, second, failing);
+    }
+
+    @Benchmark
+    public Result<Integer, String> manualErr() {
+        return manual(first, second, failing);
+    }
+}
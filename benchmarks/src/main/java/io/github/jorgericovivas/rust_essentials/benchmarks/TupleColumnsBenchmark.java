@@ -0,0 +1,82 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.tuples.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and scanning a batch of rows stored as a {@link List} of {@link Tuple3Record}s against the same
+ * rows stored in a {@link Tuple3Columns} with primitive columns.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate of building both batches.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleColumnsBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private List<Tuple3Record<Integer, Long, Double>> records;
+    private IntColumn ids;
+    private LongColumn timestamps;
+    private DoubleColumn prices;
+
+    @Setup
+    public void setup() {
+        records = buildRecords();
+        ids = Column.ints();
+        timestamps = Column.longs();
+        prices = Column.doubles();
+        Tuple3Columns<Integer, Long, Double> columns = new Tuple3Columns<>(ids, timestamps, prices);
+        records.forEach(columns::add);
+    }
+
+    @Benchmark
+    public List<Tuple3Record<Integer, Long, Double>> buildRecords() {
+        List<Tuple3Record<Integer, Long, Double>> rows = new ArrayList<>();
+        for (int row = 0; row < ROWS; row++) {
+            rows.add(new Tuple3Record<>(1_000 + row, 1_700_000_000_000L + row, row * 0.5));
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public Tuple3Columns<Integer, Long, Double> buildColumns() {
+        IntColumn ids = Column.ints();
+        LongColumn timestamps = Column.longs();
+        DoubleColumn prices = Column.doubles();
+        for (int row = 0; row < ROWS; row++) {
+            ids.addInt(1_000 + row);
+            timestamps.addLong(1_700_000_000_000L + row);
+            prices.addDouble(row * 0.5);
+        }
+        return new Tuple3Columns<>(ids, timestamps, prices);
+    }
+
+    @Benchmark
+    public double scanRecords() {
+        double total = 0;
+        for (Tuple3Record<Integer, Long, Double> record : records) {
+            total += record.v0() + record.v2();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double scanColumns() {
+        double total = 0;
+        for (int row = 0; row < ids.size(); row++) {
+            total += ids.getInt(row) + prices.getDouble(row);
+        }
+        return total;
+    }
+}
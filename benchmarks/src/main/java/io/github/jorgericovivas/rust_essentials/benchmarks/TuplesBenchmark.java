@@ -0,0 +1,92 @@
+package io.github.jorgericovivas.rust_essentials.benchmarks;
+
+import io.github.jorgericovivas.rust_essentials.tuples.IntIntTuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Map;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuples;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating {@link Tuple2Record}s and using them as {@link HashMap} keys, against a key packed into a
+ * {@link Long}, against the unboxed {@link IntIntTuple2Record}, and against looking the components up in a
+ * {@link Tuple2Map} without creating a key.
+ *
+ * @author Jorge Rico Vivas
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TuplesBenchmark {
+
+    /**
+     * Side of the square of keys stored in the maps.
+     */
+    private static final int SIDE = 64;
+
+    private final Map<Tuple2Record<Integer, Integer>, Integer> tupleMap = new HashMap<>();
+    private final Map<Long, Integer> packedMap = new HashMap<>();
+    private final Map<IntIntTuple2Record, Integer> primitiveTupleMap = new HashMap<>();
+    private final Tuple2Map<Integer, Integer, Integer> componentMap = new Tuple2Map<>();
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        for (int x = 0; x < SIDE; x++) {
+            for (int y = 0; y < SIDE; y++) {
+                tupleMap.put(Tuples.record(x, y), x * SIDE + y);
+                packedMap.put(((long) x << 32) | y, x * SIDE + y);
+                primitiveTupleMap.put(Tuples.record_of_ints(x, y), x * SIDE + y);
+                componentMap.put(x, y, x * SIDE + y);
+            }
+        }
+    }
+
+    @Benchmark
+    public Tuple2Record<Integer, Integer> recordCreation() {
+        int next = cursor++;
+        return Tuples.record(next, next + 1);
+    }
+
+    @Benchmark
+    public int recordHashCode() {
+        int next = cursor++;
+        return Tuples.record(next & (SIDE - 1), (next >>> 6) & (SIDE - 1)).hashCode();
+    }
+
+    @Benchmark
+    public Integer tupleKeyGet() {
+        int next = cursor++;
+        return tupleMap.get(Tuples.record(next & (SIDE - 1), (next >>> 6) & (SIDE - 1)));
+    }
+
+    @Benchmark
+    public Integer packedKeyGet() {
+        int next = cursor++;
+        return packedMap.get(((long) (next & (SIDE - 1)) << 32) | ((next >>> 6) & (SIDE - 1)));
+    }
+
+    @Benchmark
+    public int primitiveRecordHashCode() {
+        int next = cursor++;
+        return Tuples.record_of_ints(next & (SIDE - 1), (next >>> 6) & (SIDE - 1)).hashCode();
+    }
+
+    @Benchmark
+    public Integer primitiveTupleKeyGet() {
+        int next = cursor++;
+        return primitiveTupleMap.get(Tuples.record_of_ints(next & (SIDE - 1), (next >>> 6) & (SIDE - 1)));
+    }
+
+    @Benchmark
+    public Integer componentMapGet() {
+        int next = cursor++;
+        return componentMap.getOrDefault(next & (SIDE - 1), (next >>> 6) & (SIDE - 1), null);
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.jorgericovivas.rust_essentials.gson;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Adapter of {@link Option}s, writing {@link None} as {@code "None"} and {@link Some} as {@code {"Some":value}}.
+ *
+ * @param <T> Type of the values.
+ * @author Jorge Rico Vivas
+ * @see RustEssentialsTypeAdapterFactory
+ */
+final class OptionAdapter<T> extends TypeAdapter<Option<T>> {
+
+    /**
+     * Name of the member holding the value of a {@link Some}.
+     */
+    static final String SOME = "Some";
+
+    /**
+     * String standing for {@link None}.
+     */
+    static final String NONE = "None";
+
+    /**
+     * Declared type, being {@link Option}, {@link Some} or {@link None}.
+     */
+    private final @NotNull Class<?> declaredType;
+
+    /**
+     * Adapter of the values.
+     */
+    private final @NotNull TypeAdapter<T> valueAdapter;
+
+    /**
+     * Creates an adapter of options of the declared type.
+     *
+     * @param declaredType declared type, being {@link Option}, {@link Some} or {@link None}.
+     * @param valueAdapter adapter of the values.
+     */
+    OptionAdapter(@NotNull Class<?> declaredType, @NotNull TypeAdapter<T> valueAdapter) {
+        this.declaredType = declaredType;
+        this.valueAdapter = valueAdapter;
+    }
+
+    @Override
+    public void write(@NotNull JsonWriter out, @Nullable Option<T> option) throws IOException {
+        switch (option) {
+            case null -> out.nullValue();
+            case None<T>() -> out.value(NONE);
+            case Some<T>(var value) -> {
+                out.beginObject().name(SOME);
+                valueAdapter.write(out, value);
+                out.endObject();
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public Option<T> read(@NotNull JsonReader in) throws IOException {
+        Option<T> option = switch (in.peek()) {
+            case NULL -> {
+                in.nextNull();
+                yield null;
+            }
+            case STRING -> {
+                String none = in.nextString();
+                if (!NONE.equals(none)) {
+                    throw new JsonSyntaxException("Expected \"None\" but was \"" + none + "\" at " + in.getPath());
+                }
+                yield Option.none();
+            }
+            case BEGIN_OBJECT -> {
+                in.beginObject();
+                String name = in.nextName();
+                if (!SOME.equals(name)) {
+                    throw new JsonSyntaxException("Expected \"Some\" but was \"" + name + "\" at " + in.getPath());
+                }
+                T value = valueAdapter.read(in);
+                if (value == null) {
+                    throw new JsonSyntaxException("Some holding null at " + in.getPath());
+                }
+                in.endObject();
+                yield Option.some(value);
+            }
+            default -> throw new JsonSyntaxException("Expected an Option but was " + in.peek() + " at " + in.getPath());
+        };
+        if (option != null && !declaredType.isInstance(option)) {
+            throw new JsonSyntaxException("Expected " + declaredType.getSimpleName() + " but was " + option
+                                          + " at " + in.getPath());
+        }
+        return option;
+    }
+}
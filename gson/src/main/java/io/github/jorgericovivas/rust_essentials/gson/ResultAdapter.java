@@ -0,0 +1,118 @@
+package io.github.jorgericovivas.rust_essentials.gson;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.jorgericovivas.rust_essentials.result.Err;
+import io.github.jorgericovivas.rust_essentials.result.Ok;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Adapter of {@link Result}s, writing {@link Ok} as {@code {"Ok":value}} and {@link Err} as {@code {"Err":error}}.
+ *
+ * @param <T> Type of the values.
+ * @param <E> Type of the errors.
+ * @author Jorge Rico Vivas
+ * @see RustEssentialsTypeAdapterFactory
+ */
+final class ResultAdapter<T, E> extends TypeAdapter<Result<T, E>> {
+
+    /**
+     * Name of the member holding the value of an {@link Ok}.
+     */
+    static final String OK = "Ok";
+
+    /**
+     * Name of the member holding the error of an {@link Err}.
+     */
+    static final String ERR = "Err";
+
+    /**
+     * Declared type, being {@link Result}, {@link Ok} or {@link Err}.
+     */
+    private final @NotNull Class<?> declaredType;
+
+    /**
+     * Adapter of the values.
+     */
+    private final @NotNull TypeAdapter<T> okAdapter;
+
+    /**
+     * Adapter of the errors.
+     */
+    private final @NotNull TypeAdapter<E> errAdapter;
+
+    /**
+     * Creates an adapter of results of the declared type.
+     *
+     * @param declaredType declared type, being {@link Result}, {@link Ok} or {@link Err}.
+     * @param okAdapter    adapter of the values.
+     * @param errAdapter   adapter of the errors.
+     */
+    ResultAdapter(@NotNull Class<?> declaredType, @NotNull TypeAdapter<T> okAdapter,
+                  @NotNull TypeAdapter<E> errAdapter) {
+        this.declaredType = declaredType;
+        this.okAdapter = okAdapter;
+        this.errAdapter = errAdapter;
+    }
+
+    @Override
+    public void write(@NotNull JsonWriter out, @Nullable Result<T, E> result) throws IOException {
+        switch (result) {
+            case null -> out.nullValue();
+            case Ok<T, E>(var value) -> {
+                out.beginObject().name(OK);
+                okAdapter.write(out, value);
+                out.endObject();
+            }
+            case Err<T, E>(var error) -> {
+                out.beginObject().name(ERR);
+                errAdapter.write(out, error);
+                out.endObject();
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public Result<T, E> read(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            throw new JsonSyntaxException("Expected a Result but was " + in.peek() + " at " + in.getPath());
+        }
+        in.beginObject();
+        String name = in.nextName();
+        Result<T, E> result = switch (name) {
+            case OK -> Result.ok(requireValue(okAdapter.read(in), in));
+            case ERR -> Result.err(requireValue(errAdapter.read(in), in));
+            default -> throw new JsonSyntaxException("Expected \"Ok\" or \"Err\" but was \"" + name + "\" at "
+                                                     + in.getPath());
+        };
+        in.endObject();
+        if (!declaredType.isInstance(result)) {
+            throw new JsonSyntaxException("Expected " + declaredType.getSimpleName() + " but was " + result
+                                          + " at " + in.getPath());
+        }
+        return result;
+    }
+
+    /**
+     * Checks the read value isn't null, as neither {@link Ok} nor {@link Err} can hold null.
+     */
+    @NotNull
+    private static <V> V requireValue(@Nullable V value, @NotNull JsonReader in) {
+        if (value == null) {
+            throw new JsonSyntaxException("Result holding null at " + in.getPath());
+        }
+        return value;
+    }
+}
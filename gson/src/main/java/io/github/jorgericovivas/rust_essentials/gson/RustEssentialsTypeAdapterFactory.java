@@ -0,0 +1,126 @@
+package io.github.jorgericovivas.rust_essentials.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+
+/**
+ * {@link TypeAdapterFactory} streaming {@link Option}s, {@link Result}s and tuples of every arity through
+ * {@link com.google.gson.stream.JsonWriter} and {@link com.google.gson.stream.JsonReader}, instead of letting Gson
+ * write their records field by field through reflection.
+ * <p>
+ * The JSON shape follows how Rust's serde writes them, so the variant is always explicit:
+ * <p>
+ * - {@link io.github.jorgericovivas.rust_essentials.option.None} is the string {@code "None"}, and
+ * {@link io.github.jorgericovivas.rust_essentials.option.Some} an object with a single {@code "Some"} member holding
+ * the value, like {@code {"Some":5}}.
+ * <p>
+ * - {@link io.github.jorgericovivas.rust_essentials.result.Ok} and
+ * {@link io.github.jorgericovivas.rust_essentials.result.Err} are objects with a single {@code "Ok"} or {@code "Err"}
+ * member holding the value or the error, like {@code {"Err":"Not found"}}.
+ * <p>
+ * - Tuples, both their class and record versions, are arrays with one element per value, like {@code ["Alice",5]}.
+ * <p>
+ * Values are written and read through the adapters Gson has for their declared types, so nested options, results and
+ * tuples use this same shape.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Gson gson = new GsonBuilder().registerTypeAdapterFactory(new RustEssentialsTypeAdapterFactory()).create();
+ * Type type = new TypeToken<Result<Tuple2Record<String, Integer>, String>>() {}.getType();
+ * String json = gson.toJson(Result.ok(new Tuple2Record<>("Alice", 5)), type); // {"Ok":["Alice",5]}
+ * Result<Tuple2Record<String, Integer>, String> result = gson.fromJson(json, type);
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class RustEssentialsTypeAdapterFactory implements TypeAdapterFactory {
+
+    /**
+     * Arity of each tuple class and record.
+     */
+    private static final Map<Class<?>, Integer> TUPLE_ARITIES = Map.ofEntries(
+            Map.entry(Tuple0.class, 0),
+            Map.entry(Tuple1.class, 1), Map.entry(Tuple1Record.class, 1),
+            Map.entry(Tuple2.class, 2), Map.entry(Tuple2Record.class, 2),
+            Map.entry(Tuple3.class, 3), Map.entry(Tuple3Record.class, 3),
+            Map.entry(Tuple4.class, 4), Map.entry(Tuple4Record.class, 4),
+            Map.entry(Tuple5.class, 5), Map.entry(Tuple5Record.class, 5),
+            Map.entry(Tuple6.class, 6), Map.entry(Tuple6Record.class, 6),
+            Map.entry(Tuple7.class, 7), Map.entry(Tuple7Record.class, 7));
+
+    /**
+     * Creates the factory, which is to be registered through
+     * {@link com.google.gson.GsonBuilder#registerTypeAdapterFactory(TypeAdapterFactory)}.
+     */
+    public RustEssentialsTypeAdapterFactory() {}
+
+    @Override
+    @Nullable @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(@NotNull Gson gson, @NotNull TypeToken<T> typeToken) {
+        Class<? super T> rawType = typeToken.getRawType();
+        Type type = typeToken.getType();
+        if (Option.class.isAssignableFrom(rawType)) {
+            return (TypeAdapter<T>) new OptionAdapter<>(rawType, adapter(gson, type, 0));
+        }
+        if (Result.class.isAssignableFrom(rawType)) {
+            return (TypeAdapter<T>) new ResultAdapter<>(rawType, adapter(gson, type, 0), adapter(gson, type, 1));
+        }
+        Integer arity = TUPLE_ARITIES.get(rawType);
+        if (arity != null) {
+            TypeAdapter<?>[] valueAdapters = new TypeAdapter<?>[arity];
+            for (int index = 0; index < arity; index++) {
+                valueAdapters[index] = adapter(gson, type, index);
+            }
+            return (TypeAdapter<T>) new TupleAdapter(rawType, valueAdapters);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the adapter Gson has for the type argument at the index of the type, being the adapter of
+     * {@link Object} if the type isn't parameterized or the argument is a type variable.
+     */
+    @NotNull
+    private static TypeAdapter<?> adapter(@NotNull Gson gson, @NotNull Type type, int index) {
+        Type argument = Object.class;
+        if (type instanceof ParameterizedType parameterized) {
+            argument = parameterized.getActualTypeArguments()[index];
+            if (argument instanceof WildcardType wildcard) {
+                argument = wildcard.getUpperBounds()[0];
+            }
+        }
+        if (argument instanceof TypeVariable<?>) {
+            argument = Object.class;
+        }
+        return gson.getAdapter(TypeToken.get(argument));
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.jorgericovivas.rust_essentials.gson;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Adapter of tuples of every arity, both their class and record versions, writing them as arrays with one element per
+ * value, like {@code ["Alice",5]}.
+ *
+ * @author Jorge Rico Vivas
+ * @see RustEssentialsTypeAdapterFactory
+ */
+final class TupleAdapter extends TypeAdapter<Object> {
+
+    /**
+     * Declared type, being a tuple class or record.
+     */
+    private final @NotNull Class<?> declaredType;
+
+    /**
+     * Adapter of each value of the tuple.
+     */
+    private final @NotNull TypeAdapter<?> @NotNull [] valueAdapters;
+
+    /**
+     * Creates an adapter of tuples of the declared type.
+     *
+     * @param declaredType  declared type, being a tuple class or record.
+     * @param valueAdapters adapter of each value of the tuple.
+     */
+    TupleAdapter(@NotNull Class<?> declaredType, @NotNull TypeAdapter<?> @NotNull [] valueAdapters) {
+        this.declaredType = declaredType;
+        this.valueAdapters = valueAdapters;
+    }
+
+    @Override
+    public void write(@NotNull JsonWriter out, @Nullable Object tuple) throws IOException {
+        if (tuple == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        switch (tuple) {
+            case Tuple0 ignored -> {}
+            case Tuple1<?> t -> writeValues(out, t.v0);
+            case Tuple2<?, ?> t -> writeValues(out, t.v0, t.v1);
+            case Tuple3<?, ?, ?> t -> writeValues(out, t.v0, t.v1, t.v2);
+            case Tuple4<?, ?, ?, ?> t -> writeValues(out, t.v0, t.v1, t.v2, t.v3);
+            case Tuple5<?, ?, ?, ?, ?> t -> writeValues(out, t.v0, t.v1, t.v2, t.v3, t.v4);
+            case Tuple6<?, ?, ?, ?, ?, ?> t -> writeValues(out, t.v0, t.v1, t.v2, t.v3, t.v4, t.v5);
+            case Tuple7<?, ?, ?, ?, ?, ?, ?> t -> writeValues(out, t.v0, t.v1, t.v2, t.v3, t.v4, t.v5, t.v6);
+            case Tuple1Record<?>(var v0) -> writeValues(out, v0);
+            case Tuple2Record<?, ?>(var v0, var v1) -> writeValues(out, v0, v1);
+            case Tuple3Record<?, ?, ?>(var v0, var v1, var v2) -> writeValues(out, v0, v1, v2);
+            case Tuple4Record<?, ?, ?, ?>(var v0, var v1, var v2, var v3) -> writeValues(out, v0, v1, v2, v3);
+            case Tuple5Record<?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4) ->
+                    writeValues(out, v0, v1, v2, v3, v4);
+            case Tuple6Record<?, ?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4, var v5) ->
+                    writeValues(out, v0, v1, v2, v3, v4, v5);
+            case Tuple7Record<?, ?, ?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4, var v5, var v6) ->
+                    writeValues(out, v0, v1, v2, v3, v4, v5, v6);
+            default -> throw new IllegalArgumentException("Not a tuple: " + tuple.getClass().getName());
+        }
+        out.endArray();
+    }
+
+    /**
+     * Writes each value through its adapter.
+     */
+    @SuppressWarnings("unchecked")
+    private void writeValues(@NotNull JsonWriter out, @Nullable Object @NotNull ... values) throws IOException {
+        for (int index = 0; index < values.length; index++) {
+            ((TypeAdapter<Object>) valueAdapters[index]).write(out, values[index]);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object read(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        in.beginArray();
+        Object[] values = new Object[valueAdapters.length];
+        for (int index = 0; index < values.length; index++) {
+            if (!in.hasNext()) {
+                throw new JsonSyntaxException("Expected " + values.length + " values but was " + index + " at "
+                                              + in.getPath());
+            }
+            values[index] = valueAdapters[index].read(in);
+        }
+        if (in.hasNext()) {
+            throw new JsonSyntaxException("Expected " + values.length + " values but there are more at "
+                                          + in.getPath());
+        }
+        in.endArray();
+        return declaredType.isRecord() ? toRecord(values) : toClass(values);
+    }
+
+    /**
+     * Creates the tuple record holding the values.
+     */
+    @NotNull
+    private static Object toRecord(@Nullable Object @NotNull [] values) {
+        return switch (values.length) {
+            case 0 -> new Tuple0();
+            case 1 -> new Tuple1Record<>(values[0]);
+            case 2 -> new Tuple2Record<>(values[0], values[1]);
+            case 3 -> new Tuple3Record<>(values[0], values[1], values[2]);
+            case 4 -> new Tuple4Record<>(values[0], values[1], values[2], values[3]);
+            case 5 -> new Tuple5Record<>(values[0], values[1], values[2], values[3], values[4]);
+            case 6 -> new Tuple6Record<>(values[0], values[1], values[2], values[3], values[4], values[5]);
+            case 7 -> new Tuple7Record<>(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+            default -> throw new IllegalStateException("Unexpected tuple arity " + values.length);
+        };
+    }
+
+    /**
+     * Creates the tuple class holding the values.
+     */
+    @NotNull
+    private static Object toClass(@Nullable Object @NotNull [] values) {
+        return switch (values.length) {
+            case 1 -> new Tuple1<>(values[0]);
+            case 2 -> new Tuple2<>(values[0], values[1]);
+            case 3 -> new Tuple3<>(values[0], values[1], values[2]);
+            case 4 -> new Tuple4<>(values[0], values[1], values[2], values[3]);
+            case 5 -> new Tuple5<>(values[0], values[1], values[2], values[3], values[4]);
+            case 6 -> new Tuple6<>(values[0], values[1], values[2], values[3], values[4], values[5]);
+            case 7 -> new Tuple7<>(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+            default -> throw new IllegalStateException("Unexpected tuple arity " + values.length);
+        };
+    }
+}
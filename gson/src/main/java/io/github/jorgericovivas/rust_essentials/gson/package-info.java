@@ -0,0 +1,7 @@
+/**
+ * Gson support for {@link io.github.jorgericovivas.rust_essentials.option.Option}s,
+ * {@link io.github.jorgericovivas.rust_essentials.result.Result}s and tuples, registered through
+ * {@link RustEssentialsTypeAdapterFactory}, which streams them with an explicit variant tag instead of writing their
+ * records through reflection.
+ */
+package io.github.jorgericovivas.rust_essentials.gson;
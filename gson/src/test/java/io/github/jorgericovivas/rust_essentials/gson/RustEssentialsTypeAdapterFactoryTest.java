@@ -0,0 +1,92 @@
+package io.github.jorgericovivas.rust_essentials.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import io.github.jorgericovivas.rust_essentials.result.Ok;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.junit.jupiter.api.Assertions;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+class RustEssentialsTypeAdapterFactoryTest {
+
+    static final Gson GSON = new GsonBuilder().registerTypeAdapterFactory(new RustEssentialsTypeAdapterFactory())
+                                              .create();
+
+    record User(String name, Option<Integer> age, Result<List<String>, String> roles) {}
+
+    static <T> void assertRoundTrip(String json, T value, Type type) {
+        Assertions.assertEquals(json, GSON.toJson(value, type));
+        Assertions.assertEquals(value, GSON.fromJson(json, type));
+    }
+
+    @org.junit.jupiter.api.Test
+    void optionsHaveExplicitVariants() {
+        Type type = new TypeToken<Option<String>>() {}.getType();
+        assertRoundTrip("{\"Some\":\"Alice\"}", Option.some("Alice"), type);
+        assertRoundTrip("\"None\"", Option.none(), type);
+        Assertions.assertSame(Option.none(), GSON.fromJson("\"None\"", type));
+        Assertions.assertEquals("null", GSON.toJson(null, type));
+
+        assertRoundTrip("{\"Some\":{\"Some\":5}}", Option.some(Option.some(5)),
+                        new TypeToken<Option<Option<Integer>>>() {}.getType());
+        assertRoundTrip("{\"Some\":5}", Option.some(5), new TypeToken<Some<Integer>>() {}.getType());
+    }
+
+    @org.junit.jupiter.api.Test
+    void resultsHaveExplicitVariants() {
+        Type type = new TypeToken<Result<Integer, String>>() {}.getType();
+        assertRoundTrip("{\"Ok\":5}", Result.ok(5), type);
+        assertRoundTrip("{\"Err\":\"Not found\"}", Result.err("Not found"), type);
+        assertRoundTrip("{\"Ok\":{\"Some\":[1,\"a\"]}}", Result.ok(Option.some(new Tuple2Record<>(1, "a"))),
+                        new TypeToken<Result<Option<Tuple2Record<Integer, String>>, String>>() {}.getType());
+    }
+
+    @org.junit.jupiter.api.Test
+    void tuplesAreArrays() {
+        assertRoundTrip("[]", new Tuple0(), Tuple0.class);
+        assertRoundTrip("[\"Alice\",5]", new Tuple2Record<>("Alice", 5),
+                        new TypeToken<Tuple2Record<String, Integer>>() {}.getType());
+        assertRoundTrip("[\"Alice\",\"None\"]", new Tuple2<>("Alice", Option.none()),
+                        new TypeToken<Tuple2<String, Option<Integer>>>() {}.getType());
+        assertRoundTrip("[1,2,3,4,5,6,\"7\"]", new Tuple7Record<>(1, 2, 3, 4, 5, 6, "7"),
+                        new TypeToken<Tuple7Record<Integer, Integer, Integer, Integer, Integer, Integer, String>>() {}
+                                .getType());
+    }
+
+    @org.junit.jupiter.api.Test
+    void nestedInsideOtherTypes() {
+        User user = new User("Alice", Option.none(), Result.ok(List.of("admin")));
+        String json = GSON.toJson(user);
+        Assertions.assertEquals("{\"name\":\"Alice\",\"age\":\"None\",\"roles\":{\"Ok\":[\"admin\"]}}", json);
+        Assertions.assertEquals(user, GSON.fromJson(json, User.class));
+    }
+
+    @org.junit.jupiter.api.Test
+    void rejectsInvalidShapes() {
+        Type option = new TypeToken<Option<Integer>>() {}.getType();
+        Type result = new TypeToken<Result<Integer, String>>() {}.getType();
+        Type tuple = new TypeToken<Tuple2Record<Integer, Integer>>() {}.getType();
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("\"none\"", option));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("{\"Some\":null}", option));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("5", option));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("\"None\"",
+                                                                               new TypeToken<Some<Integer>>() {}));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("{\"Value\":5}", result));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("{\"Err\":\"No\"}",
+                                                                               new TypeToken<Ok<Integer, String>>() {}));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("[1]", tuple));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> GSON.fromJson("[1,2,3]", tuple));
+        Assertions.assertEquals(None.instance(), GSON.fromJson("\"None\"", new TypeToken<None<Integer>>() {}));
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes values of a type into a compact binary form, and reads them back.
+ * <p>
+ * Codecs work over {@link DataOutput} and {@link DataInput}, so they can write into any stream, including the
+ * {@link java.io.ObjectOutput} of Java serialization, and through {@link BinaryCodec#write(Object, ByteBuffer)} and
+ * {@link BinaryCodec#read(ByteBuffer)} into a {@link ByteBuffer} without intermediate streams.
+ * <p>
+ * Codecs are composed from smaller ones, like {@link Codecs#option(BinaryCodec)} writing a tag byte telling whether the
+ * option is {@link io.github.jorgericovivas.rust_essentials.option.Some} before writing its value with the element
+ * codec, and custom types can plug in through {@link BinaryCodec#of(Writer, Reader)} or
+ * {@link BinaryCodec#map(Function, Function)}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * BinaryCodec<Result<Integer, String>> codec = Codecs.result(Codecs.INT, Codecs.STRING);
+ * ByteBuffer buffer = ByteBuffer.allocate(64);
+ * codec.write(Result.ok(5), buffer);
+ * buffer.flip();
+ * Result<Integer, String> read = codec.read(buffer);
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the values.
+ * @author Jorge Rico Vivas
+ * @see Codecs
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * Writes the value into the output.
+     *
+     * @param value value to write.
+     * @param out   output to write the value into.
+     * @throws IOException if the output fails or the value can't be written.
+     */
+    void write(T value, @NotNull DataOutput out) throws IOException;
+
+    /**
+     * Reads a value from the input, as it was written by {@link BinaryCodec#write(Object, DataOutput)}.
+     *
+     * @param in input to read the value from.
+     * @return the read value.
+     * @throws IOException if the input fails or doesn't contain a valid value.
+     */
+    T read(@NotNull DataInput in) throws IOException;
+
+    /**
+     * Writes the value into the buffer, starting at its position and advancing it.
+     * <p>
+     * Numbers are always written in big-endian order, whatever the order of the buffer is.
+     *
+     * @param value  value to write.
+     * @param buffer buffer to write the value into.
+     * @throws IOException                      if the value can't be written.
+     * @throws java.nio.BufferOverflowException if the buffer hasn't enough remaining space.
+     */
+    default void write(T value, @NotNull ByteBuffer buffer) throws IOException {
+        write(value, new ByteBufferDataOutput(requireNonNull(buffer)));
+    }
+
+    /**
+     * Reads a value from the buffer, starting at its position and advancing it.
+     *
+     * @param buffer buffer to read the value from.
+     * @return the read value.
+     * @throws IOException if the buffer doesn't contain a valid value, being an {@link EOFException} if the buffer
+     *                     ends before the value does.
+     */
+    default T read(@NotNull ByteBuffer buffer) throws IOException {
+        return read(new ByteBufferDataInput(requireNonNull(buffer)));
+    }
+
+    /**
+     * Returns the bytes of the value, or {@link io.github.jorgericovivas.rust_essentials.result.Err} if it can't be
+     * written.
+     *
+     * @param value value to write.
+     * @return the bytes of the value.
+     */
+    @NotNull
+    default Result<byte[], IOException> encode(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(value, new DataOutputStream(bytes));
+        } catch (IOException exception) {
+            return Result.err(exception);
+        }
+        return Result.ok(bytes.toByteArray());
+    }
+
+    /**
+     * Reads a value from the bytes, or returns {@link io.github.jorgericovivas.rust_essentials.result.Err} if they
+     * don't contain exactly one valid value.
+     * <p>
+     * As {@link io.github.jorgericovivas.rust_essentials.result.Ok} can't hold null, bytes holding null, like those
+     * written by {@link Codecs#nullable(BinaryCodec)}, return an Err too, and must be read through
+     * {@link BinaryCodec#read(ByteBuffer)} instead.
+     *
+     * @param bytes bytes to read the value from.
+     * @return the read value.
+     */
+    @NotNull
+    default Result<T, IOException> decode(byte @NotNull [] bytes) {
+        ByteArrayInputStream stream = new ByteArrayInputStream(requireNonNull(bytes));
+        T value;
+        try {
+            value = read(new DataInputStream(stream));
+        } catch (IOException exception) {
+            return Result.err(exception);
+        }
+        if (value == null) {
+            return Result.err(new StreamCorruptedException("The bytes hold null"));
+        }
+        if (stream.available() > 0) {
+            return Result.err(new StreamCorruptedException(stream.available() + " bytes left after the value"));
+        }
+        return Result.ok(value);
+    }
+
+    /**
+     * Returns a codec writing values of another type by converting them to values of this codec.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * BinaryCodec<Instant> instants = Codecs.LONG.map(Instant::ofEpochMilli, Instant::toEpochMilli);
+     * }
+     * </pre>
+     *
+     * @param fromThis converts values read by this codec into the new type.
+     * @param toThis   converts values of the new type into values this codec writes.
+     * @param <U>      Type of the new codec.
+     * @return a codec for the new type.
+     */
+    @NotNull
+    default <U> BinaryCodec<U> map(@NotNull Function<T, U> fromThis, @NotNull Function<U, T> toThis) {
+        requireNonNull(fromThis);
+        requireNonNull(toThis);
+        return of((value, out) -> write(toThis.apply(value), out), in -> fromThis.apply(read(in)));
+    }
+
+    /**
+     * Creates a codec from a writer and a reader of its values.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * BinaryCodec<Point> points = BinaryCodec.of((point, out) -> {
+     *     Varints.writeSignedInt(point.x(), out);
+     *     Varints.writeSignedInt(point.y(), out);
+     * }, in -> new Point(Varints.readSignedInt(in), Varints.readSignedInt(in)));
+     * }
+     * </pre>
+     *
+     * @param writer writes a value into an output.
+     * @param reader reads a value from an input.
+     * @param <T>    Type of the values.
+     * @return a codec using the writer and the reader.
+     */
+    @NotNull
+    static <T> BinaryCodec<T> of(@NotNull Writer<T> writer, @NotNull Reader<T> reader) {
+        requireNonNull(writer);
+        requireNonNull(reader);
+        return new BinaryCodec<>() {
+            @Override
+            public void write(T value, @NotNull DataOutput out) throws IOException {
+                writer.write(value, out);
+            }
+
+            @Override
+            public T read(@NotNull DataInput in) throws IOException {
+                return reader.read(in);
+            }
+        };
+    }
+
+    /**
+     * Writes a value into an output, as in {@link BinaryCodec#write(Object, DataOutput)}.
+     *
+     * @param <T> Type of the values.
+     * @author Jorge Rico Vivas
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+
+        /**
+         * Writes the value into the output.
+         *
+         * @param value value to write.
+         * @param out   output to write the value into.
+         * @throws IOException if the output fails or the value can't be written.
+         */
+        void write(T value, @NotNull DataOutput out) throws IOException;
+    }
+
+    /**
+     * Reads a value from an input, as in {@link BinaryCodec#read(DataInput)}.
+     *
+     * @param <T> Type of the values.
+     * @author Jorge Rico Vivas
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+
+        /**
+         * Reads a value from the input.
+         *
+         * @param in input to read the value from.
+         * @return the read value.
+         * @throws IOException if the input fails or doesn't contain a valid value.
+         */
+        T read(@NotNull DataInput in) throws IOException;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataInput} reading from a {@link ByteBuffer}, used by {@link BinaryCodec#read(ByteBuffer)}.
+ * <p>
+ * Numbers are read byte by byte in big-endian order as {@link DataInput} requires, whatever the order of the buffer
+ * is, and reading past the limit of the buffer throws {@link EOFException} like a stream would.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class ByteBufferDataInput implements DataInput {
+
+    /**
+     * Buffer to read from.
+     */
+    private final @NotNull ByteBuffer buffer;
+
+    /**
+     * Creates an input reading from the buffer at its position.
+     *
+     * @param buffer buffer to read from.
+     */
+    ByteBufferDataInput(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the amount of bytes left to read.
+     */
+    int remaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Checks the buffer has at least the given amount of bytes remaining.
+     */
+    private void require(int length) throws EOFException {
+        if (buffer.remaining() < length) {
+            throw new EOFException("Needed " + length + " bytes, but only " + buffer.remaining() + " remain");
+        }
+    }
+
+    @Override
+    public void readFully(byte @NotNull [] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte @NotNull [] bytes, int offset, int length) throws IOException {
+        require(length);
+        buffer.get(bytes, offset, length);
+    }
+
+    @Override
+    public int skipBytes(int length) {
+        int skipped = Math.max(0, Math.min(length, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(2);
+        return (short) ((buffer.get() << 8) | (buffer.get() & 0xFF));
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        return (buffer.get() << 24) | ((buffer.get() & 0xFF) << 16) | ((buffer.get() & 0xFF) << 8)
+               | (buffer.get() & 0xFF);
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public String readLine() {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (buffer.hasRemaining()) {
+            char current = (char) (buffer.get() & 0xFF);
+            if (current == '\n') {
+                break;
+            }
+            if (current == '\r') {
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            line.append(current);
+        }
+        return line.toString();
+    }
+
+    @Override
+    public @NotNull String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
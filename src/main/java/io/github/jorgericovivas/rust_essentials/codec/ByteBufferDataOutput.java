@@ -0,0 +1,111 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataOutput} writing into a {@link ByteBuffer}, used by {@link BinaryCodec#write(Object, ByteBuffer)}.
+ * <p>
+ * Numbers are written byte by byte in big-endian order as {@link DataOutput} requires, whatever the order of the
+ * buffer is.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class ByteBufferDataOutput implements DataOutput {
+
+    /**
+     * Buffer to write into.
+     */
+    private final @NotNull ByteBuffer buffer;
+
+    /**
+     * Creates an output writing into the buffer at its position.
+     *
+     * @param buffer buffer to write into.
+     */
+    ByteBufferDataOutput(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void write(byte @NotNull [] bytes) {
+        buffer.put(bytes);
+    }
+
+    @Override
+    public void write(byte @NotNull [] bytes, int offset, int length) {
+        buffer.put(bytes, offset, length);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void writeShort(int value) {
+        buffer.put((byte) (value >>> 8)).put((byte) value);
+    }
+
+    @Override
+    public void writeChar(int value) {
+        writeShort(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.put((byte) (value >>> 24)).put((byte) (value >>> 16)).put((byte) (value >>> 8)).put((byte) value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+
+    @Override
+    public void writeBytes(@NotNull String string) {
+        for (int index = 0; index < string.length(); index++) {
+            buffer.put((byte) string.charAt(index));
+        }
+    }
+
+    @Override
+    public void writeChars(@NotNull String string) {
+        for (int index = 0; index < string.length(); index++) {
+            writeChar(string.charAt(index));
+        }
+    }
+
+    @Override
+    public void writeUTF(@NotNull String string) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(string.length() + 2);
+        new DataOutputStream(bytes).writeUTF(string);
+        buffer.put(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,523 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import io.github.jorgericovivas.rust_essentials.result.Err;
+import io.github.jorgericovivas.rust_essentials.result.Ok;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UTFDataFormatException;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Built-in {@link BinaryCodec}s, and combinators building codecs of {@link Option}s, {@link Result}s and tuple records
+ * from the codecs of their values.
+ * <p>
+ * Variants are written as a single tag byte followed by their value, {@link None} being 0 and {@link Some} 1, and
+ * {@link Ok} being 0 and {@link Err} 1, while ints and longs are written as zigzag variable length numbers through
+ * {@link Varints}, so small numbers take a single byte.
+ * <p>
+ * When the types of the values aren't known, {@link Codecs#dynamic()} writes a tag byte telling the type of each
+ * value, which is what Java serialization of {@link Some}, {@link Ok} and {@link Err} uses.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * BinaryCodec<Option<Tuple2Record<String, Long>>> codec = Codecs.option(Codecs.tuple2(Codecs.STRING, Codecs.LONG));
+ * byte[] bytes = codec.encode(Option.some(new Tuple2Record<>("Alice", 3L))).unwrap();
+ * Option<Tuple2Record<String, Long>> read = codec.decode(bytes).unwrap();
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see BinaryCodec
+ */
+public final class Codecs {
+
+    /**
+     * Codec of booleans, taking a single byte.
+     */
+    public static final BinaryCodec<Boolean> BOOLEAN = BinaryCodec.of(
+            (value, out) -> out.writeBoolean(value), DataInput::readBoolean);
+
+    /**
+     * Codec of ints as zigzag variable length numbers, taking from 1 to 5 bytes.
+     */
+    public static final BinaryCodec<Integer> INT = BinaryCodec.of(Varints::writeSignedInt, Varints::readSignedInt);
+
+    /**
+     * Codec of longs as zigzag variable length numbers, taking from 1 to 10 bytes.
+     */
+    public static final BinaryCodec<Long> LONG = BinaryCodec.of(Varints::writeSignedLong, Varints::readSignedLong);
+
+    /**
+     * Codec of doubles, taking 8 bytes.
+     */
+    public static final BinaryCodec<Double> DOUBLE = BinaryCodec.of(
+            (value, out) -> out.writeDouble(value), DataInput::readDouble);
+
+    /**
+     * Codec of strings as their length in bytes followed by the chars encoded in modified UTF-8 as
+     * {@link DataOutput#writeUTF(String)} does, keeping unpaired surrogates, but without its 65535 bytes limit.
+     */
+    public static final BinaryCodec<String> STRING = BinaryCodec.of(Codecs::writeString, Codecs::readString);
+
+    /**
+     * Tag of {@link None} and {@link Ok}.
+     */
+    static final byte FIRST_VARIANT = 0;
+
+    /**
+     * Tag of {@link Some} and {@link Err}.
+     */
+    static final byte SECOND_VARIANT = 1;
+
+    /**
+     * Hidden constructor
+     */
+    private Codecs() {}
+
+    /**
+     * Returns the codec writing values of any type, where each value is preceded by a tag byte telling its type.
+     * <p>
+     * It writes null, booleans, ints, longs, doubles, strings, {@link Option}s, {@link Result}s and tuple records
+     * compactly, nesting them as needed, while any other value is written through Java serialization if the output is
+     * a {@link java.io.ObjectOutput}, failing with {@link java.io.NotSerializableException} otherwise.
+     *
+     * @return the codec writing values of any type.
+     */
+    @NotNull
+    public static BinaryCodec<@Nullable Object> dynamic() {
+        return DynamicCodec.INSTANCE;
+    }
+
+    /**
+     * Returns a codec of nullable values, writing a tag byte telling whether the value is null before writing it with
+     * the given codec.
+     *
+     * @param codec codec of the non-null values.
+     * @param <T>   Type of the values.
+     * @return a codec of nullable values.
+     */
+    @NotNull
+    public static <T> BinaryCodec<@Nullable T> nullable(@NotNull BinaryCodec<T> codec) {
+        requireNonNull(codec);
+        return BinaryCodec.of((value, out) -> {
+            if (value == null) {
+                out.writeByte(FIRST_VARIANT);
+            } else {
+                out.writeByte(SECOND_VARIANT);
+                codec.write(value, out);
+            }
+        }, in -> readTag(in, "null") == FIRST_VARIANT ? null : codec.read(in));
+    }
+
+    /**
+     * Returns a codec of {@link Option}s, writing a tag byte telling whether the option is {@link Some} before writing
+     * its value with the given codec.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * BinaryCodec<Option<Integer>> codec = Codecs.option(Codecs.INT);
+     * byte[] bytes = codec.encode(Option.some(5)).unwrap(); // [1, 10]
+     * }
+     * </pre>
+     *
+     * @param codec codec of the values.
+     * @param <T>   Type of the values.
+     * @return a codec of {@link Option}s.
+     */
+    @NotNull
+    public static <T> BinaryCodec<Option<T>> option(@NotNull BinaryCodec<T> codec) {
+        requireNonNull(codec);
+        return BinaryCodec.of((option, out) -> {
+            switch (option) {
+                case None() -> out.writeByte(FIRST_VARIANT);
+                case Some(var value) -> {
+                    out.writeByte(SECOND_VARIANT);
+                    codec.write(value, out);
+                }
+            }
+        }, in -> readTag(in, "Option") == FIRST_VARIANT ? Option.none() : Option.some(codec.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Result}s, writing a tag byte telling whether the result is {@link Ok} before writing
+     * its value or its error with the corresponding codec.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * BinaryCodec<Result<Integer, String>> codec = Codecs.result(Codecs.INT, Codecs.STRING);
+     * byte[] bytes = codec.encode(Result.err("Not found")).unwrap();
+     * }
+     * </pre>
+     *
+     * @param okCodec  codec of the values.
+     * @param errCodec codec of the errors.
+     * @param <T>      Type of the values.
+     * @param <E>      Type of the errors.
+     * @return a codec of {@link Result}s.
+     */
+    @NotNull
+    public static <T, E> BinaryCodec<Result<T, E>> result(@NotNull BinaryCodec<T> okCodec,
+                                                          @NotNull BinaryCodec<E> errCodec) {
+        requireNonNull(okCodec);
+        requireNonNull(errCodec);
+        return BinaryCodec.of((result, out) -> {
+            switch (result) {
+                case Ok(var value) -> {
+                    out.writeByte(FIRST_VARIANT);
+                    okCodec.write(value, out);
+                }
+                case Err(var error) -> {
+                    out.writeByte(SECOND_VARIANT);
+                    errCodec.write(error, out);
+                }
+            }
+        }, in -> readTag(in, "Result") == FIRST_VARIANT ? Result.ok(okCodec.read(in)) : Result.err(errCodec.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple1Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param <T>    First value type.
+     * @return a codec of {@link Tuple1Record}s.
+     */
+    @NotNull
+    public static <T> BinaryCodec<Tuple1Record<T>> tuple1(@NotNull BinaryCodec<T> codec0) {
+        requireNonNull(codec0);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+        }, in -> new Tuple1Record<>(codec0.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple2Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @return a codec of {@link Tuple2Record}s.
+     */
+    @NotNull
+    public static <T, U> BinaryCodec<Tuple2Record<T, U>> tuple2(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+        }, in -> new Tuple2Record<>(codec0.read(in), codec1.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple3Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param codec2 codec of the third value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @param <V>    Third value type.
+     * @return a codec of {@link Tuple3Record}s.
+     */
+    @NotNull
+    public static <T, U, V> BinaryCodec<Tuple3Record<T, U, V>> tuple3(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1,
+            @NotNull BinaryCodec<V> codec2) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        requireNonNull(codec2);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+            codec2.write(tuple.v2(), out);
+        }, in -> new Tuple3Record<>(codec0.read(in), codec1.read(in), codec2.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple4Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param codec2 codec of the third value.
+     * @param codec3 codec of the fourth value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @param <V>    Third value type.
+     * @param <W>    Fourth value type.
+     * @return a codec of {@link Tuple4Record}s.
+     */
+    @NotNull
+    public static <T, U, V, W> BinaryCodec<Tuple4Record<T, U, V, W>> tuple4(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1,
+            @NotNull BinaryCodec<V> codec2,
+            @NotNull BinaryCodec<W> codec3) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        requireNonNull(codec2);
+        requireNonNull(codec3);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+            codec2.write(tuple.v2(), out);
+            codec3.write(tuple.v3(), out);
+        }, in -> new Tuple4Record<>(codec0.read(in), codec1.read(in), codec2.read(in), codec3.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple5Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param codec2 codec of the third value.
+     * @param codec3 codec of the fourth value.
+     * @param codec4 codec of the fifth value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @param <V>    Third value type.
+     * @param <W>    Fourth value type.
+     * @param <X>    Fifth value type.
+     * @return a codec of {@link Tuple5Record}s.
+     */
+    @NotNull
+    public static <T, U, V, W, X> BinaryCodec<Tuple5Record<T, U, V, W, X>> tuple5(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1,
+            @NotNull BinaryCodec<V> codec2,
+            @NotNull BinaryCodec<W> codec3,
+            @NotNull BinaryCodec<X> codec4) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        requireNonNull(codec2);
+        requireNonNull(codec3);
+        requireNonNull(codec4);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+            codec2.write(tuple.v2(), out);
+            codec3.write(tuple.v3(), out);
+            codec4.write(tuple.v4(), out);
+        }, in -> new Tuple5Record<>(
+                codec0.read(in),
+                codec1.read(in),
+                codec2.read(in),
+                codec3.read(in),
+                codec4.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple6Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param codec2 codec of the third value.
+     * @param codec3 codec of the fourth value.
+     * @param codec4 codec of the fifth value.
+     * @param codec5 codec of the sixth value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @param <V>    Third value type.
+     * @param <W>    Fourth value type.
+     * @param <X>    Fifth value type.
+     * @param <Y>    Sixth value type.
+     * @return a codec of {@link Tuple6Record}s.
+     */
+    @NotNull
+    public static <T, U, V, W, X, Y> BinaryCodec<Tuple6Record<T, U, V, W, X, Y>> tuple6(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1,
+            @NotNull BinaryCodec<V> codec2,
+            @NotNull BinaryCodec<W> codec3,
+            @NotNull BinaryCodec<X> codec4,
+            @NotNull BinaryCodec<Y> codec5) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        requireNonNull(codec2);
+        requireNonNull(codec3);
+        requireNonNull(codec4);
+        requireNonNull(codec5);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+            codec2.write(tuple.v2(), out);
+            codec3.write(tuple.v3(), out);
+            codec4.write(tuple.v4(), out);
+            codec5.write(tuple.v5(), out);
+        }, in -> new Tuple6Record<>(
+                codec0.read(in),
+                codec1.read(in),
+                codec2.read(in),
+                codec3.read(in),
+                codec4.read(in),
+                codec5.read(in)));
+    }
+
+    /**
+     * Returns a codec of {@link Tuple7Record}s writing each value with its codec, one after another.
+     *
+     * @param codec0 codec of the first value.
+     * @param codec1 codec of the second value.
+     * @param codec2 codec of the third value.
+     * @param codec3 codec of the fourth value.
+     * @param codec4 codec of the fifth value.
+     * @param codec5 codec of the sixth value.
+     * @param codec6 codec of the seventh value.
+     * @param <T>    First value type.
+     * @param <U>    Second value type.
+     * @param <V>    Third value type.
+     * @param <W>    Fourth value type.
+     * @param <X>    Fifth value type.
+     * @param <Y>    Sixth value type.
+     * @param <Z>    Seventh value type.
+     * @return a codec of {@link Tuple7Record}s.
+     */
+    @NotNull
+    public static <T, U, V, W, X, Y, Z> BinaryCodec<Tuple7Record<T, U, V, W, X, Y, Z>> tuple7(
+            @NotNull BinaryCodec<T> codec0,
+            @NotNull BinaryCodec<U> codec1,
+            @NotNull BinaryCodec<V> codec2,
+            @NotNull BinaryCodec<W> codec3,
+            @NotNull BinaryCodec<X> codec4,
+            @NotNull BinaryCodec<Y> codec5,
+            @NotNull BinaryCodec<Z> codec6) {
+        requireNonNull(codec0);
+        requireNonNull(codec1);
+        requireNonNull(codec2);
+        requireNonNull(codec3);
+        requireNonNull(codec4);
+        requireNonNull(codec5);
+        requireNonNull(codec6);
+        return BinaryCodec.of((tuple, out) -> {
+            codec0.write(tuple.v0(), out);
+            codec1.write(tuple.v1(), out);
+            codec2.write(tuple.v2(), out);
+            codec3.write(tuple.v3(), out);
+            codec4.write(tuple.v4(), out);
+            codec5.write(tuple.v5(), out);
+            codec6.write(tuple.v6(), out);
+        }, in -> new Tuple7Record<>(
+                codec0.read(in),
+                codec1.read(in),
+                codec2.read(in),
+                codec3.read(in),
+                codec4.read(in),
+                codec5.read(in),
+                codec6.read(in)));
+    }
+
+    /**
+     * Reads a tag byte of two variants, checking it is valid.
+     */
+    static byte readTag(@NotNull DataInput in, @NotNull String type) throws IOException {
+        byte tag = in.readByte();
+        if (tag != FIRST_VARIANT && tag != SECOND_VARIANT) {
+            throw new StreamCorruptedException("Invalid " + type + " tag " + tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Amount of bytes a string is read in at most at once, so a corrupted length can't allocate more than what the
+     * input really holds.
+     */
+    private static final int STRING_CHUNK = 8192;
+
+    /**
+     * Writes the string as its length in modified UTF-8 bytes followed by the bytes, encoding every char as
+     * {@link DataOutput#writeUTF(String)} does, so unpaired surrogates are kept.
+     */
+    static void writeString(@NotNull String string, @NotNull DataOutput out) throws IOException {
+        long length = 0;
+        for (int index = 0; index < string.length(); index++) {
+            char current = string.charAt(index);
+            length += current != 0 && current < 0x80 ? 1 : current < 0x800 ? 2 : 3;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new UTFDataFormatException("String too long to encode: " + length + " bytes");
+        }
+        byte[] bytes = new byte[(int) length];
+        int position = 0;
+        for (int index = 0; index < string.length(); index++) {
+            char current = string.charAt(index);
+            if (current != 0 && current < 0x80) {
+                bytes[position++] = (byte) current;
+            } else if (current < 0x800) {
+                bytes[position++] = (byte) (0xC0 | current >> 6);
+                bytes[position++] = (byte) (0x80 | current & 0x3F);
+            } else {
+                bytes[position++] = (byte) (0xE0 | current >> 12);
+                bytes[position++] = (byte) (0x80 | current >> 6 & 0x3F);
+                bytes[position++] = (byte) (0x80 | current & 0x3F);
+            }
+        }
+        Varints.writeUnsignedInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link Codecs#writeString(String, DataOutput)}.
+     * <p>
+     * The length is checked against the remaining bytes when reading from a {@link java.nio.ByteBuffer}, and otherwise
+     * the bytes are read in chunks, so a corrupted length fails on the end of the input rather than allocating it.
+     */
+    @NotNull
+    static String readString(@NotNull DataInput in) throws IOException {
+        int length = Varints.readUnsignedInt(in);
+        if (length < 0) {
+            throw new StreamCorruptedException("Invalid string length " + (length & 0xFFFFFFFFL));
+        }
+        if (in instanceof ByteBufferDataInput buffer && length > buffer.remaining()) {
+            throw new EOFException("String of " + length + " bytes, but only " + buffer.remaining() + " remain");
+        }
+        byte[] bytes = new byte[Math.min(length, STRING_CHUNK)];
+        for (int read = 0; read < length; ) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int chunk = Math.min(length - read, STRING_CHUNK);
+            in.readFully(bytes, read, chunk);
+            read += chunk;
+        }
+        char[] chars = new char[length];
+        int count = 0;
+        for (int index = 0; index < length; ) {
+            int first = bytes[index++] & 0xFF;
+            if (first < 0x80) {
+                chars[count++] = (char) first;
+            } else if ((first & 0xE0) == 0xC0 && index < length && (bytes[index] & 0xC0) == 0x80) {
+                chars[count++] = (char) ((first & 0x1F) << 6 | bytes[index++] & 0x3F);
+            } else if ((first & 0xF0) == 0xE0 && index + 1 < length && (bytes[index] & 0xC0) == 0x80
+                       && (bytes[index + 1] & 0xC0) == 0x80) {
+                chars[count++] = (char) ((first & 0x0F) << 12 | (bytes[index++] & 0x3F) << 6 | bytes[index++] & 0x3F);
+            } else {
+                throw new UTFDataFormatException("Malformed string around byte " + (index - 1));
+            }
+        }
+        return new String(chars, 0, count);
+    }
+}
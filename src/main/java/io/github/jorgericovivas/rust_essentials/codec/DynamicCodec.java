@@ -0,0 +1,242 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import io.github.jorgericovivas.rust_essentials.result.Err;
+import io.github.jorgericovivas.rust_essentials.result.Ok;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple1Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple4Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple5Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple6Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * Codec of values of any type, where each value is preceded by a tag byte telling its type, see
+ * {@link Codecs#dynamic()}.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class DynamicCodec implements BinaryCodec<@Nullable Object> {
+
+    /**
+     * Shared instance, as the codec holds no state.
+     */
+    static final DynamicCodec INSTANCE = new DynamicCodec();
+
+    /**
+     * Tag of null.
+     */
+    private static final byte NULL = 0;
+
+    /**
+     * Tag of {@link None}.
+     */
+    private static final byte NONE = 1;
+
+    /**
+     * Tag of {@link Some}, followed by its value.
+     */
+    private static final byte SOME = 2;
+
+    /**
+     * Tag of {@link Ok}, followed by its value.
+     */
+    private static final byte OK = 3;
+
+    /**
+     * Tag of {@link Err}, followed by its error.
+     */
+    private static final byte ERR = 4;
+
+    /**
+     * Tag of false.
+     */
+    private static final byte FALSE = 5;
+
+    /**
+     * Tag of true.
+     */
+    private static final byte TRUE = 6;
+
+    /**
+     * Tag of an {@link Integer}, followed by it as a zigzag variable length number.
+     */
+    private static final byte INT = 7;
+
+    /**
+     * Tag of a {@link Long}, followed by it as a zigzag variable length number.
+     */
+    private static final byte LONG = 8;
+
+    /**
+     * Tag of a {@link Double}, followed by its 8 bytes.
+     */
+    private static final byte DOUBLE = 9;
+
+    /**
+     * Tag of a {@link String}, followed by its length in modified UTF-8 bytes and the bytes.
+     */
+    private static final byte STRING = 10;
+
+    /**
+     * Tag of a tuple record, followed by its arity as a byte and its values.
+     */
+    private static final byte TUPLE = 11;
+
+    /**
+     * Tag of any other value, followed by it written through Java serialization.
+     */
+    private static final byte SERIALIZED = 12;
+
+    /**
+     * Hidden constructor
+     */
+    private DynamicCodec() {}
+
+    @Override
+    public void write(@Nullable Object value, @NotNull DataOutput out) throws IOException {
+        switch (value) {
+            case null -> out.writeByte(NULL);
+            case None<?> ignored -> out.writeByte(NONE);
+            case Some<?>(var some) -> writeTagged(SOME, some, out);
+            case Ok<?, ?>(var ok) -> writeTagged(OK, ok, out);
+            case Err<?, ?>(var error) -> writeTagged(ERR, error, out);
+            case Boolean bool -> out.writeByte(bool ? TRUE : FALSE);
+            case Integer integer -> {
+                out.writeByte(INT);
+                Varints.writeSignedInt(integer, out);
+            }
+            case Long longValue -> {
+                out.writeByte(LONG);
+                Varints.writeSignedLong(longValue, out);
+            }
+            case Double doubleValue -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(doubleValue);
+            }
+            case String string -> {
+                out.writeByte(STRING);
+                Codecs.writeString(string, out);
+            }
+            case Tuple1Record<?>(var v0) -> writeTuple(out, v0);
+            case Tuple2Record<?, ?>(var v0, var v1) -> writeTuple(out, v0, v1);
+            case Tuple3Record<?, ?, ?>(var v0, var v1, var v2) -> writeTuple(out, v0, v1, v2);
+            case Tuple4Record<?, ?, ?, ?>(var v0, var v1, var v2, var v3) -> writeTuple(out, v0, v1, v2, v3);
+            case Tuple5Record<?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4) ->
+                    writeTuple(out, v0, v1, v2, v3, v4);
+            case Tuple6Record<?, ?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4, var v5) ->
+                    writeTuple(out, v0, v1, v2, v3, v4, v5);
+            case Tuple7Record<?, ?, ?, ?, ?, ?, ?>(var v0, var v1, var v2, var v3, var v4, var v5, var v6) ->
+                    writeTuple(out, v0, v1, v2, v3, v4, v5, v6);
+            default -> {
+                if (!(out instanceof ObjectOutput objectOutput)) {
+                    throw new NotSerializableException(value.getClass().getName());
+                }
+                objectOutput.writeByte(SERIALIZED);
+                objectOutput.writeObject(value);
+            }
+        }
+    }
+
+    /**
+     * Writes the tag followed by the value.
+     */
+    private void writeTagged(byte tag, @Nullable Object value, @NotNull DataOutput out) throws IOException {
+        out.writeByte(tag);
+        write(value, out);
+    }
+
+    /**
+     * Writes the tuple tag, the arity and the values of the tuple.
+     */
+    private void writeTuple(@NotNull DataOutput out, @Nullable Object @NotNull ... values) throws IOException {
+        out.writeByte(TUPLE);
+        out.writeByte(values.length);
+        for (Object value : values) {
+            write(value, out);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object read(@NotNull DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case NULL -> null;
+            case NONE -> Option.none();
+            case SOME -> Option.some(requireValue(read(in), "Some"));
+            case OK -> Result.ok(requireValue(read(in), "Ok"));
+            case ERR -> Result.err(requireValue(read(in), "Err"));
+            case FALSE -> false;
+            case TRUE -> true;
+            case INT -> Varints.readSignedInt(in);
+            case LONG -> Varints.readSignedLong(in);
+            case DOUBLE -> in.readDouble();
+            case STRING -> Codecs.readString(in);
+            case TUPLE -> readTuple(in);
+            case SERIALIZED -> readSerialized(in);
+            default -> throw new StreamCorruptedException("Invalid type tag " + tag);
+        };
+    }
+
+    /**
+     * Checks the value read for a variant isn't null, as no variant holds null.
+     */
+    @NotNull
+    private static Object requireValue(@Nullable Object value, @NotNull String variant) throws IOException {
+        if (value == null) {
+            throw new StreamCorruptedException(variant + " holding null");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the arity and the values of a tuple record.
+     */
+    @NotNull
+    private Object readTuple(@NotNull DataInput in) throws IOException {
+        byte arity = in.readByte();
+        return switch (arity) {
+            case 1 -> new Tuple1Record<>(read(in));
+            case 2 -> new Tuple2Record<>(read(in), read(in));
+            case 3 -> new Tuple3Record<>(read(in), read(in), read(in));
+            case 4 -> new Tuple4Record<>(read(in), read(in), read(in), read(in));
+            case 5 -> new Tuple5Record<>(read(in), read(in), read(in), read(in), read(in));
+            case 6 -> new Tuple6Record<>(read(in), read(in), read(in), read(in), read(in), read(in));
+            case 7 -> new Tuple7Record<>(read(in), read(in), read(in), read(in), read(in), read(in), read(in));
+            default -> throw new StreamCorruptedException("Invalid tuple arity " + arity);
+        };
+    }
+
+    /**
+     * Reads a value written through Java serialization.
+     */
+    @Nullable
+    private static Object readSerialized(@NotNull DataInput in) throws IOException {
+        if (!(in instanceof ObjectInput objectInput)) {
+            throw new StreamCorruptedException("Serialized values can only be read from an ObjectInput");
+        }
+        try {
+            return objectInput.readObject();
+        } catch (ClassNotFoundException exception) {
+            InvalidClassException invalidClass = new InvalidClassException(exception.getMessage());
+            invalidClass.initCause(exception);
+            throw invalidClass;
+        }
+    }
+}
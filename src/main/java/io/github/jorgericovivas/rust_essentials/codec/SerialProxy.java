@@ -0,0 +1,77 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serial;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Serialized form of {@link io.github.jorgericovivas.rust_essentials.option.Some},
+ * {@link io.github.jorgericovivas.rust_essentials.result.Ok} and
+ * {@link io.github.jorgericovivas.rust_essentials.result.Err}, which replace themselves with this proxy when
+ * serialized through {@link java.io.ObjectOutputStream}.
+ * <p>
+ * Instead of the class descriptor of every record and boxed value, the stream holds the descriptor of this class once
+ * and the value written by {@link Codecs#dynamic()}, so {@code Result.ok(6)} takes 3 bytes of data, and deserializing
+ * it resolves back into the original value. Values the dynamic codec doesn't know, like exceptions, are still written
+ * through Java serialization.
+ * <p>
+ * {@link io.github.jorgericovivas.rust_essentials.option.None} keeps its default serialized form, as holding no value
+ * it is already smaller than this proxy.
+ * <p>
+ * This class is public only because Java serialization requires it, and it isn't meant to be used directly.
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class SerialProxy implements Externalizable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Value this proxy stands for, written by {@link SerialProxy#writeExternal(ObjectOutput)} rather than by the
+     * default serialization.
+     */
+    @SuppressWarnings("serial")
+    private @Nullable Object value;
+
+    /**
+     * Creates an empty proxy, used by Java serialization before reading the value.
+     */
+    public SerialProxy() {}
+
+    /**
+     * Creates a proxy standing for the value.
+     *
+     * @param value value to serialize.
+     */
+    public SerialProxy(@NotNull Object value) {
+        this.value = requireNonNull(value);
+    }
+
+    @Override
+    public void writeExternal(@NotNull ObjectOutput out) throws IOException {
+        Codecs.dynamic().write(value, out);
+    }
+
+    @Override
+    public void readExternal(@NotNull ObjectInput in) throws IOException {
+        value = Codecs.dynamic().read(in);
+    }
+
+    /**
+     * Replaces this proxy with the value it stands for once deserialized.
+     *
+     * @return the deserialized value.
+     */
+    @Serial
+    private Object readResolve() {
+        return value;
+    }
+}
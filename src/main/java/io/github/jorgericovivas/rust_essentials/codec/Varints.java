@@ -0,0 +1,149 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Variable length encoding of integers, where small numbers take fewer bytes.
+ * <p>
+ * Each byte holds 7 bits of the number, from the lowest to the highest, and its highest bit tells whether more bytes
+ * follow, so numbers below 128 take a single byte, and ints take at most 5 bytes and longs 10. Signed numbers are
+ * zigzag encoded first, mapping 0, -1, 1, -2, 2... to 0, 1, 2, 3, 4..., so small negative numbers are small too.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Varints.writeSignedInt(-3, out); // Writes a single byte
+ * int read = Varints.readSignedInt(in);
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class Varints {
+
+    /**
+     * Hidden constructor
+     */
+    private Varints() {}
+
+    /**
+     * Writes the int as an unsigned variable length number, taking from 1 to 5 bytes.
+     *
+     * @param value value to write, where negative numbers are taken as unsigned and take 5 bytes.
+     * @param out   output to write the value into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeUnsignedInt(int value, @NotNull DataOutput out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an int written by {@link Varints#writeUnsignedInt(int, DataOutput)}.
+     *
+     * @param in input to read the value from.
+     * @return the read value.
+     * @throws IOException if the input fails or the number is longer than 5 bytes.
+     */
+    public static int readUnsignedInt(@NotNull DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte current = in.readByte();
+            value |= (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable length int is longer than 5 bytes");
+    }
+
+    /**
+     * Writes the long as an unsigned variable length number, taking from 1 to 10 bytes.
+     *
+     * @param value value to write, where negative numbers are taken as unsigned and take 10 bytes.
+     * @param out   output to write the value into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeUnsignedLong(long value, @NotNull DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a long written by {@link Varints#writeUnsignedLong(long, DataOutput)}.
+     *
+     * @param in input to read the value from.
+     * @return the read value.
+     * @throws IOException if the input fails or the number is longer than 10 bytes.
+     */
+    public static long readUnsignedLong(@NotNull DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte current = in.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable length long is longer than 10 bytes");
+    }
+
+    /**
+     * Writes the int as a zigzag encoded variable length number, so numbers close to zero take fewer bytes whatever
+     * their sign is.
+     *
+     * @param value value to write.
+     * @param out   output to write the value into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeSignedInt(int value, @NotNull DataOutput out) throws IOException {
+        writeUnsignedInt((value << 1) ^ (value >> 31), out);
+    }
+
+    /**
+     * Reads an int written by {@link Varints#writeSignedInt(int, DataOutput)}.
+     *
+     * @param in input to read the value from.
+     * @return the read value.
+     * @throws IOException if the input fails or the number is longer than 5 bytes.
+     */
+    public static int readSignedInt(@NotNull DataInput in) throws IOException {
+        int zigzag = readUnsignedInt(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Writes the long as a zigzag encoded variable length number, so numbers close to zero take fewer bytes whatever
+     * their sign is.
+     *
+     * @param value value to write.
+     * @param out   output to write the value into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeSignedLong(long value, @NotNull DataOutput out) throws IOException {
+        writeUnsignedLong((value << 1) ^ (value >> 63), out);
+    }
+
+    /**
+     * Reads a long written by {@link Varints#writeSignedLong(long, DataOutput)}.
+     *
+     * @param in input to read the value from.
+     * @return the read value.
+     * @throws IOException if the input fails or the number is longer than 10 bytes.
+     */
+    public static long readSignedLong(@NotNull DataInput in) throws IOException {
+        long zigzag = readUnsignedLong(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
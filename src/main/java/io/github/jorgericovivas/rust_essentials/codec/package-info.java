@@ -0,0 +1,14 @@
+/**
+ * Compact binary encoding of {@link io.github.jorgericovivas.rust_essentials.option.Option}s,
+ * {@link io.github.jorgericovivas.rust_essentials.result.Result}s and tuple records through {@link BinaryCodec}s,
+ * writing into {@link java.io.DataOutput}s and {@link java.nio.ByteBuffer}s.
+ * <p>
+ * Codecs are built from the codecs of their values through {@link Codecs}, where variants are written as a single tag
+ * byte and ints and longs as variable length numbers through {@link Varints}.
+ * <p>
+ * Java serialization of {@link io.github.jorgericovivas.rust_essentials.option.Some},
+ * {@link io.github.jorgericovivas.rust_essentials.result.Ok} and
+ * {@link io.github.jorgericovivas.rust_essentials.result.Err} goes through {@link SerialProxy}, using this same
+ * encoding.
+ */
+package io.github.jorgericovivas.rust_essentials.codec;
@@ -4,6 +4,7 @@ import io.github.jorgericovivas.rust_essentials.option.Option;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 
 import static java.util.Objects.requireNonNull;
@@ -14,6 +15,12 @@ import static java.util.Objects.requireNonNull;
  * When printing this exception, it also shows the {@link Diagnostic}'s message as show in it's documentation (See
  * {@link Diagnostic}).
  * <p>
+ * The message is rendered on the first call to {@link DiagnosedException#getMessage()} and cached, rendering it again
+ * only after the {@link Diagnostic} is modified, so logging frameworks reading it several times render it once.
+ * <p>
+ * Exceptions thrown often and expected to be handled can be created through
+ * {@link DiagnosedException#stackless(Diagnostic)}, skipping the capture of the stack trace.
+ * <p>
  *
  *
  * Note: 'message' is renamed to 'concept'.
@@ -26,8 +33,16 @@ import static java.util.Objects.requireNonNull;
 
 public class DiagnosedException extends Exception implements Serializable {
     
+    @Serial
+    private static final long serialVersionUID = 7255677829751647945L;
+    
     @NotNull private final Diagnostic diagnostic;
     
+    /**
+     * Message rendered by {@link DiagnosedException#getMessage()}, being null until it is first called.
+     */
+    private transient CachedMessage cachedMessage;
+    
     /**
      * Creates a new {@link DiagnosedException} with a new {@link Diagnostic}.
      */
@@ -45,6 +60,42 @@ public class DiagnosedException extends Exception implements Serializable {
         this.diagnostic = Option.of(diagnostic).unwrapOrElse(Diagnostic::new);
     }
     
+    /**
+     * Creates a new {@link DiagnosedException} with the {@link Diagnostic} sent as parameter, or a new one if null,
+     * capturing the stack trace only if writable.
+     *
+     * @param diagnostic         The diagnostic where explanation about this error is written.
+     * @param writableStackTrace whether the stack trace is captured and can be set.
+     */
+    public DiagnosedException(@NotNull Diagnostic diagnostic, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.diagnostic = Option.of(diagnostic).unwrapOrElse(Diagnostic::new);
+    }
+    
+    /**
+     * Creates a new {@link DiagnosedException} with the {@link Diagnostic} sent as parameter, or a new one if null,
+     * without capturing the stack trace, making it far cheaper to create for failures that happen often and are
+     * expected to be handled.
+     * <p>
+     * As it has no stack trace, its message doesn't ask to show the stack trace to the developers.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * if (!cache.containsKey(key)) {
+     *     throw DiagnosedException.stackless(new Diagnostic("There is no entry for " + key));
+     * }
+     * }
+     * </pre>
+     *
+     * @param diagnostic The diagnostic where explanation about this error is written.
+     * @return a new {@link DiagnosedException} without stack trace.
+     */
+    @NotNull
+    public static DiagnosedException stackless(@NotNull Diagnostic diagnostic) {
+        return new DiagnosedException(diagnostic, false);
+    }
+    
     /**
      * returns This {@link DiagnosedException}'s {@link Diagnostic}.
      *
@@ -98,12 +149,32 @@ public class DiagnosedException extends Exception implements Serializable {
     
     /**
      * Returns the detail message with the diagnostic attached to it.
+     * <p>
+     * It is rendered on the first call and cached until the diagnostic is modified, either through this exception or
+     * through {@link DiagnosedException#diagnostic()}.
      *
      * @return the detail message with the diagnostic attached to it.
      */
     @NotNull @Override
     public String getMessage() {
-        return commonGetMessage(this, diagnostic);
+        var cached = this.cachedMessage;
+        var modifications = diagnostic.modifications;
+        if (cached == null || cached.modifications() != modifications) {
+            cached = new CachedMessage(commonGetMessage(this, diagnostic), modifications);
+            this.cachedMessage = cached;
+        }
+        return cached.message();
+    }
+    
+    /**
+     * Sets the stack trace, discarding the cached message, as it tells whether there is a stack trace.
+     *
+     * @param stackTrace the stack trace of this exception.
+     */
+    @Override
+    public void setStackTrace(@NotNull StackTraceElement @NotNull [] stackTrace) {
+        super.setStackTrace(stackTrace);
+        this.cachedMessage = null;
     }
     
     /**
@@ -120,6 +191,18 @@ public class DiagnosedException extends Exception implements Serializable {
      */
     public static @NotNull String commonGetMessage(@NotNull Exception sourceException, @NotNull Diagnostic diagnostic) {
         var post_pend = requireNonNull(sourceException).getStackTrace().length > 0 ? "\nIf you can't solve this problem, show this information to the developers along this:\n\nStack trace is:" : "";
-        return "\n\n" + requireNonNull(diagnostic) + "\n\n" + post_pend;
+        var message = new StringBuilder(256).append("\n\n");
+        return DiagnosticRenderer.COLORED.render(requireNonNull(diagnostic), message)
+                                         .append("\n\n")
+                                         .append(post_pend)
+                                         .toString();
     }
+    
+    /**
+     * A rendered message, along the amount of modifications of the {@link Diagnostic} it was rendered from.
+     *
+     * @param message       rendered message.
+     * @param modifications amount of modifications of the {@link Diagnostic} when rendered.
+     */
+    private record CachedMessage(@NotNull String message, int modifications) {}
 }
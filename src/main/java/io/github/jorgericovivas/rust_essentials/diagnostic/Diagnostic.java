@@ -1,15 +1,15 @@
 package io.github.jorgericovivas.rust_essentials.diagnostic;
 
 import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * A structure representing a diagnostic message.
@@ -46,54 +46,34 @@ import java.util.stream.Stream;
 @SuppressWarnings("UnusedReturnValue")
 public class Diagnostic implements Serializable {
     
+    @Serial
+    private static final long serialVersionUID = 8577345979569084250L;
+    
     /**
      * An enum representing a diagnostic level.
      */
     public enum Level {
         ERROR, WARNING;
-        
-        //com.diogonunes.jcolor.new AnsiFormat(com.diogonunes.jcolor.Attribute.BRIGHT_RED_TEXT(), Attribute.BOLD()).format("Error: ");
-        @NotNull
-        private static final String PREPEND_ERROR = "\u001B[91;1mError: \u001B[0m";
-        
-        @NotNull
-        @SuppressWarnings("SuspiciousRegexArgument")
-        private static final String PREPEND_ERROR_EMPTY = "       ";
-        
-        @NotNull
-        private static final String PREPEND_WARNING = "\u001B[93;1mWarning: \u001B[0m";
-        
-        @NotNull
-        @SuppressWarnings("SuspiciousRegexArgument")
-        private static final String PREPEND_WARNING_EMPTY = "         ";
-        
-        @NotNull private String coloredTitle() {
-            return switch (this) {
-                case ERROR -> PREPEND_ERROR;
-                case WARNING -> PREPEND_WARNING;
-            };
-        }
-        
-        @NotNull private String emptyPrepend() {
-            return switch (this) {
-                case ERROR -> PREPEND_ERROR_EMPTY;
-                case WARNING -> PREPEND_WARNING_EMPTY;
-            };
-        }
     }
     
     
     @NotNull
-    private final Level level;
+    final Level level;
     
     @NotNull
-    private Option<String> concept;
+    Option<String> concept;
     
     @NotNull
-    private final List<String> helps;
+    final List<String> helps;
     
     @NotNull
-    private final List<String> notes;
+    final List<String> notes;
+    
+    /**
+     * Amount of times this diagnostic was modified, letting {@link DiagnosedException} know when the message it cached
+     * is outdated.
+     */
+    transient int modifications;
     
     /**
      * Creates a new empty {@link Diagnostic}.
@@ -172,6 +152,7 @@ public class Diagnostic implements Serializable {
         this.concept = Option.of(concept)
                              .filter((string) -> !string.isBlank())
                              .or(this.concept);
+        modifications++;
         return this;
     }
     
@@ -211,6 +192,7 @@ public class Diagnostic implements Serializable {
         Option.of(helpMessage)
               .filter(string -> !string.isBlank())
               .inspect(this.helps::add);
+        modifications++;
         return this;
     }
     
@@ -250,6 +232,7 @@ public class Diagnostic implements Serializable {
         Option.of(noteMessage)
               .filter(string -> !string.isBlank())
               .inspect(this.notes::add);
+        modifications++;
         return this;
     }
     
@@ -283,43 +266,114 @@ public class Diagnostic implements Serializable {
      */
     @NotNull @Override
     public String toString() {
-        var title = concept.unwrapOr("An error has occurred");
-        return Stream
-                .of(Stream.of(title).map(message -> prependWith(message, level.coloredTitle(), level.emptyPrepend())),
-                    this.notes.stream().map(message -> prependWith(message, PREPEND_NOTE, PREPEND_NOTE_EMPTY)),
-                    this.helps.stream().map(message -> prependWith(message, PREPEND_HELP, PREPEND_HELP_EMPTY))
-                )
-                .flatMap(self -> self)
-                .collect(Collectors.joining(System.lineSeparator() + System.lineSeparator()));
+        return DiagnosticRenderer.COLORED.render(this);
     }
     
-    @NotNull
-    private String prependWith(@NotNull String message, @NotNull String prepend_to_first_line, @NotNull String prepend_to_other_lines) {
-        AtomicBoolean is_first_line = new AtomicBoolean(true);
-        return message
-                .lines()
-                .map(line -> {
-                    var prepend = is_first_line.get() ? prepend_to_first_line : prepend_to_other_lines;
-                    is_first_line.set(false);
-                    return prepend + line;
-                })
-                .collect(Collectors.joining(System.lineSeparator()));
+    /**
+     * Returns a 64-bit fingerprint of the contents of this diagnostic, being its {@link Level}, its concept, its notes
+     * and its helps, so diagnostics with the same contents have the same fingerprint, and diagnostics with different
+     * contents almost always have different ones.
+     * <p>
+     * Unlike hashing the rendered diagnostic, computing it doesn't allocate, and the fingerprint stays the same across
+     * executions, so it can also identify diagnostics in logs.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * long first = new Diagnostic("Could not connect").withHelp("Retry later").fingerprint();
+     * long second = new Diagnostic("Could not connect").withHelp("Retry later").fingerprint();
+     * assert first == second;
+     * }
+     * </pre>
+     *
+     * @return a 64-bit fingerprint of the contents of this diagnostic.
+     * @see DiagnosticDeduplicator
+     */
+    public long fingerprint() {
+        long hash = mix(FINGERPRINT_SEED, level.ordinal());
+        hash = concept instanceof Some<String>(String text) ? mix(mix(hash, 1), text) : mix(hash, 0);
+        hash = mix(hash, notes.size());
+        for (String note : notes) {
+            hash = mix(hash, note);
+        }
+        hash = mix(hash, helps.size());
+        for (String help : helps) {
+            hash = mix(hash, help);
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
     }
     
+    /**
+     * Mixes the length and the characters of the text into the hash through FNV-1a, so consecutive texts can't be
+     * confused with a different split of the same characters.
+     */
+    private static long mix(long hash, @NotNull String text) {
+        hash = mix(hash, text.length());
+        for (int index = 0; index < text.length(); index++) {
+            hash = (hash ^ text.charAt(index)) * FINGERPRINT_PRIME;
+        }
+        return hash;
+    }
     
-    @NotNull
-    private static final String PREPEND_HELP = "\u001B[92;1mHelp: \u001B[0m";
+    /**
+     * Mixes the value into the hash through FNV-1a.
+     */
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * FINGERPRINT_PRIME;
+    }
     
+    /**
+     * FNV-1a 64-bit offset basis, starting every fingerprint.
+     */
+    private static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+    
+    /**
+     * FNV-1a 64-bit prime.
+     */
+    private static final long FINGERPRINT_PRIME = 0x100000001B3L;
+    
+    /**
+     * Returns the {@link Level} of this diagnostic.
+     *
+     * @return the {@link Level} of this diagnostic.
+     */
     @NotNull
-    @SuppressWarnings("SuspiciousRegexArgument")
-    private static final String PREPEND_HELP_EMPTY = "      ";
+    public Level level() {
+        return level;
+    }
     
+    /**
+     * Returns the main message of this diagnostic, if any was set.
+     *
+     * @return the main message of this diagnostic, if any was set.
+     */
     @NotNull
+    public Option<String> concept() {
+        return concept;
+    }
     
-    private static final String PREPEND_NOTE = "\u001B[94;1mNote: \u001B[0m";
+    /**
+     * Returns a read-only view of the help messages of this diagnostic, in the order they were added.
+     *
+     * @return a read-only view of the help messages of this diagnostic.
+     */
+    @NotNull
+    public List<String> helps() {
+        return Collections.unmodifiableList(helps);
+    }
     
+    /**
+     * Returns a read-only view of the note messages of this diagnostic, in the order they were added.
+     *
+     * @return a read-only view of the note messages of this diagnostic.
+     */
     @NotNull
-    @SuppressWarnings("SuspiciousRegexArgument")
-    private static final String PREPEND_NOTE_EMPTY = "      ";
+    public List<String> notes() {
+        return Collections.unmodifiableList(notes);
+    }
     
 }
@@ -0,0 +1,381 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Passes {@link Diagnostic}s to a downstream consumer, like a {@link DiagnosticSink}, collapsing the ones with the same
+ * contents submitted within a time window into a single one.
+ * <p>
+ * Diagnostics are told apart by their {@link Diagnostic#fingerprint()}. The first diagnostic of each fingerprint is
+ * passed downstream and opens a window, during which repeats are only counted. Once the window is over, the next
+ * repeat is passed downstream with a note telling how many times it was repeated meanwhile, opening a new window, and
+ * {@link DiagnosticDeduplicator#flush()} passes that note for fingerprints that weren't repeated again.
+ * <p>
+ * It can be used from any amount of threads. Fingerprints are spread across segments, each one locked on its own,
+ * keeping at most {@link Builder#maxFingerprints(int)} fingerprints overall, split evenly across the segments, by
+ * evicting the least recently seen ones of a full segment, whose pending repeats are passed downstream when evicted.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * DiagnosticDeduplicator deduplicator = DiagnosticDeduplicator.builder(sink::submit)
+ *                                                             .window(Duration.ofSeconds(30))
+ *                                                             .build();
+ * for (int attempt = 0; attempt < 1000; attempt++) {
+ *     deduplicator.submit(new Diagnostic("Could not reach the server"));
+ * }
+ * // Only the first diagnostic reached the sink, the other 999 are told on the next flush after 30 seconds
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Diagnostic#fingerprint()
+ */
+public final class DiagnosticDeduplicator {
+
+    /**
+     * Receives the diagnostics that aren't collapsed.
+     */
+    private final @NotNull Consumer<? super Diagnostic> downstream;
+
+    /**
+     * Duration of the windows in nanoseconds.
+     */
+    private final long windowNanos;
+
+    /**
+     * Gives the current time in nanoseconds.
+     */
+    private final @NotNull LongSupplier clock;
+
+    /**
+     * Segments holding the windows of the fingerprints.
+     */
+    private final @NotNull Segment @NotNull [] segments;
+
+    /**
+     * Amount of diagnostics collapsed.
+     */
+    private final @NotNull LongAdder suppressed = new LongAdder();
+
+    /**
+     * Hidden constructor
+     */
+    private DiagnosticDeduplicator(@NotNull Builder builder) {
+        this.downstream = builder.downstream;
+        this.windowNanos = builder.window.toNanos();
+        this.clock = builder.clock;
+        int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(builder.maxFingerprints));
+        // The first segments keep one more fingerprint each, so the capacities add up to exactly the maximum
+        int segmentCapacity = builder.maxFingerprints / segmentCount;
+        int largerSegments = builder.maxFingerprints % segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int index = 0; index < segmentCount; index++) {
+            segments[index] = new Segment(index < largerSegments ? segmentCapacity + 1 : segmentCapacity);
+        }
+    }
+
+    /**
+     * Maximum amount of segments.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Creates a builder of deduplicators passing diagnostics to the consumer.
+     *
+     * @param downstream receives the diagnostics that aren't collapsed.
+     * @return a new builder.
+     */
+    @NotNull
+    public static Builder builder(@NotNull Consumer<? super Diagnostic> downstream) {
+        return new Builder(requireNonNull(downstream));
+    }
+
+    /**
+     * Passes the diagnostic downstream unless another one with the same contents was passed within the window, in
+     * which case it is only counted.
+     * <p>
+     * The diagnostic must not be modified afterward, as it may be passed downstream later along a note of its repeats.
+     *
+     * @param diagnostic diagnostic to pass downstream.
+     * @return true if the diagnostic was passed downstream, or false if it was collapsed.
+     */
+    public boolean submit(@NotNull Diagnostic diagnostic) {
+        long fingerprint = requireNonNull(diagnostic).fingerprint();
+        Segment segment = segments[(int) (fingerprint ^ (fingerprint >>> 32)) & (segments.length - 1)];
+        long now = clock.getAsLong();
+        Diagnostic passed;
+        Window evicted;
+        synchronized (segment) {
+            Window window = segment.get(fingerprint);
+            if (window != null && now - window.start < windowNanos) {
+                window.repeats++;
+                suppressed.increment();
+                return false;
+            }
+            if (window == null) {
+                segment.put(fingerprint, new Window(diagnostic, now));
+                passed = diagnostic;
+            } else {
+                passed = window.repeats > 0 ? withRepeats(diagnostic, window.repeats) : diagnostic;
+                window.diagnostic = diagnostic;
+                window.start = now;
+                window.repeats = 0;
+            }
+            evicted = segment.evicted;
+            segment.evicted = null;
+        }
+        if (evicted != null && evicted.repeats > 0) {
+            downstream.accept(withRepeats(evicted.diagnostic, evicted.repeats));
+        }
+        downstream.accept(passed);
+        return true;
+    }
+
+    /**
+     * Forgets the fingerprints whose window is over, passing downstream, along a note of how many times they were
+     * repeated, the ones repeated during their window.
+     * <p>
+     * It should be called periodically, like from a scheduled task, so repeats of diagnostics that stop happening are
+     * told too.
+     */
+    public void flush() {
+        flush(false);
+    }
+
+    /**
+     * Forgets every fingerprint, passing downstream, along a note of how many times they were repeated, the ones
+     * repeated during their window, like when shutting down.
+     */
+    public void drain() {
+        flush(true);
+    }
+
+    /**
+     * Returns the amount of diagnostics collapsed so far.
+     *
+     * @return the amount of diagnostics collapsed so far.
+     */
+    public long suppressed() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Returns the amount of fingerprints being remembered.
+     *
+     * @return the amount of fingerprints being remembered.
+     */
+    public int tracked() {
+        int tracked = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                tracked += segment.size();
+            }
+        }
+        return tracked;
+    }
+
+    /**
+     * Forgets the fingerprints whose window is over, or every one if all, passing downstream the repeated ones after
+     * releasing each segment.
+     */
+    private void flush(boolean all) {
+        List<Diagnostic> repeated = new ArrayList<>();
+        for (Segment segment : segments) {
+            long now = clock.getAsLong();
+            synchronized (segment) {
+                Iterator<Window> windows = segment.values().iterator();
+                while (windows.hasNext()) {
+                    Window window = windows.next();
+                    if (all || now - window.start >= windowNanos) {
+                        if (window.repeats > 0) {
+                            repeated.add(withRepeats(window.diagnostic, window.repeats));
+                        }
+                        windows.remove();
+                    }
+                }
+            }
+            repeated.forEach(downstream);
+            repeated.clear();
+        }
+    }
+
+    /**
+     * Returns a copy of the diagnostic with a note telling how many times it was repeated.
+     */
+    @NotNull
+    private static Diagnostic withRepeats(@NotNull Diagnostic diagnostic, long repeats) {
+        Diagnostic copy = new Diagnostic(diagnostic.level());
+        copy.concept = diagnostic.concept();
+        copy.notes.addAll(diagnostic.notes());
+        copy.helps.addAll(diagnostic.helps());
+        return copy.withNote("Repeated " + repeats + (repeats == 1 ? " time" : " times")
+                             + " since it was last shown");
+    }
+
+    /**
+     * Window of a fingerprint.
+     *
+     * @author Jorge Rico Vivas
+     */
+    private static final class Window {
+
+        /**
+         * Last diagnostic passed downstream with this fingerprint.
+         */
+        private @NotNull Diagnostic diagnostic;
+
+        /**
+         * Time in nanoseconds the window started.
+         */
+        private long start;
+
+        /**
+         * Amount of repeats collapsed during the window.
+         */
+        private long repeats;
+
+        /**
+         * Creates a window starting now for the diagnostic.
+         */
+        private Window(@NotNull Diagnostic diagnostic, long start) {
+            this.diagnostic = diagnostic;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Windows of a part of the fingerprints, in least recently seen order, evicting the least recently seen one when
+     * exceeding its capacity.
+     * <p>
+     * Segments are never serialized, being {@link java.io.Serializable} only because {@link LinkedHashMap} is.
+     *
+     * @author Jorge Rico Vivas
+     */
+    @SuppressWarnings("serial")
+    private static final class Segment extends LinkedHashMap<Long, Window> {
+
+        /**
+         * Amount of fingerprints this segment keeps.
+         */
+        private final int capacity;
+
+        /**
+         * Last window evicted and not handled yet.
+         */
+        private Window evicted;
+
+        /**
+         * Creates a segment keeping as many fingerprints as the capacity.
+         */
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Window> eldest) {
+            if (size() > capacity) {
+                evicted = eldest.getValue();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Builder of {@link DiagnosticDeduplicator}s, see {@link DiagnosticDeduplicator#builder(Consumer)}.
+     *
+     * @author Jorge Rico Vivas
+     */
+    public static final class Builder {
+
+        /**
+         * Receives the diagnostics that aren't collapsed.
+         */
+        private final @NotNull Consumer<? super Diagnostic> downstream;
+
+        /**
+         * Duration of the windows.
+         */
+        private @NotNull Duration window = Duration.ofSeconds(10);
+
+        /**
+         * Amount of fingerprints kept.
+         */
+        private int maxFingerprints = 4096;
+
+        /**
+         * Gives the current time in nanoseconds.
+         */
+        private @NotNull LongSupplier clock = System::nanoTime;
+
+        /**
+         * Hidden constructor
+         */
+        private Builder(@NotNull Consumer<? super Diagnostic> downstream) {
+            this.downstream = downstream;
+        }
+
+        /**
+         * Sets for how long repeats of a diagnostic are collapsed after passing it downstream, 10 seconds by default.
+         *
+         * @param window duration of the windows.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder window(@NotNull Duration window) {
+            if (requireNonNull(window).isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("Window must be positive, but it was " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets how many fingerprints are kept before evicting the least recently seen ones, 4096 by default.
+         *
+         * @param maxFingerprints amount of fingerprints kept.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder maxFingerprints(int maxFingerprints) {
+            if (maxFingerprints < 1) {
+                throw new IllegalArgumentException("Fingerprints kept must be positive, but it was " + maxFingerprints);
+            }
+            this.maxFingerprints = maxFingerprints;
+            return this;
+        }
+
+        /**
+         * Sets what gives the current time in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        @NotNull
+        Builder clock(@NotNull LongSupplier clock) {
+            this.clock = requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * Creates the deduplicator.
+         *
+         * @return a new deduplicator.
+         */
+        @NotNull
+        public DiagnosticDeduplicator build() {
+            return new DiagnosticDeduplicator(this);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import io.github.jorgericovivas.rust_essentials.codec.Varints;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes {@link Diagnostic}s and {@link DiagnosedException}s in machine-readable forms, so they can be shipped and
+ * indexed without parsing their rendered text back: as JSON Lines, one JSON object per line, and as compact binary
+ * frames prefixed by their length.
+ * <p>
+ * Both forms hold the level, the concept, the notes and the helps of the diagnostic and, for exceptions, the class of
+ * the exception and the chain of its causes, where causes which are {@link DiagnosedException}s hold their diagnostic
+ * and the others hold their message. They are written straight from the diagnostics, without building intermediate
+ * objects.
+ * <p>
+ * A JSON line looks like this, where the concept is null if it wasn't set, and {@code type} only appears on exceptions:
+ * <pre>
+ * {@code
+ * {"type":"...DiagnosedException","level":"ERROR","concept":"Could not load the settings","notes":[],
+ *  "helps":["Check the file exists"],"causes":[{"type":"java.io.FileNotFoundException","message":"settings.json"}]}
+ * }
+ * </pre>
+ * A binary frame is the length of its payload as an unsigned {@link Varints varint}, followed by the payload, where
+ * strings are their length in UTF-8 bytes as a varint followed by the bytes:
+ * <pre>
+ * payload   := record causes
+ * causes    := count:varint record*
+ * record    := 0 diagnostic | 1 type:string diagnostic | 2 type:string message:optional
+ * diagnostic:= level:byte concept:optional notes:strings helps:strings
+ * optional  := 0 | 1 string
+ * strings   := count:varint string*
+ * </pre>
+ * Causes are always records of kind 1 or 2, and the level byte is the ordinal of the {@link Diagnostic.Level}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * try (Writer log = Files.newBufferedWriter(Path.of("diagnostics.jsonl"))) {
+ *     DiagnosticEncoders.writeJsonLine(exception, log);
+ * }
+ * try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+ *     DiagnosticEncoders.writeFrame(exception, out);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class DiagnosticEncoders {
+
+    /**
+     * Kind of binary records holding only a diagnostic.
+     */
+    public static final int DIAGNOSTIC_RECORD = 0;
+
+    /**
+     * Kind of binary records holding a {@link DiagnosedException}, being its class and its diagnostic.
+     */
+    public static final int DIAGNOSED_EXCEPTION_RECORD = 1;
+
+    /**
+     * Kind of binary records holding any other {@link Throwable}, being its class and its message.
+     */
+    public static final int THROWABLE_RECORD = 2;
+
+    /**
+     * Hidden constructor
+     */
+    private DiagnosticEncoders() {}
+
+    /**
+     * Writes the diagnostic as a JSON object followed by a line break.
+     *
+     * @param diagnostic diagnostic to write.
+     * @param out        writer to write the line into.
+     * @throws IOException if the writer fails.
+     */
+    public static void writeJsonLine(@NotNull Diagnostic diagnostic, @NotNull Writer out) throws IOException {
+        requireNonNull(out).write('{');
+        writeJsonDiagnostic(requireNonNull(diagnostic), out);
+        out.write(",\"causes\":[]}\n");
+    }
+
+    /**
+     * Writes the exception, being its class, its diagnostic and the chain of its causes, as a JSON object followed by
+     * a line break.
+     *
+     * @param exception exception to write.
+     * @param out       writer to write the line into.
+     * @throws IOException if the writer fails.
+     */
+    public static void writeJsonLine(@NotNull DiagnosedException exception, @NotNull Writer out) throws IOException {
+        requireNonNull(out).write('{');
+        writeJsonCause(requireNonNull(exception), out);
+        out.write(",\"causes\":[");
+        List<Throwable> causes = causes(exception);
+        for (int index = 0; index < causes.size(); index++) {
+            out.write(index > 0 ? ",{" : "{");
+            writeJsonCause(causes.get(index), out);
+            out.write('}');
+        }
+        out.write("]}\n");
+    }
+
+    /**
+     * Writes the diagnostic as a binary frame.
+     *
+     * @param diagnostic diagnostic to write.
+     * @param out        output to write the frame into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeFrame(@NotNull Diagnostic diagnostic, @NotNull DataOutput out) throws IOException {
+        requireNonNull(diagnostic);
+        requireNonNull(out);
+        Varints.writeUnsignedInt(1 + diagnosticLength(diagnostic) + 1, out);
+        out.writeByte(DIAGNOSTIC_RECORD);
+        writeDiagnostic(diagnostic, out);
+        Varints.writeUnsignedInt(0, out);
+    }
+
+    /**
+     * Writes the exception, being its class, its diagnostic and the chain of its causes, as a binary frame.
+     *
+     * @param exception exception to write.
+     * @param out       output to write the frame into.
+     * @throws IOException if the output fails.
+     */
+    public static void writeFrame(@NotNull DiagnosedException exception, @NotNull DataOutput out) throws IOException {
+        requireNonNull(exception);
+        requireNonNull(out);
+        List<Throwable> causes = causes(exception);
+        int length = recordLength(exception) + varintLength(causes.size());
+        for (Throwable cause : causes) {
+            length += recordLength(cause);
+        }
+        Varints.writeUnsignedInt(length, out);
+        writeRecord(exception, out);
+        Varints.writeUnsignedInt(causes.size(), out);
+        for (Throwable cause : causes) {
+            writeRecord(cause, out);
+        }
+    }
+
+    /**
+     * Returns the chain of causes of the exception, stopping before the first one repeated.
+     */
+    @NotNull
+    private static List<Throwable> causes(@NotNull Throwable exception) {
+        if (exception.getCause() == null) {
+            return List.of();
+        }
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.add(exception);
+        List<Throwable> causes = new ArrayList<>();
+        for (Throwable cause = exception.getCause(); cause != null && seen.add(cause); cause = cause.getCause()) {
+            causes.add(cause);
+        }
+        return causes;
+    }
+
+    /**
+     * Writes the members of a cause, being its class and either its diagnostic or its message.
+     */
+    private static void writeJsonCause(@NotNull Throwable cause, @NotNull Writer out) throws IOException {
+        out.write("\"type\":");
+        writeJsonString(cause.getClass().getName(), out);
+        out.write(',');
+        if (cause instanceof DiagnosedException diagnosed) {
+            writeJsonDiagnostic(diagnosed.diagnostic(), out);
+        } else {
+            out.write("\"message\":");
+            writeJsonString(cause.getMessage(), out);
+        }
+    }
+
+    /**
+     * Writes the members of a diagnostic.
+     */
+    private static void writeJsonDiagnostic(@NotNull Diagnostic diagnostic, @NotNull Writer out) throws IOException {
+        out.write("\"level\":\"");
+        out.write(diagnostic.level().name());
+        out.write("\",\"concept\":");
+        writeJsonString(diagnostic.concept() instanceof Some<String>(String concept) ? concept : null, out);
+        out.write(",\"notes\":");
+        writeJsonStrings(diagnostic.notes(), out);
+        out.write(",\"helps\":");
+        writeJsonStrings(diagnostic.helps(), out);
+    }
+
+    /**
+     * Writes the strings as a JSON array.
+     */
+    private static void writeJsonStrings(@NotNull List<String> strings, @NotNull Writer out) throws IOException {
+        out.write('[');
+        for (int index = 0; index < strings.size(); index++) {
+            if (index > 0) {
+                out.write(',');
+            }
+            writeJsonString(strings.get(index), out);
+        }
+        out.write(']');
+    }
+
+    /**
+     * Writes the string as a JSON string, or null, writing the runs of characters needing no escape at once.
+     */
+    private static void writeJsonString(@Nullable String string, @NotNull Writer out) throws IOException {
+        if (string == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        int run = 0;
+        for (int index = 0; index < string.length(); index++) {
+            char character = string.charAt(index);
+            if (character >= 0x20 && character != '"' && character != '\\') {
+                continue;
+            }
+            out.write(string, run, index - run);
+            run = index + 1;
+            switch (character) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                case '\b' -> out.write("\\b");
+                case '\f' -> out.write("\\f");
+                default -> {
+                    out.write("\\u00");
+                    out.write(HEX_DIGITS[character >>> 4]);
+                    out.write(HEX_DIGITS[character & 0xF]);
+                }
+            }
+        }
+        out.write(string, run, string.length() - run);
+        out.write('"');
+    }
+
+    /**
+     * Hexadecimal digits for escaping control characters.
+     */
+    private static final char @NotNull [] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Writes a record for the throwable as a cause or as the exception of a frame.
+     */
+    private static void writeRecord(@NotNull Throwable throwable, @NotNull DataOutput out) throws IOException {
+        if (throwable instanceof DiagnosedException diagnosed) {
+            out.writeByte(DIAGNOSED_EXCEPTION_RECORD);
+            writeString(throwable.getClass().getName(), out);
+            writeDiagnostic(diagnosed.diagnostic(), out);
+        } else {
+            out.writeByte(THROWABLE_RECORD);
+            writeString(throwable.getClass().getName(), out);
+            writeOptionalString(throwable.getMessage(), out);
+        }
+    }
+
+    /**
+     * Returns the amount of bytes {@link DiagnosticEncoders#writeRecord(Throwable, DataOutput)} writes.
+     */
+    private static int recordLength(@NotNull Throwable throwable) {
+        int length = 1 + stringLength(throwable.getClass().getName());
+        return throwable instanceof DiagnosedException diagnosed
+               ? length + diagnosticLength(diagnosed.diagnostic())
+               : length + optionalStringLength(throwable.getMessage());
+    }
+
+    /**
+     * Writes the level, the concept, the notes and the helps of the diagnostic.
+     */
+    private static void writeDiagnostic(@NotNull Diagnostic diagnostic, @NotNull DataOutput out) throws IOException {
+        out.writeByte(diagnostic.level().ordinal());
+        writeOptionalString(diagnostic.concept() instanceof Some<String>(String concept) ? concept : null, out);
+        writeStrings(diagnostic.notes(), out);
+        writeStrings(diagnostic.helps(), out);
+    }
+
+    /**
+     * Returns the amount of bytes {@link DiagnosticEncoders#writeDiagnostic(Diagnostic, DataOutput)} writes.
+     */
+    private static int diagnosticLength(@NotNull Diagnostic diagnostic) {
+        return 1 + optionalStringLength(diagnostic.concept() instanceof Some<String>(String concept) ? concept : null)
+               + stringsLength(diagnostic.notes()) + stringsLength(diagnostic.helps());
+    }
+
+    /**
+     * Writes the amount of strings followed by each string.
+     */
+    private static void writeStrings(@NotNull List<String> strings, @NotNull DataOutput out) throws IOException {
+        Varints.writeUnsignedInt(strings.size(), out);
+        for (int index = 0; index < strings.size(); index++) {
+            writeString(strings.get(index), out);
+        }
+    }
+
+    /**
+     * Returns the amount of bytes {@link DiagnosticEncoders#writeStrings(List, DataOutput)} writes.
+     */
+    private static int stringsLength(@NotNull List<String> strings) {
+        int length = varintLength(strings.size());
+        for (int index = 0; index < strings.size(); index++) {
+            length += stringLength(strings.get(index));
+        }
+        return length;
+    }
+
+    /**
+     * Writes 0 if the string is null, or 1 followed by the string otherwise.
+     */
+    private static void writeOptionalString(@Nullable String string, @NotNull DataOutput out) throws IOException {
+        if (string == null) {
+            out.writeByte(0);
+        } else {
+            out.writeByte(1);
+            writeString(string, out);
+        }
+    }
+
+    /**
+     * Returns the amount of bytes {@link DiagnosticEncoders#writeOptionalString(String, DataOutput)} writes.
+     */
+    private static int optionalStringLength(@Nullable String string) {
+        return string == null ? 1 : 1 + stringLength(string);
+    }
+
+    /**
+     * Writes the length of the string in UTF-8 bytes followed by the bytes, encoding it through {@link Utf8}, where
+     * unpaired surrogates become '?' as on {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static void writeString(@NotNull String string, @NotNull DataOutput out) throws IOException {
+        Varints.writeUnsignedInt(Utf8.length(string, 0, string.length()), out);
+        Utf8.write(string, 0, string.length(), out);
+    }
+
+    /**
+     * Returns the amount of bytes {@link DiagnosticEncoders#writeString(String, DataOutput)} writes.
+     */
+    private static int stringLength(@NotNull String string) {
+        int length = Utf8.length(string, 0, string.length());
+        return varintLength(length) + length;
+    }
+
+    /**
+     * Returns the amount of bytes the value takes as an unsigned varint.
+     */
+    private static int varintLength(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes {@link Diagnostic}s directly into an {@link Appendable}, a {@link StringBuilder} or a {@link ByteBuffer} as
+ * UTF-8, without building intermediate {@link String}s.
+ * <p>
+ * {@link DiagnosticRenderer#COLORED} writes exactly what {@link Diagnostic#toString()} returns, with the titles of the
+ * level, the notes and the helps colored through ANSI escape codes, while {@link DiagnosticRenderer#PLAIN} writes the
+ * same text without escape codes, for log files and terminals without colors.
+ * <p>
+ * Titles and indentations are precomputed, and messages are split into lines by walking their characters, so
+ * rendering into a reused {@link StringBuilder} or {@link ByteBuffer} doesn't allocate.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * StringBuilder builder = new StringBuilder();
+ * for (Diagnostic diagnostic : diagnostics) {
+ *     builder.setLength(0);
+ *     DiagnosticRenderer.PLAIN.render(diagnostic, builder);
+ *     log.write(builder);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Diagnostic
+ */
+public final class DiagnosticRenderer {
+
+    /**
+     * Renderer writing the titles colored through ANSI escape codes, exactly as {@link Diagnostic#toString()} does.
+     */
+    public static final DiagnosticRenderer COLORED = new DiagnosticRenderer(true, System.lineSeparator());
+
+    /**
+     * Renderer writing the titles without ANSI escape codes.
+     */
+    public static final DiagnosticRenderer PLAIN = new DiagnosticRenderer(false, System.lineSeparator());
+
+    /**
+     * Title shown when the diagnostic has no concept.
+     */
+    static final String DEFAULT_CONCEPT = "An error has occurred";
+
+    /**
+     * Whether titles are colored through ANSI escape codes.
+     */
+    private final boolean colored;
+
+    /**
+     * Separator between the lines of a message.
+     */
+    private final @NotNull String lineSeparator;
+
+    /**
+     * Separator between the concept, the notes and the helps, being two line separators.
+     */
+    private final @NotNull String blockSeparator;
+
+    /**
+     * Title preceding the first line of the concept of errors.
+     */
+    private final @NotNull String errorTitle;
+
+    /**
+     * Title preceding the first line of the concept of warnings.
+     */
+    private final @NotNull String warningTitle;
+
+    /**
+     * Title preceding the first line of notes.
+     */
+    private final @NotNull String noteTitle;
+
+    /**
+     * Title preceding the first line of helps.
+     */
+    private final @NotNull String helpTitle;
+
+    /**
+     * Spaces preceding the other lines of the concept of errors.
+     */
+    private final @NotNull String errorIndent = " ".repeat("Error: ".length());
+
+    /**
+     * Spaces preceding the other lines of the concept of warnings.
+     */
+    private final @NotNull String warningIndent = " ".repeat("Warning: ".length());
+
+    /**
+     * Spaces preceding the other lines of notes and helps.
+     */
+    private final @NotNull String noteAndHelpIndent = " ".repeat("Note: ".length());
+
+    /**
+     * Hidden constructor
+     */
+    private DiagnosticRenderer(boolean colored, @NotNull String lineSeparator) {
+        this.colored = colored;
+        this.lineSeparator = lineSeparator;
+        this.blockSeparator = lineSeparator + lineSeparator;
+        this.errorTitle = title("Error: ", "91", colored);
+        this.warningTitle = title("Warning: ", "93", colored);
+        this.noteTitle = title("Note: ", "94", colored);
+        this.helpTitle = title("Help: ", "92", colored);
+    }
+
+    /**
+     * Returns the title, wrapped in the ANSI escape codes making it bold and of the given color if colored.
+     */
+    @NotNull
+    private static String title(@NotNull String title, @NotNull String color, boolean colored) {
+        return colored ? "\u001B[" + color + ";1m" + title + "\u001B[0m" : title;
+    }
+
+    /**
+     * Returns a renderer like this one but separating lines with the given separator instead of
+     * {@link System#lineSeparator()}.
+     *
+     * @param lineSeparator separator between lines, like {@code "\n"}.
+     * @return a renderer using the given line separator.
+     */
+    @NotNull
+    public DiagnosticRenderer withLineSeparator(@NotNull String lineSeparator) {
+        return new DiagnosticRenderer(colored, requireNonNull(lineSeparator));
+    }
+
+    /**
+     * Returns the separator between lines this renderer uses.
+     *
+     * @return the separator between lines this renderer uses.
+     */
+    @NotNull
+    public String lineSeparator() {
+        return lineSeparator;
+    }
+
+    /**
+     * Returns whether this renderer colors the titles through ANSI escape codes.
+     *
+     * @return true if this renderer colors the titles.
+     */
+    public boolean colored() {
+        return colored;
+    }
+
+    /**
+     * Renders the diagnostic into a new {@link String}.
+     *
+     * @param diagnostic diagnostic to render.
+     * @return the rendered diagnostic.
+     */
+    @NotNull
+    public String render(@NotNull Diagnostic diagnostic) {
+        return render(diagnostic, new StringBuilder(128)).toString();
+    }
+
+    /**
+     * Appends the rendered diagnostic to the builder.
+     *
+     * @param diagnostic diagnostic to render.
+     * @param out        builder to append the diagnostic to.
+     * @return the given builder.
+     */
+    @NotNull
+    public StringBuilder render(@NotNull Diagnostic diagnostic, @NotNull StringBuilder out) {
+        try {
+            renderTo(requireNonNull(diagnostic), requireNonNull(out));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return out;
+    }
+
+    /**
+     * Appends the rendered diagnostic to the appendable.
+     *
+     * @param diagnostic diagnostic to render.
+     * @param out        appendable to append the diagnostic to, like a {@link java.io.Writer}.
+     * @param <A>        Type of the appendable.
+     * @return the given appendable.
+     * @throws IOException if the appendable fails.
+     */
+    @NotNull
+    public <A extends Appendable> A render(@NotNull Diagnostic diagnostic, @NotNull A out) throws IOException {
+        renderTo(requireNonNull(diagnostic), requireNonNull(out));
+        return out;
+    }
+
+    /**
+     * Writes the rendered diagnostic into the buffer as UTF-8, starting at its position and advancing it.
+     * <p>
+     * {@link DiagnosticRenderer#encodedLength(Diagnostic)} tells how many bytes it takes.
+     *
+     * @param diagnostic diagnostic to render.
+     * @param out        buffer to write the diagnostic into.
+     * @throws java.nio.BufferOverflowException if the buffer hasn't enough remaining space, in which case part of the
+     *                                          diagnostic may have been written.
+     */
+    public void render(@NotNull Diagnostic diagnostic, @NotNull ByteBuffer out) {
+        Utf8Output output = new Utf8Output(requireNonNull(out));
+        try {
+            renderTo(requireNonNull(diagnostic), output);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Returns the amount of bytes the rendered diagnostic takes as UTF-8.
+     *
+     * @param diagnostic diagnostic to measure.
+     * @return the amount of bytes the rendered diagnostic takes as UTF-8.
+     */
+    public int encodedLength(@NotNull Diagnostic diagnostic) {
+        Utf8Output counter = new Utf8Output(null);
+        try {
+            renderTo(requireNonNull(diagnostic), counter);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return counter.length;
+    }
+
+    /**
+     * Writes the concept, the notes and the helps, separated by two line separators.
+     */
+    private void renderTo(@NotNull Diagnostic diagnostic, @NotNull Appendable out) throws IOException {
+        boolean warning = diagnostic.level() == Diagnostic.Level.WARNING;
+        renderMessage(diagnostic.concept().unwrapOr(DEFAULT_CONCEPT), warning ? warningTitle : errorTitle,
+                      warning ? warningIndent : errorIndent, out);
+        // The lists are read directly, as their accessors allocate a read-only view on each call
+        renderMessages(diagnostic.notes, noteTitle, out);
+        renderMessages(diagnostic.helps, helpTitle, out);
+    }
+
+    /**
+     * Writes each message preceded by the block separator.
+     */
+    private void renderMessages(@NotNull List<String> messages, @NotNull String title, @NotNull Appendable out)
+            throws IOException {
+        for (int index = 0; index < messages.size(); index++) {
+            out.append(blockSeparator);
+            renderMessage(messages.get(index), title, noteAndHelpIndent, out);
+        }
+    }
+
+    /**
+     * Writes each line of the message, splitting it as {@link String#lines()} does, where the first one is preceded by
+     * the title, and the others by the indent.
+     */
+    private void renderMessage(@NotNull String message, @NotNull String title, @NotNull String indent,
+                               @NotNull Appendable out) throws IOException {
+        int length = message.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && message.charAt(end) != '\n' && message.charAt(end) != '\r') {
+                end++;
+            }
+            if (start == 0) {
+                out.append(title);
+            } else {
+                out.append(lineSeparator).append(indent);
+            }
+            out.append(message, start, end);
+            if (end < length && message.charAt(end) == '\r' && end + 1 < length && message.charAt(end + 1) == '\n') {
+                end++;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * {@link Appendable} writing characters into a {@link ByteBuffer} as UTF-8 through {@link Utf8}, or only counting
+     * the bytes they take if there is no buffer.
+     * <p>
+     * Each appended sequence is encoded on its own, which gives the same bytes as encoding the whole rendered text, as
+     * messages are only split at line breaks, never between the two halves of a surrogate pair.
+     *
+     * @author Jorge Rico Vivas
+     */
+    private static final class Utf8Output implements Appendable {
+
+        /**
+         * Buffer to write into, being null to only count bytes.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Amount of bytes written.
+         */
+        private int length;
+
+        /**
+         * Creates an output writing into the buffer, or only counting bytes if null.
+         */
+        private Utf8Output(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public @NotNull Appendable append(@NotNull CharSequence characters) {
+            return append(characters, 0, characters.length());
+        }
+
+        @Override
+        public @NotNull Appendable append(@NotNull CharSequence characters, int start, int end) {
+            length += buffer == null ? Utf8.length(characters, start, end) : Utf8.write(characters, start, end, buffer);
+            return this;
+        }
+
+        @Override
+        public @NotNull Appendable append(char character) {
+            return append(String.valueOf(character));
+        }
+    }
+}
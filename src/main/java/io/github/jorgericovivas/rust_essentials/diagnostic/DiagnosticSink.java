@@ -0,0 +1,550 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes {@link Diagnostic}s into a {@link WritableByteChannel} from a single background thread, so the threads
+ * submitting them don't wait for the channel.
+ * <p>
+ * Submitted diagnostics are queued in a bounded ring buffer where any amount of threads can submit without locking.
+ * The background thread renders them through a {@link DiagnosticRenderer}, each followed by a line separator, into a
+ * batch buffer which is written to the channel once full or once there are no more queued diagnostics, so a burst of
+ * diagnostics takes few writes.
+ * <p>
+ * When the ring buffer is full, the {@link OverflowPolicy} decides whether to drop the diagnostic or wait for space.
+ * Diagnostics must not be modified after submitting them, as they are rendered later on the background thread.
+ * <p>
+ * Closing the sink writes every diagnostic queued before, but doesn't close the channel.
+ * <p>
+ * Failures of the channel, or of rendering a diagnostic, don't stop the background thread: the affected diagnostics
+ * are counted as dropped and the last failure is kept on {@link DiagnosticSink#failure()}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * try (DiagnosticSink sink = DiagnosticSink.builder(Channels.newChannel(System.err))
+ *                                          .capacity(4096)
+ *                                          .overflowPolicy(DiagnosticSink.OverflowPolicy.SAMPLE)
+ *                                          .build()) {
+ *     sink.submit(new Diagnostic("Could not reach the server").withHelp("Check your connection"));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ */
+public final class DiagnosticSink implements AutoCloseable {
+
+    /**
+     * What to do with a diagnostic submitted when the ring buffer of a {@link DiagnosticSink} is full.
+     *
+     * @author Jorge Rico Vivas
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drops the diagnostic, counting it on {@link DiagnosticSink#dropped()}.
+         */
+        DROP,
+        /**
+         * Waits until the background thread frees space for the diagnostic, or drops it if the background thread is no
+         * longer running.
+         */
+        BLOCK,
+        /**
+         * Once the ring buffer is half full, only accepts one of every {@link Builder#sampleOneIn(int)} diagnostics,
+         * dropping the others, so a flood of diagnostics still leaves room for later ones, and drops the diagnostic
+         * when the ring buffer is full.
+         */
+        SAMPLE
+    }
+
+    /**
+     * Queued diagnostics, where the one at each position is at the index resulting of masking the position.
+     */
+    private final @NotNull AtomicReferenceArray<Diagnostic> slots;
+
+    /**
+     * Mask turning positions into indexes of {@link DiagnosticSink#slots}.
+     */
+    private final int mask;
+
+    /**
+     * Position the next submitted diagnostic takes, claimed by producers, along the {@link DiagnosticSink#CLOSED} bit
+     * once this sink is closed, which makes every later claim fail.
+     */
+    private final @NotNull AtomicLong tail = new AtomicLong();
+
+    /**
+     * Bit set on {@link DiagnosticSink#tail} when closing this sink.
+     */
+    private static final long CLOSED = 1L << 62;
+
+    /**
+     * Position of the next diagnostic to render, only advanced by the background thread.
+     */
+    private final @NotNull AtomicLong head = new AtomicLong();
+
+    /**
+     * Policy for diagnostics submitted when the ring buffer is full.
+     */
+    private final @NotNull OverflowPolicy overflowPolicy;
+
+    /**
+     * One of every how many diagnostics are accepted when sampling.
+     */
+    private final int sampleOneIn;
+
+    /**
+     * Counts diagnostics offered while sampling, to accept one of every {@link DiagnosticSink#sampleOneIn}.
+     */
+    private final @NotNull AtomicLong sampled = new AtomicLong();
+
+    /**
+     * Renderer of the diagnostics.
+     */
+    private final @NotNull DiagnosticRenderer renderer;
+
+    /**
+     * Line separator written after each diagnostic, as UTF-8.
+     */
+    private final byte @NotNull [] separator;
+
+    /**
+     * Channel the diagnostics are written into.
+     */
+    private final @NotNull WritableByteChannel channel;
+
+    /**
+     * Buffer where diagnostics are rendered before writing them into the channel.
+     */
+    private final @NotNull ByteBuffer batch;
+
+    /**
+     * Amount of diagnostics rendered into {@link DiagnosticSink#batch} and not written yet.
+     */
+    private int batched;
+
+    /**
+     * Amount of diagnostics dropped, either by the overflow policy, by being submitted after closing, or by failing to
+     * be written.
+     */
+    private final @NotNull LongAdder dropped = new LongAdder();
+
+    /**
+     * Amount of diagnostics written into the channel.
+     */
+    private final @NotNull LongAdder written = new LongAdder();
+
+    /**
+     * Last exception thrown when rendering or writing diagnostics, if any.
+     */
+    private volatile Exception failure;
+
+    /**
+     * Whether the background thread is parked waiting for diagnostics.
+     */
+    private volatile boolean sleeping;
+
+    /**
+     * Background thread rendering and writing the diagnostics.
+     */
+    private final @NotNull Thread renderingThread;
+
+    /**
+     * Hidden constructor
+     */
+    private DiagnosticSink(@NotNull Builder builder) {
+        int capacity = Integer.highestOneBit(builder.capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(capacity, 1));
+        this.mask = slots.length() - 1;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.sampleOneIn = builder.sampleOneIn;
+        this.renderer = builder.renderer;
+        this.separator = renderer.lineSeparator().getBytes(StandardCharsets.UTF_8);
+        this.channel = builder.channel;
+        this.batch = ByteBuffer.allocate(builder.batchBytes);
+        this.renderingThread = Thread.ofPlatform()
+                                     .daemon()
+                                     .name(builder.threadName)
+                                     .start(this::renderLoop);
+    }
+
+    /**
+     * Creates a builder of sinks writing into the channel.
+     *
+     * @param channel channel the diagnostics are written into.
+     * @return a new builder.
+     */
+    @NotNull
+    public static Builder builder(@NotNull WritableByteChannel channel) {
+        return new Builder(requireNonNull(channel));
+    }
+
+    /**
+     * Queues the diagnostic to be written, applying the {@link OverflowPolicy} if the ring buffer is full.
+     *
+     * @param diagnostic diagnostic to write, which must not be modified afterward.
+     * @return true if the diagnostic was queued, or false if it was dropped.
+     */
+    public boolean submit(@NotNull Diagnostic diagnostic) {
+        requireNonNull(diagnostic);
+        if (overflowPolicy == OverflowPolicy.SAMPLE && queued() >= (mask + 1) / 2
+            && sampled.getAndIncrement() % sampleOneIn != 0) {
+            dropped.increment();
+            return false;
+        }
+        int waits = 0;
+        while (true) {
+            long position = tail.get();
+            if ((position & CLOSED) != 0) {
+                break;
+            }
+            if (position - head.get() > mask) {
+                if (overflowPolicy != OverflowPolicy.BLOCK || !renderingThread.isAlive()) {
+                    break;
+                }
+                backOff(waits++);
+            } else if (tail.compareAndSet(position, position + 1)) {
+                slots.set((int) position & mask, diagnostic);
+                if (sleeping) {
+                    LockSupport.unpark(renderingThread);
+                }
+                return true;
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Returns the amount of diagnostics queued and not rendered yet.
+     *
+     * @return the amount of diagnostics queued and not rendered yet.
+     */
+    public long queued() {
+        return Math.max((tail.get() & ~CLOSED) - head.get(), 0);
+    }
+
+    /**
+     * Returns the amount of diagnostics dropped, either by the {@link OverflowPolicy}, by being submitted after
+     * closing this sink, or because the channel failed to write them.
+     *
+     * @return the amount of diagnostics dropped.
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the amount of diagnostics written into the channel.
+     *
+     * @return the amount of diagnostics written into the channel.
+     */
+    public long written() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the last exception thrown when rendering or writing diagnostics, if any, like an {@link IOException} of
+     * the channel.
+     *
+     * @return the last exception thrown when rendering or writing diagnostics, if any.
+     */
+    @NotNull
+    public Option<Exception> failure() {
+        return Option.of(failure);
+    }
+
+    /**
+     * Stops accepting diagnostics and waits until every accepted diagnostic is written. The channel is left open.
+     * <p>
+     * If the calling thread is interrupted while waiting, it keeps waiting and is interrupted again afterward.
+     */
+    @Override
+    public void close() {
+        tail.getAndUpdate(position -> position | CLOSED);
+        LockSupport.unpark(renderingThread);
+        boolean interrupted = false;
+        while (renderingThread.isAlive()) {
+            try {
+                renderingThread.join();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        dropped.add(queued());
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the ring buffer to have space, spinning at first and parking afterward.
+     */
+    private static void backOff(int waits) {
+        if (waits < 64) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+    }
+
+    /**
+     * Body of the background thread, rendering queued diagnostics until this sink is closed and the ring buffer is
+     * empty, and writing the batch whenever there are no more queued diagnostics.
+     */
+    private void renderLoop() {
+        while (true) {
+            Diagnostic diagnostic = poll();
+            if (diagnostic != null) {
+                append(diagnostic);
+                continue;
+            }
+            flush();
+            long position = tail.get();
+            boolean closed = (position & CLOSED) != 0;
+            if (closed && (position & ~CLOSED) == head.get()) {
+                return;
+            }
+            sleeping = true;
+            if (slots.get((int) head.get() & mask) == null && !closed) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            sleeping = false;
+        }
+    }
+
+    /**
+     * Takes the next queued diagnostic, or returns null if there is none published yet.
+     */
+    private Diagnostic poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        Diagnostic diagnostic = slots.get(index);
+        if (diagnostic != null) {
+            slots.lazySet(index, null);
+            head.lazySet(position + 1);
+        }
+        return diagnostic;
+    }
+
+    /**
+     * Renders the diagnostic into the batch, writing the batch first if the diagnostic doesn't fit, or writing the
+     * diagnostic on its own if it doesn't fit even in an empty batch.
+     * <p>
+     * If rendering fails, like when the diagnostic is modified while being rendered, whatever was rendered of it is
+     * discarded and it is counted as dropped.
+     */
+    private void append(@NotNull Diagnostic diagnostic) {
+        int start = batch.position();
+        try {
+            int length = renderer.encodedLength(diagnostic) + separator.length;
+            if (length > batch.remaining()) {
+                flush();
+                start = batch.position();
+            }
+            if (length > batch.capacity()) {
+                ByteBuffer alone = ByteBuffer.allocate(length);
+                renderer.render(diagnostic, alone);
+                write(alone.put(separator).flip(), 1);
+                return;
+            }
+            renderer.render(diagnostic, batch);
+            batch.put(separator);
+            batched++;
+        } catch (RuntimeException exception) {
+            batch.position(start);
+            fail(exception, 1);
+        }
+    }
+
+    /**
+     * Writes the batch into the channel and empties it.
+     */
+    private void flush() {
+        if (batched > 0) {
+            write(batch.flip(), batched);
+            batch.clear();
+            batched = 0;
+        }
+    }
+
+    /**
+     * Writes the buffer fully into the channel, counting its diagnostics as written, or as dropped if the channel
+     * fails.
+     */
+    private void write(@NotNull ByteBuffer buffer, int diagnostics) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written.add(diagnostics);
+        } catch (IOException | RuntimeException exception) {
+            fail(exception, diagnostics);
+        }
+    }
+
+    /**
+     * Keeps the exception as the last failure and counts the diagnostics it affected as dropped.
+     */
+    private void fail(@NotNull Exception exception, int diagnostics) {
+        failure = exception;
+        dropped.add(diagnostics);
+    }
+
+    /**
+     * Builder of {@link DiagnosticSink}s, see {@link DiagnosticSink#builder(WritableByteChannel)}.
+     *
+     * @author Jorge Rico Vivas
+     */
+    public static final class Builder {
+
+        /**
+         * Channel the diagnostics are written into.
+         */
+        private final @NotNull WritableByteChannel channel;
+
+        /**
+         * Amount of diagnostics the ring buffer holds.
+         */
+        private int capacity = 1024;
+
+        /**
+         * Policy for diagnostics submitted when the ring buffer is full.
+         */
+        private @NotNull OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * One of every how many diagnostics are accepted when sampling.
+         */
+        private int sampleOneIn = 10;
+
+        /**
+         * Renderer of the diagnostics.
+         */
+        private @NotNull DiagnosticRenderer renderer = DiagnosticRenderer.COLORED;
+
+        /**
+         * Size in bytes of the batch buffer.
+         */
+        private int batchBytes = 64 * 1024;
+
+        /**
+         * Name of the background thread.
+         */
+        private @NotNull String threadName = "diagnostic-sink";
+
+        /**
+         * Hidden constructor
+         */
+        private Builder(@NotNull WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Sets how many diagnostics the ring buffer holds, being rounded up to a power of two, 1024 by default.
+         *
+         * @param capacity amount of diagnostics the ring buffer holds.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder capacity(int capacity) {
+            if (capacity < 1 || capacity > 1 << 30) {
+                throw new IllegalArgumentException("Capacity must be between 1 and 2^30, but it was " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets what to do with diagnostics submitted when the ring buffer is full, {@link OverflowPolicy#DROP} by
+         * default.
+         *
+         * @param overflowPolicy policy for diagnostics submitted when the ring buffer is full.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder overflowPolicy(@NotNull OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = requireNonNull(overflowPolicy);
+            return this;
+        }
+
+        /**
+         * Sets one of every how many diagnostics are accepted by {@link OverflowPolicy#SAMPLE} once the ring buffer is
+         * half full, 10 by default.
+         *
+         * @param sampleOneIn one of every how many diagnostics are accepted.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder sampleOneIn(int sampleOneIn) {
+            if (sampleOneIn < 1) {
+                throw new IllegalArgumentException("Sample rate must be positive, but it was " + sampleOneIn);
+            }
+            this.sampleOneIn = sampleOneIn;
+            return this;
+        }
+
+        /**
+         * Sets the renderer of the diagnostics, {@link DiagnosticRenderer#COLORED} by default.
+         *
+         * @param renderer renderer of the diagnostics.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder renderer(@NotNull DiagnosticRenderer renderer) {
+            this.renderer = requireNonNull(renderer);
+            return this;
+        }
+
+        /**
+         * Sets the size in bytes of the buffer where diagnostics are batched before writing them, 64 KiB by default.
+         *
+         * @param batchBytes size in bytes of the batch buffer.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder batchBytes(int batchBytes) {
+            if (batchBytes < 1) {
+                throw new IllegalArgumentException("Batch size must be positive, but it was " + batchBytes);
+            }
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        /**
+         * Sets the name of the background thread, "diagnostic-sink" by default.
+         *
+         * @param threadName name of the background thread.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder threadName(@NotNull String threadName) {
+            this.threadName = requireNonNull(threadName);
+            return this;
+        }
+
+        /**
+         * Creates the sink, starting its background thread.
+         *
+         * @return a new sink.
+         */
+        @NotNull
+        public DiagnosticSink build() {
+            return new DiagnosticSink(this);
+        }
+    }
+}
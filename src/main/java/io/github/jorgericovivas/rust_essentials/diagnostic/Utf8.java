@@ -0,0 +1,109 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes characters as UTF-8 straight into a {@link ByteBuffer} or a {@link DataOutput}, or only counts the bytes they
+ * take, used by {@link DiagnosticRenderer} and {@link DiagnosticEncoders} to write diagnostics without building
+ * intermediate strings or byte arrays.
+ * <p>
+ * The bytes are the same {@link String#getBytes(java.nio.charset.Charset)} gives, where unpaired surrogates become
+ * '?'.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class Utf8 {
+
+    /**
+     * Hidden constructor
+     */
+    private Utf8() {}
+
+    /**
+     * Returns the amount of bytes the characters from start (inclusive) to end (exclusive) take as UTF-8.
+     */
+    static int length(@NotNull CharSequence characters, int start, int end) {
+        try {
+            return encode(characters, start, end, null, null);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Writes the characters from start (inclusive) to end (exclusive) into the buffer as UTF-8, returning the amount
+     * of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer hasn't enough remaining space.
+     */
+    static int write(@NotNull CharSequence characters, int start, int end, @NotNull ByteBuffer buffer) {
+        try {
+            return encode(characters, start, end, buffer, null);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Writes the characters from start (inclusive) to end (exclusive) into the output as UTF-8, returning the amount
+     * of bytes written.
+     */
+    static int write(@NotNull CharSequence characters, int start, int end, @NotNull DataOutput out)
+            throws IOException {
+        return encode(characters, start, end, null, out);
+    }
+
+    /**
+     * Encodes the characters into the buffer if there is one, or else into the output if there is one, returning the
+     * amount of bytes they take, where an {@link IOException} can only come from the output.
+     */
+    private static int encode(@NotNull CharSequence characters, int start, int end, @Nullable ByteBuffer buffer,
+                              @Nullable DataOutput out) throws IOException {
+        int length = 0;
+        for (int index = start; index < end; index++) {
+            char character = characters.charAt(index);
+            if (character < 0x80) {
+                put(character, buffer, out);
+                length++;
+            } else if (character < 0x800) {
+                put(0xC0 | (character >>> 6), buffer, out);
+                put(0x80 | (character & 0x3F), buffer, out);
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && index + 1 < end
+                       && Character.isLowSurrogate(characters.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(character, characters.charAt(++index));
+                put(0xF0 | (codePoint >>> 18), buffer, out);
+                put(0x80 | ((codePoint >>> 12) & 0x3F), buffer, out);
+                put(0x80 | ((codePoint >>> 6) & 0x3F), buffer, out);
+                put(0x80 | (codePoint & 0x3F), buffer, out);
+                length += 4;
+            } else if (Character.isSurrogate(character)) {
+                put('?', buffer, out);
+                length++;
+            } else {
+                put(0xE0 | (character >>> 12), buffer, out);
+                put(0x80 | ((character >>> 6) & 0x3F), buffer, out);
+                put(0x80 | (character & 0x3F), buffer, out);
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes a byte into the buffer if there is one, or else into the output if there is one.
+     */
+    private static void put(int value, @Nullable ByteBuffer buffer, @Nullable DataOutput out) throws IOException {
+        if (buffer != null) {
+            buffer.put((byte) value);
+        } else if (out != null) {
+            out.writeByte(value);
+        }
+    }
+}
@@ -2,6 +2,12 @@
  * Eases up representing explanations of Errors or Warnings with {@link Diagnostic}, or create {@link Exception}s with
  * a {@link Diagnostic} attached to them so they can show up with a user-friendly message.
  * <p>
+ * {@link DiagnosticRenderer} writes diagnostics straight into {@link Appendable}s or UTF-8
+ * {@link java.nio.ByteBuffer}s, colored or as plain text, and {@link DiagnosticSink} writes them from a background
+ * thread so reporting them doesn't wait for the output, while {@link DiagnosticDeduplicator} collapses repeated
+ * diagnostics by their {@link Diagnostic#fingerprint()}. {@link DiagnosticEncoders} writes them as JSON Lines or binary
+ * frames for log pipelines.
+ * <p>
  * More information about this can be found at {@link Diagnostic}.
  */
 package io.github.jorgericovivas.rust_essentials.diagnostic;
@@ -5,6 +5,7 @@ import io.github.jorgericovivas.rust_essentials.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -25,6 +26,10 @@ import static java.util.Objects.requireNonNull;
  * doesn't need to remember these special values, and if you want to add information about why an operation couldn't be
  * executed, you can use {@link Err} instead to follow the pattern of {@link Result}
  * instead of that of {@link Option}.
+ * <p>
+ * As a {@link None} holds no value, a single instance is shared by every type, use {@link Option#none()} or
+ * {@link None#instance()} to get it instead of creating new instances; Instances created through the constructor are
+ * still equal to the shared one, and deserialization always resolves to it.
  *
  * @param <T> the type of the value.
  * @author Jorge Rico Vivas
@@ -32,6 +37,34 @@ import static java.util.Objects.requireNonNull;
  */
 public record None<T>() implements Option<T>, Serializable {
 
+    /**
+     * The shared instance of {@link None}, as it holds no value, it is valid for every type.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final None INSTANCE = new None<>();
+
+    /**
+     * Returns the shared {@link None}, avoiding the allocation of a new one.
+     *
+     * @param <T> type of the option.
+     * @return the shared {@link None}.
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public static <T> None<T> instance() {
+        return (None<T>) INSTANCE;
+    }
+
+    /**
+     * Replaces any deserialized {@link None} with the shared instance.
+     *
+     * @return the shared {@link None}.
+     */
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
     /**
      * Returns false.
      *
@@ -68,12 +101,12 @@ public record None<T>() implements Option<T>, Serializable {
      *
      * @param mapper unused.
      * @param <U>    new type of Option.
-     * @return a new {@link None}.
+     * @return the shared {@link None}.
      */
     @Override
     @NotNull
     public <U> None<U> map(@NotNull final Function<T, U> mapper) {
-        return new None<>();
+        return None.instance();
     }
 
     /**
@@ -206,29 +239,29 @@ public record None<T>() implements Option<T>, Serializable {
     }
 
     /**
-     * Returns a new None with a mapped type.
+     * Returns the shared None with a mapped type.
      *
      * @param res unused.
      * @param <U> The type of the new Option.
-     * @return a new None.
+     * @return the shared None.
      */
     @Override
     @NotNull
     public <U> None<U> and(@NotNull final Option<U> res) {
-        return new None<>();
+        return None.instance();
     }
 
     /**
-     * Returns a new None with a mapped type.
+     * Returns the shared None with a mapped type.
      *
      * @param res unused.
      * @param <U> The type of the new Option.
-     * @return a new None.
+     * @return the shared None.
      */
     @Override
     @NotNull
     public <U> None<U> andThen(@NotNull final Function<T, Option<U>> res) {
-        return new None<>();
+        return None.instance();
     }
 
     /**
@@ -0,0 +1,308 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.DoubleErr;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an empty double value.
+ * <p>
+ * As a {@link NoneDouble} holds no value, a single instance is shared, use {@link OptionDouble#none()} or
+ * {@link NoneDouble#instance()} to get it instead of creating new instances.
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionDouble
+ */
+public record NoneDouble() implements OptionDouble, Serializable {
+
+    /**
+     * The shared instance of {@link NoneDouble}.
+     */
+    private static final NoneDouble INSTANCE = new NoneDouble();
+
+    /**
+     * Returns the shared {@link NoneDouble}, avoiding the allocation of a new one.
+     *
+     * @return the shared {@link NoneDouble}.
+     */
+    @NotNull
+    public static NoneDouble instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Replaces any deserialized {@link NoneDouble} with the shared instance.
+     *
+     * @return the shared {@link NoneDouble}.
+     */
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate unused.
+     * @return false, always.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final DoublePredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param mapper unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneDouble map(@NotNull final DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @param mapper unused.
+     * @param <U>    new type of Option.
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public <U> None<U> mapToObj(@NotNull final DoubleFunction<U> mapper) {
+        return None.instance();
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsDouble();
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link DoubleErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link DoubleErr}.
+     */
+    @Override
+    @NotNull
+    public <E> DoubleErr<E> okOr(@NotNull final E error) {
+        return new DoubleErr<>(error);
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link DoubleErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link DoubleErr}.
+     */
+    @Override
+    @NotNull
+    public <E> DoubleErr<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new DoubleErr<>(requireNonNull(requireNonNull(error).get()));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final DoubleConsumer inspector) {
+
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneDouble}, throwing a {@link IllegalCallerException} explaining this.
+     *
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public double unwrap() throws IllegalCallerException {
+        throw new IllegalCallerException("called `OptionDouble.unwrap()` on a `NoneDouble` value");
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneDouble}, throwing a {@link IllegalCallerException} explaining this
+     * along the error message.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public double expect(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `OptionDouble.unwrap()` on a `NoneDouble` value";
+        } else {
+            errorMessage = "called `OptionDouble.unwrap()` on a `NoneDouble` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return value to return.
+     */
+    @Override
+    public double unwrapOr(final double defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return value to return.
+     */
+    @Override
+    public double unwrapOrElse(@NotNull final DoubleSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsDouble();
+    }
+
+    /**
+     * Always returns this None.
+     *
+     * @param predicate unused.
+     * @return this none.
+     */
+    @Override
+    @NotNull
+    public NoneDouble filter(@NotNull final DoublePredicate predicate) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneDouble and(@NotNull final OptionDouble res) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneDouble andThen(@NotNull final DoubleFunction<OptionDouble> res) {
+        return this;
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionDouble or(@NotNull final OptionDouble res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionDouble orElse(@NotNull final Supplier<OptionDouble> res) {
+        return requireNonNull(requireNonNull(res).get());
+    }
+
+    /**
+     * Returns the other value if it is some, otherwise, it returns this None.
+     *
+     * @param res value to return if it is Some.
+     * @return the other value if it is some, otherwise, it returns this None.
+     */
+    @Override
+    @NotNull
+    public OptionDouble xor(@NotNull final OptionDouble res) {
+        return requireNonNull(res).isSome() ? res : this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public None<Double> toOption() {
+        return None.instance();
+    }
+
+    /**
+     * Returns an empty {@link OptionalDouble}.
+     *
+     * @return an empty {@link OptionalDouble}.
+     */
+    @Override
+    @NotNull
+    public OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+}
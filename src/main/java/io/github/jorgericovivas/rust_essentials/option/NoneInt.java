@@ -0,0 +1,308 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.IntErr;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an empty int value.
+ * <p>
+ * As a {@link NoneInt} holds no value, a single instance is shared, use {@link OptionInt#none()} or
+ * {@link NoneInt#instance()} to get it instead of creating new instances.
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionInt
+ */
+public record NoneInt() implements OptionInt, Serializable {
+
+    /**
+     * The shared instance of {@link NoneInt}.
+     */
+    private static final NoneInt INSTANCE = new NoneInt();
+
+    /**
+     * Returns the shared {@link NoneInt}, avoiding the allocation of a new one.
+     *
+     * @return the shared {@link NoneInt}.
+     */
+    @NotNull
+    public static NoneInt instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Replaces any deserialized {@link NoneInt} with the shared instance.
+     *
+     * @return the shared {@link NoneInt}.
+     */
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate unused.
+     * @return false, always.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final IntPredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param mapper unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneInt map(@NotNull final IntUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @param mapper unused.
+     * @param <U>    new type of Option.
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public <U> None<U> mapToObj(@NotNull final IntFunction<U> mapper) {
+        return None.instance();
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public int mapOr(final int defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public int mapOrElse(@NotNull final IntSupplier defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsInt();
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link IntErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link IntErr}.
+     */
+    @Override
+    @NotNull
+    public <E> IntErr<E> okOr(@NotNull final E error) {
+        return new IntErr<>(error);
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link IntErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link IntErr}.
+     */
+    @Override
+    @NotNull
+    public <E> IntErr<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new IntErr<>(requireNonNull(requireNonNull(error).get()));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final IntConsumer inspector) {
+
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneInt}, throwing a {@link IllegalCallerException} explaining this.
+     *
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public int unwrap() throws IllegalCallerException {
+        throw new IllegalCallerException("called `OptionInt.unwrap()` on a `NoneInt` value");
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneInt}, throwing a {@link IllegalCallerException} explaining this
+     * along the error message.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public int expect(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `OptionInt.unwrap()` on a `NoneInt` value";
+        } else {
+            errorMessage = "called `OptionInt.unwrap()` on a `NoneInt` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return value to return.
+     */
+    @Override
+    public int unwrapOr(final int defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return value to return.
+     */
+    @Override
+    public int unwrapOrElse(@NotNull final IntSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsInt();
+    }
+
+    /**
+     * Always returns this None.
+     *
+     * @param predicate unused.
+     * @return this none.
+     */
+    @Override
+    @NotNull
+    public NoneInt filter(@NotNull final IntPredicate predicate) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneInt and(@NotNull final OptionInt res) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneInt andThen(@NotNull final IntFunction<OptionInt> res) {
+        return this;
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionInt or(@NotNull final OptionInt res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionInt orElse(@NotNull final Supplier<OptionInt> res) {
+        return requireNonNull(requireNonNull(res).get());
+    }
+
+    /**
+     * Returns the other value if it is some, otherwise, it returns this None.
+     *
+     * @param res value to return if it is Some.
+     * @return the other value if it is some, otherwise, it returns this None.
+     */
+    @Override
+    @NotNull
+    public OptionInt xor(@NotNull final OptionInt res) {
+        return requireNonNull(res).isSome() ? res : this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public None<Integer> toOption() {
+        return None.instance();
+    }
+
+    /**
+     * Returns an empty {@link OptionalInt}.
+     *
+     * @return an empty {@link OptionalInt}.
+     */
+    @Override
+    @NotNull
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,308 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.LongErr;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.OptionalLong;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an empty long value.
+ * <p>
+ * As a {@link NoneLong} holds no value, a single instance is shared, use {@link OptionLong#none()} or
+ * {@link NoneLong#instance()} to get it instead of creating new instances.
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionLong
+ */
+public record NoneLong() implements OptionLong, Serializable {
+
+    /**
+     * The shared instance of {@link NoneLong}.
+     */
+    private static final NoneLong INSTANCE = new NoneLong();
+
+    /**
+     * Returns the shared {@link NoneLong}, avoiding the allocation of a new one.
+     *
+     * @return the shared {@link NoneLong}.
+     */
+    @NotNull
+    public static NoneLong instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Replaces any deserialized {@link NoneLong} with the shared instance.
+     *
+     * @return the shared {@link NoneLong}.
+     */
+    @Serial
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate unused.
+     * @return false, always.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final LongPredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param mapper unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneLong map(@NotNull final LongUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @param mapper unused.
+     * @param <U>    new type of Option.
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public <U> None<U> mapToObj(@NotNull final LongFunction<U> mapper) {
+        return None.instance();
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsLong();
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link LongErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link LongErr}.
+     */
+    @Override
+    @NotNull
+    public <E> LongErr<E> okOr(@NotNull final E error) {
+        return new LongErr<>(error);
+    }
+
+    /**
+     * Returns the error value wrapped in an {@link LongErr}.
+     *
+     * @param <E> Type of the error.
+     * @return The error value wrapped in an {@link LongErr}.
+     */
+    @Override
+    @NotNull
+    public <E> LongErr<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new LongErr<>(requireNonNull(requireNonNull(error).get()));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final LongConsumer inspector) {
+
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneLong}, throwing a {@link IllegalCallerException} explaining this.
+     *
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public long unwrap() throws IllegalCallerException {
+        throw new IllegalCallerException("called `OptionLong.unwrap()` on a `NoneLong` value");
+    }
+
+    /**
+     * Fails to return a value as this is a {@link NoneLong}, throwing a {@link IllegalCallerException} explaining this
+     * along the error message.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return Never returns a value.
+     * @throws IllegalCallerException Always returns this exception telling it tried to execute unwrap on a none.
+     */
+    @Override
+    public long expect(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `OptionLong.unwrap()` on a `NoneLong` value";
+        } else {
+            errorMessage = "called `OptionLong.unwrap()` on a `NoneLong` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return value to return.
+     */
+    @Override
+    public long unwrapOr(final long defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return value to return.
+     */
+    @Override
+    public long unwrapOrElse(@NotNull final LongSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsLong();
+    }
+
+    /**
+     * Always returns this None.
+     *
+     * @param predicate unused.
+     * @return this none.
+     */
+    @Override
+    @NotNull
+    public NoneLong filter(@NotNull final LongPredicate predicate) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneLong and(@NotNull final OptionLong res) {
+        return this;
+    }
+
+    /**
+     * Returns this None.
+     *
+     * @param res unused.
+     * @return this None.
+     */
+    @Override
+    @NotNull
+    public NoneLong andThen(@NotNull final LongFunction<OptionLong> res) {
+        return this;
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionLong or(@NotNull final OptionLong res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the other option.
+     *
+     * @param res value to return.
+     * @return the other option.
+     */
+    @Override
+    @NotNull
+    public OptionLong orElse(@NotNull final Supplier<OptionLong> res) {
+        return requireNonNull(requireNonNull(res).get());
+    }
+
+    /**
+     * Returns the other value if it is some, otherwise, it returns this None.
+     *
+     * @param res value to return if it is Some.
+     * @return the other value if it is some, otherwise, it returns this None.
+     */
+    @Override
+    @NotNull
+    public OptionLong xor(@NotNull final OptionLong res) {
+        return requireNonNull(res).isSome() ? res : this;
+    }
+
+    /**
+     * Returns the shared {@link None}.
+     *
+     * @return the shared {@link None}.
+     */
+    @Override
+    @NotNull
+    public None<Long> toOption() {
+        return None.instance();
+    }
+
+    /**
+     * Returns an empty {@link OptionalLong}.
+     *
+     * @return an empty {@link OptionalLong}.
+     */
+    @Override
+    @NotNull
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+}
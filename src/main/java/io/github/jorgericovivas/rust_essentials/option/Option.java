@@ -8,6 +8,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -102,13 +104,13 @@ public sealed interface Option<T> extends Serializable permits Some, None {
     @NotNull
     static <T> Option<T> of(@Nullable final T value, @Nullable final T... specialValues) {
         if (value == null) {
-            return new None<>();
+            return Option.none();
         }
         var isSpecialValue = Arrays.stream(specialValues)
                                    .filter(Objects::nonNull)
                                    .anyMatch(value::equals);
         if (isSpecialValue) {
-            return new None<>();
+            return Option.none();
         }
         return new Some<>(value);
     }
@@ -144,7 +146,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             @Nullable final T... specialValues) {
         //noinspection OptionalAssignedToNull
         if (value == null || value.isEmpty()) {
-            return new None<>();
+            return Option.none();
         }
         return Option.of(value.get(), specialValues);
     }
@@ -171,7 +173,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
         if (requireNonNull(option).isSome()) {
             return requireNonNull(option.unwrap());
         }
-        return new None<>();
+        return Option.none();
     }
     
     /**
@@ -201,7 +203,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
     static <T, E> Result<Option<T>, E> transpose(@NotNull final Option<Result<T, E>> option) {
         requireNonNull(option);
         if (option.isNone()) {
-            return new Ok<>(new None<>());
+            return new Ok<>(Option.none());
         }
         if (option.unwrap().isOk()) {
             T value = requireNonNull(requireNonNull(option.unwrap()).unwrap());
@@ -211,6 +213,34 @@ public sealed interface Option<T> extends Serializable permits Some, None {
         return new Err<>(error);
     }
     
+    /**
+     * Applies the function to every element in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * and gets a {@link Some} with all of the values in the same order as the elements, or {@link None} if the function
+     * returned {@link None} for any of them.
+     * <p>
+     * Once an element gives {@link None}, the remaining elements aren't processed anymore.
+     * {@link RuntimeException}s thrown by the function are thrown by this function.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Option<List<User>> users = Option.traverseParallel(userIds, repository::findUser);
+     * }
+     * </pre>
+     *
+     * @param elements Elements to apply the function to.
+     * @param function Function to apply to each element.
+     * @param <A>      Type of the elements.
+     * @param <B>      Type of the values returned by the function.
+     * @return a {@link Some} with the values in encounter order, or {@link None} if any of them was {@link None}.
+     */
+    @SuppressWarnings("unused")
+    @NotNull
+    static <A, B> Option<List<B>> traverseParallel(@NotNull Collection<A> elements,
+                                                  @NotNull Function<A, Option<B>> function) {
+        return ParallelTraversal.traverse(elements, function);
+    }
+    
     /**
      * Turns this value into {@link Some}, and it is the same as using {@link Some}'s default constructor.
      *
@@ -232,7 +262,8 @@ public sealed interface Option<T> extends Serializable permits Some, None {
     }
     
     /**
-     * Creates a {@link None}, and it is the same as using {@link None}'s default constructor.
+     * Returns the shared {@link None}, this is preferred over {@link None}'s default constructor as it never allocates
+     * a new instance.
      *
      * <p>Example of use:</p>
      * <pre>
@@ -247,7 +278,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
      */
     @NotNull
     static <T> None<T> none() {
-        return new None<>();
+        return None.instance();
     }
     
     /**
@@ -679,7 +710,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
     //    let function = format!("/**\n * Returns the first {{@link Ok}}, and if there is none, it returns an {{@link None}}.\n */ \n\
     //    @NotNull\n public static <TCommon, {parameter_definition}> Option<TCommon> firstOf(\n{argument_definition}\n){{\n\
     //         {return_errors}
-    //         return new None<>();
+    //         return Option.none();
     //    }}");
     //    Some(function)
     //}
@@ -693,7 +724,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
     ) {
         if (requireNonNull(option1) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -709,7 +740,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option2) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -728,7 +759,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option3) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -750,7 +781,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option4) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -775,7 +806,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option5) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -803,7 +834,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option6) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -834,7 +865,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option7) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -868,7 +899,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option8) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -905,7 +936,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option9) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -945,7 +976,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option10) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -988,7 +1019,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option11) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     /**
@@ -1033,7 +1064,7 @@ public sealed interface Option<T> extends Serializable permits Some, None {
             return new Some<>(value);
         if (requireNonNull(option12) instanceof Some(var value))
             return new Some<>(value);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -0,0 +1,358 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed length array of optional values, storing them as a dense array of values plus a bitset telling which indexes
+ * are {@link Some}.
+ * <p>
+ * Unlike {@code Option<T>[]} or {@code List<Option<T>>}, no {@link Some} is kept per present value, so large and
+ * sparse columns only cost one reference per index plus one bit. Elements can be read without allocating through
+ * {@link OptionArray#isSome(int)}, {@link OptionArray#unwrapOr(int, Object)} and {@link OptionArray#nextSome(int)},
+ * while {@link OptionArray#get(int)} returns an {@link Option} view of the element. Bulk operations like
+ * {@link OptionArray#map(Function)} and {@link OptionArray#filter(Predicate)} walk the bitset a word at a time,
+ * skipping 64 {@link None}s at once.
+ * <p>
+ * The primitive counterparts {@link OptionIntArray}, {@link OptionLongArray} and {@link OptionDoubleArray} store their
+ * values unboxed.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionArray<String> names = new OptionArray<>(1_000_000);
+ * names.setSome(10, "Alice");
+ * names.setSome(500_000, "Belle");
+ * OptionArray<Integer> lengths = names.map(String::length);
+ * switch (lengths.get(10)) {
+ *     case None() -> System.out.println("There is no name at 10");
+ *     case Some(var length) -> System.out.println("The name at 10 is " + length + " characters long");
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the values.
+ * @author Jorge Rico Vivas
+ * @see Option
+ */
+@SuppressWarnings("unused")
+public final class OptionArray<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Values of each index, being null for {@link None}s, which can be serialized as long as the values can, like the
+     * elements of a collection.
+     */
+    @SuppressWarnings("serial")
+    private final Object @NotNull [] values;
+
+    /**
+     * Bitset where the bit of each index is set if the index is {@link Some}.
+     */
+    private final long @NotNull [] present;
+
+    /**
+     * Creates an array of the given length where every element is {@link None}.
+     *
+     * @param length amount of elements of the array.
+     */
+    public OptionArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, but was " + length);
+        }
+        this.values = new Object[length];
+        this.present = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * Creates an array holding the given options in the same order.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionArray<String> names = OptionArray.of(List.of(Option.some("Alice"), Option.none()));
+     * }
+     * </pre>
+     *
+     * @param options options to store.
+     * @param <T>     Type of the values.
+     * @return an array holding the given options.
+     */
+    @NotNull
+    public static <T> OptionArray<T> of(@NotNull Collection<? extends Option<T>> options) {
+        OptionArray<T> array = new OptionArray<>(requireNonNull(options).size());
+        int index = 0;
+        for (Option<T> option : options) {
+            if (requireNonNull(option) instanceof Some<T>(var value)) {
+                array.setSome(index, value);
+            }
+            index++;
+        }
+        return array;
+    }
+
+    /**
+     * Creates an array holding the given values, where null values become {@link None}.
+     *
+     * @param values values to store, being null for {@link None}s.
+     * @param <T>    Type of the values.
+     * @return an array holding the given values.
+     */
+    @NotNull
+    public static <T> OptionArray<T> ofNullable(@Nullable T @NotNull [] values) {
+        OptionArray<T> array = new OptionArray<>(values.length);
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != null) {
+                array.setSome(index, values[index]);
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Returns the amount of elements of this array, counting both {@link Some}s and {@link None}s.
+     *
+     * @return the amount of elements of this array.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link Some}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link Some}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isSome(int index) {
+        return (present[word(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link None}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link None}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    /**
+     * Returns the element at the index as an {@link Option}, being a new {@link Some} if present, or the shared
+     * {@link None} otherwise.
+     *
+     * @param index index of the element.
+     * @return the element at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        if (isSome(index)) {
+            return new Some<>((T) values[index]);
+        }
+        return Option.none();
+    }
+
+    /**
+     * Returns the value at the index if it is {@link Some}, or the default value otherwise.
+     *
+     * @param index        index of the element.
+     * @param defaultValue value to return if the element is {@link None}.
+     * @return the value at the index, or the default value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public T unwrapOr(int index, @NotNull T defaultValue) {
+        if (isSome(index)) {
+            return (T) values[index];
+        }
+        return requireNonNull(defaultValue);
+    }
+
+    /**
+     * Sets the element at the index to the given option.
+     *
+     * @param index  index of the element.
+     * @param option the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void set(int index, @NotNull Option<T> option) {
+        if (requireNonNull(option) instanceof Some<T>(var value)) {
+            setSome(index, value);
+        } else {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the element at the index to {@link Some} of the given value.
+     *
+     * @param index index of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setSome(int index, @NotNull T value) {
+        values[index] = requireNonNull(value);
+        present[word(index)] |= 1L << index;
+    }
+
+    /**
+     * Sets the element at the index to {@link None}.
+     *
+     * @param index index of the element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setNone(int index) {
+        values[index] = null;
+        present[word(index)] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the amount of elements that are {@link Some}.
+     *
+     * @return the amount of elements that are {@link Some}.
+     */
+    public int countSome() {
+        int count = 0;
+        for (long word : present) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first {@link Some} at or after the given index, or -1 if there is none, allowing to
+     * iterate every {@link Some} without allocating.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * for (int index = names.nextSome(0); index >= 0; index = names.nextSome(index + 1)) {
+     *     System.out.println(index + ": " + names.unwrapOr(index, ""));
+     * }
+     * }
+     * </pre>
+     *
+     * @param fromIndex index to start searching from.
+     * @return the index of the next {@link Some}, or -1 if there is none.
+     */
+    public int nextSome(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index " + fromIndex + " must not be negative");
+        }
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= present.length) {
+            return -1;
+        }
+        long word = present[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == present.length) {
+                return -1;
+            }
+            word = present[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link Some} has been mapped with the function, and every
+     * {@link None} stays {@link None}.
+     *
+     * @param mapper Maps each value to another value.
+     * @param <U>    Type T transforms to.
+     * @return a new array with the mapped values.
+     * @see Option#map(Function)
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public <U> OptionArray<U> map(@NotNull Function<T, U> mapper) {
+        requireNonNull(mapper);
+        OptionArray<U> mapped = new OptionArray<>(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                mapped.values[index] = requireNonNull(mapper.apply((T) values[index]));
+            }
+            mapped.present[wordIndex] = present[wordIndex];
+        }
+        return mapped;
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link Some} whose value doesn't match the predicate has been
+     * turned into {@link None}.
+     *
+     * @param predicate predicate to test each value against.
+     * @return a new array with only the values matching the predicate.
+     * @see Option#filter(Predicate)
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public OptionArray<T> filter(@NotNull Predicate<T> predicate) {
+        requireNonNull(predicate);
+        OptionArray<T> filtered = new OptionArray<>(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            long kept = 0;
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                if (predicate.test((T) values[index])) {
+                    filtered.values[index] = values[index];
+                    kept |= word & -word;
+                }
+            }
+            filtered.present[wordIndex] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns the index of the word of the bitset holding the bit of the index, checking the index is in bounds.
+     */
+    private int word(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + values.length);
+        }
+        return index >>> 6;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OptionArray<?> otherArray)) {
+            return false;
+        }
+        return Arrays.equals(present, otherArray.present) && Arrays.equals(values, otherArray.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(present) + Arrays.hashCode(values);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(index));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,384 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.DoubleResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an optional double value using two states: {@link SomeDouble} if containing a value, or {@link NoneDouble} if there
+ * is no value.
+ * <p>
+ * This mirrors the API of {@link Option}&lt;{@link Double}&gt;, but as the value is kept as a primitive double and every
+ * function works over DoublePredicate, DoubleUnaryOperator and similar functional types, chains like
+ * {@code map(...).filter(...).unwrapOr(...)} never box the value.
+ * <p>
+ * Conversions from and to {@link Option}&lt;{@link Double}&gt; and {@link OptionalDouble} are available through
+ * {@link OptionDouble#from(Option)}, {@link OptionDouble#toOption()}, {@link OptionDouble#of(OptionalDouble)} and
+ * {@link OptionDouble#toOptional()}, being the conversions to and from {@link Option} the only ones that box the value.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionDouble price = OptionDouble.some(5.0);
+ * switch (price.map(value -> value * 2).filter(num -> num > 0)) {
+ *     case NoneDouble() -> System.out.println("There is no price");
+ *     case SomeDouble(var value) -> System.out.println("The doubled price is " + value);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Option
+ */
+public sealed interface OptionDouble extends Serializable permits SomeDouble, NoneDouble {
+
+    /**
+     * Turns this value into an {@link OptionDouble}, meaning it will be {@link NoneDouble} if it is any of the special values,
+     * or {@link SomeDouble} otherwise.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * final double DEFAULT_WRONG_VALUE = -1;
+     * OptionDouble thisIsSome = OptionDouble.of(5.0, DEFAULT_WRONG_VALUE);
+     * OptionDouble thisIsNone = OptionDouble.of(-1, DEFAULT_WRONG_VALUE);
+     * }
+     * </pre>
+     *
+     * @param value         value to turn into {@link OptionDouble}.
+     * @param specialValues if the value is any of those in the list, then it returns {@link NoneDouble}.
+     * @return {@link NoneDouble} if the value is a special value, or {@link SomeDouble} otherwise.
+     */
+    @NotNull
+    static OptionDouble of(final double value, @Nullable final double... specialValues) {
+        if (specialValues != null) {
+            for (double specialValue : specialValues) {
+                if (Double.compare(value, specialValue) == 0) {
+                    return NoneDouble.instance();
+                }
+            }
+        }
+        return new SomeDouble(value);
+    }
+
+    /**
+     * Turns this possibly null {@link Double} into an {@link OptionDouble}, meaning it will be {@link NoneDouble} if it is null,
+     * or {@link SomeDouble} otherwise.
+     *
+     * @param value value to turn into {@link OptionDouble}.
+     * @return {@link NoneDouble} if it is a null value, or {@link SomeDouble} otherwise.
+     */
+    @NotNull
+    static OptionDouble ofNullable(@Nullable final Double value) {
+        if (value == null) {
+            return NoneDouble.instance();
+        }
+        return new SomeDouble(value);
+    }
+
+    /**
+     * Turns this {@link OptionalDouble} into an {@link OptionDouble}, meaning it will be {@link NoneDouble} if it is null or
+     * empty, or {@link SomeDouble} otherwise.
+     *
+     * @param value {@link OptionalDouble} value to turn into {@link OptionDouble}.
+     * @return {@link NoneDouble} if it is a null or empty value, or {@link SomeDouble} otherwise.
+     */
+    @NotNull
+    static OptionDouble of(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @Nullable final OptionalDouble value) {
+        //noinspection OptionalAssignedToNull
+        if (value == null || value.isEmpty()) {
+            return NoneDouble.instance();
+        }
+        return new SomeDouble(value.getAsDouble());
+    }
+
+    /**
+     * Turns this {@link Option}&lt;{@link Double}&gt; into an {@link OptionDouble}, unboxing its value.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Option<Double> boxed = Option.some(5.0);
+     * OptionDouble unboxed = OptionDouble.from(boxed);
+     * }
+     * </pre>
+     *
+     * @param option the option to unbox.
+     * @return {@link SomeDouble} with the unboxed value if the option is {@link Some}, otherwise {@link NoneDouble}.
+     */
+    @NotNull
+    static OptionDouble from(@NotNull final Option<Double> option) {
+        if (requireNonNull(option) instanceof Some<Double>(var value)) {
+            return new SomeDouble(value);
+        }
+        return NoneDouble.instance();
+    }
+
+    /**
+     * Turns this value into {@link SomeDouble}, and it is the same as using {@link SomeDouble}'s default constructor.
+     *
+     * @param value value to turn into {@link SomeDouble}.
+     * @return A {@link SomeDouble} value.
+     */
+    @NotNull
+    static SomeDouble some(final double value) {
+        return new SomeDouble(value);
+    }
+
+    /**
+     * Returns the shared {@link NoneDouble}, this is preferred over {@link NoneDouble}'s default constructor as it never
+     * allocates a new instance.
+     *
+     * @return The {@link NoneDouble} value.
+     */
+    @NotNull
+    static NoneDouble none() {
+        return NoneDouble.instance();
+    }
+
+    /**
+     * Returns true if the option is a Some value.
+     *
+     * @return true if the option is a Some value.
+     */
+    boolean isSome();
+
+    /**
+     * Returns true if the option is a Some and the value inside of it matches a predicate.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * boolean thisIsTrue = OptionDouble.some(5.0).isSomeAnd(num -> num > 0);
+     * boolean thisIsFalse = OptionDouble.none().isSomeAnd(num -> num > 0);
+     * }
+     * </pre>
+     *
+     * @param predicate predicated tested against the value if value is Some.
+     * @return true if the option is a Some and the value inside of it matches a predicate.
+     */
+    boolean isSomeAnd(@NotNull final DoublePredicate predicate);
+
+    /**
+     * Returns true if the option is a None value.
+     *
+     * @return true if the option is a None value.
+     */
+    boolean isNone();
+
+    /**
+     * Maps an OptionDouble to another OptionDouble by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionDouble possibleNumber = OptionDouble.some(5.0);
+     * OptionDouble doubled = possibleNumber.map(num -> num * 2);
+     * }
+     * </pre>
+     *
+     * @param mapper Maps the original value to another value.
+     * @return OptionDouble with the value transformed using mapper.
+     */
+    @NotNull
+    OptionDouble map(@NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Maps an OptionDouble to Option&lt;U&gt; by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type the value transforms to.
+     * @return Option&lt;U&gt; with the value transformed using mapper.
+     */
+    @NotNull
+    <U> Option<U> mapToObj(@NotNull final DoubleFunction<U> mapper);
+
+    /**
+     * Returns the provided default result (if none), or applies a function to the contained value (if any).
+     * <p>
+     * Arguments passed to mapOr are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use mapOrElse, which is lazily evaluated.
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it returns the default value.
+     */
+    double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Computes a default function result (if none), or applies a different function to the contained value (if any).
+     *
+     * @param defaultValue a provided supplier which results in default value which will be calculated and returned if
+     *                     this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it calculates and returns the default
+     * value from the supplier.
+     */
+    double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Transforms the OptionDouble into a {@link DoubleResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err).
+     *
+     * @param error error to transform into Result.Error if this Option is None
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error).
+     */
+    @NotNull
+    <E> DoubleResult<E> okOr(@NotNull final E error);
+
+    /**
+     * Transforms the OptionDouble into a {@link DoubleResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err()).
+     *
+     * @param error error to transform into Result.Error if this Option is None, this is a {@link Supplier}, meaning it
+     *              is only calculated if this Option is None.
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error()).
+     */
+    @NotNull
+    <E> DoubleResult<E> okOrElse(@NotNull final Supplier<E> error);
+
+    /**
+     * Calls the provided {@link DoubleConsumer} on the contained value (if Some).
+     *
+     * @param inspector consumer function to trigger on the contained value (if Some).
+     */
+    void inspect(@NotNull final DoubleConsumer inspector);
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Because this function may throw a IllegalCallerException, its use is generally discouraged. Instead, prefer to
+     * use pattern matching and handle the None case explicitly, or call either unwrapOr or unwrapOrElse.
+     *
+     * @return the contained Some value.
+     * @throws IllegalCallerException if the value is None.
+     */
+    double unwrap() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Throws a IllegalCallerException if the value is a None with a custom panic message provided by errorMessage.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Some value
+     * @throws IllegalCallerException if the value is a None, the message error will include an error message provided
+     *                                and the passed error message.
+     */
+    double expect(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value or a provided default.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * double thisIsFive = OptionDouble.some(5.0).unwrapOr(0.0);
+     * double thisIsZero = OptionDouble.none().unwrapOr(0.0);
+     * }
+     * </pre>
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @return the contained Some value or a provided default.
+     */
+    double unwrapOr(final double defaultValue);
+
+    /**
+     * Returns the contained Some value or computes it from a {@link DoubleSupplier}.
+     *
+     * @param defaultValue a provided default value getter whose value will be calculated and returned if this Option is
+     *                     None.
+     * @return contained value if Option is Some(value), otherwise, calculates and returns the default value from the
+     * supplier.
+     */
+    double unwrapOrElse(@NotNull final DoubleSupplier defaultValue);
+
+    /**
+     * Returns None if the option is None, otherwise calls predicate with the wrapped value and returns:
+     * <p>
+     * - Some(value) if predicate returns true.
+     * - None if predicate returns false.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionDouble thisIsSome = OptionDouble.some(10.0).filter(num -> num > 5.0);
+     * OptionDouble thisIsNone = OptionDouble.some(5.0).filter(num -> num > 10.0);
+     * }
+     * </pre>
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return returns this if is Some(value) and the value matches the predicate, otherwise, it returns None.
+     */
+    @NotNull
+    OptionDouble filter(@NotNull final DoublePredicate predicate);
+
+    /**
+     * Returns None if the option is None, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is Some.
+     * @return res if the Option is Some, otherwise None.
+     */
+    @NotNull
+    OptionDouble and(@NotNull final OptionDouble res);
+
+    /**
+     * Returns None if the option is None, otherwise calls the function with the wrapped value and returns the result.
+     *
+     * @param res Generates an OptionDouble from the value.
+     * @return Result of the function if Option was Some, otherwise None.
+     */
+    @NotNull
+    OptionDouble andThen(@NotNull final DoubleFunction<OptionDouble> res);
+
+    /**
+     * Returns the option if it contains a value, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is None.
+     * @return This option if it contains a value, otherwise returns res.
+     */
+    @NotNull
+    OptionDouble or(@NotNull final OptionDouble res);
+
+    /**
+     * Returns the option if it contains a value, otherwise calls the {@link Supplier} and returns the result.
+     *
+     * @param res Supplier resolving in another Option whose contents are returned if this Option is None.
+     * @return this option if it contains a value, otherwise calls {@link Supplier} and returns the result.
+     */
+    @NotNull
+    OptionDouble orElse(@NotNull final Supplier<OptionDouble> res);
+
+    /**
+     * Returns Some if exactly one of self, res is Some, otherwise returns None.
+     *
+     * @param res The other Option whose contents are returned if this Option is None and res is Some.
+     * @return Some if exactly one of self, res is Some, otherwise returns None.
+     */
+    @NotNull
+    OptionDouble xor(@NotNull final OptionDouble res);
+
+    /**
+     * Turns this OptionDouble into an {@link Option}&lt;{@link Double}&gt;, boxing its value.
+     *
+     * @return {@link Some} with the boxed value if this is {@link SomeDouble}, otherwise {@link None}.
+     */
+    @NotNull
+    Option<Double> toOption();
+
+    /**
+     * Turns this OptionDouble into an {@link OptionalDouble}.
+     *
+     * @return {@link OptionalDouble} with the value if this is {@link SomeDouble}, otherwise an empty one.
+     */
+    @NotNull
+    OptionalDouble toOptional();
+}
@@ -0,0 +1,349 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed length array of optional double values, storing them as a dense double array plus a bitset telling which
+ * indexes are {@link SomeDouble}.
+ * <p>
+ * This mirrors the API of {@link OptionArray}&lt;{@link Double}&gt;, but values are kept as primitive doubles and every
+ * function works over DoublePredicate, DoubleUnaryOperator and similar functional types, so neither the values nor the
+ * options are boxed unless {@link OptionDoubleArray#get(int)} is called.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionDoubleArray prices = new OptionDoubleArray(1_000_000);
+ * prices.setSome(10, 5.0);
+ * OptionDoubleArray doubled = prices.map(value -> value * 2).filter(value -> value > 0);
+ * for (int index = doubled.nextSome(0); index >= 0; index = doubled.nextSome(index + 1)) {
+ *     System.out.println(index + ": " + doubled.unwrapOr(index, 0));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionArray
+ * @see OptionDouble
+ */
+@SuppressWarnings("unused")
+public final class OptionDoubleArray implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Values of each index, being 0 for {@link NoneDouble}s.
+     */
+    private final double @NotNull [] values;
+
+    /**
+     * Bitset where the bit of each index is set if the index is {@link SomeDouble}.
+     */
+    private final long @NotNull [] present;
+
+    /**
+     * Creates an array of the given length where every element is {@link NoneDouble}.
+     *
+     * @param length amount of elements of the array.
+     */
+    public OptionDoubleArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, but was " + length);
+        }
+        this.values = new double[length];
+        this.present = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * Creates an array holding the given options in the same order.
+     *
+     * @param options options to store.
+     * @return an array holding the given options.
+     */
+    @NotNull
+    public static OptionDoubleArray of(@NotNull Collection<? extends OptionDouble> options) {
+        OptionDoubleArray array = new OptionDoubleArray(requireNonNull(options).size());
+        int index = 0;
+        for (OptionDouble option : options) {
+            if (requireNonNull(option) instanceof SomeDouble(var value)) {
+                array.setSome(index, value);
+            }
+            index++;
+        }
+        return array;
+    }
+
+    /**
+     * Creates an array holding the values of the given {@link OptionArray}, unboxing them.
+     *
+     * @param options options to unbox.
+     * @return an array holding the unboxed values.
+     */
+    @NotNull
+    public static OptionDoubleArray from(@NotNull OptionArray<Double> options) {
+        OptionDoubleArray array = new OptionDoubleArray(requireNonNull(options).length());
+        for (int index = options.nextSome(0); index >= 0; index = options.nextSome(index + 1)) {
+            array.setSome(index, options.unwrapOr(index, 0.0));
+        }
+        return array;
+    }
+
+    /**
+     * Returns the amount of elements of this array, counting both {@link SomeDouble}s and {@link NoneDouble}s.
+     *
+     * @return the amount of elements of this array.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link SomeDouble}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link SomeDouble}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isSome(int index) {
+        return (present[word(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link NoneDouble}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link NoneDouble}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    /**
+     * Returns the element at the index as an {@link Option}, being a new {@link SomeDouble} if present, or the shared
+     * {@link NoneDouble} otherwise.
+     *
+     * @param index index of the element.
+     * @return the element at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @NotNull
+    public OptionDouble get(int index) {
+        if (isSome(index)) {
+            return new SomeDouble(values[index]);
+        }
+        return NoneDouble.instance();
+    }
+
+    /**
+     * Returns the value at the index if it is {@link SomeDouble}, or the default value otherwise.
+     *
+     * @param index        index of the element.
+     * @param defaultValue value to return if the element is {@link NoneDouble}.
+     * @return the value at the index, or the default value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double unwrapOr(int index, double defaultValue) {
+        if (isSome(index)) {
+            return values[index];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Sets the element at the index to the given option.
+     *
+     * @param index  index of the element.
+     * @param option the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void set(int index, @NotNull OptionDouble option) {
+        if (requireNonNull(option) instanceof SomeDouble(var value)) {
+            setSome(index, value);
+        } else {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the element at the index to {@link SomeDouble} of the given value.
+     *
+     * @param index index of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setSome(int index, double value) {
+        values[index] = value;
+        present[word(index)] |= 1L << index;
+    }
+
+    /**
+     * Sets the element at the index to {@link NoneDouble}.
+     *
+     * @param index index of the element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setNone(int index) {
+        values[index] = 0;
+        present[word(index)] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the amount of elements that are {@link SomeDouble}.
+     *
+     * @return the amount of elements that are {@link SomeDouble}.
+     */
+    public int countSome() {
+        int count = 0;
+        for (long word : present) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first {@link SomeDouble} at or after the given index, or -1 if there is none, allowing
+     * to iterate every {@link SomeDouble} without allocating.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * for (int index = prices.nextSome(0); index >= 0; index = prices.nextSome(index + 1)) {
+     *     System.out.println(index + ": " + prices.unwrapOr(index, 0));
+     * }
+     * }
+     * </pre>
+     *
+     * @param fromIndex index to start searching from.
+     * @return the index of the next {@link SomeDouble}, or -1 if there is none.
+     */
+    public int nextSome(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index " + fromIndex + " must not be negative");
+        }
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= present.length) {
+            return -1;
+        }
+        long word = present[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == present.length) {
+                return -1;
+            }
+            word = present[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeDouble} has been mapped with the function, and
+     * every {@link NoneDouble} stays {@link NoneDouble}.
+     *
+     * @param mapper Maps each value to another value.
+     * @return a new array with the mapped values.
+     * @see OptionDouble#map(DoubleUnaryOperator)
+     */
+    @NotNull
+    public OptionDoubleArray map(@NotNull DoubleUnaryOperator mapper) {
+        requireNonNull(mapper);
+        OptionDoubleArray mapped = new OptionDoubleArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                mapped.values[index] = mapper.applyAsDouble(values[index]);
+            }
+            mapped.present[wordIndex] = present[wordIndex];
+        }
+        return mapped;
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeDouble} whose value doesn't match the predicate has
+     * been turned into {@link NoneDouble}.
+     *
+     * @param predicate predicate to test each value against.
+     * @return a new array with only the values matching the predicate.
+     * @see OptionDouble#filter(DoublePredicate)
+     */
+    @NotNull
+    public OptionDoubleArray filter(@NotNull DoublePredicate predicate) {
+        requireNonNull(predicate);
+        OptionDoubleArray filtered = new OptionDoubleArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            long kept = 0;
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                if (predicate.test(values[index])) {
+                    filtered.values[index] = values[index];
+                    kept |= word & -word;
+                }
+            }
+            filtered.present[wordIndex] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns a new {@link OptionArray} of the same length with every value boxed.
+     *
+     * @return a new {@link OptionArray} with the boxed values.
+     */
+    @NotNull
+    public OptionArray<Double> toOptionArray() {
+        OptionArray<Double> boxed = new OptionArray<>(values.length);
+        for (int index = nextSome(0); index >= 0; index = nextSome(index + 1)) {
+            boxed.setSome(index, values[index]);
+        }
+        return boxed;
+    }
+
+    /**
+     * Returns the index of the word of the bitset holding the bit of the index, checking the index is in bounds.
+     */
+    private int word(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + values.length);
+        }
+        return index >>> 6;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OptionDoubleArray otherArray)) {
+            return false;
+        }
+        return Arrays.equals(present, otherArray.present) && Arrays.equals(values, otherArray.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(present) + Arrays.hashCode(values);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(index));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,384 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.IntResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an optional int value using two states: {@link SomeInt} if containing a value, or {@link NoneInt} if there
+ * is no value.
+ * <p>
+ * This mirrors the API of {@link Option}&lt;{@link Integer}&gt;, but as the value is kept as a primitive int and every
+ * function works over IntPredicate, IntUnaryOperator and similar functional types, chains like
+ * {@code map(...).filter(...).unwrapOr(...)} never box the value.
+ * <p>
+ * Conversions from and to {@link Option}&lt;{@link Integer}&gt; and {@link OptionalInt} are available through
+ * {@link OptionInt#from(Option)}, {@link OptionInt#toOption()}, {@link OptionInt#of(OptionalInt)} and
+ * {@link OptionInt#toOptional()}, being the conversions to and from {@link Option} the only ones that box the value.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionInt price = OptionInt.some(5);
+ * switch (price.map(value -> value * 2).filter(num -> num > 0)) {
+ *     case NoneInt() -> System.out.println("There is no price");
+ *     case SomeInt(var value) -> System.out.println("The doubled price is " + value);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Option
+ */
+public sealed interface OptionInt extends Serializable permits SomeInt, NoneInt {
+
+    /**
+     * Turns this value into an {@link OptionInt}, meaning it will be {@link NoneInt} if it is any of the special values,
+     * or {@link SomeInt} otherwise.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * final int DEFAULT_WRONG_VALUE = -1;
+     * OptionInt thisIsSome = OptionInt.of(5, DEFAULT_WRONG_VALUE);
+     * OptionInt thisIsNone = OptionInt.of(-1, DEFAULT_WRONG_VALUE);
+     * }
+     * </pre>
+     *
+     * @param value         value to turn into {@link OptionInt}.
+     * @param specialValues if the value is any of those in the list, then it returns {@link NoneInt}.
+     * @return {@link NoneInt} if the value is a special value, or {@link SomeInt} otherwise.
+     */
+    @NotNull
+    static OptionInt of(final int value, @Nullable final int... specialValues) {
+        if (specialValues != null) {
+            for (int specialValue : specialValues) {
+                if (value == specialValue) {
+                    return NoneInt.instance();
+                }
+            }
+        }
+        return new SomeInt(value);
+    }
+
+    /**
+     * Turns this possibly null {@link Integer} into an {@link OptionInt}, meaning it will be {@link NoneInt} if it is null,
+     * or {@link SomeInt} otherwise.
+     *
+     * @param value value to turn into {@link OptionInt}.
+     * @return {@link NoneInt} if it is a null value, or {@link SomeInt} otherwise.
+     */
+    @NotNull
+    static OptionInt ofNullable(@Nullable final Integer value) {
+        if (value == null) {
+            return NoneInt.instance();
+        }
+        return new SomeInt(value);
+    }
+
+    /**
+     * Turns this {@link OptionalInt} into an {@link OptionInt}, meaning it will be {@link NoneInt} if it is null or
+     * empty, or {@link SomeInt} otherwise.
+     *
+     * @param value {@link OptionalInt} value to turn into {@link OptionInt}.
+     * @return {@link NoneInt} if it is a null or empty value, or {@link SomeInt} otherwise.
+     */
+    @NotNull
+    static OptionInt of(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @Nullable final OptionalInt value) {
+        //noinspection OptionalAssignedToNull
+        if (value == null || value.isEmpty()) {
+            return NoneInt.instance();
+        }
+        return new SomeInt(value.getAsInt());
+    }
+
+    /**
+     * Turns this {@link Option}&lt;{@link Integer}&gt; into an {@link OptionInt}, unboxing its value.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Option<Integer> boxed = Option.some(5);
+     * OptionInt unboxed = OptionInt.from(boxed);
+     * }
+     * </pre>
+     *
+     * @param option the option to unbox.
+     * @return {@link SomeInt} with the unboxed value if the option is {@link Some}, otherwise {@link NoneInt}.
+     */
+    @NotNull
+    static OptionInt from(@NotNull final Option<Integer> option) {
+        if (requireNonNull(option) instanceof Some<Integer>(var value)) {
+            return new SomeInt(value);
+        }
+        return NoneInt.instance();
+    }
+
+    /**
+     * Turns this value into {@link SomeInt}, and it is the same as using {@link SomeInt}'s default constructor.
+     *
+     * @param value value to turn into {@link SomeInt}.
+     * @return A {@link SomeInt} value.
+     */
+    @NotNull
+    static SomeInt some(final int value) {
+        return new SomeInt(value);
+    }
+
+    /**
+     * Returns the shared {@link NoneInt}, this is preferred over {@link NoneInt}'s default constructor as it never
+     * allocates a new instance.
+     *
+     * @return The {@link NoneInt} value.
+     */
+    @NotNull
+    static NoneInt none() {
+        return NoneInt.instance();
+    }
+
+    /**
+     * Returns true if the option is a Some value.
+     *
+     * @return true if the option is a Some value.
+     */
+    boolean isSome();
+
+    /**
+     * Returns true if the option is a Some and the value inside of it matches a predicate.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * boolean thisIsTrue = OptionInt.some(5).isSomeAnd(num -> num > 0);
+     * boolean thisIsFalse = OptionInt.none().isSomeAnd(num -> num > 0);
+     * }
+     * </pre>
+     *
+     * @param predicate predicated tested against the value if value is Some.
+     * @return true if the option is a Some and the value inside of it matches a predicate.
+     */
+    boolean isSomeAnd(@NotNull final IntPredicate predicate);
+
+    /**
+     * Returns true if the option is a None value.
+     *
+     * @return true if the option is a None value.
+     */
+    boolean isNone();
+
+    /**
+     * Maps an OptionInt to another OptionInt by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionInt possibleNumber = OptionInt.some(5);
+     * OptionInt doubled = possibleNumber.map(num -> num * 2);
+     * }
+     * </pre>
+     *
+     * @param mapper Maps the original value to another value.
+     * @return OptionInt with the value transformed using mapper.
+     */
+    @NotNull
+    OptionInt map(@NotNull final IntUnaryOperator mapper);
+
+    /**
+     * Maps an OptionInt to Option&lt;U&gt; by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type the value transforms to.
+     * @return Option&lt;U&gt; with the value transformed using mapper.
+     */
+    @NotNull
+    <U> Option<U> mapToObj(@NotNull final IntFunction<U> mapper);
+
+    /**
+     * Returns the provided default result (if none), or applies a function to the contained value (if any).
+     * <p>
+     * Arguments passed to mapOr are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use mapOrElse, which is lazily evaluated.
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it returns the default value.
+     */
+    int mapOr(final int defaultValue, @NotNull final IntUnaryOperator mapper);
+
+    /**
+     * Computes a default function result (if none), or applies a different function to the contained value (if any).
+     *
+     * @param defaultValue a provided supplier which results in default value which will be calculated and returned if
+     *                     this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it calculates and returns the default
+     * value from the supplier.
+     */
+    int mapOrElse(@NotNull final IntSupplier defaultValue, @NotNull final IntUnaryOperator mapper);
+
+    /**
+     * Transforms the OptionInt into a {@link IntResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err).
+     *
+     * @param error error to transform into Result.Error if this Option is None
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error).
+     */
+    @NotNull
+    <E> IntResult<E> okOr(@NotNull final E error);
+
+    /**
+     * Transforms the OptionInt into a {@link IntResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err()).
+     *
+     * @param error error to transform into Result.Error if this Option is None, this is a {@link Supplier}, meaning it
+     *              is only calculated if this Option is None.
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error()).
+     */
+    @NotNull
+    <E> IntResult<E> okOrElse(@NotNull final Supplier<E> error);
+
+    /**
+     * Calls the provided {@link IntConsumer} on the contained value (if Some).
+     *
+     * @param inspector consumer function to trigger on the contained value (if Some).
+     */
+    void inspect(@NotNull final IntConsumer inspector);
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Because this function may throw a IllegalCallerException, its use is generally discouraged. Instead, prefer to
+     * use pattern matching and handle the None case explicitly, or call either unwrapOr or unwrapOrElse.
+     *
+     * @return the contained Some value.
+     * @throws IllegalCallerException if the value is None.
+     */
+    int unwrap() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Throws a IllegalCallerException if the value is a None with a custom panic message provided by errorMessage.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Some value
+     * @throws IllegalCallerException if the value is a None, the message error will include an error message provided
+     *                                and the passed error message.
+     */
+    int expect(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value or a provided default.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * int thisIsFive = OptionInt.some(5).unwrapOr(0);
+     * int thisIsZero = OptionInt.none().unwrapOr(0);
+     * }
+     * </pre>
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @return the contained Some value or a provided default.
+     */
+    int unwrapOr(final int defaultValue);
+
+    /**
+     * Returns the contained Some value or computes it from a {@link IntSupplier}.
+     *
+     * @param defaultValue a provided default value getter whose value will be calculated and returned if this Option is
+     *                     None.
+     * @return contained value if Option is Some(value), otherwise, calculates and returns the default value from the
+     * supplier.
+     */
+    int unwrapOrElse(@NotNull final IntSupplier defaultValue);
+
+    /**
+     * Returns None if the option is None, otherwise calls predicate with the wrapped value and returns:
+     * <p>
+     * - Some(value) if predicate returns true.
+     * - None if predicate returns false.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionInt thisIsSome = OptionInt.some(10).filter(num -> num > 5);
+     * OptionInt thisIsNone = OptionInt.some(5).filter(num -> num > 10);
+     * }
+     * </pre>
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return returns this if is Some(value) and the value matches the predicate, otherwise, it returns None.
+     */
+    @NotNull
+    OptionInt filter(@NotNull final IntPredicate predicate);
+
+    /**
+     * Returns None if the option is None, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is Some.
+     * @return res if the Option is Some, otherwise None.
+     */
+    @NotNull
+    OptionInt and(@NotNull final OptionInt res);
+
+    /**
+     * Returns None if the option is None, otherwise calls the function with the wrapped value and returns the result.
+     *
+     * @param res Generates an OptionInt from the value.
+     * @return Result of the function if Option was Some, otherwise None.
+     */
+    @NotNull
+    OptionInt andThen(@NotNull final IntFunction<OptionInt> res);
+
+    /**
+     * Returns the option if it contains a value, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is None.
+     * @return This option if it contains a value, otherwise returns res.
+     */
+    @NotNull
+    OptionInt or(@NotNull final OptionInt res);
+
+    /**
+     * Returns the option if it contains a value, otherwise calls the {@link Supplier} and returns the result.
+     *
+     * @param res Supplier resolving in another Option whose contents are returned if this Option is None.
+     * @return this option if it contains a value, otherwise calls {@link Supplier} and returns the result.
+     */
+    @NotNull
+    OptionInt orElse(@NotNull final Supplier<OptionInt> res);
+
+    /**
+     * Returns Some if exactly one of self, res is Some, otherwise returns None.
+     *
+     * @param res The other Option whose contents are returned if this Option is None and res is Some.
+     * @return Some if exactly one of self, res is Some, otherwise returns None.
+     */
+    @NotNull
+    OptionInt xor(@NotNull final OptionInt res);
+
+    /**
+     * Turns this OptionInt into an {@link Option}&lt;{@link Integer}&gt;, boxing its value.
+     *
+     * @return {@link Some} with the boxed value if this is {@link SomeInt}, otherwise {@link None}.
+     */
+    @NotNull
+    Option<Integer> toOption();
+
+    /**
+     * Turns this OptionInt into an {@link OptionalInt}.
+     *
+     * @return {@link OptionalInt} with the value if this is {@link SomeInt}, otherwise an empty one.
+     */
+    @NotNull
+    OptionalInt toOptional();
+}
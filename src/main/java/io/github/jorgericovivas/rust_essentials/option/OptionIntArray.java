@@ -0,0 +1,349 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed length array of optional int values, storing them as a dense int array plus a bitset telling which
+ * indexes are {@link SomeInt}.
+ * <p>
+ * This mirrors the API of {@link OptionArray}&lt;{@link Integer}&gt;, but values are kept as primitive ints and every
+ * function works over IntPredicate, IntUnaryOperator and similar functional types, so neither the values nor the
+ * options are boxed unless {@link OptionIntArray#get(int)} is called.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionIntArray counts = new OptionIntArray(1_000_000);
+ * counts.setSome(10, 5);
+ * OptionIntArray doubled = counts.map(value -> value * 2).filter(value -> value > 0);
+ * for (int index = doubled.nextSome(0); index >= 0; index = doubled.nextSome(index + 1)) {
+ *     System.out.println(index + ": " + doubled.unwrapOr(index, 0));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionArray
+ * @see OptionInt
+ */
+@SuppressWarnings("unused")
+public final class OptionIntArray implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Values of each index, being 0 for {@link NoneInt}s.
+     */
+    private final int @NotNull [] values;
+
+    /**
+     * Bitset where the bit of each index is set if the index is {@link SomeInt}.
+     */
+    private final long @NotNull [] present;
+
+    /**
+     * Creates an array of the given length where every element is {@link NoneInt}.
+     *
+     * @param length amount of elements of the array.
+     */
+    public OptionIntArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, but was " + length);
+        }
+        this.values = new int[length];
+        this.present = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * Creates an array holding the given options in the same order.
+     *
+     * @param options options to store.
+     * @return an array holding the given options.
+     */
+    @NotNull
+    public static OptionIntArray of(@NotNull Collection<? extends OptionInt> options) {
+        OptionIntArray array = new OptionIntArray(requireNonNull(options).size());
+        int index = 0;
+        for (OptionInt option : options) {
+            if (requireNonNull(option) instanceof SomeInt(var value)) {
+                array.setSome(index, value);
+            }
+            index++;
+        }
+        return array;
+    }
+
+    /**
+     * Creates an array holding the values of the given {@link OptionArray}, unboxing them.
+     *
+     * @param options options to unbox.
+     * @return an array holding the unboxed values.
+     */
+    @NotNull
+    public static OptionIntArray from(@NotNull OptionArray<Integer> options) {
+        OptionIntArray array = new OptionIntArray(requireNonNull(options).length());
+        for (int index = options.nextSome(0); index >= 0; index = options.nextSome(index + 1)) {
+            array.setSome(index, options.unwrapOr(index, 0));
+        }
+        return array;
+    }
+
+    /**
+     * Returns the amount of elements of this array, counting both {@link SomeInt}s and {@link NoneInt}s.
+     *
+     * @return the amount of elements of this array.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link SomeInt}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link SomeInt}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isSome(int index) {
+        return (present[word(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link NoneInt}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link NoneInt}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    /**
+     * Returns the element at the index as an {@link Option}, being a new {@link SomeInt} if present, or the shared
+     * {@link NoneInt} otherwise.
+     *
+     * @param index index of the element.
+     * @return the element at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @NotNull
+    public OptionInt get(int index) {
+        if (isSome(index)) {
+            return new SomeInt(values[index]);
+        }
+        return NoneInt.instance();
+    }
+
+    /**
+     * Returns the value at the index if it is {@link SomeInt}, or the default value otherwise.
+     *
+     * @param index        index of the element.
+     * @param defaultValue value to return if the element is {@link NoneInt}.
+     * @return the value at the index, or the default value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public int unwrapOr(int index, int defaultValue) {
+        if (isSome(index)) {
+            return values[index];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Sets the element at the index to the given option.
+     *
+     * @param index  index of the element.
+     * @param option the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void set(int index, @NotNull OptionInt option) {
+        if (requireNonNull(option) instanceof SomeInt(var value)) {
+            setSome(index, value);
+        } else {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the element at the index to {@link SomeInt} of the given value.
+     *
+     * @param index index of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setSome(int index, int value) {
+        values[index] = value;
+        present[word(index)] |= 1L << index;
+    }
+
+    /**
+     * Sets the element at the index to {@link NoneInt}.
+     *
+     * @param index index of the element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setNone(int index) {
+        values[index] = 0;
+        present[word(index)] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the amount of elements that are {@link SomeInt}.
+     *
+     * @return the amount of elements that are {@link SomeInt}.
+     */
+    public int countSome() {
+        int count = 0;
+        for (long word : present) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first {@link SomeInt} at or after the given index, or -1 if there is none, allowing
+     * to iterate every {@link SomeInt} without allocating.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * for (int index = counts.nextSome(0); index >= 0; index = counts.nextSome(index + 1)) {
+     *     System.out.println(index + ": " + counts.unwrapOr(index, 0));
+     * }
+     * }
+     * </pre>
+     *
+     * @param fromIndex index to start searching from.
+     * @return the index of the next {@link SomeInt}, or -1 if there is none.
+     */
+    public int nextSome(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index " + fromIndex + " must not be negative");
+        }
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= present.length) {
+            return -1;
+        }
+        long word = present[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == present.length) {
+                return -1;
+            }
+            word = present[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeInt} has been mapped with the function, and
+     * every {@link NoneInt} stays {@link NoneInt}.
+     *
+     * @param mapper Maps each value to another value.
+     * @return a new array with the mapped values.
+     * @see OptionInt#map(IntUnaryOperator)
+     */
+    @NotNull
+    public OptionIntArray map(@NotNull IntUnaryOperator mapper) {
+        requireNonNull(mapper);
+        OptionIntArray mapped = new OptionIntArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                mapped.values[index] = mapper.applyAsInt(values[index]);
+            }
+            mapped.present[wordIndex] = present[wordIndex];
+        }
+        return mapped;
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeInt} whose value doesn't match the predicate has
+     * been turned into {@link NoneInt}.
+     *
+     * @param predicate predicate to test each value against.
+     * @return a new array with only the values matching the predicate.
+     * @see OptionInt#filter(IntPredicate)
+     */
+    @NotNull
+    public OptionIntArray filter(@NotNull IntPredicate predicate) {
+        requireNonNull(predicate);
+        OptionIntArray filtered = new OptionIntArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            long kept = 0;
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                if (predicate.test(values[index])) {
+                    filtered.values[index] = values[index];
+                    kept |= word & -word;
+                }
+            }
+            filtered.present[wordIndex] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns a new {@link OptionArray} of the same length with every value boxed.
+     *
+     * @return a new {@link OptionArray} with the boxed values.
+     */
+    @NotNull
+    public OptionArray<Integer> toOptionArray() {
+        OptionArray<Integer> boxed = new OptionArray<>(values.length);
+        for (int index = nextSome(0); index >= 0; index = nextSome(index + 1)) {
+            boxed.setSome(index, values[index]);
+        }
+        return boxed;
+    }
+
+    /**
+     * Returns the index of the word of the bitset holding the bit of the index, checking the index is in bounds.
+     */
+    private int word(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + values.length);
+        }
+        return index >>> 6;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OptionIntArray otherArray)) {
+            return false;
+        }
+        return Arrays.equals(present, otherArray.present) && Arrays.equals(values, otherArray.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(present) + Arrays.hashCode(values);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(index));
+        }
+        return builder.append(']').toString();
+    }
+}
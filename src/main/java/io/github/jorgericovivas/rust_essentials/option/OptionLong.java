@@ -0,0 +1,384 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.LongResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalLong;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an optional long value using two states: {@link SomeLong} if containing a value, or {@link NoneLong} if there
+ * is no value.
+ * <p>
+ * This mirrors the API of {@link Option}&lt;{@link Long}&gt;, but as the value is kept as a primitive long and every
+ * function works over LongPredicate, LongUnaryOperator and similar functional types, chains like
+ * {@code map(...).filter(...).unwrapOr(...)} never box the value.
+ * <p>
+ * Conversions from and to {@link Option}&lt;{@link Long}&gt; and {@link OptionalLong} are available through
+ * {@link OptionLong#from(Option)}, {@link OptionLong#toOption()}, {@link OptionLong#of(OptionalLong)} and
+ * {@link OptionLong#toOptional()}, being the conversions to and from {@link Option} the only ones that box the value.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionLong price = OptionLong.some(5L);
+ * switch (price.map(value -> value * 2).filter(num -> num > 0)) {
+ *     case NoneLong() -> System.out.println("There is no price");
+ *     case SomeLong(var value) -> System.out.println("The doubled price is " + value);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Option
+ */
+public sealed interface OptionLong extends Serializable permits SomeLong, NoneLong {
+
+    /**
+     * Turns this value into an {@link OptionLong}, meaning it will be {@link NoneLong} if it is any of the special values,
+     * or {@link SomeLong} otherwise.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * final long DEFAULT_WRONG_VALUE = -1;
+     * OptionLong thisIsSome = OptionLong.of(5L, DEFAULT_WRONG_VALUE);
+     * OptionLong thisIsNone = OptionLong.of(-1, DEFAULT_WRONG_VALUE);
+     * }
+     * </pre>
+     *
+     * @param value         value to turn into {@link OptionLong}.
+     * @param specialValues if the value is any of those in the list, then it returns {@link NoneLong}.
+     * @return {@link NoneLong} if the value is a special value, or {@link SomeLong} otherwise.
+     */
+    @NotNull
+    static OptionLong of(final long value, @Nullable final long... specialValues) {
+        if (specialValues != null) {
+            for (long specialValue : specialValues) {
+                if (value == specialValue) {
+                    return NoneLong.instance();
+                }
+            }
+        }
+        return new SomeLong(value);
+    }
+
+    /**
+     * Turns this possibly null {@link Long} into an {@link OptionLong}, meaning it will be {@link NoneLong} if it is null,
+     * or {@link SomeLong} otherwise.
+     *
+     * @param value value to turn into {@link OptionLong}.
+     * @return {@link NoneLong} if it is a null value, or {@link SomeLong} otherwise.
+     */
+    @NotNull
+    static OptionLong ofNullable(@Nullable final Long value) {
+        if (value == null) {
+            return NoneLong.instance();
+        }
+        return new SomeLong(value);
+    }
+
+    /**
+     * Turns this {@link OptionalLong} into an {@link OptionLong}, meaning it will be {@link NoneLong} if it is null or
+     * empty, or {@link SomeLong} otherwise.
+     *
+     * @param value {@link OptionalLong} value to turn into {@link OptionLong}.
+     * @return {@link NoneLong} if it is a null or empty value, or {@link SomeLong} otherwise.
+     */
+    @NotNull
+    static OptionLong of(@SuppressWarnings("OptionalUsedAsFieldOrParameterType") @Nullable final OptionalLong value) {
+        //noinspection OptionalAssignedToNull
+        if (value == null || value.isEmpty()) {
+            return NoneLong.instance();
+        }
+        return new SomeLong(value.getAsLong());
+    }
+
+    /**
+     * Turns this {@link Option}&lt;{@link Long}&gt; into an {@link OptionLong}, unboxing its value.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Option<Long> boxed = Option.some(5L);
+     * OptionLong unboxed = OptionLong.from(boxed);
+     * }
+     * </pre>
+     *
+     * @param option the option to unbox.
+     * @return {@link SomeLong} with the unboxed value if the option is {@link Some}, otherwise {@link NoneLong}.
+     */
+    @NotNull
+    static OptionLong from(@NotNull final Option<Long> option) {
+        if (requireNonNull(option) instanceof Some<Long>(var value)) {
+            return new SomeLong(value);
+        }
+        return NoneLong.instance();
+    }
+
+    /**
+     * Turns this value into {@link SomeLong}, and it is the same as using {@link SomeLong}'s default constructor.
+     *
+     * @param value value to turn into {@link SomeLong}.
+     * @return A {@link SomeLong} value.
+     */
+    @NotNull
+    static SomeLong some(final long value) {
+        return new SomeLong(value);
+    }
+
+    /**
+     * Returns the shared {@link NoneLong}, this is preferred over {@link NoneLong}'s default constructor as it never
+     * allocates a new instance.
+     *
+     * @return The {@link NoneLong} value.
+     */
+    @NotNull
+    static NoneLong none() {
+        return NoneLong.instance();
+    }
+
+    /**
+     * Returns true if the option is a Some value.
+     *
+     * @return true if the option is a Some value.
+     */
+    boolean isSome();
+
+    /**
+     * Returns true if the option is a Some and the value inside of it matches a predicate.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * boolean thisIsTrue = OptionLong.some(5L).isSomeAnd(num -> num > 0);
+     * boolean thisIsFalse = OptionLong.none().isSomeAnd(num -> num > 0);
+     * }
+     * </pre>
+     *
+     * @param predicate predicated tested against the value if value is Some.
+     * @return true if the option is a Some and the value inside of it matches a predicate.
+     */
+    boolean isSomeAnd(@NotNull final LongPredicate predicate);
+
+    /**
+     * Returns true if the option is a None value.
+     *
+     * @return true if the option is a None value.
+     */
+    boolean isNone();
+
+    /**
+     * Maps an OptionLong to another OptionLong by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionLong possibleNumber = OptionLong.some(5L);
+     * OptionLong doubled = possibleNumber.map(num -> num * 2);
+     * }
+     * </pre>
+     *
+     * @param mapper Maps the original value to another value.
+     * @return OptionLong with the value transformed using mapper.
+     */
+    @NotNull
+    OptionLong map(@NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Maps an OptionLong to Option&lt;U&gt; by applying a function to a contained value (if Some) or returns None (if
+     * None).
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type the value transforms to.
+     * @return Option&lt;U&gt; with the value transformed using mapper.
+     */
+    @NotNull
+    <U> Option<U> mapToObj(@NotNull final LongFunction<U> mapper);
+
+    /**
+     * Returns the provided default result (if none), or applies a function to the contained value (if any).
+     * <p>
+     * Arguments passed to mapOr are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use mapOrElse, which is lazily evaluated.
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it returns the default value.
+     */
+    long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Computes a default function result (if none), or applies a different function to the contained value (if any).
+     *
+     * @param defaultValue a provided supplier which results in default value which will be calculated and returned if
+     *                     this Option is None.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Option is Some(value), otherwise, it calculates and returns the default
+     * value from the supplier.
+     */
+    long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Transforms the OptionLong into a {@link LongResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err).
+     *
+     * @param error error to transform into Result.Error if this Option is None
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error).
+     */
+    @NotNull
+    <E> LongResult<E> okOr(@NotNull final E error);
+
+    /**
+     * Transforms the OptionLong into a {@link LongResult}&lt;E&gt;, mapping Some(v) to Ok(v) and None to Err(err()).
+     *
+     * @param error error to transform into Result.Error if this Option is None, this is a {@link Supplier}, meaning it
+     *              is only calculated if this Option is None.
+     * @param <E>   Error type parameter.
+     * @return Result.Ok(value) if this option is Some(value), otherwise it returns Result.Error(error()).
+     */
+    @NotNull
+    <E> LongResult<E> okOrElse(@NotNull final Supplier<E> error);
+
+    /**
+     * Calls the provided {@link LongConsumer} on the contained value (if Some).
+     *
+     * @param inspector consumer function to trigger on the contained value (if Some).
+     */
+    void inspect(@NotNull final LongConsumer inspector);
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Because this function may throw a IllegalCallerException, its use is generally discouraged. Instead, prefer to
+     * use pattern matching and handle the None case explicitly, or call either unwrapOr or unwrapOrElse.
+     *
+     * @return the contained Some value.
+     * @throws IllegalCallerException if the value is None.
+     */
+    long unwrap() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value.
+     * <p>
+     * Throws a IllegalCallerException if the value is a None with a custom panic message provided by errorMessage.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Some value
+     * @throws IllegalCallerException if the value is a None, the message error will include an error message provided
+     *                                and the passed error message.
+     */
+    long expect(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns the contained Some value or a provided default.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * long thisIsFive = OptionLong.some(5L).unwrapOr(0L);
+     * long thisIsZero = OptionLong.none().unwrapOr(0L);
+     * }
+     * </pre>
+     *
+     * @param defaultValue a provided default which will be returned if this Option is None.
+     * @return the contained Some value or a provided default.
+     */
+    long unwrapOr(final long defaultValue);
+
+    /**
+     * Returns the contained Some value or computes it from a {@link LongSupplier}.
+     *
+     * @param defaultValue a provided default value getter whose value will be calculated and returned if this Option is
+     *                     None.
+     * @return contained value if Option is Some(value), otherwise, calculates and returns the default value from the
+     * supplier.
+     */
+    long unwrapOrElse(@NotNull final LongSupplier defaultValue);
+
+    /**
+     * Returns None if the option is None, otherwise calls predicate with the wrapped value and returns:
+     * <p>
+     * - Some(value) if predicate returns true.
+     * - None if predicate returns false.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * OptionLong thisIsSome = OptionLong.some(10L).filter(num -> num > 5L);
+     * OptionLong thisIsNone = OptionLong.some(5L).filter(num -> num > 10L);
+     * }
+     * </pre>
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return returns this if is Some(value) and the value matches the predicate, otherwise, it returns None.
+     */
+    @NotNull
+    OptionLong filter(@NotNull final LongPredicate predicate);
+
+    /**
+     * Returns None if the option is None, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is Some.
+     * @return res if the Option is Some, otherwise None.
+     */
+    @NotNull
+    OptionLong and(@NotNull final OptionLong res);
+
+    /**
+     * Returns None if the option is None, otherwise calls the function with the wrapped value and returns the result.
+     *
+     * @param res Generates an OptionLong from the value.
+     * @return Result of the function if Option was Some, otherwise None.
+     */
+    @NotNull
+    OptionLong andThen(@NotNull final LongFunction<OptionLong> res);
+
+    /**
+     * Returns the option if it contains a value, otherwise returns res.
+     *
+     * @param res The other Option whose contents are returned if this Option is None.
+     * @return This option if it contains a value, otherwise returns res.
+     */
+    @NotNull
+    OptionLong or(@NotNull final OptionLong res);
+
+    /**
+     * Returns the option if it contains a value, otherwise calls the {@link Supplier} and returns the result.
+     *
+     * @param res Supplier resolving in another Option whose contents are returned if this Option is None.
+     * @return this option if it contains a value, otherwise calls {@link Supplier} and returns the result.
+     */
+    @NotNull
+    OptionLong orElse(@NotNull final Supplier<OptionLong> res);
+
+    /**
+     * Returns Some if exactly one of self, res is Some, otherwise returns None.
+     *
+     * @param res The other Option whose contents are returned if this Option is None and res is Some.
+     * @return Some if exactly one of self, res is Some, otherwise returns None.
+     */
+    @NotNull
+    OptionLong xor(@NotNull final OptionLong res);
+
+    /**
+     * Turns this OptionLong into an {@link Option}&lt;{@link Long}&gt;, boxing its value.
+     *
+     * @return {@link Some} with the boxed value if this is {@link SomeLong}, otherwise {@link None}.
+     */
+    @NotNull
+    Option<Long> toOption();
+
+    /**
+     * Turns this OptionLong into an {@link OptionalLong}.
+     *
+     * @return {@link OptionalLong} with the value if this is {@link SomeLong}, otherwise an empty one.
+     */
+    @NotNull
+    OptionalLong toOptional();
+}
@@ -0,0 +1,349 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed length array of optional long values, storing them as a dense long array plus a bitset telling which
+ * indexes are {@link SomeLong}.
+ * <p>
+ * This mirrors the API of {@link OptionArray}&lt;{@link Long}&gt;, but values are kept as primitive longs and every
+ * function works over LongPredicate, LongUnaryOperator and similar functional types, so neither the values nor the
+ * options are boxed unless {@link OptionLongArray#get(int)} is called.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * OptionLongArray timestamps = new OptionLongArray(1_000_000);
+ * timestamps.setSome(10, 5L);
+ * OptionLongArray doubled = timestamps.map(value -> value * 2).filter(value -> value > 0);
+ * for (int index = doubled.nextSome(0); index >= 0; index = doubled.nextSome(index + 1)) {
+ *     System.out.println(index + ": " + doubled.unwrapOr(index, 0));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see OptionArray
+ * @see OptionLong
+ */
+@SuppressWarnings("unused")
+public final class OptionLongArray implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Values of each index, being 0 for {@link NoneLong}s.
+     */
+    private final long @NotNull [] values;
+
+    /**
+     * Bitset where the bit of each index is set if the index is {@link SomeLong}.
+     */
+    private final long @NotNull [] present;
+
+    /**
+     * Creates an array of the given length where every element is {@link NoneLong}.
+     *
+     * @param length amount of elements of the array.
+     */
+    public OptionLongArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative, but was " + length);
+        }
+        this.values = new long[length];
+        this.present = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * Creates an array holding the given options in the same order.
+     *
+     * @param options options to store.
+     * @return an array holding the given options.
+     */
+    @NotNull
+    public static OptionLongArray of(@NotNull Collection<? extends OptionLong> options) {
+        OptionLongArray array = new OptionLongArray(requireNonNull(options).size());
+        int index = 0;
+        for (OptionLong option : options) {
+            if (requireNonNull(option) instanceof SomeLong(var value)) {
+                array.setSome(index, value);
+            }
+            index++;
+        }
+        return array;
+    }
+
+    /**
+     * Creates an array holding the values of the given {@link OptionArray}, unboxing them.
+     *
+     * @param options options to unbox.
+     * @return an array holding the unboxed values.
+     */
+    @NotNull
+    public static OptionLongArray from(@NotNull OptionArray<Long> options) {
+        OptionLongArray array = new OptionLongArray(requireNonNull(options).length());
+        for (int index = options.nextSome(0); index >= 0; index = options.nextSome(index + 1)) {
+            array.setSome(index, options.unwrapOr(index, 0L));
+        }
+        return array;
+    }
+
+    /**
+     * Returns the amount of elements of this array, counting both {@link SomeLong}s and {@link NoneLong}s.
+     *
+     * @return the amount of elements of this array.
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link SomeLong}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link SomeLong}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isSome(int index) {
+        return (present[word(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns true if the element at the index is {@link NoneLong}.
+     *
+     * @param index index of the element.
+     * @return true if the element at the index is {@link NoneLong}.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    /**
+     * Returns the element at the index as an {@link Option}, being a new {@link SomeLong} if present, or the shared
+     * {@link NoneLong} otherwise.
+     *
+     * @param index index of the element.
+     * @return the element at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    @NotNull
+    public OptionLong get(int index) {
+        if (isSome(index)) {
+            return new SomeLong(values[index]);
+        }
+        return NoneLong.instance();
+    }
+
+    /**
+     * Returns the value at the index if it is {@link SomeLong}, or the default value otherwise.
+     *
+     * @param index        index of the element.
+     * @param defaultValue value to return if the element is {@link NoneLong}.
+     * @return the value at the index, or the default value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public long unwrapOr(int index, long defaultValue) {
+        if (isSome(index)) {
+            return values[index];
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Sets the element at the index to the given option.
+     *
+     * @param index  index of the element.
+     * @param option the new element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void set(int index, @NotNull OptionLong option) {
+        if (requireNonNull(option) instanceof SomeLong(var value)) {
+            setSome(index, value);
+        } else {
+            setNone(index);
+        }
+    }
+
+    /**
+     * Sets the element at the index to {@link SomeLong} of the given value.
+     *
+     * @param index index of the element.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setSome(int index, long value) {
+        values[index] = value;
+        present[word(index)] |= 1L << index;
+    }
+
+    /**
+     * Sets the element at the index to {@link NoneLong}.
+     *
+     * @param index index of the element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setNone(int index) {
+        values[index] = 0;
+        present[word(index)] &= ~(1L << index);
+    }
+
+    /**
+     * Returns the amount of elements that are {@link SomeLong}.
+     *
+     * @return the amount of elements that are {@link SomeLong}.
+     */
+    public int countSome() {
+        int count = 0;
+        for (long word : present) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the first {@link SomeLong} at or after the given index, or -1 if there is none, allowing
+     * to iterate every {@link SomeLong} without allocating.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * for (int index = timestamps.nextSome(0); index >= 0; index = timestamps.nextSome(index + 1)) {
+     *     System.out.println(index + ": " + timestamps.unwrapOr(index, 0));
+     * }
+     * }
+     * </pre>
+     *
+     * @param fromIndex index to start searching from.
+     * @return the index of the next {@link SomeLong}, or -1 if there is none.
+     */
+    public int nextSome(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index " + fromIndex + " must not be negative");
+        }
+        int wordIndex = fromIndex >>> 6;
+        if (wordIndex >= present.length) {
+            return -1;
+        }
+        long word = present[wordIndex] & (-1L << fromIndex);
+        while (word == 0) {
+            if (++wordIndex == present.length) {
+                return -1;
+            }
+            word = present[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeLong} has been mapped with the function, and
+     * every {@link NoneLong} stays {@link NoneLong}.
+     *
+     * @param mapper Maps each value to another value.
+     * @return a new array with the mapped values.
+     * @see OptionLong#map(LongUnaryOperator)
+     */
+    @NotNull
+    public OptionLongArray map(@NotNull LongUnaryOperator mapper) {
+        requireNonNull(mapper);
+        OptionLongArray mapped = new OptionLongArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                mapped.values[index] = mapper.applyAsLong(values[index]);
+            }
+            mapped.present[wordIndex] = present[wordIndex];
+        }
+        return mapped;
+    }
+
+    /**
+     * Returns a new array of the same length where every {@link SomeLong} whose value doesn't match the predicate has
+     * been turned into {@link NoneLong}.
+     *
+     * @param predicate predicate to test each value against.
+     * @return a new array with only the values matching the predicate.
+     * @see OptionLong#filter(LongPredicate)
+     */
+    @NotNull
+    public OptionLongArray filter(@NotNull LongPredicate predicate) {
+        requireNonNull(predicate);
+        OptionLongArray filtered = new OptionLongArray(values.length);
+        for (int wordIndex = 0; wordIndex < present.length; wordIndex++) {
+            long kept = 0;
+            for (long word = present[wordIndex]; word != 0; word &= word - 1) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                if (predicate.test(values[index])) {
+                    filtered.values[index] = values[index];
+                    kept |= word & -word;
+                }
+            }
+            filtered.present[wordIndex] = kept;
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns a new {@link OptionArray} of the same length with every value boxed.
+     *
+     * @return a new {@link OptionArray} with the boxed values.
+     */
+    @NotNull
+    public OptionArray<Long> toOptionArray() {
+        OptionArray<Long> boxed = new OptionArray<>(values.length);
+        for (int index = nextSome(0); index >= 0; index = nextSome(index + 1)) {
+            boxed.setSome(index, values[index]);
+        }
+        return boxed;
+    }
+
+    /**
+     * Returns the index of the word of the bitset holding the bit of the index, checking the index is in bounds.
+     */
+    private int word(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + values.length);
+        }
+        return index >>> 6;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof OptionLongArray otherArray)) {
+            return false;
+        }
+        return Arrays.equals(present, otherArray.present) && Arrays.equals(values, otherArray.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(present) + Arrays.hashCode(values);
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(index));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies a function returning {@link Option} to every element of a collection on the
+ * {@link ForkJoinPool#commonPool()}, it backs {@link Option#traverseParallel(Collection, Function)}.
+ * <p>
+ * As any {@link None} makes the whole traversal {@link None}, tasks share a single flag that is raised on the first
+ * {@link None} found, and every task stops as soon as it sees it.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class ParallelTraversal {
+
+    /**
+     * Hidden constructor
+     */
+    private ParallelTraversal() {}
+
+    /**
+     * Applies the function to every element, returning a {@link Some} with the values in encounter order, or
+     * {@link None} if the function returned {@link None} for any of them.
+     */
+    @NotNull
+    static <A, B> Option<List<B>> traverse(@NotNull Collection<A> elements, @NotNull Function<A, Option<B>> function) {
+        Object[] inputs = requireNonNull(elements).toArray();
+        requireNonNull(function);
+        Object[] outputs = new Object[inputs.length];
+        AtomicBoolean cancelled = new AtomicBoolean();
+        if (inputs.length > 0) {
+            int threshold = Math.max(1, inputs.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            ForkJoinPool.commonPool().invoke(new Chunk<>(inputs, outputs, function, cancelled, threshold, 0,
+                                                         inputs.length));
+        }
+        if (cancelled.get()) {
+            return Option.none();
+        }
+        @SuppressWarnings("unchecked")
+        List<B> values = (List<B>) (List<?>) Collections.unmodifiableList(Arrays.asList(outputs));
+        return new Some<>(values);
+    }
+
+    /**
+     * Task applying the function to the elements from start (inclusive) to end (exclusive), storing the value of each
+     * element on its index of outputs.
+     * <p>
+     * Serializable only through {@link java.util.concurrent.ForkJoinTask}, as tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class Chunk<A, B> extends RecursiveAction {
+
+        private final Object @NotNull [] inputs;
+        private final Object @NotNull [] outputs;
+        @NotNull private final Function<A, Option<B>> function;
+        @NotNull private final AtomicBoolean cancelled;
+        private final int threshold;
+        private final int start;
+        private final int end;
+
+        Chunk(Object @NotNull [] inputs, Object @NotNull [] outputs, @NotNull Function<A, Option<B>> function,
+              @NotNull AtomicBoolean cancelled, int threshold, int start, int end) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.function = function;
+            this.cancelled = cancelled;
+            this.threshold = threshold;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (end - start > threshold) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new Chunk<>(inputs, outputs, function, cancelled, threshold, start, middle),
+                          new Chunk<>(inputs, outputs, function, cancelled, threshold, middle, end));
+                return;
+            }
+            for (int index = start; index < end && !cancelled.get(); index++) {
+                @SuppressWarnings("unchecked")
+                A input = (A) inputs[index];
+                switch (requireNonNull(function.apply(input))) {
+                    case Some<B>(var value) -> outputs[index] = value;
+                    case None<B>() -> {
+                        cancelled.set(true);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package io.github.jorgericovivas.rust_essentials.option;
 
+import io.github.jorgericovivas.rust_essentials.codec.SerialProxy;
 import io.github.jorgericovivas.rust_essentials.result.Ok;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -35,6 +37,17 @@ public record Some<T>(@NotNull T value) implements Option<T>, Serializable {
         requireNonNull(value);
     }
 
+    /**
+     * Replaces this {@link Some} with a {@link SerialProxy} when serialized, which writes it in a compact
+     * binary form through {@link io.github.jorgericovivas.rust_essentials.codec.Codecs#dynamic()}.
+     *
+     * @return the proxy to serialize instead of this {@link Some}.
+     */
+    @Serial
+    private Object writeReplace() {
+        return new SerialProxy(this);
+    }
+
     /**
      * Returns true.
      *
@@ -199,7 +212,7 @@ public record Some<T>(@NotNull T value) implements Option<T>, Serializable {
     @Override
     @NotNull
     public Option<T> filter(@NotNull final Predicate<T> predicate) {
-        return requireNonNull(predicate).test(value) ? this : new None<>();
+        return requireNonNull(predicate).test(value) ? this : Option.none();
     }
 
     /**
@@ -261,7 +274,7 @@ public record Some<T>(@NotNull T value) implements Option<T>, Serializable {
     @Override
     @NotNull
     public Option<T> xor(@NotNull final Option<T> res) {
-        return requireNonNull(res).isSome() ? new None<>() : this;
+        return requireNonNull(res).isSome() ? Option.none() : this;
     }
 
 }
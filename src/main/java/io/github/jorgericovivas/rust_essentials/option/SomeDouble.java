@@ -0,0 +1,274 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.DoubleOk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an existing double value.
+ *
+ * @param value the existing value.
+ * @author Jorge Rico Vivas
+ * @see OptionDouble
+ */
+public record SomeDouble(double value) implements OptionDouble, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    /**
+     * Returns true if the predicate is met by the value.
+     *
+     * @param predicate predicated tested against the value.
+     * @return true if the predicate is met.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final DoublePredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    /**
+     * Returns a new {@link SomeDouble} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return a new {@link SomeDouble} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public SomeDouble map(@NotNull final DoubleUnaryOperator mapper) {
+        return new SomeDouble(requireNonNull(mapper).applyAsDouble(value));
+    }
+
+    /**
+     * Returns a new {@link Some} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    New type of option, as a result of mapping {@link SomeDouble#value}
+     * @return a new {@link Some} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public <U> Some<U> mapToObj(@NotNull final DoubleFunction<U> mapper) {
+        return new Some<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsDouble(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsDouble(value);
+    }
+
+    /**
+     * Returns an {@link DoubleOk} containing this {@link SomeDouble#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link DoubleOk} containing this {@link SomeDouble#value}.
+     */
+    @Override
+    public <E> @NotNull DoubleOk<E> okOr(@NotNull final E error) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Returns an {@link DoubleOk} containing this {@link SomeDouble#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link DoubleOk} containing this {@link SomeDouble#value}.
+     */
+    @Override
+    public <E> @NotNull DoubleOk<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Executes the function over the contained value.
+     *
+     * @param inspector consumer function to trigger on the contained value.
+     */
+    @Override
+    public void inspect(@NotNull final DoubleConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Returns {@link SomeDouble#value}.
+     *
+     * @return {@link SomeDouble#value}
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public double unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeDouble#value}.
+     *
+     * @param errorMessage unused.
+     * @return {@link SomeDouble#value}.
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public double expect(@Nullable final String errorMessage) throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeDouble#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeDouble#value}.
+     */
+    @Override
+    public double unwrapOr(final double defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeDouble#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeDouble#value}.
+     */
+    @Override
+    public double unwrapOrElse(@NotNull final DoubleSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns this option if the predicate is met, otherwise it returns a None.
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return this option if the predicate is met, otherwise it returns a None.
+     */
+    @Override
+    @NotNull
+    public OptionDouble filter(@NotNull final DoublePredicate predicate) {
+        return requireNonNull(predicate).test(value) ? this : NoneDouble.instance();
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The value to return.
+     * @return the res parameter
+     */
+    @Override
+    @NotNull
+    public OptionDouble and(@NotNull final OptionDouble res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to the value.
+     *
+     * @param res Generates an OptionDouble from the value.
+     * @return the result of applying the function to the value.
+     */
+    @Override
+    @NotNull
+    public OptionDouble andThen(@NotNull final DoubleFunction<OptionDouble> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeDouble or(@NotNull final OptionDouble res) {
+        return this;
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeDouble orElse(@NotNull final Supplier<OptionDouble> res) {
+        return this;
+    }
+
+    /**
+     * Returns this if other is none, otherwise, it returns None.
+     *
+     * @param res the other option value.
+     * @return this if other is none, otherwise, it returns None.
+     */
+    @Override
+    @NotNull
+    public OptionDouble xor(@NotNull final OptionDouble res) {
+        return requireNonNull(res).isSome() ? NoneDouble.instance() : this;
+    }
+
+    /**
+     * Returns a {@link Some} containing the boxed {@link SomeDouble#value}.
+     *
+     * @return a {@link Some} containing the boxed {@link SomeDouble#value}.
+     */
+    @Override
+    @NotNull
+    public Some<Double> toOption() {
+        return new Some<>(value);
+    }
+
+    /**
+     * Returns an {@link OptionalDouble} containing {@link SomeDouble#value}.
+     *
+     * @return an {@link OptionalDouble} containing {@link SomeDouble#value}.
+     */
+    @Override
+    @NotNull
+    public OptionalDouble toOptional() {
+        return OptionalDouble.of(value);
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.IntOk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an existing int value.
+ *
+ * @param value the existing value.
+ * @author Jorge Rico Vivas
+ * @see OptionInt
+ */
+public record SomeInt(int value) implements OptionInt, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    /**
+     * Returns true if the predicate is met by the value.
+     *
+     * @param predicate predicated tested against the value.
+     * @return true if the predicate is met.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final IntPredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    /**
+     * Returns a new {@link SomeInt} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return a new {@link SomeInt} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public SomeInt map(@NotNull final IntUnaryOperator mapper) {
+        return new SomeInt(requireNonNull(mapper).applyAsInt(value));
+    }
+
+    /**
+     * Returns a new {@link Some} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    New type of option, as a result of mapping {@link SomeInt#value}
+     * @return a new {@link Some} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public <U> Some<U> mapToObj(@NotNull final IntFunction<U> mapper) {
+        return new Some<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public int mapOr(final int defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsInt(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public int mapOrElse(@NotNull final IntSupplier defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsInt(value);
+    }
+
+    /**
+     * Returns an {@link IntOk} containing this {@link SomeInt#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link IntOk} containing this {@link SomeInt#value}.
+     */
+    @Override
+    public <E> @NotNull IntOk<E> okOr(@NotNull final E error) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Returns an {@link IntOk} containing this {@link SomeInt#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link IntOk} containing this {@link SomeInt#value}.
+     */
+    @Override
+    public <E> @NotNull IntOk<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Executes the function over the contained value.
+     *
+     * @param inspector consumer function to trigger on the contained value.
+     */
+    @Override
+    public void inspect(@NotNull final IntConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Returns {@link SomeInt#value}.
+     *
+     * @return {@link SomeInt#value}
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public int unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeInt#value}.
+     *
+     * @param errorMessage unused.
+     * @return {@link SomeInt#value}.
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public int expect(@Nullable final String errorMessage) throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeInt#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeInt#value}.
+     */
+    @Override
+    public int unwrapOr(final int defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeInt#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeInt#value}.
+     */
+    @Override
+    public int unwrapOrElse(@NotNull final IntSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns this option if the predicate is met, otherwise it returns a None.
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return this option if the predicate is met, otherwise it returns a None.
+     */
+    @Override
+    @NotNull
+    public OptionInt filter(@NotNull final IntPredicate predicate) {
+        return requireNonNull(predicate).test(value) ? this : NoneInt.instance();
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The value to return.
+     * @return the res parameter
+     */
+    @Override
+    @NotNull
+    public OptionInt and(@NotNull final OptionInt res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to the value.
+     *
+     * @param res Generates an OptionInt from the value.
+     * @return the result of applying the function to the value.
+     */
+    @Override
+    @NotNull
+    public OptionInt andThen(@NotNull final IntFunction<OptionInt> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeInt or(@NotNull final OptionInt res) {
+        return this;
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeInt orElse(@NotNull final Supplier<OptionInt> res) {
+        return this;
+    }
+
+    /**
+     * Returns this if other is none, otherwise, it returns None.
+     *
+     * @param res the other option value.
+     * @return this if other is none, otherwise, it returns None.
+     */
+    @Override
+    @NotNull
+    public OptionInt xor(@NotNull final OptionInt res) {
+        return requireNonNull(res).isSome() ? NoneInt.instance() : this;
+    }
+
+    /**
+     * Returns a {@link Some} containing the boxed {@link SomeInt#value}.
+     *
+     * @return a {@link Some} containing the boxed {@link SomeInt#value}.
+     */
+    @Override
+    @NotNull
+    public Some<Integer> toOption() {
+        return new Some<>(value);
+    }
+
+    /**
+     * Returns an {@link OptionalInt} containing {@link SomeInt#value}.
+     *
+     * @return an {@link OptionalInt} containing {@link SomeInt#value}.
+     */
+    @Override
+    @NotNull
+    public OptionalInt toOptional() {
+        return OptionalInt.of(value);
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.LongOk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.OptionalLong;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an existing long value.
+ *
+ * @param value the existing value.
+ * @author Jorge Rico Vivas
+ * @see OptionLong
+ */
+public record SomeLong(long value) implements OptionLong, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    /**
+     * Returns true if the predicate is met by the value.
+     *
+     * @param predicate predicated tested against the value.
+     * @return true if the predicate is met.
+     */
+    @Override
+    public boolean isSomeAnd(@NotNull final LongPredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    /**
+     * Returns a new {@link SomeLong} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return a new {@link SomeLong} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public SomeLong map(@NotNull final LongUnaryOperator mapper) {
+        return new SomeLong(requireNonNull(mapper).applyAsLong(value));
+    }
+
+    /**
+     * Returns a new {@link Some} where the current value as been mapped with the function.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    New type of option, as a result of mapping {@link SomeLong#value}
+     * @return a new {@link Some} where the current value as been mapped with the function.
+     */
+    @Override
+    @NotNull
+    public <U> Some<U> mapToObj(@NotNull final LongFunction<U> mapper) {
+        return new Some<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsLong(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the value.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value.
+     * @return the result of applying the mapper to the value.
+     */
+    @Override
+    public long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsLong(value);
+    }
+
+    /**
+     * Returns an {@link LongOk} containing this {@link SomeLong#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link LongOk} containing this {@link SomeLong#value}.
+     */
+    @Override
+    public <E> @NotNull LongOk<E> okOr(@NotNull final E error) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Returns an {@link LongOk} containing this {@link SomeLong#value}.
+     *
+     * @param error ignored.
+     * @param <E>   type of the error.
+     * @return An {@link LongOk} containing this {@link SomeLong#value}.
+     */
+    @Override
+    public <E> @NotNull LongOk<E> okOrElse(@NotNull final Supplier<E> error) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Executes the function over the contained value.
+     *
+     * @param inspector consumer function to trigger on the contained value.
+     */
+    @Override
+    public void inspect(@NotNull final LongConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Returns {@link SomeLong#value}.
+     *
+     * @return {@link SomeLong#value}
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public long unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeLong#value}.
+     *
+     * @param errorMessage unused.
+     * @return {@link SomeLong#value}.
+     * @throws IllegalCallerException does never get triggered.
+     */
+    @Override
+    public long expect(@Nullable final String errorMessage) throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeLong#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeLong#value}.
+     */
+    @Override
+    public long unwrapOr(final long defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns {@link SomeLong#value}.
+     *
+     * @param defaultValue unused.
+     * @return {@link SomeLong#value}.
+     */
+    @Override
+    public long unwrapOrElse(@NotNull final LongSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns this option if the predicate is met, otherwise it returns a None.
+     *
+     * @param predicate Condition this Some(value) has to match in order to return itself
+     * @return this option if the predicate is met, otherwise it returns a None.
+     */
+    @Override
+    @NotNull
+    public OptionLong filter(@NotNull final LongPredicate predicate) {
+        return requireNonNull(predicate).test(value) ? this : NoneLong.instance();
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The value to return.
+     * @return the res parameter
+     */
+    @Override
+    @NotNull
+    public OptionLong and(@NotNull final OptionLong res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to the value.
+     *
+     * @param res Generates an OptionLong from the value.
+     * @return the result of applying the function to the value.
+     */
+    @Override
+    @NotNull
+    public OptionLong andThen(@NotNull final LongFunction<OptionLong> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeLong or(@NotNull final OptionLong res) {
+        return this;
+    }
+
+    /**
+     * Returns this.
+     *
+     * @param res unused.
+     * @return this.
+     */
+    @Override
+    @NotNull
+    public SomeLong orElse(@NotNull final Supplier<OptionLong> res) {
+        return this;
+    }
+
+    /**
+     * Returns this if other is none, otherwise, it returns None.
+     *
+     * @param res the other option value.
+     * @return this if other is none, otherwise, it returns None.
+     */
+    @Override
+    @NotNull
+    public OptionLong xor(@NotNull final OptionLong res) {
+        return requireNonNull(res).isSome() ? NoneLong.instance() : this;
+    }
+
+    /**
+     * Returns a {@link Some} containing the boxed {@link SomeLong#value}.
+     *
+     * @return a {@link Some} containing the boxed {@link SomeLong#value}.
+     */
+    @Override
+    @NotNull
+    public Some<Long> toOption() {
+        return new Some<>(value);
+    }
+
+    /**
+     * Returns an {@link OptionalLong} containing {@link SomeLong#value}.
+     *
+     * @return an {@link OptionalLong} containing {@link SomeLong#value}.
+     */
+    @Override
+    @NotNull
+    public OptionalLong toOptional() {
+        return OptionalLong.of(value);
+    }
+}
@@ -2,6 +2,13 @@
  * Represent values optional value through two valid states, {@link Some}&lt;ValueType&gt; containing a value, and
  * {@link None} containing no value.
  * <p>
+ * Numeric values can avoid boxing through the primitive counterparts {@link OptionInt}, {@link OptionLong} and
+ * {@link OptionDouble}.
+ * <p>
+ * Large amounts of optional values can be stored in {@link OptionArray} and its primitive counterparts
+ * {@link OptionIntArray}, {@link OptionLongArray} and {@link OptionDoubleArray}, which keep the values in a dense array
+ * plus a bitset of which ones are present instead of one {@link Some} per value.
+ * <p>
  * More information about this can be found at {@link Option}.
  */
 package io.github.jorgericovivas.rust_essentials.option;
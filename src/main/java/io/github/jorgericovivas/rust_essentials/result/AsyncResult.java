@@ -0,0 +1,382 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Result} that will be available in the future, backed by a {@link CompletableFuture}.
+ * <p>
+ * Instead of nesting a {@code CompletableFuture<Result<T, E>>} and unwrapping it on every stage, {@link AsyncResult}
+ * offers the same combinators as {@link Result}, like {@link AsyncResult#map(Function)},
+ * {@link AsyncResult#andThen(Function)} or {@link AsyncResult#orElse(Function)}, which are applied without blocking
+ * once the value is available, and {@link AsyncResult#join()} to wait for it as a plain {@link Ok} or {@link Err}.
+ * <p>
+ * Operations started with {@link AsyncResult#checked(ThrowingSupplier)} run on their own virtual thread, so thousands
+ * of concurrent blocking calls don't take a platform thread each, and a deadline can be set with
+ * {@link AsyncResult#timeout(Duration, Supplier)}, which turns into an {@link Err} of the same error type instead of
+ * a {@link TimeoutException}.
+ * <p>
+ * Same as {@link Result#checked(ThrowingSupplier)}, {@link RuntimeException}s are not turned into {@link Err}, they
+ * complete the future exceptionally and are thrown by {@link AsyncResult#join()}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * AsyncResult<String, IOException> contents = AsyncResult.checked(() -> Files.readString(Path.of("my_file.txt")))
+ *         .timeout(Duration.ofSeconds(1), () -> new IOException("Took too long to read the file"));
+ * AsyncResult<Integer, IOException> lines = contents.map(text -> text.lines().count())
+ *                                                   .map(Long::intValue);
+ * switch (lines.join()) {
+ *     case Ok(var count) -> System.out.println("The file has " + count + " lines");
+ *     case Err(var error) -> System.out.println("Could not read the file: " + error.getMessage());
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> Type of success state.
+ * @param <E> Type of error state.
+ * @author Jorge Rico Vivas
+ * @see Result
+ */
+@SuppressWarnings("unused")
+public final class AsyncResult<T, E> {
+
+    /**
+     * Executor starting a new virtual thread for each task.
+     */
+    private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+
+    @NotNull private final CompletableFuture<Result<T, E>> future;
+
+    /**
+     * Hidden constructor
+     *
+     * @param future the future this {@link AsyncResult} wraps.
+     */
+    private AsyncResult(@NotNull CompletableFuture<Result<T, E>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Creates an already completed {@link AsyncResult} containing an {@link Ok} with this value.
+     *
+     * @param value value of the {@link Ok}.
+     * @param <T>   Type of success state.
+     * @param <E>   Type of error state.
+     * @return an already completed {@link AsyncResult} containing an {@link Ok} with this value.
+     */
+    @NotNull
+    public static <T, E> AsyncResult<T, E> ok(@NotNull T value) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(new Ok<>(value)));
+    }
+
+    /**
+     * Creates an already completed {@link AsyncResult} containing an {@link Err} with this error.
+     *
+     * @param error value of the {@link Err}.
+     * @param <T>   Type of success state.
+     * @param <E>   Type of error state.
+     * @return an already completed {@link AsyncResult} containing an {@link Err} with this error.
+     */
+    @NotNull
+    public static <T, E> AsyncResult<T, E> err(@NotNull E error) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(new Err<>(error)));
+    }
+
+    /**
+     * Wraps a {@link CompletionStage} that completes with a {@link Result}.
+     *
+     * @param stage stage completing with a {@link Result}.
+     * @param <T>   Type of success state.
+     * @param <E>   Type of error state.
+     * @return an {@link AsyncResult} completing with the same {@link Result} as the stage.
+     */
+    @NotNull
+    public static <T, E> AsyncResult<T, E> from(@NotNull CompletionStage<Result<T, E>> stage) {
+        return new AsyncResult<>(requireNonNull(stage).toCompletableFuture().thenApply(Function.identity()));
+    }
+
+    /**
+     * Wraps a {@link CompletionStage}, turning its value into an {@link Ok}, and the exception it might complete
+     * with into an {@link Err}.
+     * <p>
+     * As an {@link Ok} can't hold null, a stage completing with null gives an {@link Err} with a
+     * {@link NullPointerException}, so stages without a value, like a {@code CompletableFuture<Void>}, must be wrapped
+     * through {@link AsyncResult#catchingVoid(CompletionStage)} instead.
+     *
+     * @param stage stage completing with a value or exceptionally.
+     * @param <T>   Type of success state.
+     * @return an {@link AsyncResult} completing with an {@link Ok} with the stage's value, or an {@link Err} with the
+     * exception it completed with.
+     */
+    @NotNull
+    public static <T> AsyncResult<T, Throwable> catching(@NotNull CompletionStage<T> stage) {
+        return new AsyncResult<>(requireNonNull(stage).toCompletableFuture().handle((value, thrown) -> {
+            if (thrown != null) {
+                return new Err<>(unwrapCompletion(thrown));
+            }
+            return value == null ? new Err<>(new NullPointerException("The stage completed with null"))
+                                 : new Ok<>(value);
+        }));
+    }
+
+    /**
+     * Wraps a {@link CompletionStage} whose value is ignored, like a {@code CompletableFuture<Void>}, giving an
+     * {@link Ok} with a {@link Tuple0} (As an empty object) when it completes, the same as
+     * {@link Result#checked(ThrowingRunnable)} does, and an {@link Err} with the exception it might complete with.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * AsyncResult<Tuple0, Throwable> saved = AsyncResult.catchingVoid(CompletableFuture.runAsync(this::save));
+     * }
+     * </pre>
+     *
+     * @param stage stage completing normally or exceptionally.
+     * @return an {@link AsyncResult} completing with an {@link Ok} with a {@link Tuple0}, or an {@link Err} with the
+     * exception the stage completed with.
+     */
+    @NotNull
+    public static AsyncResult<Tuple0, Throwable> catchingVoid(@NotNull CompletionStage<?> stage) {
+        return new AsyncResult<>(requireNonNull(stage).toCompletableFuture().handle(
+                (ignored, thrown) -> thrown == null ? new Ok<>(new Tuple0()) : new Err<>(unwrapCompletion(thrown))));
+    }
+
+    /**
+     * Runs the supplier on a new virtual thread, completing with an {@link Ok} with its value, or an {@link Err} if
+     * it threw its checked exception.
+     *
+     * @param supplier Operation that gives a result to return.
+     * @param <T>      Type of the success value operation.
+     * @param <E>      Type of the error in the operation.
+     * @return an {@link AsyncResult} completing with the outcome of the supplier.
+     * @see Result#checked(ThrowingSupplier)
+     */
+    @NotNull
+    public static <T, E extends Throwable> AsyncResult<T, E> checked(@NotNull ThrowingSupplier<T, E> supplier) {
+        return checked(supplier, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Runs the supplier on the given executor, completing with an {@link Ok} with its value, or an {@link Err} if it
+     * threw its checked exception.
+     *
+     * @param supplier Operation that gives a result to return.
+     * @param executor Executor where the supplier runs.
+     * @param <T>      Type of the success value operation.
+     * @param <E>      Type of the error in the operation.
+     * @return an {@link AsyncResult} completing with the outcome of the supplier.
+     * @see Result#checked(ThrowingSupplier)
+     */
+    @NotNull
+    public static <T, E extends Throwable> AsyncResult<T, E> checked(@NotNull ThrowingSupplier<T, E> supplier,
+                                                                      @NotNull Executor executor) {
+        requireNonNull(supplier);
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.checked(supplier), requireNonNull(executor)));
+    }
+
+    /**
+     * Returns true if the {@link Result} is already available, or the future failed.
+     *
+     * @return true if the {@link Result} is already available, or the future failed.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Maps the value of an {@link Ok} once available, leaving an {@link Err} untouched.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type T transforms to.
+     * @return an {@link AsyncResult} with the mapped value.
+     * @see Result#map(Function)
+     */
+    @NotNull
+    public <U> AsyncResult<U, E> map(@NotNull Function<T, U> mapper) {
+        requireNonNull(mapper);
+        return new AsyncResult<>(future.thenApply(result -> result.map(mapper)));
+    }
+
+    /**
+     * Maps the error of an {@link Err} once available, leaving an {@link Ok} untouched.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         Type the error E transforms to.
+     * @return an {@link AsyncResult} with the mapped error.
+     * @see Result#mapError(Function)
+     */
+    @NotNull
+    public <O> AsyncResult<T, O> mapError(@NotNull Function<E, O> errorMapper) {
+        requireNonNull(errorMapper);
+        return new AsyncResult<>(future.thenApply(result -> result.mapError(errorMapper)));
+    }
+
+    /**
+     * Calls the function with the value of an {@link Ok} once available, otherwise keeps the {@link Err}.
+     *
+     * @param res Function generating a new {@link Result} from the value.
+     * @param <U> Success type of the generated {@link Result}.
+     * @return an {@link AsyncResult} with the result of the function, or the original {@link Err}.
+     * @see Result#andThen(Function)
+     */
+    @NotNull
+    public <U> AsyncResult<U, E> andThen(@NotNull Function<T, Result<U, E>> res) {
+        requireNonNull(res);
+        return new AsyncResult<>(future.thenApply(result -> result.andThen(res)));
+    }
+
+    /**
+     * Calls the function with the value of an {@link Ok} once available, and waits for the {@link AsyncResult} it
+     * returns without blocking, otherwise keeps the {@link Err}.
+     *
+     * @param res Function generating a new {@link AsyncResult} from the value.
+     * @param <U> Success type of the generated {@link AsyncResult}.
+     * @return an {@link AsyncResult} with the result of the function, or the original {@link Err}.
+     */
+    @NotNull
+    public <U> AsyncResult<U, E> andThenAsync(@NotNull Function<T, AsyncResult<U, E>> res) {
+        requireNonNull(res);
+        return new AsyncResult<>(future.thenCompose(result -> switch (result) {
+            case Ok<T, E>(var value) -> requireNonNull(res.apply(value)).future;
+            case Err<T, E>(var error) -> CompletableFuture.completedFuture(new Err<>(error));
+        }));
+    }
+
+    /**
+     * Calls the function with the error of an {@link Err} once available, otherwise keeps the {@link Ok}.
+     *
+     * @param res Function generating a new {@link Result} from the error.
+     * @param <O> Error type of the generated {@link Result}.
+     * @return an {@link AsyncResult} with the result of the function, or the original {@link Ok}.
+     * @see Result#orElse(Function)
+     */
+    @NotNull
+    public <O> AsyncResult<T, O> orElse(@NotNull Function<E, Result<T, O>> res) {
+        requireNonNull(res);
+        return new AsyncResult<>(future.thenApply(result -> result.orElse(res)));
+    }
+
+    /**
+     * Calls the function with the error of an {@link Err} once available, and waits for the {@link AsyncResult} it
+     * returns without blocking, otherwise keeps the {@link Ok}.
+     *
+     * @param res Function generating a new {@link AsyncResult} from the error.
+     * @param <O> Error type of the generated {@link AsyncResult}.
+     * @return an {@link AsyncResult} with the result of the function, or the original {@link Ok}.
+     */
+    @NotNull
+    public <O> AsyncResult<T, O> orElseAsync(@NotNull Function<E, AsyncResult<T, O>> res) {
+        requireNonNull(res);
+        return new AsyncResult<>(future.thenCompose(result -> switch (result) {
+            case Ok<T, E>(var value) -> CompletableFuture.completedFuture(new Ok<>(value));
+            case Err<T, E>(var error) -> requireNonNull(res.apply(error)).future;
+        }));
+    }
+
+    /**
+     * Calls the consumer with the value of an {@link Ok} once available.
+     *
+     * @param inspector consumer function to trigger on the contained value (if Ok).
+     * @return an {@link AsyncResult} with the same {@link Result}, available after the inspector runs.
+     */
+    @NotNull
+    public AsyncResult<T, E> inspect(@NotNull Consumer<T> inspector) {
+        requireNonNull(inspector);
+        return new AsyncResult<>(future.thenApply(result -> {
+            result.inspect(inspector);
+            return result;
+        }));
+    }
+
+    /**
+     * Calls the consumer with the error of an {@link Err} once available.
+     *
+     * @param inspector consumer function to trigger on the contained error (if Err).
+     * @return an {@link AsyncResult} with the same {@link Result}, available after the inspector runs.
+     */
+    @NotNull
+    public AsyncResult<T, E> inspectErr(@NotNull Consumer<E> inspector) {
+        requireNonNull(inspector);
+        return new AsyncResult<>(future.thenApply(result -> {
+            result.inspectErr(inspector);
+            return result;
+        }));
+    }
+
+    /**
+     * Completes with an {@link Err} with the error given by onTimeout if the {@link Result} isn't available before the
+     * timeout expires.
+     * <p>
+     * The underlying operation is not interrupted, only this and the following stages stop waiting for it.
+     *
+     * @param timeout   how long to wait for the {@link Result}.
+     * @param onTimeout supplier of the error to return if the timeout expires.
+     * @return an {@link AsyncResult} with the same {@link Result}, or an {@link Err} if the timeout expired.
+     */
+    @NotNull
+    public AsyncResult<T, E> timeout(@NotNull Duration timeout, @NotNull Supplier<E> onTimeout) {
+        requireNonNull(onTimeout);
+        long nanos = requireNonNull(timeout).toNanos();
+        return new AsyncResult<>(future.copy().orTimeout(nanos, TimeUnit.NANOSECONDS).exceptionally(thrown -> {
+            if (unwrapCompletion(thrown) instanceof TimeoutException) {
+                return new Err<>(requireNonNull(onTimeout.get()));
+            }
+            throw thrown instanceof CompletionException completionException
+                    ? completionException
+                    : new CompletionException(thrown);
+        }));
+    }
+
+    /**
+     * Waits for the {@link Result}, blocking the current thread, which is cheap when running on a virtual thread.
+     *
+     * @return the {@link Result} once available.
+     * @throws RuntimeException if any of the stages threw a {@link RuntimeException}, it is thrown here.
+     * @throws CancellationException if the future was cancelled.
+     */
+    @NotNull
+    public Result<T, E> join() {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new {@link CompletableFuture} completing with the same {@link Result}, completing it doesn't affect
+     * this {@link AsyncResult}.
+     *
+     * @return a {@link CompletableFuture} completing with the same {@link Result}.
+     */
+    @NotNull
+    public CompletableFuture<Result<T, E>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    /**
+     * Returns the cause of a {@link CompletionException} or {@link ExecutionException}, or the exception itself.
+     */
+    @NotNull
+    private static Throwable unwrapCompletion(@NotNull Throwable thrown) {
+        if ((thrown instanceof CompletionException || thrown instanceof ExecutionException) && thrown.getCause() != null) {
+            return thrown.getCause();
+        }
+        return thrown;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs {@link ThrowingSupplier}s concurrently on virtual threads, collecting them into a {@link Result}, it backs
+ * {@link Result#joinOksConcurrently(Collection)} and {@link Result#firstOkConcurrently(Collection)}.
+ * <p>
+ * Tasks are structured: every function waits for all of its tasks to end before returning, so no task outlives the
+ * call, and once the outcome is known, the remaining tasks are cancelled by interrupting them.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class ConcurrentResults {
+
+    /**
+     * Hidden constructor
+     */
+    private ConcurrentResults() {}
+
+    /**
+     * The outcome of the supplier at the given index.
+     */
+    private record Completed<T, E>(int index, @NotNull Result<T, E> result) {}
+
+    /**
+     * Runs every supplier on its own virtual thread, returning an {@link Ok} with their values in the same order as
+     * the suppliers, or the first {@link Err} to happen, cancelling the remaining suppliers.
+     */
+    @NotNull
+    static <T, E extends Throwable> Result<List<T>, E> joinOks(
+            @NotNull Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers
+    ) throws InterruptedException {
+        List<? extends ThrowingSupplier<? extends T, ? extends E>> tasks = List.copyOf(requireNonNull(suppliers));
+        Object[] values = new Object[tasks.size()];
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var completion = new ExecutorCompletionService<Completed<T, E>>(executor);
+            List<Future<Completed<T, E>>> futures = submit(completion, tasks);
+            try {
+                for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                    switch (next(completion)) {
+                        case Completed<T, E>(var index, Ok<T, E>(var value)) -> values[index] = value;
+                        case Completed<T, E>(var index, Err<T, E>(var error)) -> {
+                            return new Err<>(error);
+                        }
+                    }
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) (List<?>) Collections.unmodifiableList(Arrays.asList(values));
+        return new Ok<>(list);
+    }
+
+    /**
+     * Runs every supplier on its own virtual thread, returning the first {@link Ok} to happen and cancelling the
+     * remaining suppliers, or an {@link Err} with every error in the same order as the suppliers if all of them failed.
+     */
+    @NotNull
+    static <T, E extends Throwable> Result<T, List<E>> firstOk(
+            @NotNull Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers
+    ) throws InterruptedException {
+        List<? extends ThrowingSupplier<? extends T, ? extends E>> tasks = List.copyOf(requireNonNull(suppliers));
+        Object[] errors = new Object[tasks.size()];
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var completion = new ExecutorCompletionService<Completed<T, E>>(executor);
+            List<Future<Completed<T, E>>> futures = submit(completion, tasks);
+            try {
+                for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                    switch (next(completion)) {
+                        case Completed<T, E>(var index, Ok<T, E>(var value)) -> {
+                            return new Ok<>(value);
+                        }
+                        case Completed<T, E>(var index, Err<T, E>(var error)) -> errors[index] = error;
+                    }
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<E> list = (List<E>) (List<?>) Collections.unmodifiableList(Arrays.asList(errors));
+        return new Err<>(list);
+    }
+
+    /**
+     * Submits every supplier, capturing its outcome the same way as {@link Result#checked(ThrowingSupplier)} does.
+     */
+    @NotNull
+    private static <T, E extends Throwable> List<Future<Completed<T, E>>> submit(
+            @NotNull CompletionService<Completed<T, E>> completion,
+            @NotNull List<? extends ThrowingSupplier<? extends T, ? extends E>> tasks
+    ) {
+        List<Future<Completed<T, E>>> futures = new ArrayList<>(tasks.size());
+        for (int index = 0; index < tasks.size(); index++) {
+            int taskIndex = index;
+            ThrowingSupplier<? extends T, ? extends E> task = tasks.get(index);
+            futures.add(completion.submit(() -> new Completed<>(taskIndex, Result.<T, E>checked(task::get))));
+        }
+        return futures;
+    }
+
+    /**
+     * Waits for the next task to complete, rethrowing the {@link RuntimeException} it failed with if any.
+     */
+    @NotNull
+    private static <T, E> Completed<T, E> next(@NotNull CompletionService<Completed<T, E>> completion)
+            throws InterruptedException {
+        try {
+            return completion.take().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.NoneDouble;
+import io.github.jorgericovivas.rust_essentials.option.OptionDouble;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the error of a wrong execution of an operation that would have resulted in a double.
+ *
+ * @param error the error value of a wrong execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see DoubleResult
+ */
+public record DoubleErr<E>(@NotNull E error) implements DoubleResult<E>, Serializable {
+
+    /**
+     * Default constructor requiring error to not be null.
+     *
+     * @param error value required not to be null.
+     */
+    public DoubleErr {
+        requireNonNull(error);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final DoublePredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link DoubleErr#error} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the error.
+     * @return whether the {@link DoubleErr#error} matches or not this predicate.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return requireNonNull(predicate).test(error);
+    }
+
+    /**
+     * Returns a {@link NoneDouble}, this is because {@link DoubleErr} represents an invalid result, meaning there is no
+     * {@link DoubleOk} state.
+     *
+     * @return A {@link NoneDouble}.
+     */
+    @Override @NotNull
+    public NoneDouble ok() {
+        return OptionDouble.none();
+    }
+
+    /**
+     * Returns a {@link Some} containing this {@link DoubleErr#error}.
+     *
+     * @return a {@link Some} containing this {@link DoubleErr#error}.
+     */
+    @Override @NotNull
+    public Some<E> err() {
+        return new Some<>(error);
+    }
+
+    /**
+     * Returns this {@link DoubleErr}, as there is no value to map.
+     *
+     * @param mapper unused.
+     * @return this {@link DoubleErr}.
+     */
+    @Override @NotNull
+    public DoubleErr<E> map(@NotNull final DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns a new {@link Err} with the same {@link DoubleErr#error} as this instance, but changing the success type to
+     * that of the conversion.
+     *
+     * @param mapper unused.
+     * @param <U>    The new type of the success value resulting on the conversion.
+     * @return a new {@link Err} with the same {@link DoubleErr#error} as this instance.
+     */
+    @Override @NotNull
+    public <U> Err<U, E> mapToObj(@NotNull final DoubleFunction<U> mapper) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsDouble();
+    }
+
+    /**
+     * Turns this {@link DoubleErr#error} into a new error, which will be contained in a new {@link DoubleErr}.
+     *
+     * @param errorMapper Maps the original {@link DoubleErr#error} to another value.
+     * @param <O>         The new error type of the conversion.
+     * @return A new {@link DoubleErr} with the mapped value.
+     */
+    @Override @NotNull
+    public <O> DoubleErr<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new DoubleErr<>(requireNonNull(requireNonNull(errorMapper).apply(error)));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final DoubleConsumer inspector) {
+
+    }
+
+    /**
+     * Executes the inspector over the {@link DoubleErr#error}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link DoubleErr#error}.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+        requireNonNull(inspector).accept(error);
+    }
+
+    /**
+     * Throws an exception specifying {@link DoubleResult#unwrap()} cannot be executed from a {@link DoubleErr}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link DoubleResult#unwrap()} cannot be executed from a
+     *                                {@link DoubleErr}.
+     */
+    @Override
+    public double unwrap() throws IllegalCallerException {
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value", thrown);
+        }
+        throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link DoubleResult#expect(String)} cannot be executed from a {@link DoubleErr},
+     * including the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link DoubleResult#expect(String)} cannot be executed from a
+     *                                {@link DoubleErr}.
+     */
+    @Override
+    public double expect(@Nullable String errorMessage) {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expect()` on an `Error` value";
+        } else {
+            errorMessage = "called `Result.expect()` on an `Error` value";
+        }
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException(errorMessage, thrown);
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return defaultValue.
+     */
+    @Override
+    public double unwrapOr(final double defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return the supplied value.
+     */
+    @Override
+    public double unwrapOrElse(@NotNull final DoubleSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsDouble();
+    }
+
+    /**
+     * Returns this {@link DoubleErr#error} value.
+     *
+     * @return this {@link DoubleErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link DoubleErr#error} value.
+     *
+     * @param errorMessage unused.
+     * @return this {@link DoubleErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable final String errorMessage) throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link DoubleErr}.
+     *
+     * @param res unused.
+     * @return this {@link DoubleErr}.
+     */
+    @Override @NotNull
+    public DoubleErr<E> and(@NotNull final DoubleResult<E> res) {
+        return this;
+    }
+
+    /**
+     * Returns this {@link DoubleErr}.
+     *
+     * @param res unused.
+     * @return this {@link DoubleErr}.
+     */
+    @Override @NotNull
+    public DoubleErr<E> andThen(@NotNull final DoubleFunction<DoubleResult<E>> res) {
+        return this;
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The {@link DoubleResult} value to return.
+     * @param <O> The Error type of said {@link DoubleResult}.
+     * @return The res parameter.
+     */
+    @Override @NotNull
+    public <O> DoubleResult<O> or(@NotNull final DoubleResult<O> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying said function to this {@link DoubleErr#error}.
+     *
+     * @param res mapper function that turns this {@link DoubleErr#error} into a new {@link DoubleResult}.
+     * @param <O> The Error type of the new {@link DoubleResult}.
+     * @return the result of applying said function to this {@link DoubleErr#error}.
+     */
+    @Override @NotNull
+    public <O> DoubleResult<O> orElse(@NotNull final Function<E, DoubleResult<O>> res) {
+        return requireNonNull(requireNonNull(res).apply(error));
+    }
+
+    /**
+     * Returns an {@link Err} containing this {@link DoubleErr#error}.
+     *
+     * @return an {@link Err} containing this {@link DoubleErr#error}.
+     */
+    @Override @NotNull
+    public Err<Double, E> toResult() {
+        return new Err<>(error);
+    }
+}
@@ -0,0 +1,295 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.SomeDouble;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of the correct execution of an operation resulting in a double.
+ *
+ * @param value the result of the correct execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see DoubleResult
+ */
+public record DoubleOk<E>(double value) implements DoubleResult<E>, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link DoubleOk#value} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the value.
+     * @return whether the {@link DoubleOk#value} matches or not this predicate.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final DoublePredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate ignored.
+     * @return false, always.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return false;
+    }
+
+    /**
+     * Returns a {@link SomeDouble} containing this {@link DoubleOk#value}.
+     *
+     * @return a {@link SomeDouble} containing this {@link DoubleOk#value}.
+     */
+    @Override @NotNull
+    public SomeDouble ok() {
+        return new SomeDouble(value);
+    }
+
+    /**
+     * Returns a {@link None}, this is because {@link DoubleOk} represents a valid result, meaning there is no
+     * {@link DoubleErr} state.
+     *
+     * @return A {@link None}.
+     */
+    @Override @NotNull
+    public None<E> err() {
+        return Option.none();
+    }
+
+    /**
+     * Turns this {@link DoubleOk#value} into a new value, which will be contained in a new {@link DoubleOk}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return A new {@link DoubleOk} with the mapped value.
+     */
+    @Override @NotNull
+    public DoubleOk<E> map(@NotNull final DoubleUnaryOperator mapper) {
+        return new DoubleOk<>(requireNonNull(mapper).applyAsDouble(value));
+    }
+
+    /**
+     * Turns this {@link DoubleOk#value} into a new value, which will be contained in a new {@link Ok}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    The new type of the conversion.
+     * @return A new {@link Ok} with the mapped value.
+     */
+    @Override @NotNull
+    public <U> Ok<U, E> mapToObj(@NotNull final DoubleFunction<U> mapper) {
+        return new Ok<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link DoubleOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link DoubleOk#value}.
+     */
+    @Override
+    public double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsDouble(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link DoubleOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link DoubleOk#value}.
+     */
+    @Override
+    public double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsDouble(value);
+    }
+
+    /**
+     * Returns a new {@link DoubleOk} with the same {@link DoubleOk#value} as this instance, but changing the Error type to
+     * that of the conversion.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         The new type of error resulting on the conversion.
+     * @return a new {@link DoubleOk} with the same {@link DoubleOk#value} as this instance.
+     */
+    @Override @NotNull
+    public <O> DoubleOk<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Executes the inspector over the {@link DoubleOk#value}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link DoubleOk#value}.
+     */
+    @Override
+    public void inspect(@NotNull final DoubleConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Does nothing
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+    }
+
+    /**
+     * Returns the {@link DoubleOk#value}.
+     *
+     * @return the {@link DoubleOk#value}
+     * @throws IllegalCallerException Is never thrown.
+     */
+    @Override
+    public double unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns the {@link DoubleOk#value}.
+     *
+     * @param errorMessage unused.
+     * @return the {@link DoubleOk#value}
+     */
+    @Override
+    public double expect(@Nullable final String errorMessage) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link DoubleOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link DoubleOk#value}
+     */
+    @Override
+    public double unwrapOr(final double defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link DoubleOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link DoubleOk#value}
+     */
+    @Override
+    public double unwrapOrElse(@NotNull final DoubleSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Throws an exception specifying {@link DoubleResult#unwrapErr()} cannot be executed from a {@link DoubleOk}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link DoubleResult#unwrapErr()} cannot be executed from a
+     *                                {@link DoubleOk}.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        throw new IllegalCallerException("called `Result.unwrapErr()` on an `Ok` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link DoubleResult#unwrapErr()} cannot be executed from a {@link DoubleOk}, including
+     * the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link DoubleResult#unwrapErr()} cannot be executed from a
+     *                                {@link DoubleOk}.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expectErr()` on an `Ok` value";
+        } else {
+            errorMessage = "called `Result.expectErr()` on an `Ok` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the value indicated as parameter.
+     *
+     * @param res the value to return.
+     * @return the res parameter.
+     */
+    @Override @NotNull
+    public DoubleResult<E> and(@NotNull final DoubleResult<E> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to this {@link DoubleOk}'s {@link DoubleOk#value}.
+     *
+     * @param res function to apply to this {@link DoubleOk}'s {@link DoubleOk#value}.
+     * @return the result of applying the function to this {@link DoubleOk}'s {@link DoubleOk#value}.
+     */
+    @Override @NotNull
+    public DoubleResult<E> andThen(@NotNull final DoubleFunction<DoubleResult<E>> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns a new {@link DoubleOk} with this {@link DoubleOk}'s {@link DoubleOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link DoubleOk} with this {@link DoubleOk}'s {@link DoubleOk#value}.
+     */
+    @Override @NotNull
+    public <O> DoubleOk<O> or(@NotNull final DoubleResult<O> res) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Returns a new {@link DoubleOk} with this {@link DoubleOk}'s {@link DoubleOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link DoubleOk} with this {@link DoubleOk}'s {@link DoubleOk#value}.
+     */
+    @Override @NotNull
+    public <O> DoubleOk<O> orElse(@NotNull final Function<E, DoubleResult<O>> res) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Returns an {@link Ok} containing the boxed {@link DoubleOk#value}.
+     *
+     * @return an {@link Ok} containing the boxed {@link DoubleOk#value}.
+     */
+    @Override @NotNull
+    public Ok<Double, E> toResult() {
+        return new Ok<>(value);
+    }
+}
@@ -0,0 +1,333 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.OptionDouble;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Result} whose success value is a primitive double, it represents two possible states: <p>
+ * - {@link DoubleOk}, representing success and containing a double value.<p>
+ * - {@link DoubleErr}(E), representing error and containing a non-null error value.
+ * <p>
+ * This mirrors the API of {@link Result}&lt;{@link Double}, E&gt;, but as the value is kept as a primitive double and every
+ * function works over DoublePredicate, DoubleUnaryOperator and similar functional types, numeric results travel through a
+ * pipeline without boxing.
+ * <p>
+ * Conversions from and to {@link Result}&lt;{@link Double}, E&gt; are available through {@link DoubleResult#from(Result)} and
+ * {@link DoubleResult#toResult()}, and they are the only operations boxing the value.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * DoubleResult<String> parsed = DoubleResult.ok(5.0);
+ * switch (parsed.map(value -> value * 2)) {
+ *     case DoubleErr(var error) -> System.out.println("Could not parse the value: " + error);
+ *     case DoubleOk(var value) -> System.out.println("The doubled value is " + value);
+ * }
+ * }
+ * </pre>
+ *
+ * @param <E> Type of error state.
+ * @author Jorge Rico Vivas
+ * @see Result
+ */
+public sealed interface DoubleResult<E> extends Serializable permits DoubleOk, DoubleErr {
+
+    /**
+     * Turns this value into {@link DoubleOk}, and it is the same as using {@link DoubleOk}'s default constructor.
+     *
+     * @param value value to turn into {@link DoubleOk}.
+     * @param <E>   type of the error in the Result.
+     * @return A {@link DoubleOk} value.
+     */
+    @NotNull
+    static <E> DoubleOk<E> ok(final double value) {
+        return new DoubleOk<>(value);
+    }
+
+    /**
+     * Turns this error value into {@link DoubleErr}, and it is the same as using {@link DoubleErr}'s default constructor.
+     *
+     * @param error value to turn into {@link DoubleErr}.
+     * @param <E>   type of the error in the Result.
+     * @return A {@link DoubleErr} value.
+     */
+    @NotNull
+    static <E> DoubleErr<E> err(@NotNull final E error) {
+        return new DoubleErr<>(error);
+    }
+
+    /**
+     * Turns this {@link Result}&lt;{@link Double}, E&gt; into an {@link DoubleResult}, unboxing its value.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<Double, String> boxed = Result.ok(5.0);
+     * DoubleResult<String> unboxed = DoubleResult.from(boxed);
+     * }
+     * </pre>
+     *
+     * @param result the result to unbox.
+     * @param <E>    type of the error in the Result.
+     * @return {@link DoubleOk} with the unboxed value if the result is {@link Ok}, otherwise {@link DoubleErr} with the same
+     * error.
+     */
+    @NotNull
+    static <E> DoubleResult<E> from(@NotNull final Result<Double, E> result) {
+        return switch (requireNonNull(result)) {
+            case Ok<Double, E>(var value) -> new DoubleOk<>(value);
+            case Err<Double, E>(var error) -> new DoubleErr<>(error);
+        };
+    }
+
+    /**
+     * Returns true if the result is Ok.
+     *
+     * @return true if the result is Ok.
+     */
+    boolean isOk();
+
+    /**
+     * Returns true if the result is Ok and the value inside of it matches a predicate.
+     *
+     * @param predicate predicated tested against the value if the result is Ok.
+     * @return true if the result is Ok and the value inside of it matches a predicate.
+     */
+    boolean isOkAnd(@NotNull final DoublePredicate predicate);
+
+    /**
+     * Returns true if the result is Err.
+     *
+     * @return true if the result is Err.
+     */
+    boolean isErr();
+
+    /**
+     * Returns true if the result is Err and the value inside of it matches a predicate.
+     *
+     * @param predicate predicated tested against the error if the result is Err.
+     * @return true if the result is Err and the value inside of it matches a predicate.
+     */
+    boolean isErrAnd(@NotNull final Predicate<E> predicate);
+
+    /**
+     * Converts from DoubleResult&lt;E&gt; to {@link OptionDouble}.
+     *
+     * @return OptionDouble containing value if Result is Ok, empty otherwise.
+     */
+    @NotNull
+    OptionDouble ok();
+
+    /**
+     * Converts from DoubleResult&lt;E&gt; to Option&lt;E&gt;.
+     *
+     * @return Option containing error if Result is Err, empty otherwise.
+     */
+    @NotNull
+    Option<E> err();
+
+    /**
+     * Maps a DoubleResult&lt;E&gt; to another DoubleResult&lt;E&gt; by applying a function to a contained Ok value, leaving
+     * an Err value untouched.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * DoubleResult<String> five = DoubleResult.ok(5.0);
+     * DoubleResult<String> ten = five.map(num -> num * 2);
+     * }
+     * </pre>
+     *
+     * @param mapper Maps the original value to another value.
+     * @return DoubleResult&lt;E&gt; where the value is transformed using mapper.
+     */
+    @NotNull
+    DoubleResult<E> map(@NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Maps a DoubleResult&lt;E&gt; to Result&lt;U, E&gt; by applying a function to a contained Ok value, leaving an Err
+     * value untouched.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type the value transforms to.
+     * @return Result&lt;U, E&gt; where the value is transformed into U using mapper.
+     */
+    @NotNull
+    <U> Result<U, E> mapToObj(@NotNull final DoubleFunction<U> mapper);
+
+    /**
+     * Returns the provided default (if Err), or applies a function to the contained value (if Ok).
+     * <p>
+     * Arguments passed to mapOr are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use mapOrElse, which is lazily evaluated.
+     *
+     * @param defaultValue a provided default which will be returned if this Result is Err(error).
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Result is Ok(value), otherwise, it returns the default value.
+     */
+    double mapOr(final double defaultValue, @NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Computes a default function result (if Err), or applies a different function to the contained value (if Ok).
+     *
+     * @param defaultValue a provided supplier which results in default value which will be calculated and returned if
+     *                     this Result is Err(error).
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Result is Ok(value), otherwise, it calculates and returns the default
+     * value from the supplier.
+     */
+    double mapOrElse(@NotNull final DoubleSupplier defaultValue, @NotNull final DoubleUnaryOperator mapper);
+
+    /**
+     * Maps a DoubleResult&lt;E&gt; to DoubleResult&lt;O&gt; by applying a function to a contained Err value, leaving an Ok
+     * value untouched.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         Type the error E transforms to.
+     * @return DoubleResult&lt;O&gt;, where the error E is transformed into O using errorMapper.
+     */
+    @NotNull
+    <O> DoubleResult<O> mapError(@NotNull final Function<E, O> errorMapper);
+
+    /**
+     * Calls the provided {@link DoubleConsumer} on the contained value (if Ok).
+     *
+     * @param inspector consumer function to trigger on the contained value (if Ok).
+     */
+    void inspect(@NotNull final DoubleConsumer inspector);
+
+    /**
+     * Calls the provided consumer function on the contained error (if Err).
+     *
+     * @param inspector consumer function to trigger on the contained error (if Err).
+     */
+    void inspectErr(@NotNull final Consumer<E> inspector);
+
+    /**
+     * Returns the contained Ok value.
+     * <p>
+     * Because this function may throw a IllegalCallerException, its use is generally discouraged. Instead, prefer to
+     * use pattern matching and handle the Err case explicitly, or call either unwrapOr or unwrapOrElse.
+     *
+     * @return the contained Ok value.
+     * @throws IllegalCallerException if the value is an Err, with an error message provided by the Error’s value.
+     */
+    double unwrap() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Ok value.
+     * @throws IllegalCallerException if the value is an Err, the message error will include an error message provided
+     *                                by the Error’s value and the passed error message.
+     */
+    double expect(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns the contained Ok value or a provided default.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * double thisIsFive = DoubleResult.<String>ok(5.0).unwrapOr(0.0);
+     * double thisIsZero = DoubleResult.err("Not a number").unwrapOr(0.0);
+     * }
+     * </pre>
+     *
+     * @param defaultValue a provided default which will be returned if this Result is Err.
+     * @return the contained Ok value or a provided default.
+     */
+    double unwrapOr(final double defaultValue);
+
+    /**
+     * Returns the contained Ok value or computes it from a {@link DoubleSupplier}.
+     *
+     * @param defaultValue a provided default value getter whose value will be calculated and returned if this Result
+     *                     is Err.
+     * @return the contained Ok value or the value computed by the supplier.
+     */
+    double unwrapOrElse(@NotNull final DoubleSupplier defaultValue);
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @return the contained Err value.
+     * @throws IllegalCallerException if the value is an Ok.
+     */
+    @NotNull
+    E unwrapErr() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Err value.
+     * @throws IllegalCallerException if the value is an Ok, the message error will include the passed error message.
+     */
+    @NotNull
+    E expectErr(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns res if the result is Ok, otherwise returns the Err value of self.
+     *
+     * @param res The other Result whose contents are returned if this Result is Ok.
+     * @return res if the Result is Ok, otherwise this Err.
+     */
+    @NotNull
+    DoubleResult<E> and(@NotNull final DoubleResult<E> res);
+
+    /**
+     * Calls the function if the result is Ok, otherwise returns the Err value of self.
+     * <p>
+     * This function can be used for control flow based on DoubleResult values.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * DoubleResult<String> five = DoubleResult.ok(5.0);
+     * DoubleResult<String> positive = five.andThen(num -> num > 0 ? DoubleResult.ok(num) : DoubleResult.err("Negative"));
+     * }
+     * </pre>
+     *
+     * @param res Function generating a new DoubleResult from the value.
+     * @return the result of the function if this Result is Ok, otherwise this Err.
+     */
+    @NotNull
+    DoubleResult<E> andThen(@NotNull final DoubleFunction<DoubleResult<E>> res);
+
+    /**
+     * Returns res if the result is Err, otherwise returns the Ok value of self.
+     *
+     * @param res The other Result whose contents are returned if this Result is Err.
+     * @param <O> Error type of the other Result.
+     * @return res if the Result is Err, otherwise this Ok.
+     */
+    @NotNull
+    <O> DoubleResult<O> or(@NotNull final DoubleResult<O> res);
+
+    /**
+     * Calls the function if the result is Err, otherwise returns the Ok value of self.
+     *
+     * @param res Function generating a new DoubleResult from the error.
+     * @param <O> Error type of the generated Result.
+     * @return the result of the function if this Result is Err, otherwise this Ok.
+     */
+    @NotNull
+    <O> DoubleResult<O> orElse(@NotNull final Function<E, DoubleResult<O>> res);
+
+    /**
+     * Turns this DoubleResult into a {@link Result}&lt;{@link Double}, E&gt;, boxing its value.
+     *
+     * @return {@link Ok} with the boxed value if this is {@link DoubleOk}, otherwise {@link Err} with the same error.
+     */
+    @NotNull
+    Result<Double, E> toResult();
+}
@@ -1,11 +1,13 @@
 package io.github.jorgericovivas.rust_essentials.result;
 
+import io.github.jorgericovivas.rust_essentials.codec.SerialProxy;
 import io.github.jorgericovivas.rust_essentials.option.None;
 import io.github.jorgericovivas.rust_essentials.option.Option;
 import io.github.jorgericovivas.rust_essentials.option.Some;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -37,6 +39,17 @@ public record Err<T, E>(@NotNull E error) implements Result<T, E>, Serializable
         requireNonNull(error);
     }
 
+    /**
+     * Replaces this {@link Err} with a {@link SerialProxy} when serialized, which writes it in a compact
+     * binary form through {@link io.github.jorgericovivas.rust_essentials.codec.Codecs#dynamic()}.
+     *
+     * @return the proxy to serialize instead of this {@link Err}.
+     */
+    @Serial
+    private Object writeReplace() {
+        return new SerialProxy(this);
+    }
+
     /**
      * Returns false.
      *
@@ -86,7 +99,7 @@ public record Err<T, E>(@NotNull E error) implements Result<T, E>, Serializable
      */
     @Override @NotNull
     public None<T> ok() {
-        return new None<>();
+        return Option.none();
     }
 
     /**
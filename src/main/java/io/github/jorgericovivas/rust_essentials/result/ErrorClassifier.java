@@ -0,0 +1,314 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decides what to do with each kind of {@link Throwable} an operation throws: turning it into an {@link Err}, turning
+ * it into an {@link Err} of another error through a translation, or throwing it again.
+ * <p>
+ * Unlike {@link Result#unchecked(Class, ThrowingSupplier)}, a classifier can turn several unrelated exception classes
+ * into errors. Each exception is matched against its own class first and then against each of its superclasses, so the
+ * most specific registration wins, and the decision for each exception class is computed once and cached in a
+ * {@link ClassValue}, making the classification of operations that fail often a constant time lookup.
+ * <p>
+ * Exceptions matching no registration are thrown again, where checked ones are wrapped in a {@link RuntimeException}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * ErrorClassifier<Exception> classifier = ErrorClassifier.<Exception>builder()
+ *         .err(IOException.class)
+ *         .err(NumberFormatException.class)
+ *         .translate(DateTimeException.class, exception -> new IllegalArgumentException("Invalid date", exception))
+ *         .rethrow(FileNotFoundException.class)
+ *         .build();
+ * Result<Integer, Exception> number = classifier.unchecked(() -> Integer.parseInt(Files.readString(path)));
+ * }
+ * </pre>
+ *
+ * @param <E> Type of the errors.
+ * @author Jorge Rico Vivas
+ * @see Result#unchecked(ErrorClassifier, ThrowingSupplier)
+ */
+public final class ErrorClassifier<E> {
+
+    /**
+     * Decision registered for each exception class.
+     */
+    private final @NotNull Map<Class<?>, Decision> registered;
+
+    /**
+     * Decision for exception classes matching no registration, being null to throw them again.
+     */
+    private final Function<? super Throwable, ? extends E> otherwise;
+
+    /**
+     * Decision for each exception class, computed once through {@link ErrorClassifier#decide(Class)}.
+     */
+    private final @NotNull ClassValue<Decision> decisions = new ClassValue<>() {
+        @Override
+        protected Decision computeValue(Class<?> type) {
+            return decide(type);
+        }
+    };
+
+    /**
+     * Hidden constructor
+     */
+    private ErrorClassifier(@NotNull Map<Class<?>, Decision> registered,
+                            Function<? super Throwable, ? extends E> otherwise) {
+        this.registered = registered;
+        this.otherwise = otherwise;
+    }
+
+    /**
+     * Creates a builder of classifiers, where the registrations are added.
+     *
+     * @param <E> Type of the errors.
+     * @return a new builder.
+     */
+    @NotNull
+    public static <E> Builder<E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the error the throwable becomes, or throws it again if it isn't turned into an error, where checked
+     * exceptions are wrapped in a {@link RuntimeException}.
+     *
+     * @param thrown throwable to classify.
+     * @return the error the throwable becomes.
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public E classify(@NotNull Throwable thrown) {
+        return switch (decisions.get(requireNonNull(thrown).getClass())) {
+            case Decision.AsErr() -> (E) thrown;
+            case Decision.Translate(var translator) -> requireNonNull((E) translator.apply(thrown));
+            case Decision.Rethrow() -> throw rethrown(thrown);
+        };
+    }
+
+    /**
+     * Executes the supplier and gets an {@link Ok} with its value, or an {@link Err} with the error its exception
+     * becomes, throwing again the exceptions that aren't turned into errors.
+     *
+     * @param supplier Operation that gives a result to return.
+     * @param <T>      Type of the success value operation.
+     * @return a {@link Ok} with the successful value, or {@link Err} with the error if it failed.
+     */
+    @NotNull
+    public <T> Result<T, E> unchecked(@NotNull ThrowingSupplier<T, ?> supplier) {
+        var notNullSupplier = requireNonNull(supplier);
+        T value;
+        try {
+            value = notNullSupplier.get();
+        } catch (Throwable thrown) {
+            return new Err<>(classify(thrown));
+        }
+        return new Ok<>(value);
+    }
+
+    /**
+     * Executes the runnable and gets an {@link Ok} with a {@link Tuple0} (As an empty object), or an {@link Err} with
+     * the error its exception becomes, throwing again the exceptions that aren't turned into errors.
+     *
+     * @param runnable Operation to run.
+     * @return a {@link Ok} with an empty successful value, or {@link Err} with the error if it failed.
+     */
+    @NotNull
+    public Result<Tuple0, E> unchecked(@NotNull ThrowingRunnable<?> runnable) {
+        var notNullRunnable = requireNonNull(runnable);
+        try {
+            notNullRunnable.run();
+        } catch (Throwable thrown) {
+            return new Err<>(classify(thrown));
+        }
+        return new Ok<>(new Tuple0());
+    }
+
+    /**
+     * Finds the decision for the exception class, walking from the class to its superclasses until one of them is
+     * registered.
+     */
+    @NotNull
+    private Decision decide(@NotNull Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Decision decision = registered.get(current);
+            if (decision != null) {
+                return decision;
+            }
+        }
+        return otherwise == null ? new Decision.Rethrow() : new Decision.Translate(otherwise);
+    }
+
+    /**
+     * Returns the throwable as it is if it is a {@link RuntimeException}, throws it if it is an {@link Error}, or
+     * returns it wrapped in a {@link RuntimeException} otherwise.
+     */
+    @NotNull
+    private static RuntimeException rethrown(@NotNull Throwable thrown) {
+        if (thrown instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (thrown instanceof Error error) {
+            throw error;
+        }
+        return new NotClassifiedException(thrown);
+    }
+
+    /**
+     * {@link RuntimeException} wrapping a checked exception no registration classified, which doesn't capture a stack
+     * trace, as the one of its cause already tells where it was thrown.
+     *
+     * @author Jorge Rico Vivas
+     */
+    private static final class NotClassifiedException extends RuntimeException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates an exception wrapping the not classified one.
+         */
+        private NotClassifiedException(@NotNull Throwable cause) {
+            super("Exception of type " + cause.getClass().getName() + " is not classified as an error", cause, false,
+                  false);
+        }
+    }
+
+    /**
+     * What to do with an exception class.
+     *
+     * @author Jorge Rico Vivas
+     */
+    private sealed interface Decision {
+
+        /**
+         * Turn the exception into an {@link Err} holding it.
+         */
+        record AsErr() implements Decision {}
+
+        /**
+         * Turn the exception into an {@link Err} holding the error the translator gives for it.
+         *
+         * @param translator gives the error for the exception.
+         */
+        record Translate(@NotNull Function<? super Throwable, ?> translator) implements Decision {}
+
+        /**
+         * Throw the exception again.
+         */
+        record Rethrow() implements Decision {}
+    }
+
+    /**
+     * Builder of {@link ErrorClassifier}s, see {@link ErrorClassifier#builder()}.
+     * <p>
+     * Registering the same class twice keeps the last registration.
+     *
+     * @param <E> Type of the errors.
+     * @author Jorge Rico Vivas
+     */
+    public static final class Builder<E> {
+
+        /**
+         * Decision registered for each exception class.
+         */
+        private final @NotNull Map<Class<?>, Decision> registered = new LinkedHashMap<>();
+
+        /**
+         * Decision for exception classes matching no registration, being null to throw them again.
+         */
+        private Function<? super Throwable, ? extends E> otherwise;
+
+        /**
+         * Hidden constructor
+         */
+        private Builder() {}
+
+        /**
+         * Turns exceptions of the class, or of any of its subclasses, into an {@link Err} holding them.
+         *
+         * @param type class of the exceptions.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder<E> err(@NotNull Class<? extends E> type) {
+            registered.put(requireThrowable(type), new Decision.AsErr());
+            return this;
+        }
+
+        /**
+         * Turns exceptions of the class, or of any of its subclasses, into an {@link Err} holding the error the
+         * translator gives for them.
+         *
+         * @param type       class of the exceptions.
+         * @param translator gives the error for an exception, which must not be null.
+         * @param <X>        Type of the exceptions.
+         * @return this builder.
+         */
+        @NotNull @SuppressWarnings("unchecked")
+        public <X extends Throwable> Builder<E> translate(@NotNull Class<X> type,
+                                                          @NotNull Function<? super X, ? extends E> translator) {
+            requireNonNull(translator);
+            registered.put(requireThrowable(type),
+                           new Decision.Translate(thrown -> translator.apply((X) thrown)));
+            return this;
+        }
+
+        /**
+         * Throws exceptions of the class, or of any of its subclasses, again, which allows excluding subclasses of a
+         * class registered through {@link Builder#err(Class)}.
+         *
+         * @param type class of the exceptions.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder<E> rethrow(@NotNull Class<? extends Throwable> type) {
+            registered.put(requireThrowable(type), new Decision.Rethrow());
+            return this;
+        }
+
+        /**
+         * Turns exceptions matching no registration into an {@link Err} holding the error the translator gives for
+         * them, instead of throwing them again.
+         *
+         * @param translator gives the error for an exception, which must not be null.
+         * @return this builder.
+         */
+        @NotNull
+        public Builder<E> otherwise(@NotNull Function<? super Throwable, ? extends E> translator) {
+            this.otherwise = requireNonNull(translator);
+            return this;
+        }
+
+        /**
+         * Creates the classifier with the registrations of this builder.
+         *
+         * @return a new classifier.
+         */
+        @NotNull
+        public ErrorClassifier<E> build() {
+            return new ErrorClassifier<>(Map.copyOf(registered), otherwise);
+        }
+
+        /**
+         * Checks the class is a {@link Throwable}, returning it.
+         */
+        @NotNull
+        private static Class<?> requireThrowable(@NotNull Class<?> type) {
+            if (!Throwable.class.isAssignableFrom(requireNonNull(type))) {
+                throw new IllegalArgumentException(type.getName() + " is not a Throwable");
+            }
+            return type;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.NoneInt;
+import io.github.jorgericovivas.rust_essentials.option.OptionInt;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the error of a wrong execution of an operation that would have resulted in a int.
+ *
+ * @param error the error value of a wrong execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see IntResult
+ */
+public record IntErr<E>(@NotNull E error) implements IntResult<E>, Serializable {
+
+    /**
+     * Default constructor requiring error to not be null.
+     *
+     * @param error value required not to be null.
+     */
+    public IntErr {
+        requireNonNull(error);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final IntPredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link IntErr#error} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the error.
+     * @return whether the {@link IntErr#error} matches or not this predicate.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return requireNonNull(predicate).test(error);
+    }
+
+    /**
+     * Returns a {@link NoneInt}, this is because {@link IntErr} represents an invalid result, meaning there is no
+     * {@link IntOk} state.
+     *
+     * @return A {@link NoneInt}.
+     */
+    @Override @NotNull
+    public NoneInt ok() {
+        return OptionInt.none();
+    }
+
+    /**
+     * Returns a {@link Some} containing this {@link IntErr#error}.
+     *
+     * @return a {@link Some} containing this {@link IntErr#error}.
+     */
+    @Override @NotNull
+    public Some<E> err() {
+        return new Some<>(error);
+    }
+
+    /**
+     * Returns this {@link IntErr}, as there is no value to map.
+     *
+     * @param mapper unused.
+     * @return this {@link IntErr}.
+     */
+    @Override @NotNull
+    public IntErr<E> map(@NotNull final IntUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns a new {@link Err} with the same {@link IntErr#error} as this instance, but changing the success type to
+     * that of the conversion.
+     *
+     * @param mapper unused.
+     * @param <U>    The new type of the success value resulting on the conversion.
+     * @return a new {@link Err} with the same {@link IntErr#error} as this instance.
+     */
+    @Override @NotNull
+    public <U> Err<U, E> mapToObj(@NotNull final IntFunction<U> mapper) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public int mapOr(final int defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public int mapOrElse(@NotNull final IntSupplier defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsInt();
+    }
+
+    /**
+     * Turns this {@link IntErr#error} into a new error, which will be contained in a new {@link IntErr}.
+     *
+     * @param errorMapper Maps the original {@link IntErr#error} to another value.
+     * @param <O>         The new error type of the conversion.
+     * @return A new {@link IntErr} with the mapped value.
+     */
+    @Override @NotNull
+    public <O> IntErr<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new IntErr<>(requireNonNull(requireNonNull(errorMapper).apply(error)));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final IntConsumer inspector) {
+
+    }
+
+    /**
+     * Executes the inspector over the {@link IntErr#error}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link IntErr#error}.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+        requireNonNull(inspector).accept(error);
+    }
+
+    /**
+     * Throws an exception specifying {@link IntResult#unwrap()} cannot be executed from a {@link IntErr}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link IntResult#unwrap()} cannot be executed from a
+     *                                {@link IntErr}.
+     */
+    @Override
+    public int unwrap() throws IllegalCallerException {
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value", thrown);
+        }
+        throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link IntResult#expect(String)} cannot be executed from a {@link IntErr},
+     * including the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link IntResult#expect(String)} cannot be executed from a
+     *                                {@link IntErr}.
+     */
+    @Override
+    public int expect(@Nullable String errorMessage) {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expect()` on an `Error` value";
+        } else {
+            errorMessage = "called `Result.expect()` on an `Error` value";
+        }
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException(errorMessage, thrown);
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return defaultValue.
+     */
+    @Override
+    public int unwrapOr(final int defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return the supplied value.
+     */
+    @Override
+    public int unwrapOrElse(@NotNull final IntSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsInt();
+    }
+
+    /**
+     * Returns this {@link IntErr#error} value.
+     *
+     * @return this {@link IntErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link IntErr#error} value.
+     *
+     * @param errorMessage unused.
+     * @return this {@link IntErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable final String errorMessage) throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link IntErr}.
+     *
+     * @param res unused.
+     * @return this {@link IntErr}.
+     */
+    @Override @NotNull
+    public IntErr<E> and(@NotNull final IntResult<E> res) {
+        return this;
+    }
+
+    /**
+     * Returns this {@link IntErr}.
+     *
+     * @param res unused.
+     * @return this {@link IntErr}.
+     */
+    @Override @NotNull
+    public IntErr<E> andThen(@NotNull final IntFunction<IntResult<E>> res) {
+        return this;
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The {@link IntResult} value to return.
+     * @param <O> The Error type of said {@link IntResult}.
+     * @return The res parameter.
+     */
+    @Override @NotNull
+    public <O> IntResult<O> or(@NotNull final IntResult<O> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying said function to this {@link IntErr#error}.
+     *
+     * @param res mapper function that turns this {@link IntErr#error} into a new {@link IntResult}.
+     * @param <O> The Error type of the new {@link IntResult}.
+     * @return the result of applying said function to this {@link IntErr#error}.
+     */
+    @Override @NotNull
+    public <O> IntResult<O> orElse(@NotNull final Function<E, IntResult<O>> res) {
+        return requireNonNull(requireNonNull(res).apply(error));
+    }
+
+    /**
+     * Returns an {@link Err} containing this {@link IntErr#error}.
+     *
+     * @return an {@link Err} containing this {@link IntErr#error}.
+     */
+    @Override @NotNull
+    public Err<Integer, E> toResult() {
+        return new Err<>(error);
+    }
+}
@@ -0,0 +1,295 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.SomeInt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of the correct execution of an operation resulting in a int.
+ *
+ * @param value the result of the correct execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see IntResult
+ */
+public record IntOk<E>(int value) implements IntResult<E>, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link IntOk#value} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the value.
+     * @return whether the {@link IntOk#value} matches or not this predicate.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final IntPredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate ignored.
+     * @return false, always.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return false;
+    }
+
+    /**
+     * Returns a {@link SomeInt} containing this {@link IntOk#value}.
+     *
+     * @return a {@link SomeInt} containing this {@link IntOk#value}.
+     */
+    @Override @NotNull
+    public SomeInt ok() {
+        return new SomeInt(value);
+    }
+
+    /**
+     * Returns a {@link None}, this is because {@link IntOk} represents a valid result, meaning there is no
+     * {@link IntErr} state.
+     *
+     * @return A {@link None}.
+     */
+    @Override @NotNull
+    public None<E> err() {
+        return Option.none();
+    }
+
+    /**
+     * Turns this {@link IntOk#value} into a new value, which will be contained in a new {@link IntOk}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return A new {@link IntOk} with the mapped value.
+     */
+    @Override @NotNull
+    public IntOk<E> map(@NotNull final IntUnaryOperator mapper) {
+        return new IntOk<>(requireNonNull(mapper).applyAsInt(value));
+    }
+
+    /**
+     * Turns this {@link IntOk#value} into a new value, which will be contained in a new {@link Ok}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    The new type of the conversion.
+     * @return A new {@link Ok} with the mapped value.
+     */
+    @Override @NotNull
+    public <U> Ok<U, E> mapToObj(@NotNull final IntFunction<U> mapper) {
+        return new Ok<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link IntOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link IntOk#value}.
+     */
+    @Override
+    public int mapOr(final int defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsInt(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link IntOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link IntOk#value}.
+     */
+    @Override
+    public int mapOrElse(@NotNull final IntSupplier defaultValue, @NotNull final IntUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsInt(value);
+    }
+
+    /**
+     * Returns a new {@link IntOk} with the same {@link IntOk#value} as this instance, but changing the Error type to
+     * that of the conversion.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         The new type of error resulting on the conversion.
+     * @return a new {@link IntOk} with the same {@link IntOk#value} as this instance.
+     */
+    @Override @NotNull
+    public <O> IntOk<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Executes the inspector over the {@link IntOk#value}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link IntOk#value}.
+     */
+    @Override
+    public void inspect(@NotNull final IntConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Does nothing
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+    }
+
+    /**
+     * Returns the {@link IntOk#value}.
+     *
+     * @return the {@link IntOk#value}
+     * @throws IllegalCallerException Is never thrown.
+     */
+    @Override
+    public int unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns the {@link IntOk#value}.
+     *
+     * @param errorMessage unused.
+     * @return the {@link IntOk#value}
+     */
+    @Override
+    public int expect(@Nullable final String errorMessage) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link IntOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link IntOk#value}
+     */
+    @Override
+    public int unwrapOr(final int defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link IntOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link IntOk#value}
+     */
+    @Override
+    public int unwrapOrElse(@NotNull final IntSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Throws an exception specifying {@link IntResult#unwrapErr()} cannot be executed from a {@link IntOk}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link IntResult#unwrapErr()} cannot be executed from a
+     *                                {@link IntOk}.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        throw new IllegalCallerException("called `Result.unwrapErr()` on an `Ok` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link IntResult#unwrapErr()} cannot be executed from a {@link IntOk}, including
+     * the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link IntResult#unwrapErr()} cannot be executed from a
+     *                                {@link IntOk}.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expectErr()` on an `Ok` value";
+        } else {
+            errorMessage = "called `Result.expectErr()` on an `Ok` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the value indicated as parameter.
+     *
+     * @param res the value to return.
+     * @return the res parameter.
+     */
+    @Override @NotNull
+    public IntResult<E> and(@NotNull final IntResult<E> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to this {@link IntOk}'s {@link IntOk#value}.
+     *
+     * @param res function to apply to this {@link IntOk}'s {@link IntOk#value}.
+     * @return the result of applying the function to this {@link IntOk}'s {@link IntOk#value}.
+     */
+    @Override @NotNull
+    public IntResult<E> andThen(@NotNull final IntFunction<IntResult<E>> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns a new {@link IntOk} with this {@link IntOk}'s {@link IntOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link IntOk} with this {@link IntOk}'s {@link IntOk#value}.
+     */
+    @Override @NotNull
+    public <O> IntOk<O> or(@NotNull final IntResult<O> res) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Returns a new {@link IntOk} with this {@link IntOk}'s {@link IntOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link IntOk} with this {@link IntOk}'s {@link IntOk#value}.
+     */
+    @Override @NotNull
+    public <O> IntOk<O> orElse(@NotNull final Function<E, IntResult<O>> res) {
+        return new IntOk<>(value);
+    }
+
+    /**
+     * Returns an {@link Ok} containing the boxed {@link IntOk#value}.
+     *
+     * @return an {@link Ok} containing the boxed {@link IntOk#value}.
+     */
+    @Override @NotNull
+    public Ok<Integer, E> toResult() {
+        return new Ok<>(value);
+    }
+}
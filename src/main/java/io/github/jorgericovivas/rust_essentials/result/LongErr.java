@@ -0,0 +1,311 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.NoneLong;
+import io.github.jorgericovivas.rust_essentials.option.OptionLong;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the error of a wrong execution of an operation that would have resulted in a long.
+ *
+ * @param error the error value of a wrong execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see LongResult
+ */
+public record LongErr<E>(@NotNull E error) implements LongResult<E>, Serializable {
+
+    /**
+     * Default constructor requiring error to not be null.
+     *
+     * @param error value required not to be null.
+     */
+    public LongErr {
+        requireNonNull(error);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final LongPredicate predicate) {
+        return false;
+    }
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link LongErr#error} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the error.
+     * @return whether the {@link LongErr#error} matches or not this predicate.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return requireNonNull(predicate).test(error);
+    }
+
+    /**
+     * Returns a {@link NoneLong}, this is because {@link LongErr} represents an invalid result, meaning there is no
+     * {@link LongOk} state.
+     *
+     * @return A {@link NoneLong}.
+     */
+    @Override @NotNull
+    public NoneLong ok() {
+        return OptionLong.none();
+    }
+
+    /**
+     * Returns a {@link Some} containing this {@link LongErr#error}.
+     *
+     * @return a {@link Some} containing this {@link LongErr#error}.
+     */
+    @Override @NotNull
+    public Some<E> err() {
+        return new Some<>(error);
+    }
+
+    /**
+     * Returns this {@link LongErr}, as there is no value to map.
+     *
+     * @param mapper unused.
+     * @return this {@link LongErr}.
+     */
+    @Override @NotNull
+    public LongErr<E> map(@NotNull final LongUnaryOperator mapper) {
+        return this;
+    }
+
+    /**
+     * Returns a new {@link Err} with the same {@link LongErr#error} as this instance, but changing the success type to
+     * that of the conversion.
+     *
+     * @param mapper unused.
+     * @param <U>    The new type of the success value resulting on the conversion.
+     * @return a new {@link Err} with the same {@link LongErr#error} as this instance.
+     */
+    @Override @NotNull
+    public <U> Err<U, E> mapToObj(@NotNull final LongFunction<U> mapper) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @param mapper       unused.
+     * @return the default value.
+     */
+    @Override
+    public long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(defaultValue).getAsLong();
+    }
+
+    /**
+     * Turns this {@link LongErr#error} into a new error, which will be contained in a new {@link LongErr}.
+     *
+     * @param errorMapper Maps the original {@link LongErr#error} to another value.
+     * @param <O>         The new error type of the conversion.
+     * @return A new {@link LongErr} with the mapped value.
+     */
+    @Override @NotNull
+    public <O> LongErr<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new LongErr<>(requireNonNull(requireNonNull(errorMapper).apply(error)));
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspect(@NotNull final LongConsumer inspector) {
+
+    }
+
+    /**
+     * Executes the inspector over the {@link LongErr#error}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link LongErr#error}.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+        requireNonNull(inspector).accept(error);
+    }
+
+    /**
+     * Throws an exception specifying {@link LongResult#unwrap()} cannot be executed from a {@link LongErr}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link LongResult#unwrap()} cannot be executed from a
+     *                                {@link LongErr}.
+     */
+    @Override
+    public long unwrap() throws IllegalCallerException {
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value", thrown);
+        }
+        throw new IllegalCallerException("called `Result.unwrap()` on an `Err` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link LongResult#expect(String)} cannot be executed from a {@link LongErr},
+     * including the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link LongResult#expect(String)} cannot be executed from a
+     *                                {@link LongErr}.
+     */
+    @Override
+    public long expect(@Nullable String errorMessage) {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expect()` on an `Error` value";
+        } else {
+            errorMessage = "called `Result.expect()` on an `Error` value";
+        }
+        if (error instanceof Throwable thrown) {
+            throw new IllegalCallerException(errorMessage, thrown);
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue value to return.
+     * @return defaultValue.
+     */
+    @Override
+    public long unwrapOr(final long defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @param defaultValue supplier of the value to return.
+     * @return the supplied value.
+     */
+    @Override
+    public long unwrapOrElse(@NotNull final LongSupplier defaultValue) {
+        return requireNonNull(defaultValue).getAsLong();
+    }
+
+    /**
+     * Returns this {@link LongErr#error} value.
+     *
+     * @return this {@link LongErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link LongErr#error} value.
+     *
+     * @param errorMessage unused.
+     * @return this {@link LongErr#error} value.
+     * @throws IllegalCallerException it is never thrown.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable final String errorMessage) throws IllegalCallerException {
+        return error;
+    }
+
+    /**
+     * Returns this {@link LongErr}.
+     *
+     * @param res unused.
+     * @return this {@link LongErr}.
+     */
+    @Override @NotNull
+    public LongErr<E> and(@NotNull final LongResult<E> res) {
+        return this;
+    }
+
+    /**
+     * Returns this {@link LongErr}.
+     *
+     * @param res unused.
+     * @return this {@link LongErr}.
+     */
+    @Override @NotNull
+    public LongErr<E> andThen(@NotNull final LongFunction<LongResult<E>> res) {
+        return this;
+    }
+
+    /**
+     * Returns the res parameter.
+     *
+     * @param res The {@link LongResult} value to return.
+     * @param <O> The Error type of said {@link LongResult}.
+     * @return The res parameter.
+     */
+    @Override @NotNull
+    public <O> LongResult<O> or(@NotNull final LongResult<O> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying said function to this {@link LongErr#error}.
+     *
+     * @param res mapper function that turns this {@link LongErr#error} into a new {@link LongResult}.
+     * @param <O> The Error type of the new {@link LongResult}.
+     * @return the result of applying said function to this {@link LongErr#error}.
+     */
+    @Override @NotNull
+    public <O> LongResult<O> orElse(@NotNull final Function<E, LongResult<O>> res) {
+        return requireNonNull(requireNonNull(res).apply(error));
+    }
+
+    /**
+     * Returns an {@link Err} containing this {@link LongErr#error}.
+     *
+     * @return an {@link Err} containing this {@link LongErr#error}.
+     */
+    @Override @NotNull
+    public Err<Long, E> toResult() {
+        return new Err<>(error);
+    }
+}
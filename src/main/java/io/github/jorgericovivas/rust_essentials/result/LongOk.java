@@ -0,0 +1,295 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.SomeLong;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the result of the correct execution of an operation resulting in a long.
+ *
+ * @param value the result of the correct execution.
+ * @param <E>   the type of error of a wrong execution.
+ * @author Jorge Rico Vivas
+ * @see LongResult
+ */
+public record LongOk<E>(long value) implements LongResult<E>, Serializable {
+
+    /**
+     * Returns true.
+     *
+     * @return true, always.
+     */
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    /**
+     * Returns whether the {@link LongOk#value} matches or not this predicate.
+     *
+     * @param predicate predicated tested against the value.
+     * @return whether the {@link LongOk#value} matches or not this predicate.
+     */
+    @Override
+    public boolean isOkAnd(@NotNull final LongPredicate predicate) {
+        return requireNonNull(predicate).test(value);
+    }
+
+    /**
+     * Returns false.
+     *
+     * @return false, always.
+     */
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    /**
+     * Returns false.
+     *
+     * @param predicate ignored.
+     * @return false, always.
+     */
+    @Override
+    public boolean isErrAnd(@NotNull final Predicate<E> predicate) {
+        return false;
+    }
+
+    /**
+     * Returns a {@link SomeLong} containing this {@link LongOk#value}.
+     *
+     * @return a {@link SomeLong} containing this {@link LongOk#value}.
+     */
+    @Override @NotNull
+    public SomeLong ok() {
+        return new SomeLong(value);
+    }
+
+    /**
+     * Returns a {@link None}, this is because {@link LongOk} represents a valid result, meaning there is no
+     * {@link LongErr} state.
+     *
+     * @return A {@link None}.
+     */
+    @Override @NotNull
+    public None<E> err() {
+        return Option.none();
+    }
+
+    /**
+     * Turns this {@link LongOk#value} into a new value, which will be contained in a new {@link LongOk}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @return A new {@link LongOk} with the mapped value.
+     */
+    @Override @NotNull
+    public LongOk<E> map(@NotNull final LongUnaryOperator mapper) {
+        return new LongOk<>(requireNonNull(mapper).applyAsLong(value));
+    }
+
+    /**
+     * Turns this {@link LongOk#value} into a new value, which will be contained in a new {@link Ok}.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    The new type of the conversion.
+     * @return A new {@link Ok} with the mapped value.
+     */
+    @Override @NotNull
+    public <U> Ok<U, E> mapToObj(@NotNull final LongFunction<U> mapper) {
+        return new Ok<>(requireNonNull(mapper).apply(value));
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link LongOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link LongOk#value}.
+     */
+    @Override
+    public long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsLong(value);
+    }
+
+    /**
+     * Returns the result of applying the mapper to the {@link LongOk#value}.
+     *
+     * @param defaultValue unused.
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return the result of applying the mapper to the {@link LongOk#value}.
+     */
+    @Override
+    public long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper) {
+        return requireNonNull(mapper).applyAsLong(value);
+    }
+
+    /**
+     * Returns a new {@link LongOk} with the same {@link LongOk#value} as this instance, but changing the Error type to
+     * that of the conversion.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         The new type of error resulting on the conversion.
+     * @return a new {@link LongOk} with the same {@link LongOk#value} as this instance.
+     */
+    @Override @NotNull
+    public <O> LongOk<O> mapError(@NotNull final Function<E, O> errorMapper) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Executes the inspector over the {@link LongOk#value}.
+     *
+     * @param inspector consumer function to trigger on the contained {@link LongOk#value}.
+     */
+    @Override
+    public void inspect(@NotNull final LongConsumer inspector) {
+        requireNonNull(inspector).accept(value);
+    }
+
+    /**
+     * Does nothing
+     *
+     * @param inspector unused.
+     */
+    @Override
+    public void inspectErr(@NotNull final Consumer<E> inspector) {
+    }
+
+    /**
+     * Returns the {@link LongOk#value}.
+     *
+     * @return the {@link LongOk#value}
+     * @throws IllegalCallerException Is never thrown.
+     */
+    @Override
+    public long unwrap() throws IllegalCallerException {
+        return value;
+    }
+
+    /**
+     * Returns the {@link LongOk#value}.
+     *
+     * @param errorMessage unused.
+     * @return the {@link LongOk#value}
+     */
+    @Override
+    public long expect(@Nullable final String errorMessage) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link LongOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link LongOk#value}
+     */
+    @Override
+    public long unwrapOr(final long defaultValue) {
+        return value;
+    }
+
+    /**
+     * Returns the {@link LongOk#value}.
+     *
+     * @param defaultValue unused.
+     * @return the {@link LongOk#value}
+     */
+    @Override
+    public long unwrapOrElse(@NotNull final LongSupplier defaultValue) {
+        return value;
+    }
+
+    /**
+     * Throws an exception specifying {@link LongResult#unwrapErr()} cannot be executed from a {@link LongOk}.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link LongResult#unwrapErr()} cannot be executed from a
+     *                                {@link LongOk}.
+     */
+    @Override @NotNull
+    public E unwrapErr() throws IllegalCallerException {
+        throw new IllegalCallerException("called `Result.unwrapErr()` on an `Ok` value");
+    }
+
+    /**
+     * Throws an exception specifying {@link LongResult#unwrapErr()} cannot be executed from a {@link LongOk}, including
+     * the specified reason in errorMessage.
+     *
+     * @return nothing, it throws the exception.
+     * @throws IllegalCallerException an exception specifying {@link LongResult#unwrapErr()} cannot be executed from a
+     *                                {@link LongOk}.
+     */
+    @Override @NotNull
+    public E expectErr(@Nullable String errorMessage) throws IllegalCallerException {
+        if (errorMessage != null && !errorMessage.isBlank()) {
+            errorMessage += System.lineSeparator() + "called `Result.expectErr()` on an `Ok` value";
+        } else {
+            errorMessage = "called `Result.expectErr()` on an `Ok` value";
+        }
+        throw new IllegalCallerException(errorMessage);
+    }
+
+    /**
+     * Returns the value indicated as parameter.
+     *
+     * @param res the value to return.
+     * @return the res parameter.
+     */
+    @Override @NotNull
+    public LongResult<E> and(@NotNull final LongResult<E> res) {
+        return requireNonNull(res);
+    }
+
+    /**
+     * Returns the result of applying the function to this {@link LongOk}'s {@link LongOk#value}.
+     *
+     * @param res function to apply to this {@link LongOk}'s {@link LongOk#value}.
+     * @return the result of applying the function to this {@link LongOk}'s {@link LongOk#value}.
+     */
+    @Override @NotNull
+    public LongResult<E> andThen(@NotNull final LongFunction<LongResult<E>> res) {
+        return requireNonNull(requireNonNull(res).apply(value));
+    }
+
+    /**
+     * Returns a new {@link LongOk} with this {@link LongOk}'s {@link LongOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link LongOk} with this {@link LongOk}'s {@link LongOk#value}.
+     */
+    @Override @NotNull
+    public <O> LongOk<O> or(@NotNull final LongResult<O> res) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Returns a new {@link LongOk} with this {@link LongOk}'s {@link LongOk#value}, but changing its Error type.
+     *
+     * @param res unused.
+     * @param <O> the new Error type.
+     * @return a new {@link LongOk} with this {@link LongOk}'s {@link LongOk#value}.
+     */
+    @Override @NotNull
+    public <O> LongOk<O> orElse(@NotNull final Function<E, LongResult<O>> res) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Returns an {@link Ok} containing the boxed {@link LongOk#value}.
+     *
+     * @return an {@link Ok} containing the boxed {@link LongOk#value}.
+     */
+    @Override @NotNull
+    public Ok<Long, E> toResult() {
+        return new Ok<>(value);
+    }
+}
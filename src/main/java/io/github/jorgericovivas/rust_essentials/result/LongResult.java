@@ -0,0 +1,333 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.OptionLong;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Result} whose success value is a primitive long, it represents two possible states: <p>
+ * - {@link LongOk}, representing success and containing a long value.<p>
+ * - {@link LongErr}(E), representing error and containing a non-null error value.
+ * <p>
+ * This mirrors the API of {@link Result}&lt;{@link Long}, E&gt;, but as the value is kept as a primitive long and every
+ * function works over LongPredicate, LongUnaryOperator and similar functional types, numeric results travel through a
+ * pipeline without boxing.
+ * <p>
+ * Conversions from and to {@link Result}&lt;{@link Long}, E&gt; are available through {@link LongResult#from(Result)} and
+ * {@link LongResult#toResult()}, and they are the only operations boxing the value.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * LongResult<String> parsed = LongResult.ok(5L);
+ * switch (parsed.map(value -> value * 2)) {
+ *     case LongErr(var error) -> System.out.println("Could not parse the value: " + error);
+ *     case LongOk(var value) -> System.out.println("The doubled value is " + value);
+ * }
+ * }
+ * </pre>
+ *
+ * @param <E> Type of error state.
+ * @author Jorge Rico Vivas
+ * @see Result
+ */
+public sealed interface LongResult<E> extends Serializable permits LongOk, LongErr {
+
+    /**
+     * Turns this value into {@link LongOk}, and it is the same as using {@link LongOk}'s default constructor.
+     *
+     * @param value value to turn into {@link LongOk}.
+     * @param <E>   type of the error in the Result.
+     * @return A {@link LongOk} value.
+     */
+    @NotNull
+    static <E> LongOk<E> ok(final long value) {
+        return new LongOk<>(value);
+    }
+
+    /**
+     * Turns this error value into {@link LongErr}, and it is the same as using {@link LongErr}'s default constructor.
+     *
+     * @param error value to turn into {@link LongErr}.
+     * @param <E>   type of the error in the Result.
+     * @return A {@link LongErr} value.
+     */
+    @NotNull
+    static <E> LongErr<E> err(@NotNull final E error) {
+        return new LongErr<>(error);
+    }
+
+    /**
+     * Turns this {@link Result}&lt;{@link Long}, E&gt; into an {@link LongResult}, unboxing its value.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<Long, String> boxed = Result.ok(5L);
+     * LongResult<String> unboxed = LongResult.from(boxed);
+     * }
+     * </pre>
+     *
+     * @param result the result to unbox.
+     * @param <E>    type of the error in the Result.
+     * @return {@link LongOk} with the unboxed value if the result is {@link Ok}, otherwise {@link LongErr} with the same
+     * error.
+     */
+    @NotNull
+    static <E> LongResult<E> from(@NotNull final Result<Long, E> result) {
+        return switch (requireNonNull(result)) {
+            case Ok<Long, E>(var value) -> new LongOk<>(value);
+            case Err<Long, E>(var error) -> new LongErr<>(error);
+        };
+    }
+
+    /**
+     * Returns true if the result is Ok.
+     *
+     * @return true if the result is Ok.
+     */
+    boolean isOk();
+
+    /**
+     * Returns true if the result is Ok and the value inside of it matches a predicate.
+     *
+     * @param predicate predicated tested against the value if the result is Ok.
+     * @return true if the result is Ok and the value inside of it matches a predicate.
+     */
+    boolean isOkAnd(@NotNull final LongPredicate predicate);
+
+    /**
+     * Returns true if the result is Err.
+     *
+     * @return true if the result is Err.
+     */
+    boolean isErr();
+
+    /**
+     * Returns true if the result is Err and the value inside of it matches a predicate.
+     *
+     * @param predicate predicated tested against the error if the result is Err.
+     * @return true if the result is Err and the value inside of it matches a predicate.
+     */
+    boolean isErrAnd(@NotNull final Predicate<E> predicate);
+
+    /**
+     * Converts from LongResult&lt;E&gt; to {@link OptionLong}.
+     *
+     * @return OptionLong containing value if Result is Ok, empty otherwise.
+     */
+    @NotNull
+    OptionLong ok();
+
+    /**
+     * Converts from LongResult&lt;E&gt; to Option&lt;E&gt;.
+     *
+     * @return Option containing error if Result is Err, empty otherwise.
+     */
+    @NotNull
+    Option<E> err();
+
+    /**
+     * Maps a LongResult&lt;E&gt; to another LongResult&lt;E&gt; by applying a function to a contained Ok value, leaving
+     * an Err value untouched.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * LongResult<String> five = LongResult.ok(5L);
+     * LongResult<String> ten = five.map(num -> num * 2);
+     * }
+     * </pre>
+     *
+     * @param mapper Maps the original value to another value.
+     * @return LongResult&lt;E&gt; where the value is transformed using mapper.
+     */
+    @NotNull
+    LongResult<E> map(@NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Maps a LongResult&lt;E&gt; to Result&lt;U, E&gt; by applying a function to a contained Ok value, leaving an Err
+     * value untouched.
+     *
+     * @param mapper Maps the original value to another value.
+     * @param <U>    Type the value transforms to.
+     * @return Result&lt;U, E&gt; where the value is transformed into U using mapper.
+     */
+    @NotNull
+    <U> Result<U, E> mapToObj(@NotNull final LongFunction<U> mapper);
+
+    /**
+     * Returns the provided default (if Err), or applies a function to the contained value (if Ok).
+     * <p>
+     * Arguments passed to mapOr are eagerly evaluated; if you are passing the result of a function call, it is
+     * recommended to use mapOrElse, which is lazily evaluated.
+     *
+     * @param defaultValue a provided default which will be returned if this Result is Err(error).
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Result is Ok(value), otherwise, it returns the default value.
+     */
+    long mapOr(final long defaultValue, @NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Computes a default function result (if Err), or applies a different function to the contained value (if Ok).
+     *
+     * @param defaultValue a provided supplier which results in default value which will be calculated and returned if
+     *                     this Result is Err(error).
+     * @param mapper       Maps the original value to another value as a return result.
+     * @return Value of the transformation if Result is Ok(value), otherwise, it calculates and returns the default
+     * value from the supplier.
+     */
+    long mapOrElse(@NotNull final LongSupplier defaultValue, @NotNull final LongUnaryOperator mapper);
+
+    /**
+     * Maps a LongResult&lt;E&gt; to LongResult&lt;O&gt; by applying a function to a contained Err value, leaving an Ok
+     * value untouched.
+     *
+     * @param errorMapper Maps the original error to another error.
+     * @param <O>         Type the error E transforms to.
+     * @return LongResult&lt;O&gt;, where the error E is transformed into O using errorMapper.
+     */
+    @NotNull
+    <O> LongResult<O> mapError(@NotNull final Function<E, O> errorMapper);
+
+    /**
+     * Calls the provided {@link LongConsumer} on the contained value (if Ok).
+     *
+     * @param inspector consumer function to trigger on the contained value (if Ok).
+     */
+    void inspect(@NotNull final LongConsumer inspector);
+
+    /**
+     * Calls the provided consumer function on the contained error (if Err).
+     *
+     * @param inspector consumer function to trigger on the contained error (if Err).
+     */
+    void inspectErr(@NotNull final Consumer<E> inspector);
+
+    /**
+     * Returns the contained Ok value.
+     * <p>
+     * Because this function may throw a IllegalCallerException, its use is generally discouraged. Instead, prefer to
+     * use pattern matching and handle the Err case explicitly, or call either unwrapOr or unwrapOrElse.
+     *
+     * @return the contained Ok value.
+     * @throws IllegalCallerException if the value is an Err, with an error message provided by the Error’s value.
+     */
+    long unwrap() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Ok value.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Ok value.
+     * @throws IllegalCallerException if the value is an Err, the message error will include an error message provided
+     *                                by the Error’s value and the passed error message.
+     */
+    long expect(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns the contained Ok value or a provided default.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * long thisIsFive = LongResult.<String>ok(5L).unwrapOr(0L);
+     * long thisIsZero = LongResult.err("Not a number").unwrapOr(0L);
+     * }
+     * </pre>
+     *
+     * @param defaultValue a provided default which will be returned if this Result is Err.
+     * @return the contained Ok value or a provided default.
+     */
+    long unwrapOr(final long defaultValue);
+
+    /**
+     * Returns the contained Ok value or computes it from a {@link LongSupplier}.
+     *
+     * @param defaultValue a provided default value getter whose value will be calculated and returned if this Result
+     *                     is Err.
+     * @return the contained Ok value or the value computed by the supplier.
+     */
+    long unwrapOrElse(@NotNull final LongSupplier defaultValue);
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @return the contained Err value.
+     * @throws IllegalCallerException if the value is an Ok.
+     */
+    @NotNull
+    E unwrapErr() throws IllegalCallerException;
+
+    /**
+     * Returns the contained Err value.
+     *
+     * @param errorMessage Error message to include on the Runtime Exception on case it is triggered.
+     * @return the contained Err value.
+     * @throws IllegalCallerException if the value is an Ok, the message error will include the passed error message.
+     */
+    @NotNull
+    E expectErr(@Nullable final String errorMessage) throws IllegalCallerException;
+
+    /**
+     * Returns res if the result is Ok, otherwise returns the Err value of self.
+     *
+     * @param res The other Result whose contents are returned if this Result is Ok.
+     * @return res if the Result is Ok, otherwise this Err.
+     */
+    @NotNull
+    LongResult<E> and(@NotNull final LongResult<E> res);
+
+    /**
+     * Calls the function if the result is Ok, otherwise returns the Err value of self.
+     * <p>
+     * This function can be used for control flow based on LongResult values.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * LongResult<String> five = LongResult.ok(5L);
+     * LongResult<String> positive = five.andThen(num -> num > 0 ? LongResult.ok(num) : LongResult.err("Negative"));
+     * }
+     * </pre>
+     *
+     * @param res Function generating a new LongResult from the value.
+     * @return the result of the function if this Result is Ok, otherwise this Err.
+     */
+    @NotNull
+    LongResult<E> andThen(@NotNull final LongFunction<LongResult<E>> res);
+
+    /**
+     * Returns res if the result is Err, otherwise returns the Ok value of self.
+     *
+     * @param res The other Result whose contents are returned if this Result is Err.
+     * @param <O> Error type of the other Result.
+     * @return res if the Result is Err, otherwise this Ok.
+     */
+    @NotNull
+    <O> LongResult<O> or(@NotNull final LongResult<O> res);
+
+    /**
+     * Calls the function if the result is Err, otherwise returns the Ok value of self.
+     *
+     * @param res Function generating a new LongResult from the error.
+     * @param <O> Error type of the generated Result.
+     * @return the result of the function if this Result is Err, otherwise this Ok.
+     */
+    @NotNull
+    <O> LongResult<O> orElse(@NotNull final Function<E, LongResult<O>> res);
+
+    /**
+     * Turns this LongResult into a {@link Result}&lt;{@link Long}, E&gt;, boxing its value.
+     *
+     * @return {@link Ok} with the boxed value if this is {@link LongOk}, otherwise {@link Err} with the same error.
+     */
+    @NotNull
+    Result<Long, E> toResult();
+}
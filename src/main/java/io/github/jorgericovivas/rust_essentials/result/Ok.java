@@ -1,11 +1,13 @@
 package io.github.jorgericovivas.rust_essentials.result;
 
+import io.github.jorgericovivas.rust_essentials.codec.SerialProxy;
 import io.github.jorgericovivas.rust_essentials.option.None;
 import io.github.jorgericovivas.rust_essentials.option.Option;
 import io.github.jorgericovivas.rust_essentials.option.Some;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -36,6 +38,17 @@ public record Ok<T, E>(@NotNull T value) implements Result<T, E>, Serializable {
         requireNonNull(value);
     }
 
+    /**
+     * Replaces this {@link Ok} with a {@link SerialProxy} when serialized, which writes it in a compact
+     * binary form through {@link io.github.jorgericovivas.rust_essentials.codec.Codecs#dynamic()}.
+     *
+     * @return the proxy to serialize instead of this {@link Ok}.
+     */
+    @Serial
+    private Object writeReplace() {
+        return new SerialProxy(this);
+    }
+
     /**
      * Returns true.
      *
@@ -96,7 +109,7 @@ public record Ok<T, E>(@NotNull T value) implements Result<T, E>, Serializable {
      */
     @Override @NotNull
     public None<E> err() {
-        return new None<>();
+        return Option.none();
     }
 
     /**
@@ -0,0 +1,114 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies a fallible function to every element of a collection on the {@link ForkJoinPool#commonPool()}, it backs
+ * {@link Result#traverseParallel(Collection, Function)}.
+ * <p>
+ * Tasks share the lowest index where an {@link Err} has been found so far, and every task stops as soon as all of its
+ * remaining elements come after that index. Elements before it are still computed, as one of them could fail first, so
+ * the outcome is always the same as traversing sequentially.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class ParallelTraversal {
+
+    /**
+     * Hidden constructor
+     */
+    private ParallelTraversal() {}
+
+    /**
+     * Applies the function to every element, returning an {@link Ok} with the values in encounter order, or the
+     * {@link Err} of the first element, in encounter order, that failed.
+     */
+    @NotNull
+    static <A, B, E> Result<List<B>, E> traverse(@NotNull Collection<A> elements,
+                                                  @NotNull Function<A, Result<B, E>> function) {
+        Object[] inputs = requireNonNull(elements).toArray();
+        requireNonNull(function);
+        Object[] outputs = new Object[inputs.length];
+        AtomicInteger firstError = new AtomicInteger(Integer.MAX_VALUE);
+        if (inputs.length > 0) {
+            int threshold = Math.max(1, inputs.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            ForkJoinPool.commonPool().invoke(new Chunk<>(inputs, outputs, function, firstError, threshold, 0,
+                                                         inputs.length));
+        }
+        int errorIndex = firstError.get();
+        if (errorIndex != Integer.MAX_VALUE) {
+            @SuppressWarnings("unchecked")
+            E error = (E) outputs[errorIndex];
+            return new Err<>(error);
+        }
+        @SuppressWarnings("unchecked")
+        List<B> values = (List<B>) (List<?>) Collections.unmodifiableList(Arrays.asList(outputs));
+        return new Ok<>(values);
+    }
+
+    /**
+     * Task applying the function to the elements from start (inclusive) to end (exclusive), storing either the value
+     * or the error of each element on its index of outputs.
+     * <p>
+     * Tasks are {@link java.io.Serializable} only because {@link java.util.concurrent.ForkJoinTask} is, and are never
+     * serialized.
+     */
+    @SuppressWarnings("serial")
+    private static final class Chunk<A, B, E> extends RecursiveAction {
+
+        private final Object @NotNull [] inputs;
+        private final Object @NotNull [] outputs;
+        @NotNull private final Function<A, Result<B, E>> function;
+        @NotNull private final AtomicInteger firstError;
+        private final int threshold;
+        private final int start;
+        private final int end;
+
+        Chunk(Object @NotNull [] inputs, Object @NotNull [] outputs, @NotNull Function<A, Result<B, E>> function,
+              @NotNull AtomicInteger firstError, int threshold, int start, int end) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.function = function;
+            this.firstError = firstError;
+            this.threshold = threshold;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (start > firstError.get()) {
+                return;
+            }
+            if (end - start > threshold) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new Chunk<>(inputs, outputs, function, firstError, threshold, start, middle),
+                          new Chunk<>(inputs, outputs, function, firstError, threshold, middle, end));
+                return;
+            }
+            for (int index = start; index < end && index < firstError.get(); index++) {
+                @SuppressWarnings("unchecked")
+                A input = (A) inputs[index];
+                switch (requireNonNull(function.apply(input))) {
+                    case Ok<B, E>(var value) -> outputs[index] = value;
+                    case Err<B, E>(var error) -> {
+                        outputs[index] = error;
+                        firstError.accumulateAndGet(index, Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
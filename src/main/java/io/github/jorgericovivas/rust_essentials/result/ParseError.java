@@ -0,0 +1,85 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reason why a text could not be parsed by {@link Parsing}.
+ * <p>
+ * As this is an enum, and each constant keeps its own {@link IntErr}, {@link LongErr}, {@link DoubleErr} and
+ * {@link Err} values, rejecting an input never allocates.
+ * <br>
+ * This is a partial port and Java adaptation of
+ * <a href="https://doc.rust-lang.org/std/num/enum.IntErrorKind.html">Rust's IntErrorKind</a>.
+ *
+ * @author Jorge Rico Vivas
+ * @see Parsing
+ */
+public enum ParseError {
+
+    /**
+     * The text to parse is empty.
+     */
+    EMPTY("cannot parse from an empty text"),
+
+    /**
+     * The text contains a character that is not a valid digit in its position.
+     */
+    INVALID_DIGIT("invalid digit found in text"),
+
+    /**
+     * The number is too large to fit in the target type.
+     */
+    POSITIVE_OVERFLOW("number too large to fit in target type"),
+
+    /**
+     * The number is too small to fit in the target type.
+     */
+    NEGATIVE_OVERFLOW("number too small to fit in target type"),
+
+    /**
+     * The text doesn't follow the expected format, like an {@link UUID} missing a dash or an {@link Instant} missing
+     * its offset.
+     */
+    INVALID_FORMAT("text does not follow the expected format"),
+
+    /**
+     * The text follows the expected format, but a field is out of its range, like a month 13 or an {@link Instant}
+     * beyond {@link Instant#MAX}.
+     */
+    OUT_OF_RANGE("field out of range");
+
+    @NotNull private final String description;
+    @NotNull final IntErr<ParseError> intErr = new IntErr<>(this);
+    @NotNull final LongErr<ParseError> longErr = new LongErr<>(this);
+    @NotNull final DoubleErr<ParseError> doubleErr = new DoubleErr<>(this);
+    @SuppressWarnings("rawtypes")
+    @NotNull private final Err err = new Err<>(this);
+
+    ParseError(@NotNull String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns a human-readable description of this error.
+     *
+     * @return a human-readable description of this error.
+     */
+    @NotNull
+    public String description() {
+        return description;
+    }
+
+    /**
+     * Returns the shared {@link Err} containing this error.
+     *
+     * @param <T> Type of success state.
+     * @return the shared {@link Err} containing this error.
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    <T> Err<T, ParseError> err() {
+        return (Err<T, ParseError>) err;
+    }
+}
@@ -0,0 +1,659 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.OptionInt;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parses texts into numbers, {@link UUID}s and {@link Instant}s returning a {@link Result} (Or its primitive
+ * counterparts {@link IntResult}, {@link LongResult} and {@link DoubleResult}) instead of throwing an exception.
+ * <p>
+ * Unlike wrapping {@link Integer#parseInt(String)} and similar functions inside {@link Result#checked}, a malformed
+ * input is rejected by returning one of the {@link ParseError}s, without creating any exception nor allocating.
+ * <p>
+ * Every function accepts either a whole {@link CharSequence} or a slice of it, given by an offset and a length, so
+ * fields can be parsed in place from a large buffer (like a {@link StringBuilder} or a
+ * {@link java.nio.CharBuffer}) without creating substrings.
+ * <p>
+ * If only the presence of the value matters, the result can be turned into an option with {@code ok()}, for example,
+ * {@code Parsing.parseInt(text).ok()} returns an {@link OptionInt}.
+ * <br>
+ * This is a partial port and Java adaptation of
+ * <a href="https://doc.rust-lang.org/std/primitive.str.html#method.parse">Rust's str::parse</a>.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * String line = "42;3.5;2024-01-01T00:00:00Z";
+ * IntResult<ParseError> id = Parsing.parseInt(line, 0, 2);
+ * DoubleResult<ParseError> price = Parsing.parseDouble(line, 3, 3);
+ * Result<Instant, ParseError> date = Parsing.parseInstant(line, 7, 20);
+ * switch (id) {
+ *     case IntOk(var value) -> System.out.println("The id is " + value);
+ *     case IntErr(var error) -> System.out.println("The id is not valid: " + error.description());
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see ParseError
+ */
+@SuppressWarnings("unused")
+public final class Parsing {
+
+    /**
+     * Powers of ten that can be represented exactly as a double.
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+            1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Largest amount of decimal digits a mantissa can have while being exactly representable as a double.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * Hidden constructor
+     */
+    private Parsing() {}
+
+    /**
+     * Parses the whole text as a signed decimal int, following the same rules as {@link Integer#parseInt(String)}.
+     *
+     * @param text text to parse.
+     * @return {@link IntOk} with the parsed value, or {@link IntErr} with the reason why it couldn't be parsed.
+     */
+    @NotNull
+    public static IntResult<ParseError> parseInt(@NotNull CharSequence text) {
+        return parseInt(text, 0, requireNonNull(text).length(), 10);
+    }
+
+    /**
+     * Parses a slice of the text as a signed decimal int, following the same rules as
+     * {@link Integer#parseInt(CharSequence, int, int, int)}.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @return {@link IntOk} with the parsed value, or {@link IntErr} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     */
+    @NotNull
+    public static IntResult<ParseError> parseInt(@NotNull CharSequence text, int offset, int length) {
+        return parseInt(text, offset, length, 10);
+    }
+
+    /**
+     * Parses a slice of the text as a signed int in the given radix, following the same rules as
+     * {@link Integer#parseInt(CharSequence, int, int, int)}.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @param radix  radix of the number, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+     * @return {@link IntOk} with the parsed value, or {@link IntErr} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     * @throws IllegalArgumentException  if the radix is out of its range.
+     */
+    @NotNull
+    public static IntResult<ParseError> parseInt(@NotNull CharSequence text, int offset, int length, int radix) {
+        Objects.checkFromIndexSize(offset, length, requireNonNull(text).length());
+        checkRadix(radix);
+        if (length == 0) {
+            return ParseError.EMPTY.intErr;
+        }
+        int index = offset;
+        int end = offset + length;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        char first = text.charAt(index);
+        if (first == '-') {
+            negative = true;
+            limit = Integer.MIN_VALUE;
+            index++;
+        } else if (first == '+') {
+            index++;
+        }
+        if (index == end) {
+            return ParseError.INVALID_DIGIT.intErr;
+        }
+        int multiplyLimit = limit / radix;
+        int result = 0;
+        while (index < end) {
+            int digit = Character.digit(text.charAt(index++), radix);
+            if (digit < 0) {
+                return ParseError.INVALID_DIGIT.intErr;
+            }
+            if (result < multiplyLimit) {
+                return negative ? ParseError.NEGATIVE_OVERFLOW.intErr : ParseError.POSITIVE_OVERFLOW.intErr;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return negative ? ParseError.NEGATIVE_OVERFLOW.intErr : ParseError.POSITIVE_OVERFLOW.intErr;
+            }
+            result -= digit;
+        }
+        return new IntOk<>(negative ? result : -result);
+    }
+
+    /**
+     * Parses the whole text as a signed decimal long, following the same rules as {@link Long#parseLong(String)}.
+     *
+     * @param text text to parse.
+     * @return {@link LongOk} with the parsed value, or {@link LongErr} with the reason why it couldn't be parsed.
+     */
+    @NotNull
+    public static LongResult<ParseError> parseLong(@NotNull CharSequence text) {
+        return parseLong(text, 0, requireNonNull(text).length(), 10);
+    }
+
+    /**
+     * Parses a slice of the text as a signed decimal long, following the same rules as
+     * {@link Long#parseLong(CharSequence, int, int, int)}.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @return {@link LongOk} with the parsed value, or {@link LongErr} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     */
+    @NotNull
+    public static LongResult<ParseError> parseLong(@NotNull CharSequence text, int offset, int length) {
+        return parseLong(text, offset, length, 10);
+    }
+
+    /**
+     * Parses a slice of the text as a signed long in the given radix, following the same rules as
+     * {@link Long#parseLong(CharSequence, int, int, int)}.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @param radix  radix of the number, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+     * @return {@link LongOk} with the parsed value, or {@link LongErr} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     * @throws IllegalArgumentException  if the radix is out of its range.
+     */
+    @NotNull
+    public static LongResult<ParseError> parseLong(@NotNull CharSequence text, int offset, int length, int radix) {
+        Objects.checkFromIndexSize(offset, length, requireNonNull(text).length());
+        checkRadix(radix);
+        if (length == 0) {
+            return ParseError.EMPTY.longErr;
+        }
+        int index = offset;
+        int end = offset + length;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        char first = text.charAt(index);
+        if (first == '-') {
+            negative = true;
+            limit = Long.MIN_VALUE;
+            index++;
+        } else if (first == '+') {
+            index++;
+        }
+        if (index == end) {
+            return ParseError.INVALID_DIGIT.longErr;
+        }
+        long multiplyLimit = limit / radix;
+        long result = 0;
+        while (index < end) {
+            int digit = Character.digit(text.charAt(index++), radix);
+            if (digit < 0) {
+                return ParseError.INVALID_DIGIT.longErr;
+            }
+            if (result < multiplyLimit) {
+                return negative ? ParseError.NEGATIVE_OVERFLOW.longErr : ParseError.POSITIVE_OVERFLOW.longErr;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return negative ? ParseError.NEGATIVE_OVERFLOW.longErr : ParseError.POSITIVE_OVERFLOW.longErr;
+            }
+            result -= digit;
+        }
+        return new LongOk<>(negative ? result : -result);
+    }
+
+    /**
+     * Parses the whole text as a double, accepting the same inputs as {@link Double#parseDouble(String)}.
+     *
+     * @param text text to parse.
+     * @return {@link DoubleOk} with the parsed value, or {@link DoubleErr} with the reason why it couldn't be parsed.
+     * @see Parsing#parseDouble(CharSequence, int, int)
+     */
+    @NotNull
+    public static DoubleResult<ParseError> parseDouble(@NotNull CharSequence text) {
+        return parseDouble(text, 0, requireNonNull(text).length());
+    }
+
+    /**
+     * Parses a slice of the text as a double, accepting the same inputs as {@link Double#parseDouble(String)}, this
+     * is, decimal and hexadecimal floating point literals, "NaN" and "Infinity", surrounded by optional whitespace.
+     * <p>
+     * Decimal numbers with up to 15 significant digits and a small exponent, which covers most of the values found on
+     * data feeds, are computed directly from the slice. The rest of the valid inputs are first validated, and then
+     * copied into a {@link String} to be parsed by {@link Double#parseDouble(String)}, so they are correctly rounded
+     * while still never throwing.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @return {@link DoubleOk} with the parsed value, or {@link DoubleErr} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     */
+    @NotNull
+    public static DoubleResult<ParseError> parseDouble(@NotNull CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, requireNonNull(text).length());
+        int start = offset;
+        int end = offset + length;
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return ParseError.EMPTY.doubleErr;
+        }
+        int index = start;
+        boolean negative = false;
+        char first = text.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        if (regionMatches(text, index, end, "NaN")) {
+            return new DoubleOk<>(Double.NaN);
+        }
+        if (regionMatches(text, index, end, "Infinity")) {
+            return new DoubleOk<>(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        if (end - index > 1 && text.charAt(index) == '0' && (text.charAt(index + 1) | 0x20) == 'x') {
+            return isHexadecimalFloat(text, index + 2, end)
+                    ? new DoubleOk<>(Double.parseDouble(text.subSequence(start, end).toString()))
+                    : ParseError.INVALID_FORMAT.doubleErr;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        for (; index < end; index++) {
+            char character = text.charAt(index);
+            if (character >= '0' && character <= '9') {
+                digits++;
+                if (inFraction) {
+                    fractionDigits++;
+                }
+                if (mantissa != 0 || character != '0') {
+                    significantDigits++;
+                    if (significantDigits <= MAX_EXACT_DIGITS) {
+                        mantissa = mantissa * 10 + (character - '0');
+                    }
+                }
+            } else if (character == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return ParseError.INVALID_DIGIT.doubleErr;
+        }
+        int exponent = 0;
+        if (index < end && (text.charAt(index) | 0x20) == 'e') {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+                negativeExponent = text.charAt(index) == '-';
+                index++;
+            }
+            int exponentStart = index;
+            for (; index < end && text.charAt(index) >= '0' && text.charAt(index) <= '9'; index++) {
+                if (exponent < 100_000) {
+                    exponent = exponent * 10 + (text.charAt(index) - '0');
+                }
+            }
+            if (index == exponentStart) {
+                return ParseError.INVALID_FORMAT.doubleErr;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (index < end && isFloatSuffix(text.charAt(index))) {
+            index++;
+        }
+        if (index != end) {
+            return ParseError.INVALID_DIGIT.doubleErr;
+        }
+
+        if (mantissa == 0) {
+            return new DoubleOk<>(negative ? -0.0 : 0.0);
+        }
+        int scale = exponent - fractionDigits;
+        if (significantDigits <= MAX_EXACT_DIGITS && scale >= -22 && scale <= 22) {
+            double value = scale >= 0 ? mantissa * EXACT_POWERS_OF_TEN[scale] : mantissa / EXACT_POWERS_OF_TEN[-scale];
+            return new DoubleOk<>(negative ? -value : value);
+        }
+        return new DoubleOk<>(Double.parseDouble(text.subSequence(start, end).toString()));
+    }
+
+    /**
+     * Parses the whole text as an {@link UUID} in its canonical form.
+     *
+     * @param text text to parse.
+     * @return {@link Ok} with the parsed {@link UUID}, or {@link Err} with the reason why it couldn't be parsed.
+     * @see Parsing#parseUuid(CharSequence, int, int)
+     */
+    @NotNull
+    public static Result<UUID, ParseError> parseUuid(@NotNull CharSequence text) {
+        return parseUuid(text, 0, requireNonNull(text).length());
+    }
+
+    /**
+     * Parses a slice of the text as an {@link UUID} in its canonical form, this is, 36 characters made of 32
+     * hexadecimal digits split into groups of 8-4-4-4-12 by dashes, as returned by {@link UUID#toString()}.
+     * <p>
+     * Unlike {@link UUID#fromString(String)}, groups with fewer digits are not accepted.
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @return {@link Ok} with the parsed {@link UUID}, or {@link Err} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     */
+    @NotNull
+    public static Result<UUID, ParseError> parseUuid(@NotNull CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, requireNonNull(text).length());
+        if (length == 0) {
+            return ParseError.EMPTY.err();
+        }
+        if (length != 36 || text.charAt(offset + 8) != '-' || text.charAt(offset + 13) != '-' ||
+                text.charAt(offset + 18) != '-' || text.charAt(offset + 23) != '-') {
+            return ParseError.INVALID_FORMAT.err();
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int index = 0; index < 36; index++) {
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                continue;
+            }
+            int digit = Character.digit(text.charAt(offset + index), 16);
+            if (digit < 0) {
+                return ParseError.INVALID_DIGIT.err();
+            }
+            if (index < 19) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+        return new Ok<>(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+
+    /**
+     * Parses the whole text as an {@link Instant}, accepting the same inputs as {@link Instant#parse(CharSequence)}.
+     *
+     * @param text text to parse.
+     * @return {@link Ok} with the parsed {@link Instant}, or {@link Err} with the reason why it couldn't be parsed.
+     * @see Parsing#parseInstant(CharSequence, int, int)
+     */
+    @NotNull
+    public static Result<Instant, ParseError> parseInstant(@NotNull CharSequence text) {
+        return parseInstant(text, 0, requireNonNull(text).length());
+    }
+
+    /**
+     * Parses a slice of the text as an {@link Instant}, accepting the same inputs as
+     * {@link Instant#parse(CharSequence)}, this is, an ISO-8601 date and time with up to 9 fractional digits followed
+     * by 'Z' or an offset, such as "2024-01-01T10:15:30.5Z" or "2024-01-01T10:15:30+01:00".
+     * <p>
+     * As {@link Instant#parse(CharSequence)} does, "24:00:00" is accepted as the start of the next day, and a leap
+     * second at "23:59:60" is read as "23:59:59".
+     *
+     * @param text   text containing the slice to parse.
+     * @param offset index where the slice starts.
+     * @param length amount of characters of the slice.
+     * @return {@link Ok} with the parsed {@link Instant}, or {@link Err} with the reason why it couldn't be parsed.
+     * @throws IndexOutOfBoundsException if the slice is out of the bounds of the text.
+     */
+    @NotNull
+    public static Result<Instant, ParseError> parseInstant(@NotNull CharSequence text, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, requireNonNull(text).length());
+        if (length == 0) {
+            return ParseError.EMPTY.err();
+        }
+        int index = offset;
+        int end = offset + length;
+
+        char sign = text.charAt(index);
+        if (sign == '+' || sign == '-') {
+            index++;
+        }
+        int yearStart = index;
+        long year = 0;
+        for (; index < end && index - yearStart < 10 && isDigit(text.charAt(index)); index++) {
+            year = year * 10 + (text.charAt(index) - '0');
+        }
+        int yearDigits = index - yearStart;
+        boolean signedCorrectly = switch (sign) {
+            case '+' -> yearDigits > 4;
+            case '-' -> yearDigits >= 4;
+            default -> yearDigits == 4;
+        };
+        if (!signedCorrectly || end - index < 15) {
+            return ParseError.INVALID_FORMAT.err();
+        }
+        if (sign == '-') {
+            year = -year;
+        }
+        if (text.charAt(index) != '-' || text.charAt(index + 3) != '-' || (text.charAt(index + 6) | 0x20) != 't' ||
+                text.charAt(index + 9) != ':' || text.charAt(index + 12) != ':') {
+            return ParseError.INVALID_FORMAT.err();
+        }
+        int month = twoDigits(text, index + 1);
+        int day = twoDigits(text, index + 4);
+        int hour = twoDigits(text, index + 7);
+        int minute = twoDigits(text, index + 10);
+        int second = twoDigits(text, index + 13);
+        if ((month | day | hour | minute | second) < 0) {
+            return ParseError.INVALID_DIGIT.err();
+        }
+        index += 15;
+
+        int nanos = 0;
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+            int fractionStart = index;
+            for (; index < end && isDigit(text.charAt(index)); index++) {
+                if (index - fractionStart == 9) {
+                    return ParseError.INVALID_FORMAT.err();
+                }
+                nanos = nanos * 10 + (text.charAt(index) - '0');
+            }
+            for (int missingDigits = 9 - (index - fractionStart); missingDigits > 0; missingDigits--) {
+                nanos *= 10;
+            }
+        }
+
+        if (index == end) {
+            return ParseError.INVALID_FORMAT.err();
+        }
+        int offsetSeconds;
+        char offsetSign = text.charAt(index);
+        if ((offsetSign | 0x20) == 'z') {
+            offsetSeconds = 0;
+            index++;
+        } else if ((offsetSign == '+' || offsetSign == '-') && end - index >= 6 && text.charAt(index + 3) == ':') {
+            int offsetHours = twoDigits(text, index + 1);
+            int offsetMinutes = twoDigits(text, index + 4);
+            int offsetRemainingSeconds = 0;
+            index += 6;
+            if (end - index >= 3 && text.charAt(index) == ':') {
+                offsetRemainingSeconds = twoDigits(text, index + 1);
+                index += 3;
+            }
+            if ((offsetHours | offsetMinutes | offsetRemainingSeconds) < 0) {
+                return ParseError.INVALID_DIGIT.err();
+            }
+            if (offsetMinutes > 59 || offsetRemainingSeconds > 59) {
+                return ParseError.INVALID_FORMAT.err();
+            }
+            offsetSeconds = offsetHours * 3600 + offsetMinutes * 60 + offsetRemainingSeconds;
+            if (offsetSeconds > 18 * 3600) {
+                return ParseError.OUT_OF_RANGE.err();
+            }
+            if (offsetSign == '-') {
+                offsetSeconds = -offsetSeconds;
+            }
+        } else {
+            return ParseError.INVALID_FORMAT.err();
+        }
+        if (index != end) {
+            return ParseError.INVALID_FORMAT.err();
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || minute > 59) {
+            return ParseError.OUT_OF_RANGE.err();
+        }
+        boolean endOfDay = hour == 24 && minute == 0 && second == 0 && nanos == 0;
+        if (hour > 23 && !endOfDay) {
+            return ParseError.OUT_OF_RANGE.err();
+        }
+        if (second == 60 && hour == 23 && minute == 59) {
+            second = 59;
+        } else if (second > 59) {
+            return ParseError.OUT_OF_RANGE.err();
+        }
+        long epochSecond = epochDay(year, month, day) * 86_400 + hour * 3600L + minute * 60L + second - offsetSeconds;
+        if (epochSecond < Instant.MIN.getEpochSecond() || epochSecond > Instant.MAX.getEpochSecond()) {
+            return ParseError.OUT_OF_RANGE.err();
+        }
+        return new Ok<>(Instant.ofEpochSecond(epochSecond, nanos));
+    }
+
+    /**
+     * Checks the radix is between {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}.
+     *
+     * @param radix radix to check.
+     * @throws IllegalArgumentException if the radix is out of its range.
+     */
+    private static void checkRadix(int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("radix " + radix + " is out of the range [" + Character.MIN_RADIX +
+                                                       ", " + Character.MAX_RADIX + "]");
+        }
+    }
+
+    /**
+     * Returns whether the slice from index to end is exactly the expected text.
+     */
+    private static boolean regionMatches(@NotNull CharSequence text, int index, int end, @NotNull String expected) {
+        if (end - index != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (text.charAt(index + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the slice from index to end is the body of a hexadecimal floating point literal after its "0x"
+     * prefix, as accepted by {@link Double#parseDouble(String)}.
+     */
+    private static boolean isHexadecimalFloat(@NotNull CharSequence text, int index, int end) {
+        int digits = 0;
+        boolean inFraction = false;
+        for (; index < end; index++) {
+            char character = text.charAt(index);
+            if (Character.digit(character, 16) >= 0 && character < 128) {
+                digits++;
+            } else if (character == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0 || index == end || (text.charAt(index) | 0x20) != 'p') {
+            return false;
+        }
+        index++;
+        if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            index++;
+        }
+        int exponentStart = index;
+        while (index < end && isDigit(text.charAt(index))) {
+            index++;
+        }
+        if (index == exponentStart) {
+            return false;
+        }
+        if (index < end && isFloatSuffix(text.charAt(index))) {
+            index++;
+        }
+        return index == end;
+    }
+
+    /**
+     * Returns whether the character is one of the type suffixes accepted by {@link Double#parseDouble(String)}.
+     */
+    private static boolean isFloatSuffix(char character) {
+        return character == 'f' || character == 'F' || character == 'd' || character == 'D';
+    }
+
+    /**
+     * Returns whether the character is an ASCII digit.
+     */
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Reads the two ASCII digits at the given index, returning -1 if any of them is not a digit.
+     */
+    private static int twoDigits(@NotNull CharSequence text, int index) {
+        char tens = text.charAt(index);
+        char units = text.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(units)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+
+    /**
+     * Returns the amount of days of a month in the proleptic gregorian calendar.
+     */
+    private static int daysInMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Returns the days since 1970-01-01 of a date in the proleptic gregorian calendar.
+     */
+    private static long epochDay(long year, int month, int day) {
+        long adjustedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(adjustedYear, 400);
+        long yearOfEra = adjustedYear - era * 400;
+        int monthFromMarch = month > 2 ? month - 3 : month + 9;
+        long dayOfYear = (153L * monthFromMarch + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -8,6 +8,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -195,6 +198,9 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
      * <p>
      * This function is unable to turn unchecked exceptions ({@link RuntimeException}s) into {@link Err}, if you want
      * to catch an unchecked exception, use {@link Result#unchecked(Class, ThrowingSupplier)} instead.
+     * <p>
+     * When the failure is expected rather than exceptional, throw a {@link StacklessException} so the error doesn't pay
+     * for capturing a stack trace.
      *
      * <p>Example of use:</p>
      * <pre>
@@ -231,6 +237,9 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
      * <p>
      * This function is unable to turn unchecked exceptions ({@link RuntimeException}s) into {@link Err}, if you want
      * to catch an unchecked exception, use {@link Result#unchecked(Class, ThrowingRunnable)} instead.
+     * <p>
+     * When the failure is expected rather than exceptional, throw a {@link StacklessException} so the error doesn't pay
+     * for capturing a stack trace.
      *
      * <p>Example of use:</p>
      * <pre>
@@ -349,6 +358,91 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
         return new Ok<>(new Tuple0());
     }
     
+    /**
+     * Executes the supplier and gets a {@link Ok} value with the result of it, or an {@link Err} with the error the
+     * classifier turns its exception into, throwing again the exceptions the classifier doesn't turn into errors.
+     * <p>
+     * Unlike {@link Result#unchecked(Class, ThrowingSupplier)}, the classifier can turn several unrelated exception
+     * classes into errors, and caches its decision for each exception class.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * ErrorClassifier<Exception> classifier = ErrorClassifier.<Exception>builder()
+     *         .err(IOException.class)
+     *         .err(NumberFormatException.class)
+     *         .build();
+     * Result<Integer, Exception> number = Result.unchecked(classifier, () ->
+     *         Integer.parseInt(Files.readString(Path.of("my_file.txt"))));
+     * }
+     * </pre>
+     *
+     * @param classifier Decides which exceptions become errors.
+     * @param supplier   Operation that gives a result to return.
+     * @param <T>        Type of the success value operation.
+     * @param <E>        Type of the error in the operation.
+     * @return a {@link Ok} with the successful value, or {@link Err} with the error if it failed.
+     */
+    @NotNull
+    static <T, E> Result<T, E> unchecked(@NotNull ErrorClassifier<E> classifier,
+                                         @NotNull ThrowingSupplier<T, ?> supplier) {
+        return requireNonNull(classifier).unchecked(supplier);
+    }
+    
+    /**
+     * Executes the runnable and gets a {@link Ok} value with a {@link Tuple0} (As an empty object), or an {@link Err}
+     * with the error the classifier turns its exception into, throwing again the exceptions the classifier doesn't turn
+     * into errors.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<Tuple0, Exception> written = Result.unchecked(classifier, () ->
+     *         Files.writeString(Path.of("my_file.txt"), "Contents"));
+     * }
+     * </pre>
+     *
+     * @param classifier Decides which exceptions become errors.
+     * @param runnable   Operation to run.
+     * @param <E>        Type of the error in the operation.
+     * @return a {@link Ok} with an empty successful value, or {@link Err} with the error if it failed.
+     */
+    @NotNull
+    static <E> Result<Tuple0, E> unchecked(@NotNull ErrorClassifier<E> classifier,
+                                           @NotNull ThrowingRunnable<?> runnable) {
+        return requireNonNull(classifier).unchecked(runnable);
+    }
+    
+    /**
+     * Runs the body, where {@link TryScope#q(Result)} unwraps {@link Ok}s or returns their {@link Err} right away, as
+     * Rust's {@code ?} operator does, returning the result of the body, or the first {@link Err} passed to
+     * {@link TryScope#q(Result)}.
+     * <p>
+     * This replaces nesting {@link Result#andThen(Function)} calls when a value needs several previous ones, and exiting
+     * the scope doesn't capture a stack trace nor allocate, so the failing path costs about the same as the successful
+     * one.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<Integer, String> sum = Result.tryScope(scope -> {
+     *     int first = scope.q(parse("5"));
+     *     int second = scope.q(parse("7"));
+     *     return Result.ok(first + second);
+     * });
+     * }
+     * </pre>
+     *
+     * @param body Operation using the scope to unwrap results, returning the result of the scope.
+     * @param <T>  Type of the success value.
+     * @param <E>  Type of the error.
+     * @return the result returned by the body, or the first {@link Err} passed to {@link TryScope#q(Result)}.
+     */
+    @NotNull
+    static <T, E> Result<T, E> tryScope(@NotNull Function<TryScope<E>, Result<T, E>> body) {
+        return TryScope.run(body);
+    }
+    
     /**
      * Gets the contents of the result if is {@link Ok}, or throws the exception contained in {@link Err}'s
      * {@link Err#error()}.
@@ -486,7 +580,146 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
         if (result.unwrap().isSome()) {
             return new Some<>(new Ok<>(requireNonNull(requireNonNull(result.unwrap()).unwrap())));
         }
-        return new None<>();
+        return Option.none();
+    }
+    
+    /**
+     * Runs every supplier concurrently, each on its own virtual thread, and gets an {@link Ok} with all of their values
+     * in the same order as the suppliers, or the first {@link Err} to happen.
+     * <p>
+     * As soon as one of the suppliers fails, the remaining ones are cancelled by interrupting their threads. Either
+     * way, this waits for every supplier to end before returning, so suppliers should respond to interruption.
+     * <p>
+     * Same as {@link Result#checked(ThrowingSupplier)}, {@link RuntimeException}s aren't turned into {@link Err}, but
+     * cancel the remaining suppliers and are thrown by this function.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<List<String>, IOException> contents = Result.joinOksConcurrently(List.of(
+     *         () -> Files.readString(Path.of("first_file.txt")),
+     *         () -> Files.readString(Path.of("second_file.txt"))
+     * ));
+     * }
+     * </pre>
+     *
+     * @param suppliers Operations that give the values to join.
+     * @param <T>       Type of the success value of the operations.
+     * @param <E>       Type of the error in the operations.
+     * @return a {@link Ok} with the successful values, or the first {@link Err} to happen.
+     * @throws InterruptedException if the current thread is interrupted while waiting, after cancelling the suppliers.
+     */
+    @NotNull
+    static <T, E extends Throwable> Result<List<T>, E> joinOksConcurrently(
+            @NotNull Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers
+    ) throws InterruptedException {
+        return ConcurrentResults.joinOks(suppliers);
+    }
+    
+    /**
+     * Runs every supplier concurrently, each on its own virtual thread, and gets an {@link Ok} with all of their values
+     * in the same order as the suppliers, or the first {@link Err} to happen.
+     * <p>
+     * See {@link Result#joinOksConcurrently(Collection)}.
+     *
+     * @param suppliers Operations that give the values to join.
+     * @param <T>       Type of the success value of the operations.
+     * @param <E>       Type of the error in the operations.
+     * @return a {@link Ok} with the successful values, or the first {@link Err} to happen.
+     * @throws InterruptedException if the current thread is interrupted while waiting, after cancelling the suppliers.
+     */
+    @SafeVarargs
+    @NotNull
+    static <T, E extends Throwable> Result<List<T>, E> joinOksConcurrently(
+            @NotNull ThrowingSupplier<? extends T, ? extends E>... suppliers
+    ) throws InterruptedException {
+        return ConcurrentResults.joinOks(Arrays.asList(suppliers));
+    }
+    
+    /**
+     * Runs every supplier concurrently, each on its own virtual thread, and gets an {@link Ok} with the value of the
+     * first one to succeed, or an {@link Err} with the errors of all of them, in the same order as the suppliers, if
+     * every supplier failed.
+     * <p>
+     * As soon as one of the suppliers succeeds, the remaining ones are cancelled by interrupting their threads. Either
+     * way, this waits for every supplier to end before returning, so suppliers should respond to interruption.
+     * <p>
+     * Same as {@link Result#checked(ThrowingSupplier)}, {@link RuntimeException}s aren't turned into {@link Err}, but
+     * cancel the remaining suppliers and are thrown by this function.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<String, List<IOException>> fastestMirror = Result.firstOkConcurrently(List.of(
+     *         () -> download(FIRST_MIRROR),
+     *         () -> download(SECOND_MIRROR)
+     * ));
+     * }
+     * </pre>
+     *
+     * @param suppliers Operations that give the value.
+     * @param <T>       Type of the success value of the operations.
+     * @param <E>       Type of the error in the operations.
+     * @return a {@link Ok} with the first successful value, or an {@link Err} with every error.
+     * @throws InterruptedException if the current thread is interrupted while waiting, after cancelling the suppliers.
+     */
+    @NotNull
+    static <T, E extends Throwable> Result<T, List<E>> firstOkConcurrently(
+            @NotNull Collection<? extends ThrowingSupplier<? extends T, ? extends E>> suppliers
+    ) throws InterruptedException {
+        return ConcurrentResults.firstOk(suppliers);
+    }
+    
+    /**
+     * Runs every supplier concurrently, each on its own virtual thread, and gets an {@link Ok} with the value of the
+     * first one to succeed, or an {@link Err} with the errors of all of them, in the same order as the suppliers, if
+     * every supplier failed.
+     * <p>
+     * See {@link Result#firstOkConcurrently(Collection)}.
+     *
+     * @param suppliers Operations that give the value.
+     * @param <T>       Type of the success value of the operations.
+     * @param <E>       Type of the error in the operations.
+     * @return a {@link Ok} with the first successful value, or an {@link Err} with every error.
+     * @throws InterruptedException if the current thread is interrupted while waiting, after cancelling the suppliers.
+     */
+    @SafeVarargs
+    @NotNull
+    static <T, E extends Throwable> Result<T, List<E>> firstOkConcurrently(
+            @NotNull ThrowingSupplier<? extends T, ? extends E>... suppliers
+    ) throws InterruptedException {
+        return ConcurrentResults.firstOk(Arrays.asList(suppliers));
+    }
+    
+    /**
+     * Applies the function to every element in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * and gets an {@link Ok} with all of the values in the same order as the elements, or the {@link Err} of the first
+     * element, in encounter order, that failed.
+     * <p>
+     * Once an element fails, elements coming after it aren't processed anymore, while elements before it still are,
+     * as they could fail first, so the outcome is always the same as applying the function sequentially.
+     * {@link RuntimeException}s thrown by the function are thrown by this function.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<List<Integer>, ParseError> numbers = Result.traverseParallel(lines,
+     *         line -> Parsing.parseInt(line).toResult());
+     * }
+     * </pre>
+     *
+     * @param elements Elements to apply the function to.
+     * @param function Fallible function to apply to each element.
+     * @param <A>      Type of the elements.
+     * @param <B>      Type of the success value of the function.
+     * @param <E>      Type of the error of the function.
+     * @return a {@link Ok} with the values in encounter order, or the first {@link Err} in encounter order.
+     */
+    @SuppressWarnings("unused")
+    @NotNull
+    static <A, B, E> Result<List<B>, E> traverseParallel(@NotNull Collection<A> elements,
+                                                         @NotNull Function<A, Result<B, E>> function) {
+        return ParallelTraversal.traverse(elements, function);
     }
     
     /**
@@ -1282,7 +1515,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     //    let function = format!("/**\n * Returns the first {{@link Result}} that is {{@link Ok}}, otherwise, it returns a {{@link None}}.\n */ \n\
     //    @NotNull\n public static <TCommon, E, {parameter_definition}> Option<Result<TCommon, E>> joinOks(\n{argument_definition}\n){{\n\
     //         {return_errors}
-    //         return new None<>();
+    //         return Option.none();
     //    }}");
     //    Some(function)
     //}
@@ -1297,7 +1530,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     ) {
         if (requireNonNull(ok1) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1313,7 +1546,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok2) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1332,7 +1565,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok3) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1354,7 +1587,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok4) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1379,7 +1612,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok5) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1407,7 +1640,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok6) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1438,7 +1671,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok7) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1472,7 +1705,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok8) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1509,7 +1742,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok9) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1549,7 +1782,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok10) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1592,7 +1825,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok11) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1638,7 +1871,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Ok<>(okValue));
         if (requireNonNull(ok12) instanceof Ok(var okValue))
             return new Some<>(new Ok<>(okValue));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1663,7 +1896,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     //    let function = format!("/**\n * Returns the first {{@link Result}} that is {{@link Err}}, otherwise, it returns a {{@link None}}.\n */ \n\
     //    @NotNull\n public static <T, ECommon, {parameter_definition}> Option<Result<T, ECommon>> joinErrors(\n{argument_definition}\n){{\n\
     //         {return_errors}
-    //         return new None<>();
+    //         return Option.none();
     //    }}");
     //    Some(function)
     //}
@@ -1693,7 +1926,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     ) {
         if (requireNonNull(error1) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1724,7 +1957,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error2) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1758,7 +1991,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error3) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1795,7 +2028,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error4) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1835,7 +2068,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error5) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1878,7 +2111,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error6) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1924,7 +2157,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error7) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -1973,7 +2206,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error8) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2025,7 +2258,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error9) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2080,7 +2313,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error10) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2138,7 +2371,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error11) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2199,7 +2432,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(new Err<>(error));
         if (requireNonNull(error12) instanceof Err(var error))
             return new Some<>(new Err<>(error));
-        return new None<>();
+        return Option.none();
     }
     
     //The following are the firstError methods, they allow get the first Error value allowing to cast the Error types to
@@ -2223,7 +2456,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     //    let function = format!("/**\n * Returns the error value of the first {{@link Result}} that is {{@link Err}}, otherwise, it returns a {{@link None}}.\n */ \n\
     //    @NotNull\n public static <ECommon, {parameter_definition}> Option<ECommon> firstError(\n{argument_definition}\n){{\n\
     //         {return_errors}
-    //         return new None<>();
+    //         return Option.none();
     //    }}");
     //    Some(function)
     //}
@@ -2238,7 +2471,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     ) {
         if (requireNonNull(error1) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     /**
@@ -2253,7 +2486,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error2) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2272,7 +2505,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error3) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2294,7 +2527,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error4) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2319,7 +2552,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error5) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2347,7 +2580,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error6) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2378,7 +2611,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error7) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2412,7 +2645,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error8) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2449,7 +2682,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error9) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2489,7 +2722,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error10) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2532,7 +2765,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error11) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2578,7 +2811,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(error);
         if (requireNonNull(error12) instanceof Err(var error))
             return new Some<>(error);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2603,7 +2836,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     //    let function = format!("/**\n * Returns the success value of the first {{@link Result}} that is {{@link Ok}}, otherwise, it returns a {{@link None}}.\n */ \n\
     //    @NotNull\n public static <TCommon, {parameter_definition}> Option<TCommon> firstOk(\n{argument_definition}\n){{\n\
     //         {return_errors}
-    //         return new None<>();
+    //         return Option.none();
     //    }}");
     //    Some(function)
     //}
@@ -2617,7 +2850,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
     ) {
         if (requireNonNull(ok1) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2633,7 +2866,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok2) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2652,7 +2885,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok3) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2674,7 +2907,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok4) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2699,7 +2932,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok5) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2727,7 +2960,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok6) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2758,7 +2991,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok7) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2792,7 +3025,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok8) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2829,7 +3062,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok9) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2869,7 +3102,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok10) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2912,7 +3145,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok11) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
@@ -2958,7 +3191,7 @@ public sealed interface Result<T, E> extends Serializable permits Ok, Err {
             return new Some<>(okValue);
         if (requireNonNull(ok12) instanceof Ok(var okValue))
             return new Some<>(okValue);
-        return new None<>();
+        return Option.none();
     }
     
     
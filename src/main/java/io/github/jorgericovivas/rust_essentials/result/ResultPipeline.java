@@ -0,0 +1,248 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A chain of {@link Result} operations that is built once and then applied to many inputs.
+ * <p>
+ * Chaining {@link Result#map(Function)}, {@link Result#andThen(Function)} or {@link Result#mapError(Function)} on a
+ * {@link Result} creates a new {@link Ok} or {@link Err} on every step, while a {@link ResultPipeline} keeps the value
+ * or the error in local variables while running its steps, only creating the {@link Ok} or {@link Err} returned at the
+ * end, so a pipeline of 10 steps creates one wrapper per input instead of 10.
+ * <p>
+ * Pipelines are immutable: every step returns a new pipeline and leaves the original untouched, so a pipeline can be
+ * shared between threads and used as a prefix for several other pipelines. A pipeline can be used wherever a
+ * {@link Function} is expected through {@code pipeline::apply}, for example, on {@code Stream.map}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * ResultPipeline<String, Integer, String> parsePositive = ResultPipeline.<String, String>start()
+ *         .map(String::strip)
+ *         .andThen(text -> Parsing.parseInt(text).mapError(ParseError::description).toResult())
+ *         .andThen(number -> number > 0 ? Result.ok(number) : Result.err("The number is not positive"));
+ * for (String line : lines) {
+ *     switch (parsePositive.apply(line)) {
+ *         case Ok(var number) -> System.out.println("Read " + number);
+ *         case Err(var error) -> System.out.println("Skipping '" + line + "': " + error);
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @param <A> Type of the input of the pipeline.
+ * @param <T> Type of success state at the end of the pipeline.
+ * @param <E> Type of error state at the end of the pipeline.
+ * @author Jorge Rico Vivas
+ * @see Result
+ */
+@SuppressWarnings("unused")
+public final class ResultPipeline<A, T, E> {
+
+    private static final byte MAP = 0;
+    private static final byte AND_THEN = 1;
+    private static final byte MAP_ERROR = 2;
+    private static final byte OR_ELSE = 3;
+    private static final byte INSPECT = 4;
+    private static final byte INSPECT_ERR = 5;
+
+    @SuppressWarnings("rawtypes")
+    private static final ResultPipeline EMPTY = new ResultPipeline<>(new byte[0], new Object[0]);
+
+    /**
+     * Kind of each step, one of the constants above.
+     */
+    private final byte @NotNull [] kinds;
+
+    /**
+     * Function or consumer of each step.
+     */
+    private final Object @NotNull [] steps;
+
+    /**
+     * Hidden constructor
+     *
+     * @param kinds kind of each step.
+     * @param steps function or consumer of each step.
+     */
+    private ResultPipeline(byte @NotNull [] kinds, Object @NotNull [] steps) {
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns an empty pipeline, which turns its input into an {@link Ok}.
+     *
+     * @param <A> Type of the input of the pipeline.
+     * @param <E> Type of error state.
+     * @return an empty pipeline.
+     */
+    @NotNull @SuppressWarnings("unchecked")
+    public static <A, E> ResultPipeline<A, A, E> start() {
+        return (ResultPipeline<A, A, E>) EMPTY;
+    }
+
+    /**
+     * Returns a new pipeline with the given step added at the end.
+     */
+    @NotNull
+    private <U, O> ResultPipeline<A, U, O> then(byte kind, @NotNull Object step) {
+        byte[] newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        Object[] newSteps = Arrays.copyOf(steps, steps.length + 1);
+        newKinds[kinds.length] = kind;
+        newSteps[steps.length] = requireNonNull(step);
+        return new ResultPipeline<>(newKinds, newSteps);
+    }
+
+    /**
+     * Adds a step mapping the value if it is Ok, leaving an Err untouched.
+     *
+     * @param mapper Maps the value to another value.
+     * @param <U>    Type T transforms to.
+     * @return a new pipeline ending with this step.
+     * @see Result#map(Function)
+     */
+    @NotNull
+    public <U> ResultPipeline<A, U, E> map(@NotNull Function<T, U> mapper) {
+        return then(MAP, mapper);
+    }
+
+    /**
+     * Adds a step calling the function if it is Ok, continuing with the {@link Result} it returns, otherwise it leaves
+     * the Err untouched.
+     *
+     * @param res Function generating a new {@link Result} from the value.
+     * @param <U> Success type of the generated {@link Result}.
+     * @return a new pipeline ending with this step.
+     * @see Result#andThen(Function)
+     */
+    @NotNull
+    public <U> ResultPipeline<A, U, E> andThen(@NotNull Function<T, Result<U, E>> res) {
+        return then(AND_THEN, res);
+    }
+
+    /**
+     * Adds a step mapping the error if it is Err, leaving an Ok untouched.
+     *
+     * @param errorMapper Maps the error to another error.
+     * @param <O>         Type the error E transforms to.
+     * @return a new pipeline ending with this step.
+     * @see Result#mapError(Function)
+     */
+    @NotNull
+    public <O> ResultPipeline<A, T, O> mapError(@NotNull Function<E, O> errorMapper) {
+        return then(MAP_ERROR, errorMapper);
+    }
+
+    /**
+     * Adds a step calling the function if it is Err, continuing with the {@link Result} it returns, otherwise it leaves
+     * the Ok untouched.
+     *
+     * @param res Function generating a new {@link Result} from the error.
+     * @param <O> Error type of the generated {@link Result}.
+     * @return a new pipeline ending with this step.
+     * @see Result#orElse(Function)
+     */
+    @NotNull
+    public <O> ResultPipeline<A, T, O> orElse(@NotNull Function<E, Result<T, O>> res) {
+        return then(OR_ELSE, res);
+    }
+
+    /**
+     * Adds a step calling the consumer with the value if it is Ok.
+     *
+     * @param inspector consumer function to trigger on the value (if Ok).
+     * @return a new pipeline ending with this step.
+     * @see Result#inspect(Consumer)
+     */
+    @NotNull
+    public ResultPipeline<A, T, E> inspect(@NotNull Consumer<T> inspector) {
+        return then(INSPECT, inspector);
+    }
+
+    /**
+     * Adds a step calling the consumer with the error if it is Err.
+     *
+     * @param inspector consumer function to trigger on the error (if Err).
+     * @return a new pipeline ending with this step.
+     * @see Result#inspectErr(Consumer)
+     */
+    @NotNull
+    public ResultPipeline<A, T, E> inspectErr(@NotNull Consumer<E> inspector) {
+        return then(INSPECT_ERR, inspector);
+    }
+
+    /**
+     * Runs every step of the pipeline starting from an {@link Ok} with the input, creating a single {@link Ok} or
+     * {@link Err} at the end.
+     *
+     * @param input the value the pipeline starts from.
+     * @return the {@link Result} of running every step.
+     */
+    @NotNull @SuppressWarnings({"unchecked", "rawtypes"})
+    public Result<T, E> apply(@NotNull A input) {
+        Object value = requireNonNull(input);
+        Object error = null;
+        for (int index = 0; index < kinds.length; index++) {
+            Object step = steps[index];
+            switch (kinds[index]) {
+                case MAP -> {
+                    if (error == null) {
+                        value = requireNonNull(((Function) step).apply(value));
+                    }
+                }
+                case AND_THEN -> {
+                    if (error == null) {
+                        switch (requireNonNull((Result<?, ?>) ((Function) step).apply(value))) {
+                            case Ok<?, ?>(var okValue) -> value = okValue;
+                            case Err<?, ?>(var errValue) -> error = errValue;
+                        }
+                    }
+                }
+                case MAP_ERROR -> {
+                    if (error != null) {
+                        error = requireNonNull(((Function) step).apply(error));
+                    }
+                }
+                case OR_ELSE -> {
+                    if (error != null) {
+                        switch (requireNonNull((Result<?, ?>) ((Function) step).apply(error))) {
+                            case Ok<?, ?>(var okValue) -> {
+                                value = okValue;
+                                error = null;
+                            }
+                            case Err<?, ?>(var errValue) -> error = errValue;
+                        }
+                    }
+                }
+                case INSPECT -> {
+                    if (error == null) {
+                        ((Consumer) step).accept(value);
+                    }
+                }
+                case INSPECT_ERR -> {
+                    if (error != null) {
+                        ((Consumer) step).accept(error);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown step kind " + kinds[index]);
+            }
+        }
+        return error == null ? new Ok<>((T) value) : new Err<>((E) error);
+    }
+
+    /**
+     * Returns the amount of steps of this pipeline.
+     *
+     * @return the amount of steps of this pipeline.
+     */
+    public int steps() {
+        return kinds.length;
+    }
+}
@@ -0,0 +1,327 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Collector}s and functions turning a {@link Stream} of {@link Result}s into a single value, like a
+ * {@link Result} of a {@link List} or the lists of {@link Ok} values and {@link Err} errors.
+ * <p>
+ * Every collector keeps the encounter order of the stream and can be used on parallel streams. Collectors can't stop a
+ * stream, so {@link Results#sequencing()} stops storing values after the first {@link Err}, but the stream is still
+ * consumed, while {@link Results#sequence(Stream)} stops consuming a sequential stream at the first {@link Err}.
+ * <p>
+ * Collectors accept the expected amount of elements to size their lists upfront, and the functions taking a
+ * {@link Stream} compute it from the size estimate of its {@link Spliterator}, which on parallel streams is divided
+ * between the chunks the stream is split into.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * List<String> lines = List.of("1", "2", "three", "4");
+ * Result<List<Integer>, ParseError> numbers = lines.stream()
+ *         .map(line -> Parsing.parseInt(line).toResult())
+ *         .collect(Results.sequencing());
+ * Tuple2<List<Integer>, List<ParseError>> partition = Results.partition(lines.parallelStream()
+ *         .map(line -> Parsing.parseInt(line).toResult()));
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Result
+ */
+@SuppressWarnings("unused")
+public final class Results {
+
+    /**
+     * Initial capacity used by {@link ArrayList} when none is given.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Largest initial capacity given to a list, so a wrong estimate doesn't reserve too much memory upfront.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    /**
+     * Hidden constructor
+     */
+    private Results() {}
+
+    /**
+     * Returns a {@link Collector} that gets an {@link Ok} with every value in encounter order if every {@link Result}
+     * is {@link Ok}, or the first {@link Err} in encounter order otherwise.
+     * <p>
+     * Once an {@link Err} is found, the values collected so far are discarded and the following elements are ignored.
+     *
+     * @param <T> Type of success state.
+     * @param <E> Type of error state.
+     * @return a {@link Collector} turning {@link Result}s into a {@link Result} of a {@link List}.
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> sequencing() {
+        return sequencing(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a {@link Collector} that gets an {@link Ok} with every value in encounter order if every {@link Result}
+     * is {@link Ok}, or the first {@link Err} in encounter order otherwise, sizing its lists for the expected amount of
+     * elements.
+     *
+     * @param expectedSize amount of elements each accumulator is expected to receive.
+     * @param <T>          Type of success state.
+     * @param <E>          Type of error state.
+     * @return a {@link Collector} turning {@link Result}s into a {@link Result} of a {@link List}.
+     * @see Results#sequencing()
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> sequencing(int expectedSize) {
+        int capacity = initialCapacity(expectedSize);
+        return Collector.of(
+                () -> new Sequence<T, E>(capacity),
+                Sequence::accumulate,
+                Sequence::combine,
+                Sequence::finish
+        );
+    }
+
+    /**
+     * Returns a {@link Collector} that splits the {@link Result}s into a list of the {@link Ok} values and a list of
+     * the {@link Err} errors, both in encounter order.
+     *
+     * @param <T> Type of success state.
+     * @param <E> Type of error state.
+     * @return a {@link Collector} getting a {@link Tuple2} with the values as v0 and the errors as v1.
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Tuple2<List<T>, List<E>>> partitioning() {
+        return partitioning(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a {@link Collector} that splits the {@link Result}s into a list of the {@link Ok} values and a list of
+     * the {@link Err} errors, both in encounter order, sizing the list of values for the expected amount of elements.
+     *
+     * @param expectedSize amount of elements each accumulator is expected to receive.
+     * @param <T>          Type of success state.
+     * @param <E>          Type of error state.
+     * @return a {@link Collector} getting a {@link Tuple2} with the values as v0 and the errors as v1.
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Tuple2<List<T>, List<E>>> partitioning(int expectedSize) {
+        int capacity = initialCapacity(expectedSize);
+        return Collector.of(
+                () -> new Tuple2<List<T>, List<E>>(new ArrayList<>(capacity), new ArrayList<>()),
+                (partition, result) -> {
+                    switch (requireNonNull(result)) {
+                        case Ok<T, E>(var value) -> partition.v0.add(value);
+                        case Err<T, E>(var error) -> partition.v1.add(error);
+                    }
+                },
+                (left, right) -> {
+                    left.v0.addAll(right.v0);
+                    left.v1.addAll(right.v1);
+                    return left;
+                },
+                partition -> new Tuple2<>(Collections.unmodifiableList(partition.v0),
+                                          Collections.unmodifiableList(partition.v1))
+        );
+    }
+
+    /**
+     * Returns a {@link Collector} that counts how many {@link Result}s are {@link Ok} and how many are {@link Err}.
+     *
+     * @param <T> Type of success state.
+     * @param <E> Type of error state.
+     * @return a {@link Collector} getting a {@link Tuple2} with the amount of {@link Ok}s as v0 and the amount of
+     * {@link Err}s as v1.
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, Tuple2<Long, Long>> counting() {
+        return Collector.of(
+                () -> new long[2],
+                (counts, result) -> counts[requireNonNull(result).isOk() ? 0 : 1]++,
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                counts -> new Tuple2<>(counts[0], counts[1]),
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns a {@link Collector} that gets every {@link Err} error in encounter order, ignoring {@link Ok}s.
+     *
+     * @param <T> Type of success state.
+     * @param <E> Type of error state.
+     * @return a {@link Collector} getting the list of errors.
+     */
+    @NotNull
+    public static <T, E> Collector<Result<T, E>, ?, List<E>> collectingErrors() {
+        return Collector.<Result<T, E>, List<E>, List<E>>of(
+                ArrayList::new,
+                (errors, result) -> {
+                    if (requireNonNull(result) instanceof Err<T, E>(var error)) {
+                        errors.add(error);
+                    }
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collections::unmodifiableList
+        );
+    }
+
+    /**
+     * Gets an {@link Ok} with every value in encounter order if every {@link Result} of the stream is {@link Ok}, or
+     * the first {@link Err} in encounter order otherwise.
+     * <p>
+     * On sequential streams, the stream isn't consumed any further after finding an {@link Err}, while parallel
+     * streams are collected through {@link Results#sequencing(int)}.
+     *
+     * @param results stream of results to join.
+     * @param <T>     Type of success state.
+     * @param <E>     Type of error state.
+     * @return an {@link Ok} with every value, or the first {@link Err}.
+     */
+    @NotNull
+    public static <T, E> Result<List<T>, E> sequence(@NotNull Stream<Result<T, E>> results) {
+        boolean parallel = requireNonNull(results).isParallel();
+        Spliterator<Result<T, E>> spliterator = results.spliterator();
+        int expectedSize = expectedSize(spliterator, parallel);
+        if (parallel) {
+            return StreamSupport.stream(spliterator, true).collect(sequencing(expectedSize));
+        }
+        Sequence<T, E> sequence = new Sequence<>(initialCapacity(expectedSize));
+        while (sequence.error == null && spliterator.tryAdvance(sequence::accumulate)) {
+            // Everything is done by the accumulator.
+        }
+        return sequence.finish();
+    }
+
+    /**
+     * Splits the {@link Result}s of the stream into a list of the {@link Ok} values and a list of the {@link Err}
+     * errors, both in encounter order.
+     *
+     * @param results stream of results to split.
+     * @param <T>     Type of success state.
+     * @param <E>     Type of error state.
+     * @return a {@link Tuple2} with the values as v0 and the errors as v1.
+     * @see Results#partitioning(int)
+     */
+    @NotNull
+    public static <T, E> Tuple2<List<T>, List<E>> partition(@NotNull Stream<Result<T, E>> results) {
+        boolean parallel = requireNonNull(results).isParallel();
+        Spliterator<Result<T, E>> spliterator = results.spliterator();
+        return StreamSupport.stream(spliterator, parallel).collect(partitioning(expectedSize(spliterator, parallel)));
+    }
+
+    /**
+     * Counts how many {@link Result}s of the stream are {@link Ok} and how many are {@link Err}.
+     *
+     * @param results stream of results to count.
+     * @param <T>     Type of success state.
+     * @param <E>     Type of error state.
+     * @return a {@link Tuple2} with the amount of {@link Ok}s as v0 and the amount of {@link Err}s as v1.
+     * @see Results#counting()
+     */
+    @NotNull
+    public static <T, E> Tuple2<Long, Long> count(@NotNull Stream<Result<T, E>> results) {
+        return requireNonNull(results).collect(counting());
+    }
+
+    /**
+     * Gets every {@link Err} error of the stream in encounter order, ignoring {@link Ok}s.
+     *
+     * @param results stream of results whose errors are collected.
+     * @param <T>     Type of success state.
+     * @param <E>     Type of error state.
+     * @return the list of errors.
+     * @see Results#collectingErrors()
+     */
+    @NotNull
+    public static <T, E> List<E> errors(@NotNull Stream<Result<T, E>> results) {
+        return requireNonNull(results).collect(collectingErrors());
+    }
+
+    /**
+     * Returns the amount of elements each accumulator is expected to receive, dividing the size estimate of the
+     * spliterator between the chunks a parallel stream splits it into.
+     */
+    private static int expectedSize(@NotNull Spliterator<?> spliterator, boolean parallel) {
+        long estimate = spliterator.estimateSize();
+        if (estimate == Long.MAX_VALUE) {
+            return DEFAULT_CAPACITY;
+        }
+        if (parallel) {
+            // Parallel streams keep splitting until each chunk holds about 1 / (4 * parallelism) of the elements.
+            estimate = estimate / (ForkJoinPool.getCommonPoolParallelism() * 4L) + 1;
+        }
+        return (int) Math.min(estimate, MAX_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the initial capacity for a list expected to hold the given amount of elements.
+     */
+    private static int initialCapacity(int expectedSize) {
+        return Math.max(0, Math.min(expectedSize, MAX_INITIAL_CAPACITY));
+    }
+
+    /**
+     * Accumulator of {@link Results#sequencing(int)}, holding either the values found so far or the first error.
+     */
+    private static final class Sequence<T, E> {
+
+        @Nullable private ArrayList<T> values;
+        @Nullable private E error;
+
+        Sequence(int capacity) {
+            this.values = new ArrayList<>(capacity);
+        }
+
+        void accumulate(@NotNull Result<T, E> result) {
+            if (error != null) {
+                return;
+            }
+            switch (requireNonNull(result)) {
+                case Ok<T, E>(var value) -> requireNonNull(values).add(value);
+                case Err<T, E>(var foundError) -> {
+                    error = foundError;
+                    values = null;
+                }
+            }
+        }
+
+        @NotNull
+        Sequence<T, E> combine(@NotNull Sequence<T, E> right) {
+            if (error != null) {
+                return this;
+            }
+            if (right.error != null) {
+                return right;
+            }
+            requireNonNull(values).addAll(requireNonNull(right.values));
+            return this;
+        }
+
+        @NotNull
+        Result<List<T>, E> finish() {
+            if (error != null) {
+                return new Err<>(error);
+            }
+            return new Ok<>(Collections.unmodifiableList(requireNonNull(values)));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * An {@link Exception} that never captures a stack trace, meant for expected failures that travel through a
+ * {@link Result} instead of reaching a log, such as a value not being found or failing a validation.
+ * <p>
+ * Most of the cost of throwing an exception is walking the stack on {@link Throwable#fillInStackTrace()}, which
+ * happens on construction, before {@link Result#checked(ThrowingSupplier)} or
+ * {@link Result#unchecked(Class, ThrowingSupplier)} can catch it. Extending this class skips that walk, so turning the
+ * failure into an {@link Err} costs about the same as creating any other object.
+ * <p>
+ * As instances don't hold a stack trace nor suppressed exceptions, errors without a message or with a fixed one can
+ * also be created once and thrown many times.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * public static class UserNotFound extends StacklessException {
+ *     public UserNotFound(String name) {
+ *         super("There is no user named " + name);
+ *     }
+ * }
+ *
+ * public static User findUser(String name) throws UserNotFound {
+ *     User user = USERS.get(name);
+ *     if (user == null) {
+ *         throw new UserNotFound(name);
+ *     }
+ *     return user;
+ * }
+ *
+ * public static void main(String[] args) {
+ *     Result<User, UserNotFound> user = Result.checked(() -> findUser("Alice"));
+ * }
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Result#checked(ThrowingSupplier)
+ * @see Result#unchecked(Class, ThrowingSupplier)
+ */
+public class StacklessException extends Exception implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new {@link StacklessException} without message nor cause.
+     */
+    public StacklessException() {
+        super(null, null, false, false);
+    }
+
+    /**
+     * Creates a new {@link StacklessException} with the given message.
+     *
+     * @param message the detail message.
+     */
+    public StacklessException(@Nullable String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Creates a new {@link StacklessException} with the given message and cause.
+     *
+     * @param message the detail message.
+     * @param cause   the cause of this exception, which keeps its own stack trace if it has one.
+     */
+    public StacklessException(@Nullable String message, @Nullable Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
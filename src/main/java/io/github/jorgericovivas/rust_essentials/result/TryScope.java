@@ -0,0 +1,125 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serial;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Scope of {@link Result#tryScope(Function)}, where {@link TryScope#q(Result)} emulates Rust's {@code ?} operator:
+ * it unwraps an {@link Ok}, or exits the scope with the error of an {@link Err}.
+ * <p>
+ * Exiting the scope throws a single preallocated signal that has no stack trace, no message and no suppressed
+ * exceptions, so it allocates nothing and doesn't walk the stack, while the error itself travels through the scope.
+ * The signal is an {@link Error} so {@code catch (Exception e)} blocks in the body don't swallow it.
+ * <p>
+ * A scope must only be used by the thread running its body and while the body runs, nesting scopes is supported,
+ * where calling {@link TryScope#q(Result)} on an outer scope from an inner one exits both.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Result<Integer, String> sum = Result.tryScope(scope -> {
+ *     int first = scope.q(parse("5"));
+ *     int second = scope.q(parse("x")); // Exits the scope with the error of parsing "x"
+ *     return Result.ok(first + second);
+ * });
+ * }
+ * </pre>
+ *
+ * @param <E> Type of the errors of the scope.
+ * @author Jorge Rico Vivas
+ * @see Result#tryScope(Function)
+ */
+public final class TryScope<E> {
+
+    /**
+     * Error the scope is exiting with, being null while the scope hasn't exited through {@link TryScope#q(Result)}.
+     */
+    private @Nullable E error;
+
+    /**
+     * Whether the body of the scope has finished, after which the scope can't be used.
+     */
+    private boolean closed;
+
+    /**
+     * Hidden constructor
+     */
+    TryScope() {}
+
+    /**
+     * Returns the value if the result is {@link Ok}, or exits the scope so it returns the {@link Err} otherwise.
+     *
+     * <p>Example of use:</p>
+     * <pre>
+     * {@code
+     * Result<User, IOException> user = Result.tryScope(scope -> {
+     *     String contents = scope.q(Result.checked(() -> Files.readString(Path.of("user.txt"))));
+     *     return Result.ok(new User(contents));
+     * });
+     * }
+     * </pre>
+     *
+     * @param result result to unwrap.
+     * @param <T>    Type of the value.
+     * @return the value of the result if it is {@link Ok}.
+     * @throws IllegalStateException if the body of the scope has already finished.
+     */
+    public <T> T q(@NotNull Result<T, ? extends E> result) {
+        if (closed) {
+            throw new IllegalStateException("The scope was already closed");
+        }
+        if (requireNonNull(result) instanceof Ok<T, ? extends E>(var value)) {
+            return value;
+        }
+        error = ((Err<T, ? extends E>) result).error();
+        throw ExitSignal.INSTANCE;
+    }
+
+    /**
+     * Runs the body in a new scope, see {@link Result#tryScope(Function)}.
+     */
+    @NotNull
+    static <T, E> Result<T, E> run(@NotNull Function<TryScope<E>, Result<T, E>> body) {
+        requireNonNull(body);
+        TryScope<E> scope = new TryScope<>();
+        try {
+            return requireNonNull(body.apply(scope));
+        } catch (ExitSignal signal) {
+            if (scope.error == null) {
+                throw signal;
+            }
+            return new Err<>(scope.error);
+        } finally {
+            scope.closed = true;
+        }
+    }
+
+    /**
+     * Signal thrown by {@link TryScope#q(Result)} to exit the scope, which is preallocated and never captures a stack
+     * trace.
+     *
+     * @author Jorge Rico Vivas
+     */
+    private static final class ExitSignal extends Error {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Shared instance, as the signal holds no state.
+         */
+        private static final ExitSignal INSTANCE = new ExitSignal();
+
+        /**
+         * Creates the signal without message, cause, suppressed exceptions nor stack trace.
+         */
+        private ExitSignal() {
+            super(null, null, false, false);
+        }
+    }
+}
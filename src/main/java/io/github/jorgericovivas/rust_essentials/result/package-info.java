@@ -3,6 +3,14 @@
  * the value of the operation when it is successful, and {@link Err}&lt;ErrorType&gt; containing a value explaining what
  * the error is and what happened.
  * <p>
+ * Numeric success values can avoid boxing through the primitive counterparts {@link IntResult}, {@link LongResult} and
+ * {@link DoubleResult}.
+ * <p>
+ * Texts can be parsed into results without throwing exceptions through {@link Parsing}.
+ * <p>
+ * Several results can be unwrapped one after another, returning the first {@link Err} as Rust's {@code ?} operator
+ * does, through {@link Result#tryScope(java.util.function.Function)}.
+ * <p>
  * More information about this can be found at {@link Result}.
  */
 package io.github.jorgericovivas.rust_essentials.result;
@@ -0,0 +1,155 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A growable column of values, used by the struct-of-arrays tuple containers like {@link Tuple3Columns} to store each
+ * value of the tuple in its own array.
+ * <p>
+ * {@link Column#objects()} stores any kind of value, while {@link Column#ints()}, {@link Column#longs()} and
+ * {@link Column#doubles()} store them in a primitive array, which can be read and written without boxing through the
+ * specific functions of {@link IntColumn}, {@link LongColumn} and {@link DoubleColumn}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * IntColumn ids = Column.ints();
+ * Tuple2Columns<Integer, String> users = new Tuple2Columns<>(ids, Column.objects());
+ * users.add(5, "Alice");
+ * int firstId = ids.getInt(0);
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the values.
+ * @author Jorge Rico Vivas
+ */
+public abstract sealed class Column<T> permits ObjectColumn, IntColumn, LongColumn, DoubleColumn {
+
+    /**
+     * Initial capacity of a column when none is given.
+     */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Amount of values in the column.
+     */
+    int size;
+
+    /**
+     * Hidden constructor
+     */
+    Column() {}
+
+    /**
+     * Creates an empty column storing any kind of value.
+     *
+     * @param <T> Type of the values.
+     * @return an empty column.
+     */
+    public static <T> @NotNull ObjectColumn<T> objects() {
+        return new ObjectColumn<>(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column storing int values unboxed.
+     *
+     * @return an empty column.
+     */
+    public static @NotNull IntColumn ints() {
+        return new IntColumn(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column storing long values unboxed.
+     *
+     * @return an empty column.
+     */
+    public static @NotNull LongColumn longs() {
+        return new LongColumn(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column storing double values unboxed.
+     *
+     * @return an empty column.
+     */
+    public static @NotNull DoubleColumn doubles() {
+        return new DoubleColumn(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the amount of values in the column.
+     *
+     * @return the amount of values in the column.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value at the row.
+     *
+     * @param row index of the value.
+     * @return the value at the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public abstract T get(int row);
+
+    /**
+     * Replaces the value at the row.
+     *
+     * @param row   index of the value.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public abstract void set(int row, T value);
+
+    /**
+     * Adds the value at the end of the column.
+     *
+     * @param value value to add.
+     */
+    public abstract void add(T value);
+
+    /**
+     * Checks the value can be added to the column, so the containers can check every value of a row before adding
+     * any of them.
+     *
+     * @throws NullPointerException if the column stores primitive values and the value is null.
+     */
+    void checkValue(T value) {}
+
+    /**
+     * Makes sure the column can hold the given amount of values without growing.
+     *
+     * @param capacity amount of values the column must be able to hold.
+     */
+    public abstract void ensureCapacity(int capacity);
+
+    /**
+     * Removes every value of the column, keeping its capacity.
+     */
+    public abstract void clear();
+
+    /**
+     * Checks the row is in bounds, returning it.
+     */
+    final int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the capacity to grow an array of the given length to, so it can hold at least the required amount of
+     * values, growing by half of its length like {@link java.util.ArrayList} does.
+     */
+    static int grownCapacity(int length, int required) {
+        if (required < 0) {
+            throw new OutOfMemoryError("Required column capacity too large");
+        }
+        int grown = length + (length >> 1) + 1;
+        return grown < required || grown < 0 ? required : grown;
+    }
+}
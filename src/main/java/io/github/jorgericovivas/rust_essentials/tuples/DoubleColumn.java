@@ -0,0 +1,108 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Column} storing double values in a double array, without boxing them.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * DoubleColumn values = Column.doubles();
+ * values.addDouble(5);
+ * double first = values.getDouble(0);
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Column#doubles()
+ */
+public final class DoubleColumn extends Column<Double> {
+
+    /**
+     * Values of the column, only the first {@link Column#size()} of them being used.
+     */
+    private double @NotNull [] values;
+
+    /**
+     * Creates an empty column able to hold the given amount of values without growing.
+     *
+     * @param capacity initial capacity of the column.
+     */
+    public DoubleColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+        }
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Returns the value at the row without boxing it.
+     *
+     * @param row index of the value.
+     * @return the value at the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public double getDouble(int row) {
+        return values[checkRow(row)];
+    }
+
+    /**
+     * Replaces the value at the row without boxing it.
+     *
+     * @param row   index of the value.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public void setDouble(int row, double value) {
+        values[checkRow(row)] = value;
+    }
+
+    /**
+     * Adds the value at the end of the column without boxing it.
+     *
+     * @param value value to add.
+     */
+    public void addDouble(double value) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public @NotNull Double get(int row) {
+        return getDouble(row);
+    }
+
+    @Override
+    public void set(int row, @NotNull Double value) {
+        setDouble(row, value);
+    }
+
+    @Override
+    public void add(@NotNull Double value) {
+        addDouble(value);
+    }
+
+    @Override
+    void checkValue(Double value) {
+        requireNonNull(value, "A double column can't hold null values");
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tuple containing 2 double values, stored unboxed.
+ * <p>
+ * This is the primitive counterpart of {@link Tuple2}&lt;{@link Double}, {@link Double}&gt;, which boxes both values,
+ * and unlike it, its hash is well-mixed, so it can be used as a key of a {@link java.util.HashMap} even when its
+ * values are small or follow a pattern.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * DoubleDoubleTuple2 key = Tuples.of_doubles(1.5, 1.5);
+ * key.v0 = 1.6;
+ * Tuple2<Double, Double> boxed = key.toTuple2();
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Tuple2
+ */
+public final class DoubleDoubleTuple2 {
+
+    /**
+     * First value.
+     */
+    public double v0;
+    /**
+     * Second value.
+     */
+    public double v1;
+
+    /**
+     * Creates a tuple with said values.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     */
+    public DoubleDoubleTuple2(double v0, double v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * Creates a tuple with the unboxed values of the given tuple.
+     *
+     * @param tuple tuple to unbox.
+     * @return a tuple with the unboxed values.
+     */
+    public static @NotNull DoubleDoubleTuple2 from(@NotNull Tuple2<Double, Double> tuple) {
+        requireNonNull(tuple);
+        return new DoubleDoubleTuple2(tuple.v0, tuple.v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull DoubleDoubleTuple2Record toRecord() {
+        return new DoubleDoubleTuple2Record(v0, v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull DoubleDoubleTuple2Record record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into a generic {@link Tuple2}, boxing its values.
+     *
+     * @return this tuple as a {@link Tuple2}.
+     */
+    public @NotNull Tuple2<Double, Double> toTuple2() {
+        return new Tuple2<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DoubleDoubleTuple2 that = (DoubleDoubleTuple2) o;
+        return Double.doubleToLongBits(v0) == Double.doubleToLongBits(that.v0)
+                && Double.doubleToLongBits(v1) == Double.doubleToLongBits(that.v1);
+    }
+
+    @Override public int hashCode() {
+        return TupleHashing.hash(Double.doubleToLongBits(v0), Double.doubleToLongBits(v1));
+    }
+
+    @Override @NotNull public String toString() {
+        return "DoubleDoubleTuple2{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tuple containing 2 double values, stored unboxed.
+ * <p>
+ * This is the record version mainly used for pattern matching, and the primitive counterpart of
+ * {@link Tuple2Record}&lt;{@link Double}, {@link Double}&gt;, with a well-mixed hash so it can be used as a key of a
+ * {@link java.util.HashMap}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Map<DoubleDoubleTuple2Record, String> names = new HashMap<>();
+ * names.put(Tuples.record_of_doubles(1.5, 1.5), "Alice");
+ * switch (Tuples.record_of_doubles(1.5, 1.5)) {
+ *     case DoubleDoubleTuple2Record(var first, var second) when first == second -> System.out.println("Same values");
+ *     default -> System.out.println("Values are different");
+ * }
+ * }
+ * </pre>
+ *
+ * @param v0 First value.
+ * @param v1 Second value.
+ * @author Jorge Rico Vivas
+ * @see Tuple2Record
+ */
+public record DoubleDoubleTuple2Record(double v0, double v1) {
+
+    /**
+     * Creates a tuple record with the unboxed values of the given tuple record.
+     *
+     * @param tuple tuple record to unbox.
+     * @return a tuple record with the unboxed values.
+     */
+    public static @NotNull DoubleDoubleTuple2Record from(@NotNull Tuple2Record<Double, Double> tuple) {
+        requireNonNull(tuple);
+        return new DoubleDoubleTuple2Record(tuple.v0(), tuple.v1());
+    }
+
+    /**
+     * Turns this tuple record into its class representation.
+     *
+     * @return this tuple record as a standard.
+     */
+    public @NotNull DoubleDoubleTuple2 toClass() {
+        return new DoubleDoubleTuple2(v0, v1);
+    }
+
+    /**
+     * Turns this tuple record into a generic {@link Tuple2Record}, boxing its values.
+     *
+     * @return this tuple record as a {@link Tuple2Record}.
+     */
+    public @NotNull Tuple2Record<Double, Double> toTuple2Record() {
+        return new Tuple2Record<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DoubleDoubleTuple2Record that = (DoubleDoubleTuple2Record) o;
+        return Double.doubleToLongBits(v0) == Double.doubleToLongBits(that.v0)
+                && Double.doubleToLongBits(v1) == Double.doubleToLongBits(that.v1);
+    }
+
+    @Override public int hashCode() {
+        return TupleHashing.hash(Double.doubleToLongBits(v0), Double.doubleToLongBits(v1));
+    }
+
+    @Override @NotNull public String toString() {
+        return "DoubleDoubleTuple2Record{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
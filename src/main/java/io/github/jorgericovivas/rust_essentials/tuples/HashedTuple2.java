@@ -0,0 +1,104 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An immutable tuple containing 2 values, all of them with possibly different types, whose hash is computed once when
+ * it is created.
+ * <p>
+ * This is an opt-in counterpart of {@link Tuple2} and {@link Tuple2Record} meant to be used as a key of hash maps:
+ * their hash is recomputed on every call with {@code 31 * result + ...}, which clusters for small numeric values and
+ * becomes expensive for nested tuples, while this one mixes the hash of every value into a well-spread hash and keeps
+ * it, also using it to tell apart different tuples before comparing their values.
+ * <p>
+ * As the hash is cached, the values are final, and they should be immutable too.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Map<HashedTuple2<String, Integer>, String> names = new HashMap<>();
+ * names.put(Tuples.record("Alice", 2024).hashed(), "Alice");
+ * }
+ * </pre>
+ *
+ * @param <T> First value type.
+ * @param <U> Second value type.
+ * @author Jorge Rico Vivas
+ * @see Tuple2Record#hashed()
+ */
+public final class HashedTuple2<T, U> {
+
+    /**
+     * First value.
+     */
+    public final T v0;
+    /**
+     * Second value.
+     */
+    public final U v1;
+
+    /**
+     * Cached hash of the values.
+     */
+    private final int hash;
+
+    /**
+     * Creates a tuple with said values, computing its hash.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     */
+    public HashedTuple2(T v0, U v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.hash = TupleHashing.hashAll(Objects.hashCode(v0), Objects.hashCode(v1));
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple2Record<T, U> toRecord() {
+        return new Tuple2Record<>(v0, v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple2Record<T, U> record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into its mutable class representation.
+     *
+     * @return this tuple as a standard tuple.
+     */
+    public @NotNull Tuple2<T, U> toClass() {
+        return new Tuple2<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HashedTuple2<?, ?> that = (HashedTuple2<?, ?>) o;
+        return hash == that.hash && Objects.equals(v0, that.v0) && Objects.equals(v1, that.v1);
+    }
+
+    @Override public int hashCode() {
+        return hash;
+    }
+
+    @Override @NotNull public String toString() {
+        return "HashedTuple2{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An immutable tuple containing 4 values, all of them with possibly different types, whose hash is computed once when
+ * it is created.
+ * <p>
+ * This is an opt-in counterpart of {@link Tuple4} and {@link Tuple4Record} meant to be used as a key of hash maps:
+ * their hash is recomputed on every call with {@code 31 * result + ...}, which clusters for small numeric values and
+ * becomes expensive for nested tuples, while this one mixes the hash of every value into a well-spread hash and keeps
+ * it, also using it to tell apart different tuples before comparing their values.
+ * <p>
+ * As the hash is cached, the values are final, and they should be immutable too.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Map<HashedTuple4<String, Integer, Integer, Double>, String> names = new HashMap<>();
+ * names.put(Tuples.record("Alice", 2024, 12, 1.5).hashed(), "Alice");
+ * }
+ * </pre>
+ *
+ * @param <T> First value type.
+ * @param <U> Second value type.
+ * @param <V> Third value type.
+ * @param <W> Fourth value type.
+ * @author Jorge Rico Vivas
+ * @see Tuple4Record#hashed()
+ */
+public final class HashedTuple4<T, U, V, W> {
+
+    /**
+     * First value.
+     */
+    public final T v0;
+    /**
+     * Second value.
+     */
+    public final U v1;
+    /**
+     * Third value.
+     */
+    public final V v2;
+    /**
+     * Fourth value.
+     */
+    public final W v3;
+
+    /**
+     * Cached hash of the values.
+     */
+    private final int hash;
+
+    /**
+     * Creates a tuple with said values, computing its hash.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @param v2 Third value.
+     * @param v3 Fourth value.
+     */
+    public HashedTuple4(T v0, U v1, V v2, W v3) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.hash = TupleHashing.hashAll(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2),
+                Objects.hashCode(v3));
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple4Record<T, U, V, W> toRecord() {
+        return new Tuple4Record<>(v0, v1, v2, v3);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple4Record<T, U, V, W> record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into its mutable class representation.
+     *
+     * @return this tuple as a standard tuple.
+     */
+    public @NotNull Tuple4<T, U, V, W> toClass() {
+        return new Tuple4<>(v0, v1, v2, v3);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HashedTuple4<?, ?, ?, ?> that = (HashedTuple4<?, ?, ?, ?>) o;
+        return hash == that.hash
+                && Objects.equals(v0, that.v0)
+                && Objects.equals(v1, that.v1)
+                && Objects.equals(v2, that.v2)
+                && Objects.equals(v3, that.v3);
+    }
+
+    @Override public int hashCode() {
+        return hash;
+    }
+
+    @Override @NotNull public String toString() {
+        return "HashedTuple4{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                ", v2=" + v2 +
+                ", v3=" + v3 +
+                '}';
+    }
+}
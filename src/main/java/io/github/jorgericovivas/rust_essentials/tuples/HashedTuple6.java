@@ -0,0 +1,143 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An immutable tuple containing 6 values, all of them with possibly different types, whose hash is computed once when
+ * it is created.
+ * <p>
+ * This is an opt-in counterpart of {@link Tuple6} and {@link Tuple6Record} meant to be used as a key of hash maps:
+ * their hash is recomputed on every call with {@code 31 * result + ...}, which clusters for small numeric values and
+ * becomes expensive for nested tuples, while this one mixes the hash of every value into a well-spread hash and keeps
+ * it, also using it to tell apart different tuples before comparing their values.
+ * <p>
+ * As the hash is cached, the values are final, and they should be immutable too.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Map<HashedTuple6<String, Integer, Integer, Double, String, Integer>, String> names = new HashMap<>();
+ * names.put(Tuples.record("Alice", 2024, 12, 1.5, "Belle", 3).hashed(), "Alice");
+ * }
+ * </pre>
+ *
+ * @param <T> First value type.
+ * @param <U> Second value type.
+ * @param <V> Third value type.
+ * @param <W> Fourth value type.
+ * @param <X> Fifth value type.
+ * @param <Y> Sixth value type.
+ * @author Jorge Rico Vivas
+ * @see Tuple6Record#hashed()
+ */
+public final class HashedTuple6<T, U, V, W, X, Y> {
+
+    /**
+     * First value.
+     */
+    public final T v0;
+    /**
+     * Second value.
+     */
+    public final U v1;
+    /**
+     * Third value.
+     */
+    public final V v2;
+    /**
+     * Fourth value.
+     */
+    public final W v3;
+    /**
+     * Fifth value.
+     */
+    public final X v4;
+    /**
+     * Sixth value.
+     */
+    public final Y v5;
+
+    /**
+     * Cached hash of the values.
+     */
+    private final int hash;
+
+    /**
+     * Creates a tuple with said values, computing its hash.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @param v2 Third value.
+     * @param v3 Fourth value.
+     * @param v4 Fifth value.
+     * @param v5 Sixth value.
+     */
+    public HashedTuple6(T v0, U v1, V v2, W v3, X v4, Y v5) {
+        this.v0 = v0;
+        this.v1 = v1;
+        this.v2 = v2;
+        this.v3 = v3;
+        this.v4 = v4;
+        this.v5 = v5;
+        this.hash = TupleHashing.hashAll(Objects.hashCode(v0), Objects.hashCode(v1), Objects.hashCode(v2),
+                Objects.hashCode(v3), Objects.hashCode(v4), Objects.hashCode(v5));
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple6Record<T, U, V, W, X, Y> toRecord() {
+        return new Tuple6Record<>(v0, v1, v2, v3, v4, v5);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull Tuple6Record<T, U, V, W, X, Y> record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into its mutable class representation.
+     *
+     * @return this tuple as a standard tuple.
+     */
+    public @NotNull Tuple6<T, U, V, W, X, Y> toClass() {
+        return new Tuple6<>(v0, v1, v2, v3, v4, v5);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HashedTuple6<?, ?, ?, ?, ?, ?> that = (HashedTuple6<?, ?, ?, ?, ?, ?>) o;
+        return hash == that.hash
+                && Objects.equals(v0, that.v0)
+                && Objects.equals(v1, that.v1)
+                && Objects.equals(v2, that.v2)
+                && Objects.equals(v3, that.v3)
+                && Objects.equals(v4, that.v4)
+                && Objects.equals(v5, that.v5);
+    }
+
+    @Override public int hashCode() {
+        return hash;
+    }
+
+    @Override @NotNull public String toString() {
+        return "HashedTuple6{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                ", v2=" + v2 +
+                ", v3=" + v3 +
+                ", v4=" + v4 +
+                ", v5=" + v5 +
+                '}';
+    }
+}
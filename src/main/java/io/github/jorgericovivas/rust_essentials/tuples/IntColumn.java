@@ -0,0 +1,108 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Column} storing int values in a int array, without boxing them.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * IntColumn values = Column.ints();
+ * values.addInt(5);
+ * int first = values.getInt(0);
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Column#ints()
+ */
+public final class IntColumn extends Column<Integer> {
+
+    /**
+     * Values of the column, only the first {@link Column#size()} of them being used.
+     */
+    private int @NotNull [] values;
+
+    /**
+     * Creates an empty column able to hold the given amount of values without growing.
+     *
+     * @param capacity initial capacity of the column.
+     */
+    public IntColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+        }
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Returns the value at the row without boxing it.
+     *
+     * @param row index of the value.
+     * @return the value at the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public int getInt(int row) {
+        return values[checkRow(row)];
+    }
+
+    /**
+     * Replaces the value at the row without boxing it.
+     *
+     * @param row   index of the value.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public void setInt(int row, int value) {
+        values[checkRow(row)] = value;
+    }
+
+    /**
+     * Adds the value at the end of the column without boxing it.
+     *
+     * @param value value to add.
+     */
+    public void addInt(int value) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public @NotNull Integer get(int row) {
+        return getInt(row);
+    }
+
+    @Override
+    public void set(int row, @NotNull Integer value) {
+        setInt(row, value);
+    }
+
+    @Override
+    public void add(@NotNull Integer value) {
+        addInt(value);
+    }
+
+    @Override
+    void checkValue(Integer value) {
+        requireNonNull(value, "An int column can't hold null values");
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
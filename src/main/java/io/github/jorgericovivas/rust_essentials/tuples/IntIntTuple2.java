@@ -0,0 +1,103 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tuple containing 2 int values, stored unboxed.
+ * <p>
+ * This is the primitive counterpart of {@link Tuple2}&lt;{@link Integer}, {@link Integer}&gt;, which boxes both values,
+ * and unlike it, its hash is well-mixed, so it can be used as a key of a {@link java.util.HashMap} even when its
+ * values are small or follow a pattern.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * IntIntTuple2 key = Tuples.of_ints(5, 5);
+ * key.v0 = 6;
+ * Tuple2<Integer, Integer> boxed = key.toTuple2();
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Tuple2
+ */
+public final class IntIntTuple2 {
+
+    /**
+     * First value.
+     */
+    public int v0;
+    /**
+     * Second value.
+     */
+    public int v1;
+
+    /**
+     * Creates a tuple with said values.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     */
+    public IntIntTuple2(int v0, int v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * Creates a tuple with the unboxed values of the given tuple.
+     *
+     * @param tuple tuple to unbox.
+     * @return a tuple with the unboxed values.
+     */
+    public static @NotNull IntIntTuple2 from(@NotNull Tuple2<Integer, Integer> tuple) {
+        requireNonNull(tuple);
+        return new IntIntTuple2(tuple.v0, tuple.v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull IntIntTuple2Record toRecord() {
+        return new IntIntTuple2Record(v0, v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull IntIntTuple2Record record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into a generic {@link Tuple2}, boxing its values.
+     *
+     * @return this tuple as a {@link Tuple2}.
+     */
+    public @NotNull Tuple2<Integer, Integer> toTuple2() {
+        return new Tuple2<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IntIntTuple2 that = (IntIntTuple2) o;
+        return v0 == that.v0 && v1 == that.v1;
+    }
+
+    @Override public int hashCode() {
+        return TupleHashing.hash(v0, v1);
+    }
+
+    @Override @NotNull public String toString() {
+        return "IntIntTuple2{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tuple containing an int and a long value, stored unboxed.
+ * <p>
+ * This is the record version mainly used for pattern matching, and the primitive counterpart of
+ * {@link Tuple2Record}&lt;{@link Integer}, {@link Long}&gt;, with a well-mixed hash so it can be used as a key of a
+ * {@link java.util.HashMap}.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Map<IntLongTuple2Record, String> names = new HashMap<>();
+ * names.put(Tuples.record_of_int_long(5, 5L), "Alice");
+ * switch (Tuples.record_of_int_long(5, 5L)) {
+ *     case IntLongTuple2Record(var first, var second) when first == second -> System.out.println("Same values");
+ *     default -> System.out.println("Values are different");
+ * }
+ * }
+ * </pre>
+ *
+ * @param v0 First value.
+ * @param v1 Second value.
+ * @author Jorge Rico Vivas
+ * @see Tuple2Record
+ */
+public record IntLongTuple2Record(int v0, long v1) {
+
+    /**
+     * Creates a tuple record with the unboxed values of the given tuple record.
+     *
+     * @param tuple tuple record to unbox.
+     * @return a tuple record with the unboxed values.
+     */
+    public static @NotNull IntLongTuple2Record from(@NotNull Tuple2Record<Integer, Long> tuple) {
+        requireNonNull(tuple);
+        return new IntLongTuple2Record(tuple.v0(), tuple.v1());
+    }
+
+    /**
+     * Turns this tuple record into its class representation.
+     *
+     * @return this tuple record as a standard.
+     */
+    public @NotNull IntLongTuple2 toClass() {
+        return new IntLongTuple2(v0, v1);
+    }
+
+    /**
+     * Turns this tuple record into a generic {@link Tuple2Record}, boxing its values.
+     *
+     * @return this tuple record as a {@link Tuple2Record}.
+     */
+    public @NotNull Tuple2Record<Integer, Long> toTuple2Record() {
+        return new Tuple2Record<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IntLongTuple2Record that = (IntLongTuple2Record) o;
+        return v0 == that.v0 && v1 == that.v1;
+    }
+
+    @Override public int hashCode() {
+        return TupleHashing.hash(v0, v1);
+    }
+
+    @Override @NotNull public String toString() {
+        return "IntLongTuple2Record{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Column} storing long values in a long array, without boxing them.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * LongColumn values = Column.longs();
+ * values.addLong(5);
+ * long first = values.getLong(0);
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Column#longs()
+ */
+public final class LongColumn extends Column<Long> {
+
+    /**
+     * Values of the column, only the first {@link Column#size()} of them being used.
+     */
+    private long @NotNull [] values;
+
+    /**
+     * Creates an empty column able to hold the given amount of values without growing.
+     *
+     * @param capacity initial capacity of the column.
+     */
+    public LongColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+        }
+        this.values = new long[capacity];
+    }
+
+    /**
+     * Returns the value at the row without boxing it.
+     *
+     * @param row index of the value.
+     * @return the value at the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public long getLong(int row) {
+        return values[checkRow(row)];
+    }
+
+    /**
+     * Replaces the value at the row without boxing it.
+     *
+     * @param row   index of the value.
+     * @param value the new value.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     */
+    public void setLong(int row, long value) {
+        values[checkRow(row)] = value;
+    }
+
+    /**
+     * Adds the value at the end of the column without boxing it.
+     *
+     * @param value value to add.
+     */
+    public void addLong(long value) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public @NotNull Long get(int row) {
+        return getLong(row);
+    }
+
+    @Override
+    public void set(int row, @NotNull Long value) {
+        setLong(row, value);
+    }
+
+    @Override
+    public void add(@NotNull Long value) {
+        addLong(value);
+    }
+
+    @Override
+    void checkValue(Long value) {
+        requireNonNull(value, "A long column can't hold null values");
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A tuple containing 2 long values, stored unboxed.
+ * <p>
+ * This is the primitive counterpart of {@link Tuple2}&lt;{@link Long}, {@link Long}&gt;, which boxes both values,
+ * and unlike it, its hash is well-mixed, so it can be used as a key of a {@link java.util.HashMap} even when its
+ * values are small or follow a pattern.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * LongLongTuple2 key = Tuples.of_longs(5L, 5L);
+ * key.v0 = 6L;
+ * Tuple2<Long, Long> boxed = key.toTuple2();
+ * }
+ * </pre>
+ *
+ * @author Jorge Rico Vivas
+ * @see Tuple2
+ */
+public final class LongLongTuple2 {
+
+    /**
+     * First value.
+     */
+    public long v0;
+    /**
+     * Second value.
+     */
+    public long v1;
+
+    /**
+     * Creates a tuple with said values.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     */
+    public LongLongTuple2(long v0, long v1) {
+        this.v0 = v0;
+        this.v1 = v1;
+    }
+
+    /**
+     * Creates a tuple with the unboxed values of the given tuple.
+     *
+     * @param tuple tuple to unbox.
+     * @return a tuple with the unboxed values.
+     */
+    public static @NotNull LongLongTuple2 from(@NotNull Tuple2<Long, Long> tuple) {
+        requireNonNull(tuple);
+        return new LongLongTuple2(tuple.v0, tuple.v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull LongLongTuple2Record toRecord() {
+        return new LongLongTuple2Record(v0, v1);
+    }
+
+    /**
+     * Turns this tuple into its record representation.
+     *
+     * @return this tuple as a record.
+     */
+    public @NotNull LongLongTuple2Record record() {
+        return toRecord();
+    }
+
+    /**
+     * Turns this tuple into a generic {@link Tuple2}, boxing its values.
+     *
+     * @return this tuple as a {@link Tuple2}.
+     */
+    public @NotNull Tuple2<Long, Long> toTuple2() {
+        return new Tuple2<>(v0, v1);
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LongLongTuple2 that = (LongLongTuple2) o;
+        return v0 == that.v0 && v1 == that.v1;
+    }
+
+    @Override public int hashCode() {
+        return TupleHashing.hash(v0, v1);
+    }
+
+    @Override @NotNull public String toString() {
+        return "LongLongTuple2{" +
+                "v0=" + v0 +
+                ", v1=" + v1 +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Column} storing any kind of value in an Object array.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * ObjectColumn<String> names = Column.objects();
+ * names.add("Alice");
+ * String first = names.get(0);
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the values.
+ * @author Jorge Rico Vivas
+ * @see Column#objects()
+ */
+public final class ObjectColumn<T> extends Column<T> {
+
+    /**
+     * Values of the column, only the first {@link Column#size()} of them being used.
+     */
+    private Object @NotNull [] values;
+
+    /**
+     * Creates an empty column able to hold the given amount of values without growing.
+     *
+     * @param capacity initial capacity of the column.
+     */
+    public ObjectColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+        }
+        this.values = new Object[capacity];
+    }
+
+    @Override @SuppressWarnings("unchecked")
+    public T get(int row) {
+        return (T) values[checkRow(row)];
+    }
+
+    @Override
+    public void set(int row, T value) {
+        values[checkRow(row)] = value;
+    }
+
+    @Override
+    public void add(T value) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(values.length, capacity));
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+}
@@ -51,6 +51,16 @@ public final class Tuple2<T, U> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple2}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple2}.
+     */
+    public @NotNull HashedTuple2<T, U> hashed() {
+        return new HashedTuple2<>(v0, v1);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -25,6 +25,16 @@ public record Tuple2Record<T, U>(T v0, U v1) {
         return new Tuple2<>(v0, v1);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple2}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple2}.
+     */
+    public @NotNull HashedTuple2<T, U> hashed() {
+        return new HashedTuple2<>(v0, v1);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
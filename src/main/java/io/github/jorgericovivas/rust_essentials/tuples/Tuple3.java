@@ -58,6 +58,16 @@ public final class Tuple3<T, U, V> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple3}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple3}.
+     */
+    public @NotNull HashedTuple3<T, U, V> hashed() {
+        return new HashedTuple3<>(v0, v1, v2);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
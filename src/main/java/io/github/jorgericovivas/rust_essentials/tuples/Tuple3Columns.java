@@ -0,0 +1,283 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A struct-of-arrays container of rows of 3 values, storing each value of the rows in its own {@link Column} instead
+ * of keeping one {@link Tuple3Record} per row.
+ * <p>
+ * Columns created through {@link Column#ints()}, {@link Column#longs()} or {@link Column#doubles()} keep their values
+ * unboxed. Rows can be read as a new {@link Tuple3Record} through {@link Tuple3Columns#get(int)}, or through
+ * {@link Tuple3Columns#read(int, Tuple3)} and {@link Tuple3Columns#forEach(Consumer)}, which reuse a single mutable
+ * {@link Tuple3} instead of allocating a record per row, although the values of primitive columns are boxed this way.
+ * <p>
+ * To avoid boxing, rows can be added by adding each value to its column through their specific functions, like
+ * {@link IntColumn#addInt(int)}, and read by walking the row indexes through
+ * {@link Tuple3Columns#forEachRow(IntConsumer)} and reading each value from its column, like through
+ * {@link IntColumn#getInt(int)}. As columns can be modified on their own, reading rows checks every column holds the
+ * same amount of values.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * IntColumn ids = Column.ints();
+ * Tuple3Columns<Integer, String, Double> rows = new Tuple3Columns<>(ids, Column.objects(), Column.doubles());
+ * rows.add(5, "Alice", 1.5);
+ * int firstId = ids.getInt(0);
+ * rows.forEach(row -> System.out.println(row.v1));
+ * rows.forEachRow(row -> System.out.println(ids.getInt(row)));
+ * }
+ * </pre>
+ *
+ * @param <T> First value type.
+ * @param <U> Second value type.
+ * @param <V> Third value type.
+ * @author Jorge Rico Vivas
+ * @see Tuple3
+ * @see Tuple3Record
+ */
+@SuppressWarnings("unused")
+public final class Tuple3Columns<T, U, V> {
+
+    /**
+     * Column holding the first value of every row.
+     */
+    private final @NotNull Column<T> column0;
+    /**
+     * Column holding the second value of every row.
+     */
+    private final @NotNull Column<U> column1;
+    /**
+     * Column holding the third value of every row.
+     */
+    private final @NotNull Column<V> column2;
+
+    /**
+     * Creates an empty container where every column holds its values as objects.
+     */
+    public Tuple3Columns() {
+        this(Column.objects(), Column.objects(), Column.objects());
+    }
+
+    /**
+     * Creates a container over the given columns, which must hold the same amount of values.
+     *
+     * @param column0 column holding the first values.
+     * @param column1 column holding the second values.
+     * @param column2 column holding the third values.
+     * @throws IllegalArgumentException if the columns hold a different amount of values.
+     */
+    public Tuple3Columns(@NotNull Column<T> column0, @NotNull Column<U> column1, @NotNull Column<V> column2) {
+        this.column0 = requireNonNull(column0);
+        this.column1 = requireNonNull(column1);
+        this.column2 = requireNonNull(column2);
+        int size = column0.size();
+        if (column1.size() != size
+                || column2.size() != size) {
+            throw new IllegalArgumentException("Every column must hold the same amount of values");
+        }
+    }
+
+    /**
+     * Creates a container holding every record of the stream as a row, in encounter order.
+     *
+     * @param records records to store.
+     * @param <T>     First value type.
+     * @param <U>     Second value type.
+     * @param <V>     Third value type.
+     * @return a container holding every record.
+     */
+    public static <T, U, V> @NotNull Tuple3Columns<T, U, V>
+    fromRecords(@NotNull Stream<Tuple3Record<T, U, V>> records) {
+        return new Tuple3Columns<T, U, V>().addAll(records);
+    }
+
+    /**
+     * Returns the amount of rows.
+     *
+     * @return the amount of rows.
+     * @throws IllegalStateException if values were added to or removed from some of the columns but not the others.
+     */
+    public int size() {
+        int size = column0.size();
+        if (column1.size() != size
+                || column2.size() != size) {
+            throw new IllegalStateException("Every column must hold the same amount of values");
+        }
+        return size;
+    }
+
+    /**
+     * Adds a row with the given values, checking every column can hold its value before adding any, so a rejected
+     * value leaves the columns untouched.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @param v2 Third value.
+     */
+    public void add(T v0, U v1, V v2) {
+        column0.checkValue(v0);
+        column1.checkValue(v1);
+        column2.checkValue(v2);
+        ensureCapacity(size() + 1);
+        column0.add(v0);
+        column1.add(v1);
+        column2.add(v2);
+    }
+
+    /**
+     * Adds a row with the values of the record.
+     *
+     * @param record record holding the values of the row.
+     */
+    public void add(@NotNull Tuple3Record<T, U, V> record) {
+        requireNonNull(record);
+        add(record.v0(), record.v1(), record.v2());
+    }
+
+    /**
+     * Adds a row for every record of the stream, in encounter order.
+     *
+     * @param records records to add.
+     * @return this container.
+     */
+    public @NotNull Tuple3Columns<T, U, V> addAll(@NotNull Stream<Tuple3Record<T, U, V>> records) {
+        requireNonNull(records).forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Returns the row as a new record.
+     *
+     * @param row index of the row.
+     * @return a record with the values of the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     * @throws IllegalStateException   if the columns hold different amounts of values.
+     */
+    public @NotNull Tuple3Record<T, U, V> get(int row) {
+        checkIndex(row, size());
+        return new Tuple3Record<>(column0.get(row), column1.get(row), column2.get(row));
+    }
+
+    /**
+     * Writes the values of the row into the given tuple, so a single tuple can be reused to read many rows.
+     *
+     * @param row    index of the row.
+     * @param target tuple to write the values into.
+     * @return the target tuple.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     * @throws IllegalStateException   if the columns hold different amounts of values.
+     */
+    public @NotNull Tuple3<T, U, V> read(int row, @NotNull Tuple3<T, U, V> target) {
+        requireNonNull(target);
+        checkIndex(row, size());
+        return fill(row, target);
+    }
+
+    /**
+     * Writes the values of the row into the tuple, once the row is known to be in bounds of every column.
+     */
+    private @NotNull Tuple3<T, U, V> fill(int row, @NotNull Tuple3<T, U, V> target) {
+        target.v0 = column0.get(row);
+        target.v1 = column1.get(row);
+        target.v2 = column2.get(row);
+        return target;
+    }
+
+    /**
+     * Calls the action with every row in order, reusing a single {@link Tuple3} that is overwritten on each row, so
+     * it must not be kept after the action returns.
+     *
+     * @param action action to call with each row.
+     */
+    public void forEach(@NotNull Consumer<? super Tuple3<T, U, V>> action) {
+        requireNonNull(action);
+        Tuple3<T, U, V> cursor = new Tuple3<>(null, null, null);
+        int size = size();
+        for (int row = 0; row < size; row++) {
+            action.accept(fill(row, cursor));
+        }
+    }
+
+    /**
+     * Calls the action with the index of every row in order, so the values of each row can be read from the columns
+     * through their specific functions, like {@link IntColumn#getInt(int)}, without boxing them.
+     *
+     * @param action action to call with the index of each row.
+     * @throws IllegalStateException if the columns hold different amounts of values.
+     */
+    public void forEachRow(@NotNull IntConsumer action) {
+        requireNonNull(action);
+        int size = size();
+        for (int row = 0; row < size; row++) {
+            action.accept(row);
+        }
+    }
+
+    /**
+     * Returns a stream with every row as a new record, in order.
+     *
+     * @return a stream of the rows as records.
+     */
+    public @NotNull Stream<Tuple3Record<T, U, V>> records() {
+        return IntStream.range(0, size()).mapToObj(this::get);
+    }
+
+    /**
+     * Makes sure every column can hold the given amount of rows without growing.
+     *
+     * @param capacity amount of rows the columns must be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+        column0.ensureCapacity(capacity);
+        column1.ensureCapacity(capacity);
+        column2.ensureCapacity(capacity);
+    }
+
+    /**
+     * Removes every row.
+     */
+    public void clear() {
+        column0.clear();
+        column1.clear();
+        column2.clear();
+    }
+
+    /**
+     * Returns the column holding the first value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the first values.
+     */
+    public @NotNull Column<T> column0() {
+        return column0;
+    }
+
+    /**
+     * Returns the column holding the second value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the second values.
+     */
+    public @NotNull Column<U> column1() {
+        return column1;
+    }
+
+    /**
+     * Returns the column holding the third value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the third values.
+     */
+    public @NotNull Column<V> column2() {
+        return column2;
+    }
+}
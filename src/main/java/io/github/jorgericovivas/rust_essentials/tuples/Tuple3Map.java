@@ -0,0 +1,403 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.Some;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A hash map whose keys are made of 3 components, taking the components directly instead of a {@link Tuple3Record},
+ * so looking up a key doesn't need to allocate a tuple for it.
+ * <p>
+ * Entries are stored through open addressing with linear probing over parallel arrays, one per component of the key
+ * plus one for the values and one for the hash of each key, so probing compares the cached hashes first and never
+ * allocates. The hash of the components is mixed the same way as {@link IntIntTuple2}, so keys with small or similar
+ * components don't cluster. Neither the components of the keys nor the values can be null.
+ * <p>
+ * Lookups through {@code get} return an {@link Option}, while {@code getOrDefault} and {@code containsKey} don't
+ * allocate at all.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * Tuple3Map<String, Integer, Integer, Double> prices = new Tuple3Map<>();
+ * prices.put("Apple", 2024, 12, 1.5);
+ * double applePrice = prices.get("Apple", 2024, 12).unwrapOr(0.0);
+ * double pearPrice = prices.computeIfAbsent("Pear", 2024, 12, key -> 2.0);
+ * }
+ * </pre>
+ *
+ * @param <A> Type of the first component of the keys.
+ * @param <B> Type of the second component of the keys.
+ * @param <C> Type of the third component of the keys.
+ * @param <V> Type of the values.
+ * @author Jorge Rico Vivas
+ * @see Tuple3Record
+ */
+@SuppressWarnings("unused")
+public final class Tuple3Map<A, B, C, V> {
+
+    /**
+     * Capacity of the table when none is given.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Largest capacity of the table.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * First component of the key of each slot, being null for empty slots.
+     */
+    private Object @NotNull [] keys0;
+    /**
+     * Second component of the key of each slot, being null for empty slots.
+     */
+    private Object @NotNull [] keys1;
+    /**
+     * Third component of the key of each slot, being null for empty slots.
+     */
+    private Object @NotNull [] keys2;
+
+    /**
+     * Value of each slot, being null for empty slots.
+     */
+    private Object @NotNull [] values;
+
+    /**
+     * Mixed hash of the key of each slot.
+     */
+    private int @NotNull [] hashes;
+
+    /**
+     * Amount of entries in the map.
+     */
+    private int size;
+
+    /**
+     * Amount of entries that makes the table grow, being three quarters of its capacity.
+     */
+    private int threshold;
+
+    /**
+     * Creates an empty map.
+     */
+    public Tuple3Map() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map able to hold the given amount of entries without growing.
+     *
+     * @param expectedSize amount of entries the map is expected to hold.
+     */
+    public Tuple3Map(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative, but was " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the power of two capacity of a table able to hold the given amount of entries without growing.
+     */
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(DEFAULT_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        return required >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    /**
+     * Replaces the table with an empty one of the given capacity.
+     */
+    private void allocate(int capacity) {
+        keys0 = new Object[capacity];
+        keys1 = new Object[capacity];
+        keys2 = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity / 4 * 3;
+    }
+
+    /**
+     * Returns the mixed hash of the key.
+     */
+    private static int hash(@NotNull Object a, @NotNull Object b, @NotNull Object c) {
+        return TupleHashing.hash(TupleHashing.hash(a.hashCode(), b.hashCode()), c.hashCode());
+    }
+
+    /**
+     * Returns the slot holding the key, or the complement of the empty slot where it would be inserted if absent.
+     */
+    private int slotOf(@NotNull Object a, @NotNull Object b, @NotNull Object c, int hash) {
+        int mask = values.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            if (keys0[slot] == null) {
+                return ~slot;
+            }
+            if (hashes[slot] == hash && a.equals(keys0[slot]) && b.equals(keys1[slot]) && c.equals(keys2[slot])) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of entries in the map.
+     *
+     * @return the amount of entries in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map holds no entries.
+     *
+     * @return true if the map holds no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if the map holds a value for the key.
+     *
+     * @param a first component of the key.
+     * @param b second component of the key.
+     * @param c third component of the key.
+     * @return true if the map holds a value for the key.
+     */
+    public boolean containsKey(@NotNull A a, @NotNull B b, @NotNull C c) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        return slotOf(a, b, c, hash(a, b, c)) >= 0;
+    }
+
+    /**
+     * Returns {@link Some} with the value of the key, or {@link Option#none()} if the map holds no value for it.
+     *
+     * @param a first component of the key.
+     * @param b second component of the key.
+     * @param c third component of the key.
+     * @return the value of the key, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Option<V> get(@NotNull A a, @NotNull B b, @NotNull C c) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        int slot = slotOf(a, b, c, hash(a, b, c));
+        return slot >= 0 ? new Some<>((V) values[slot]) : Option.none();
+    }
+
+    /**
+     * Returns the value of the key, or the default value if the map holds no value for it, without allocating.
+     *
+     * @param a            first component of the key.
+     * @param b            second component of the key.
+     * @param c            third component of the key.
+     * @param defaultValue value to return if the map holds no value for the key.
+     * @return the value of the key, or the default value.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V getOrDefault(@NotNull A a, @NotNull B b, @NotNull C c, @Nullable V defaultValue) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        int slot = slotOf(a, b, c, hash(a, b, c));
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    /**
+     * Associates the value to the key, returning the value it previously had, if any.
+     *
+     * @param a     first component of the key.
+     * @param b     second component of the key.
+     * @param c     third component of the key.
+     * @param value value to associate to the key.
+     * @return the previous value of the key, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Option<V> put(@NotNull A a, @NotNull B b, @NotNull C c, @NotNull V value) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        requireNonNull(value);
+        int hash = hash(a, b, c);
+        int slot = slotOf(a, b, c, hash);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return new Some<>(previous);
+        }
+        insert(~slot, a, b, c, hash, value);
+        return Option.none();
+    }
+
+    /**
+     * Returns the value of the key, computing it and associating it to the key if the map holds no value for it.
+     *
+     * @param a       first component of the key.
+     * @param b       second component of the key.
+     * @param c       third component of the key.
+     * @param mapping function computing the value from the key, which is only turned into a record if it is absent.
+     * @return the current or computed value of the key.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull V computeIfAbsent(@NotNull A a, @NotNull B b, @NotNull C c,
+                                      @NotNull Function<? super Tuple3Record<A, B, C>, ? extends V> mapping) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        requireNonNull(mapping);
+        int hash = hash(a, b, c);
+        int slot = slotOf(a, b, c, hash);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = requireNonNull(mapping.apply(new Tuple3Record<>(a, b, c)));
+        // The mapping function could have modified the map, so the slot is searched again.
+        slot = slotOf(a, b, c, hash);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(~slot, a, b, c, hash, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the key, returning the value it had, if any.
+     *
+     * @param a first component of the key.
+     * @param b second component of the key.
+     * @param c third component of the key.
+     * @return the removed value of the key, if any.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Option<V> remove(@NotNull A a, @NotNull B b, @NotNull C c) {
+        requireNonNull(a);
+        requireNonNull(b);
+        requireNonNull(c);
+        int slot = slotOf(a, b, c, hash(a, b, c));
+        if (slot < 0) {
+            return Option.none();
+        }
+        V removed = (V) values[slot];
+        deleteSlot(slot);
+        return new Some<>(removed);
+    }
+
+    /**
+     * Removes every entry, keeping the capacity of the table.
+     */
+    public void clear() {
+        Arrays.fill(keys0, null);
+        Arrays.fill(keys1, null);
+        Arrays.fill(keys2, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a stream with every entry as a record whose last value is the value of the entry, in no particular
+     * order.
+     *
+     * @return a stream of the entries.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Stream<Tuple4Record<A, B, C, V>> entries() {
+        return IntStream.range(0, values.length)
+                        .filter(slot -> keys0[slot] != null)
+                        .mapToObj(slot -> new Tuple4Record<>((A) keys0[slot], (B) keys1[slot], (C) keys2[slot],
+                                (V) values[slot]));
+    }
+
+    /**
+     * Stores the entry on the given empty slot, growing the table if needed.
+     */
+    private void insert(int slot, @NotNull Object a, @NotNull Object b, @NotNull Object c, int hash,
+                        @NotNull Object value) {
+        keys0[slot] = a;
+        keys1[slot] = b;
+        keys2[slot] = c;
+        values[slot] = value;
+        hashes[slot] = hash;
+        if (++size > threshold) {
+            grow();
+        }
+    }
+
+    /**
+     * Doubles the capacity of the table, moving every entry to its new slot.
+     */
+    private void grow() {
+        if (values.length == MAX_CAPACITY) {
+            throw new IllegalStateException("The map can't hold more than " + threshold + " entries");
+        }
+        Object[] oldKeys0 = keys0;
+        Object[] oldKeys1 = keys1;
+        Object[] oldKeys2 = keys2;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(values.length * 2);
+        int mask = values.length - 1;
+        for (int oldSlot = 0; oldSlot < oldValues.length; oldSlot++) {
+            if (oldKeys0[oldSlot] != null) {
+                int slot = oldHashes[oldSlot] & mask;
+                while (keys0[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys0[slot] = oldKeys0[oldSlot];
+                keys1[slot] = oldKeys1[oldSlot];
+                keys2[slot] = oldKeys2[oldSlot];
+                values[slot] = oldValues[oldSlot];
+                hashes[slot] = oldHashes[oldSlot];
+            }
+        }
+    }
+
+    /**
+     * Empties the slot, shifting back the following entries of its probe sequence so no lookup stops early.
+     */
+    private void deleteSlot(int slot) {
+        int mask = values.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys0[next] != null; next = (next + 1) & mask) {
+            int home = hashes[next] & mask;
+            // The entry can only fill the gap if the gap lies between its home slot and its current slot.
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys0[gap] = keys0[next];
+                keys1[gap] = keys1[next];
+                keys2[gap] = keys2[next];
+                values[gap] = values[next];
+                hashes[gap] = hashes[next];
+                gap = next;
+            }
+        }
+        keys0[gap] = null;
+        keys1[gap] = null;
+        keys2[gap] = null;
+        values[gap] = null;
+        size--;
+    }
+
+    @Override @NotNull public String toString() {
+        StringBuilder builder = new StringBuilder("Tuple3Map{");
+        entries().forEach(entry -> {
+            if (builder.length() > "Tuple3Map{".length()) {
+                builder.append(", ");
+            }
+            builder.append(entry);
+        });
+        return builder.append('}').toString();
+    }
+}
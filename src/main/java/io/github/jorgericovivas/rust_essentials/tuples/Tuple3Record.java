@@ -26,6 +26,16 @@ public record Tuple3Record<T, U, V>(T v0, U v1, V v2) {
         return new Tuple3<>(v0, v1, v2);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple3}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple3}.
+     */
+    public @NotNull HashedTuple3<T, U, V> hashed() {
+        return new HashedTuple3<>(v0, v1, v2);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
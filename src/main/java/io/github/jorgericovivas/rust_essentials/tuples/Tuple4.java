@@ -65,6 +65,16 @@ public final class Tuple4<T, U, V, W> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple4}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple4}.
+     */
+    public @NotNull HashedTuple4<T, U, V, W> hashed() {
+        return new HashedTuple4<>(v0, v1, v2, v3);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -29,6 +29,16 @@ public record Tuple4Record<T, U, V, W>(T v0, U v1, V v2, W v3) {
         return new Tuple4<>(v0, v1, v2, v3);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple4}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple4}.
+     */
+    public @NotNull HashedTuple4<T, U, V, W> hashed() {
+        return new HashedTuple4<>(v0, v1, v2, v3);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -72,6 +72,16 @@ public final class Tuple5<T, U, V, W, X> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple5}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple5}.
+     */
+    public @NotNull HashedTuple5<T, U, V, W, X> hashed() {
+        return new HashedTuple5<>(v0, v1, v2, v3, v4);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
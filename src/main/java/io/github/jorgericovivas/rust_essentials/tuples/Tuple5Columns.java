@@ -0,0 +1,343 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A struct-of-arrays container of rows of 5 values, storing each value of the rows in its own {@link Column} instead
+ * of keeping one {@link Tuple5Record} per row.
+ * <p>
+ * Columns created through {@link Column#ints()}, {@link Column#longs()} or {@link Column#doubles()} keep their values
+ * unboxed. Rows can be read as a new {@link Tuple5Record} through {@link Tuple5Columns#get(int)}, or through
+ * {@link Tuple5Columns#read(int, Tuple5)} and {@link Tuple5Columns#forEach(Consumer)}, which reuse a single mutable
+ * {@link Tuple5} instead of allocating a record per row, although the values of primitive columns are boxed this way.
+ * <p>
+ * To avoid boxing, rows can be added by adding each value to its column through their specific functions, like
+ * {@link IntColumn#addInt(int)}, and read by walking the row indexes through
+ * {@link Tuple5Columns#forEachRow(IntConsumer)} and reading each value from its column, like through
+ * {@link IntColumn#getInt(int)}. As columns can be modified on their own, reading rows checks every column holds the
+ * same amount of values.
+ *
+ * <p>Example of use:</p>
+ * <pre>
+ * {@code
+ * IntColumn ids = Column.ints();
+ * Tuple5Columns<Integer, String, Double, Long, String> rows = new Tuple5Columns<>(
+ *         ids, Column.objects(), Column.doubles(), Column.longs(), Column.objects());
+ * rows.add(5, "Alice", 1.5, 10L, "Belle");
+ * int firstId = ids.getInt(0);
+ * rows.forEach(row -> System.out.println(row.v1));
+ * rows.forEachRow(row -> System.out.println(ids.getInt(row)));
+ * }
+ * </pre>
+ *
+ * @param <T> First value type.
+ * @param <U> Second value type.
+ * @param <V> Third value type.
+ * @param <W> Fourth value type.
+ * @param <X> Fifth value type.
+ * @author Jorge Rico Vivas
+ * @see Tuple5
+ * @see Tuple5Record
+ */
+@SuppressWarnings("unused")
+public final class Tuple5Columns<T, U, V, W, X> {
+
+    /**
+     * Column holding the first value of every row.
+     */
+    private final @NotNull Column<T> column0;
+    /**
+     * Column holding the second value of every row.
+     */
+    private final @NotNull Column<U> column1;
+    /**
+     * Column holding the third value of every row.
+     */
+    private final @NotNull Column<V> column2;
+    /**
+     * Column holding the fourth value of every row.
+     */
+    private final @NotNull Column<W> column3;
+    /**
+     * Column holding the fifth value of every row.
+     */
+    private final @NotNull Column<X> column4;
+
+    /**
+     * Creates an empty container where every column holds its values as objects.
+     */
+    public Tuple5Columns() {
+        this(Column.objects(), Column.objects(), Column.objects(), Column.objects(), Column.objects());
+    }
+
+    /**
+     * Creates a container over the given columns, which must hold the same amount of values.
+     *
+     * @param column0 column holding the first values.
+     * @param column1 column holding the second values.
+     * @param column2 column holding the third values.
+     * @param column3 column holding the fourth values.
+     * @param column4 column holding the fifth values.
+     * @throws IllegalArgumentException if the columns hold a different amount of values.
+     */
+    public Tuple5Columns(
+            @NotNull Column<T> column0,
+            @NotNull Column<U> column1,
+            @NotNull Column<V> column2,
+            @NotNull Column<W> column3,
+            @NotNull Column<X> column4
+    ) {
+        this.column0 = requireNonNull(column0);
+        this.column1 = requireNonNull(column1);
+        this.column2 = requireNonNull(column2);
+        this.column3 = requireNonNull(column3);
+        this.column4 = requireNonNull(column4);
+        int size = column0.size();
+        if (column1.size() != size
+                || column2.size() != size
+                || column3.size() != size
+                || column4.size() != size) {
+            throw new IllegalArgumentException("Every column must hold the same amount of values");
+        }
+    }
+
+    /**
+     * Creates a container holding every record of the stream as a row, in encounter order.
+     *
+     * @param records records to store.
+     * @param <T>     First value type.
+     * @param <U>     Second value type.
+     * @param <V>     Third value type.
+     * @param <W>     Fourth value type.
+     * @param <X>     Fifth value type.
+     * @return a container holding every record.
+     */
+    public static <T, U, V, W, X> @NotNull Tuple5Columns<T, U, V, W, X>
+    fromRecords(@NotNull Stream<Tuple5Record<T, U, V, W, X>> records) {
+        return new Tuple5Columns<T, U, V, W, X>().addAll(records);
+    }
+
+    /**
+     * Returns the amount of rows.
+     *
+     * @return the amount of rows.
+     * @throws IllegalStateException if values were added to or removed from some of the columns but not the others.
+     */
+    public int size() {
+        int size = column0.size();
+        if (column1.size() != size
+                || column2.size() != size
+                || column3.size() != size
+                || column4.size() != size) {
+            throw new IllegalStateException("Every column must hold the same amount of values");
+        }
+        return size;
+    }
+
+    /**
+     * Adds a row with the given values, checking every column can hold its value before adding any, so a rejected
+     * value leaves the columns untouched.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @param v2 Third value.
+     * @param v3 Fourth value.
+     * @param v4 Fifth value.
+     */
+    public void add(T v0, U v1, V v2, W v3, X v4) {
+        column0.checkValue(v0);
+        column1.checkValue(v1);
+        column2.checkValue(v2);
+        column3.checkValue(v3);
+        column4.checkValue(v4);
+        ensureCapacity(size() + 1);
+        column0.add(v0);
+        column1.add(v1);
+        column2.add(v2);
+        column3.add(v3);
+        column4.add(v4);
+    }
+
+    /**
+     * Adds a row with the values of the record.
+     *
+     * @param record record holding the values of the row.
+     */
+    public void add(@NotNull Tuple5Record<T, U, V, W, X> record) {
+        requireNonNull(record);
+        add(record.v0(), record.v1(), record.v2(), record.v3(), record.v4());
+    }
+
+    /**
+     * Adds a row for every record of the stream, in encounter order.
+     *
+     * @param records records to add.
+     * @return this container.
+     */
+    public @NotNull Tuple5Columns<T, U, V, W, X> addAll(@NotNull Stream<Tuple5Record<T, U, V, W, X>> records) {
+        requireNonNull(records).forEachOrdered(this::add);
+        return this;
+    }
+
+    /**
+     * Returns the row as a new record.
+     *
+     * @param row index of the row.
+     * @return a record with the values of the row.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     * @throws IllegalStateException   if the columns hold different amounts of values.
+     */
+    public @NotNull Tuple5Record<T, U, V, W, X> get(int row) {
+        checkIndex(row, size());
+        return new Tuple5Record<>(column0.get(row), column1.get(row), column2.get(row), column3.get(row),
+                column4.get(row));
+    }
+
+    /**
+     * Writes the values of the row into the given tuple, so a single tuple can be reused to read many rows.
+     *
+     * @param row    index of the row.
+     * @param target tuple to write the values into.
+     * @return the target tuple.
+     * @throws IndexOutOfBoundsException if the row is out of bounds.
+     * @throws IllegalStateException   if the columns hold different amounts of values.
+     */
+    public @NotNull Tuple5<T, U, V, W, X> read(int row, @NotNull Tuple5<T, U, V, W, X> target) {
+        requireNonNull(target);
+        checkIndex(row, size());
+        return fill(row, target);
+    }
+
+    /**
+     * Writes the values of the row into the tuple, once the row is known to be in bounds of every column.
+     */
+    private @NotNull Tuple5<T, U, V, W, X> fill(int row, @NotNull Tuple5<T, U, V, W, X> target) {
+        target.v0 = column0.get(row);
+        target.v1 = column1.get(row);
+        target.v2 = column2.get(row);
+        target.v3 = column3.get(row);
+        target.v4 = column4.get(row);
+        return target;
+    }
+
+    /**
+     * Calls the action with every row in order, reusing a single {@link Tuple5} that is overwritten on each row, so
+     * it must not be kept after the action returns.
+     *
+     * @param action action to call with each row.
+     */
+    public void forEach(@NotNull Consumer<? super Tuple5<T, U, V, W, X>> action) {
+        requireNonNull(action);
+        Tuple5<T, U, V, W, X> cursor = new Tuple5<>(null, null, null, null, null);
+        int size = size();
+        for (int row = 0; row < size; row++) {
+            action.accept(fill(row, cursor));
+        }
+    }
+
+    /**
+     * Calls the action with the index of every row in order, so the values of each row can be read from the columns
+     * through their specific functions, like {@link IntColumn#getInt(int)}, without boxing them.
+     *
+     * @param action action to call with the index of each row.
+     * @throws IllegalStateException if the columns hold different amounts of values.
+     */
+    public void forEachRow(@NotNull IntConsumer action) {
+        requireNonNull(action);
+        int size = size();
+        for (int row = 0; row < size; row++) {
+            action.accept(row);
+        }
+    }
+
+    /**
+     * Returns a stream with every row as a new record, in order.
+     *
+     * @return a stream of the rows as records.
+     */
+    public @NotNull Stream<Tuple5Record<T, U, V, W, X>> records() {
+        return IntStream.range(0, size()).mapToObj(this::get);
+    }
+
+    /**
+     * Makes sure every column can hold the given amount of rows without growing.
+     *
+     * @param capacity amount of rows the columns must be able to hold.
+     */
+    public void ensureCapacity(int capacity) {
+        column0.ensureCapacity(capacity);
+        column1.ensureCapacity(capacity);
+        column2.ensureCapacity(capacity);
+        column3.ensureCapacity(capacity);
+        column4.ensureCapacity(capacity);
+    }
+
+    /**
+     * Removes every row.
+     */
+    public void clear() {
+        column0.clear();
+        column1.clear();
+        column2.clear();
+        column3.clear();
+        column4.clear();
+    }
+
+    /**
+     * Returns the column holding the first value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the first values.
+     */
+    public @NotNull Column<T> column0() {
+        return column0;
+    }
+
+    /**
+     * Returns the column holding the second value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the second values.
+     */
+    public @NotNull Column<U> column1() {
+        return column1;
+    }
+
+    /**
+     * Returns the column holding the third value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the third values.
+     */
+    public @NotNull Column<V> column2() {
+        return column2;
+    }
+
+    /**
+     * Returns the column holding the fourth value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the fourth values.
+     */
+    public @NotNull Column<W> column3() {
+        return column3;
+    }
+
+    /**
+     * Returns the column holding the fifth value of every row, where values can be added without boxing, as long
+     * as every other column gets a value for the same rows before reading them.
+     *
+     * @return the column of the fifth values.
+     */
+    public @NotNull Column<X> column4() {
+        return column4;
+    }
+}
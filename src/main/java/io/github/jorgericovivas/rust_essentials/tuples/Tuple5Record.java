@@ -31,6 +31,16 @@ public record Tuple5Record<T, U, V, W, X>(T v0, U v1, V v2, W v3,
         return new Tuple5<>(v0, v1, v2, v3, v4);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple5}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple5}.
+     */
+    public @NotNull HashedTuple5<T, U, V, W, X> hashed() {
+        return new HashedTuple5<>(v0, v1, v2, v3, v4);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
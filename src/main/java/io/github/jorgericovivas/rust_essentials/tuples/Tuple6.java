@@ -79,6 +79,16 @@ public final class Tuple6<T, U, V, W, X, Y> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple6}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple6}.
+     */
+    public @NotNull HashedTuple6<T, U, V, W, X, Y> hashed() {
+        return new HashedTuple6<>(v0, v1, v2, v3, v4, v5);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -33,6 +33,16 @@ public record Tuple6Record<T, U, V, W, X, Y>(T v0, U v1, V v2, W v3, X v4, Y v5)
         return new Tuple6<>(v0, v1, v2, v3, v4, v5);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple6}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple6}.
+     */
+    public @NotNull HashedTuple6<T, U, V, W, X, Y> hashed() {
+        return new HashedTuple6<>(v0, v1, v2, v3, v4, v5);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
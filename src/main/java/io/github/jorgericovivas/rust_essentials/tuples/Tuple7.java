@@ -86,6 +86,16 @@ public final class Tuple7<T, U, V, W, X, Y, Z> {
         return toRecord();
     }
 
+    /**
+     * Turns this tuple into an immutable {@link HashedTuple7}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple as a {@link HashedTuple7}.
+     */
+    public @NotNull HashedTuple7<T, U, V, W, X, Y, Z> hashed() {
+        return new HashedTuple7<>(v0, v1, v2, v3, v4, v5, v6);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -33,6 +33,16 @@ public record Tuple7Record<T, U, V, W, X, Y, Z>(T v0, U v1, V v2, W v3, X v4, Y
         return new Tuple7<>(v0, v1, v2, v3, v4, v5, v6);
     }
 
+    /**
+     * Turns this tuple record into an immutable {@link HashedTuple7}, which computes its hash once and caches it,
+     * making it a better key for hash maps.
+     *
+     * @return this tuple record as a {@link HashedTuple7}.
+     */
+    public @NotNull HashedTuple7<T, U, V, W, X, Y, Z> hashed() {
+        return new HashedTuple7<>(v0, v1, v2, v3, v4, v5, v6);
+    }
+
     @Override public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
 
@@ -0,0 +1,88 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+/**
+ * Hash mixing functions shared by the tuples whose hash must spread well, like the primitive tuples such as
+ * {@link IntIntTuple2}.
+ * <p>
+ * The {@code 31 * result + ...} hash of the generic tuples keeps small components in the low bits, so keys like
+ * (1, 2) and (0, 33) collide, and tables using the low bits as index cluster. Instead, these functions run the
+ * components through the finalizer of MurmurHash3, where every bit of the input affects every bit of the output.
+ *
+ * @author Jorge Rico Vivas
+ */
+final class TupleHashing {
+
+    /**
+     * Odd constant derived from the golden ratio, used to combine components before mixing them.
+     */
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Hidden constructor
+     */
+    private TupleHashing() {}
+
+    /**
+     * Mixes the bits of the value so every bit of the input affects every bit of the output, this is the 64-bit
+     * finalizer of MurmurHash3.
+     *
+     * @param value value to mix.
+     * @return the mixed value.
+     */
+    static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Returns a well-mixed 32-bit hash of the value.
+     *
+     * @param value value to hash.
+     * @return the hash of the value.
+     */
+    static int hash(long value) {
+        return (int) mix64(value);
+    }
+
+    /**
+     * Returns a well-mixed 32-bit hash of two components.
+     *
+     * @param first  hash or bits of the first component.
+     * @param second hash or bits of the second component.
+     * @return the hash of both components.
+     */
+    static int hash(long first, long second) {
+        return (int) mix64(mix64(first) * GOLDEN_GAMMA + second);
+    }
+
+    /**
+     * Returns a well-mixed 32-bit hash of two int components, packing them into a single long so no information is
+     * lost before mixing.
+     *
+     * @param first  first component.
+     * @param second second component.
+     * @return the hash of both components.
+     */
+    static int hash(int first, int second) {
+        return hash(((long) first << 32) | (second & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Returns the hash of a tuple whose components have the given hashes, mixing each hash into the state before
+     * adding the next one, so the order of the components matters and similar components don't cancel each other.
+     *
+     * @param componentHashes hashes of the components of the tuple, in order.
+     * @return the hash of the tuple.
+     */
+    static int hashAll(int... componentHashes) {
+        long state = componentHashes.length;
+        for (int componentHash : componentHashes) {
+            state = mix64(state * GOLDEN_GAMMA + componentHash);
+        }
+        return (int) (state ^ (state >>> 32));
+    }
+}
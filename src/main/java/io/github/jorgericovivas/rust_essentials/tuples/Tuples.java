@@ -30,6 +30,10 @@ import static java.util.Objects.requireNonNull;
  * - Tuples.record_of_nullables(v0, v1, v2, ..., vN): Gets a tuple record with all the values, not checking their
  * nullability.
  * <p>
+ * - Tuples.of_ints(v0, v1), Tuples.of_longs(v0, v1), Tuples.of_int_long(v0, v1) and Tuples.of_doubles(v0, v1), with
+ * their record_of_ counterparts: Get a primitive tuple like {@link IntIntTuple2}, keeping both values unboxed and
+ * having a well-mixed hash, which makes them good keys for hash maps.
+ * <p>
  *
  * <br>
  * This is a partial port and Java adaptation of
@@ -630,4 +634,100 @@ public final class Tuples {
     record_of_nullables(@Nullable T v0, @Nullable U v1, @Nullable V v2, @Nullable W v3, @Nullable X v4, @Nullable Y v5, @Nullable Z v6) {
         return new Tuple7Record<>(v0, v1, v2, v3, v4, v5, v6);
     }
+
+    /**
+     * Creates a {@link IntIntTuple2} containing 2 int values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link IntIntTuple2} containing 2 int values.
+     */
+    public static @NotNull IntIntTuple2
+    of_ints(int v0, int v1) {
+        return new IntIntTuple2(v0, v1);
+    }
+
+    /**
+     * Creates a {@link IntIntTuple2Record} containing 2 int values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link IntIntTuple2Record} containing 2 int values.
+     */
+    public static @NotNull IntIntTuple2Record
+    record_of_ints(int v0, int v1) {
+        return new IntIntTuple2Record(v0, v1);
+    }
+
+    /**
+     * Creates a {@link LongLongTuple2} containing 2 long values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link LongLongTuple2} containing 2 long values.
+     */
+    public static @NotNull LongLongTuple2
+    of_longs(long v0, long v1) {
+        return new LongLongTuple2(v0, v1);
+    }
+
+    /**
+     * Creates a {@link LongLongTuple2Record} containing 2 long values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link LongLongTuple2Record} containing 2 long values.
+     */
+    public static @NotNull LongLongTuple2Record
+    record_of_longs(long v0, long v1) {
+        return new LongLongTuple2Record(v0, v1);
+    }
+
+    /**
+     * Creates a {@link IntLongTuple2} containing an int and a long value, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link IntLongTuple2} containing an int and a long value.
+     */
+    public static @NotNull IntLongTuple2
+    of_int_long(int v0, long v1) {
+        return new IntLongTuple2(v0, v1);
+    }
+
+    /**
+     * Creates a {@link IntLongTuple2Record} containing an int and a long value, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link IntLongTuple2Record} containing an int and a long value.
+     */
+    public static @NotNull IntLongTuple2Record
+    record_of_int_long(int v0, long v1) {
+        return new IntLongTuple2Record(v0, v1);
+    }
+
+    /**
+     * Creates a {@link DoubleDoubleTuple2} containing 2 double values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link DoubleDoubleTuple2} containing 2 double values.
+     */
+    public static @NotNull DoubleDoubleTuple2
+    of_doubles(double v0, double v1) {
+        return new DoubleDoubleTuple2(v0, v1);
+    }
+
+    /**
+     * Creates a {@link DoubleDoubleTuple2Record} containing 2 double values, stored unboxed.
+     *
+     * @param v0 First value.
+     * @param v1 Second value.
+     * @return a {@link DoubleDoubleTuple2Record} containing 2 double values.
+     */
+    public static @NotNull DoubleDoubleTuple2Record
+    record_of_doubles(double v0, double v1) {
+        return new DoubleDoubleTuple2Record(v0, v1);
+    }
 }
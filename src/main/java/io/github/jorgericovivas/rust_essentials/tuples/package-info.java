@@ -2,6 +2,13 @@
  * Represent collections of values of different types, like a tuple of three values such as {@link Tuple3}&lt;
  * {@link String}, {@link Integer}, {@link Double}&gt;, but due to limitations, tuples can only be up to 7 values.
  * <p>
+ * Large batches of tuples can be stored column by column through {@link Tuple2Columns} to {@link Tuple7Columns}, which
+ * keep each value of the tuples in its own {@link Column}, being those unboxed for {@link IntColumn},
+ * {@link LongColumn} and {@link DoubleColumn}.
+ * <p>
+ * Tuples used as keys of hash maps can be turned into {@link HashedTuple2} to {@link HashedTuple7} through their hashed
+ * method, which are immutable and compute a well-mixed hash only once.
+ * <p>
  * More information about the use of tuples can be found at {@link Tuples}.
  */
 package io.github.jorgericovivas.rust_essentials.tuples;
\ No newline at end of file
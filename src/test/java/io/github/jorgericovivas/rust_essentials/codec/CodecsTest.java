@@ -0,0 +1,175 @@
+package io.github.jorgericovivas.rust_essentials.codec;
+
+import io.github.jorgericovivas.rust_essentials.option.None;
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.result.Err;
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple3Record;
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple7Record;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+class CodecsTest {
+
+    static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void varintsRoundTrip() {
+        for (int value : new int[]{0, 1, -1, 63, -64, 64, 300, -300, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            Assertions.assertEquals(Result.ok(value), Codecs.INT.decode(Codecs.INT.encode(value).unwrap()));
+        }
+        for (long value : new long[]{0, -1, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            Assertions.assertEquals(Result.ok(value), Codecs.LONG.decode(Codecs.LONG.encode(value).unwrap()));
+        }
+        Assertions.assertEquals(1, Codecs.INT.encode(-64).unwrap().length);
+        Assertions.assertEquals(2, Codecs.INT.encode(64).unwrap().length);
+        Assertions.assertEquals(5, Codecs.INT.encode(Integer.MIN_VALUE).unwrap().length);
+        Assertions.assertEquals(10, Codecs.LONG.encode(Long.MIN_VALUE).unwrap().length);
+    }
+
+    @org.junit.jupiter.api.Test
+    void optionsAndResultsUseATagByte() {
+        BinaryCodec<Option<Integer>> options = Codecs.option(Codecs.INT);
+        Assertions.assertArrayEquals(new byte[]{0}, options.encode(Option.none()).unwrap());
+        Assertions.assertArrayEquals(new byte[]{1, 10}, options.encode(Option.some(5)).unwrap());
+        Assertions.assertEquals(Result.ok(Option.some(5)), options.decode(new byte[]{1, 10}));
+
+        BinaryCodec<Result<Integer, String>> results = Codecs.result(Codecs.INT, Codecs.STRING);
+        for (Result<Integer, String> result : List.of(Result.<Integer, String>ok(-7),
+                                                      Result.<Integer, String>err("Ñ"))) {
+            Assertions.assertEquals(Result.ok(result), results.decode(results.encode(result).unwrap()));
+        }
+        Assertions.assertArrayEquals(new byte[]{1, 2, (byte) 0xC3, (byte) 0x91},
+                                     results.encode(Result.err("Ñ")).unwrap());
+    }
+
+    @org.junit.jupiter.api.Test
+    void tuplesRoundTripThroughByteBuffers() throws IOException {
+        BinaryCodec<Tuple3Record<String, Long, Option<Double>>> codec =
+                Codecs.tuple3(Codecs.STRING, Codecs.LONG, Codecs.option(Codecs.DOUBLE));
+        Tuple3Record<String, Long, Option<Double>> tuple = new Tuple3Record<>("Alice", -3L, Option.some(1.5));
+        for (ByteOrder order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64).order(order);
+            codec.write(tuple, buffer);
+            buffer.flip();
+            Assertions.assertArrayEquals(codec.encode(tuple).unwrap(), Arrays.copyOf(buffer.array(), buffer.limit()));
+            Assertions.assertEquals(tuple, codec.read(buffer));
+            Assertions.assertFalse(buffer.hasRemaining());
+        }
+
+        BinaryCodec<Tuple7Record<Integer, Integer, Integer, Integer, Integer, Integer, String>> seven = Codecs.tuple7(
+                Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.STRING);
+        Tuple7Record<Integer, Integer, Integer, Integer, Integer, Integer, String> sevenTuple =
+                new Tuple7Record<>(1, 2, 3, 4, 5, 6, "seven");
+        Assertions.assertEquals(Result.ok(sevenTuple), seven.decode(seven.encode(sevenTuple).unwrap()));
+    }
+
+    @org.junit.jupiter.api.Test
+    void invalidInputIsErr() {
+        BinaryCodec<Option<Integer>> options = Codecs.option(Codecs.INT);
+        Assertions.assertTrue(options.decode(new byte[]{1, 10, 0}).unwrapErr() instanceof StreamCorruptedException);
+        Assertions.assertTrue(options.decode(new byte[]{2}).unwrapErr() instanceof StreamCorruptedException);
+        Assertions.assertTrue(options.decode(new byte[]{1}).unwrapErr() instanceof EOFException);
+        Assertions.assertThrows(EOFException.class, () -> options.read(ByteBuffer.wrap(new byte[]{1, (byte) 0x80})));
+        Assertions.assertTrue(Codecs.dynamic().encode(Option.some(new Object())).unwrapErr()
+                              instanceof NotSerializableException);
+    }
+
+    @org.junit.jupiter.api.Test
+    void mappedAndCustomCodecs() throws IOException {
+        BinaryCodec<List<Integer>> pairs = BinaryCodec.of((list, out) -> {
+            Varints.writeUnsignedInt(list.size(), out);
+            for (int number : list) {
+                Varints.writeSignedInt(number, out);
+            }
+        }, in -> {
+            Integer[] numbers = new Integer[Varints.readUnsignedInt(in)];
+            for (int index = 0; index < numbers.length; index++) {
+                numbers[index] = Varints.readSignedInt(in);
+            }
+            return List.of(numbers);
+        });
+        BinaryCodec<Option<List<Integer>>> options = Codecs.option(pairs);
+        Assertions.assertEquals(Result.ok(Option.some(List.of(1, -2, 3))),
+                                options.decode(options.encode(Option.some(List.of(1, -2, 3))).unwrap()));
+
+        BinaryCodec<StringBuilder> builders = Codecs.STRING.map(StringBuilder::new, StringBuilder::toString);
+        Assertions.assertEquals("Hello", builders.decode(builders.encode(new StringBuilder("Hello")).unwrap())
+                                                 .unwrap().toString());
+        BinaryCodec<String> nullables = Codecs.nullable(Codecs.STRING);
+        Assertions.assertArrayEquals(new byte[]{0}, nullables.encode(null).unwrap());
+        Assertions.assertNull(nullables.read(ByteBuffer.wrap(new byte[]{0})));
+        Assertions.assertTrue(nullables.decode(new byte[]{0}).isErr());
+    }
+
+    @org.junit.jupiter.api.Test
+    void stringsKeepEveryChar() throws IOException, ClassNotFoundException {
+        for (String string : List.of("", "Hello", "\0", "Ünïcödé 😀", "a\uD800b", "\uDC00", "x".repeat(20000))) {
+            Assertions.assertEquals(Result.ok(string), Codecs.STRING.decode(Codecs.STRING.encode(string).unwrap()));
+        }
+        Assertions.assertEquals(Option.some("a\uD800b"), deserialize(serialize(Option.some("a\uD800b"))));
+        Assertions.assertArrayEquals(new byte[]{2, (byte) 0xC0, (byte) 0x80}, Codecs.STRING.encode("\0").unwrap());
+
+        byte[] hugeLength = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'};
+        Assertions.assertTrue(Codecs.STRING.decode(hugeLength).unwrapErr() instanceof EOFException);
+        Assertions.assertThrows(EOFException.class, () -> Codecs.readString(
+                new DataInputStream(new ByteArrayInputStream(hugeLength))));
+        Assertions.assertTrue(Codecs.STRING.decode(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F})
+                                      .unwrapErr() instanceof StreamCorruptedException);
+        Assertions.assertTrue(Codecs.STRING.decode(new byte[]{1, (byte) 0xC0}).unwrapErr()
+                              instanceof UTFDataFormatException);
+    }
+
+    @org.junit.jupiter.api.Test
+    void dynamicCodecRoundTrips() {
+        Object value = Option.some(Result.ok(new Tuple2Record<>(List.of(), new Tuple2Record<>(true, 2.5))));
+        Object nested = new Tuple3Record<>(Option.none(), Result.err(7L), "text");
+        Assertions.assertTrue(Codecs.dynamic().encode(value).unwrapErr() instanceof NotSerializableException);
+        Assertions.assertEquals(Result.ok(nested), Codecs.dynamic().decode(Codecs.dynamic().encode(nested).unwrap()));
+    }
+
+    @org.junit.jupiter.api.Test
+    void javaSerializationUsesTheProxy() throws IOException, ClassNotFoundException {
+        List<Object> values = List.of(Option.some("Alice"), Option.none(), Result.ok(6), Result.err(42L),
+                                      Option.some(new Tuple2Record<>(1, Option.some("nested"))),
+                                      Result.ok(List.of(1, 2, 3)));
+        for (Object value : values) {
+            Assertions.assertEquals(value, deserialize(serialize(value)));
+        }
+        Assertions.assertSame(Option.none(), deserialize(serialize(new None<>())));
+        Assertions.assertSame(Option.none(), ((Option<?>) deserialize(serialize(Option.some(Option.none())))).unwrap());
+
+        Err<?, ?> err = (Err<?, ?>) deserialize(serialize(Result.err(new IllegalStateException("Oh no"))));
+        Assertions.assertEquals("Oh no", ((IllegalStateException) err.error()).getMessage());
+
+        Assertions.assertTrue(serialize(Result.ok(6)).length < serialize(List.of(6)).length,
+                              "Ok(6) took " + serialize(Result.ok(6)).length + " bytes");
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+class DiagnosedExceptionTest {
+
+    static final String STACK_TRACE_REQUEST = "show this information to the developers";
+
+    @org.junit.jupiter.api.Test
+    void messageIsCachedUntilModified() {
+        DiagnosedException exception = new DiagnosedException(new Diagnostic("Could not open the file"));
+        String first = exception.getMessage();
+        Assertions.assertSame(first, exception.getMessage());
+        Assertions.assertEquals(DiagnosedException.commonGetMessage(exception, exception.diagnostic()), first);
+        Assertions.assertTrue(first.contains(STACK_TRACE_REQUEST));
+
+        exception.withNote("It doesn't exist");
+        String withNote = exception.getMessage();
+        Assertions.assertNotEquals(first, withNote);
+        Assertions.assertTrue(withNote.contains("It doesn't exist"));
+        Assertions.assertSame(withNote, exception.getMessage());
+
+        exception.diagnostic().withHelp("Create it");
+        Assertions.assertTrue(exception.getMessage().contains("Create it"));
+        exception.withConcept("Could not read the file");
+        Assertions.assertTrue(exception.getMessage().contains("Could not read the file"));
+        Assertions.assertEquals(DiagnosedException.commonGetMessage(exception, exception.diagnostic()),
+                                exception.getMessage());
+
+        exception.setStackTrace(new StackTraceElement[]{});
+        Assertions.assertFalse(exception.getMessage().contains(STACK_TRACE_REQUEST));
+    }
+
+    @org.junit.jupiter.api.Test
+    void stacklessExceptionsHaveNoStackTrace() {
+        DiagnosedException exception = DiagnosedException.stackless(new Diagnostic("Expected failure"));
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+        Assertions.assertFalse(exception.getMessage().contains(STACK_TRACE_REQUEST));
+        exception.setStackTrace(new Throwable().getStackTrace());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+        Assertions.assertEquals("\n\n" + new Diagnostic("Expected failure") + "\n\n", exception.getMessage());
+    }
+
+    @org.junit.jupiter.api.Test
+    void messageIsRenderedAgainAfterDeserializing() throws IOException, ClassNotFoundException {
+        DiagnosedException exception = new DiagnosedException(new Diagnostic("Serialized").withNote("With a note"));
+        String message = exception.getMessage();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(exception);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            DiagnosedException read = (DiagnosedException) input.readObject();
+            Assertions.assertEquals(message, read.getMessage());
+            read.withHelp("Added after reading");
+            Assertions.assertTrue(read.getMessage().contains("Added after reading"));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class DiagnosticDeduplicatorTest {
+
+    static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    static Diagnostic timeout() {
+        return new Diagnostic("Timed out").withNote("After 5 seconds").withHelp("Retry");
+    }
+
+    @org.junit.jupiter.api.Test
+    void fingerprintsDependOnContents() {
+        Assertions.assertEquals(timeout().fingerprint(), timeout().fingerprint());
+        Assertions.assertNotEquals(timeout().fingerprint(),
+                                   new Diagnostic(Diagnostic.Level.WARNING, "Timed out").withNote("After 5 seconds")
+                                                                                        .withHelp("Retry")
+                                                                                        .fingerprint());
+        Assertions.assertNotEquals(new Diagnostic("A").withNote("B").fingerprint(),
+                                   new Diagnostic("A").withHelp("B").fingerprint());
+        Assertions.assertNotEquals(new Diagnostic().withNote("ab").withNote("c").fingerprint(),
+                                   new Diagnostic().withNote("a").withNote("bc").fingerprint());
+        Assertions.assertNotEquals(new Diagnostic().fingerprint(),
+                                   new Diagnostic("An error has occurred").fingerprint());
+    }
+
+    @org.junit.jupiter.api.Test
+    void collapsesRepeatsWithinTheWindow() {
+        AtomicLong now = new AtomicLong();
+        List<Diagnostic> passed = new ArrayList<>();
+        DiagnosticDeduplicator deduplicator = DiagnosticDeduplicator.builder(passed::add)
+                                                                    .window(Duration.ofSeconds(10))
+                                                                    .clock(now::get)
+                                                                    .build();
+        Assertions.assertTrue(deduplicator.submit(timeout()));
+        for (int repeat = 0; repeat < 999; repeat++) {
+            now.addAndGet(SECOND / 1000);
+            Assertions.assertFalse(deduplicator.submit(timeout()));
+        }
+        Assertions.assertTrue(deduplicator.submit(new Diagnostic("Other")));
+        Assertions.assertEquals(List.of(timeout().toString(), new Diagnostic("Other").toString()),
+                                passed.stream().map(Diagnostic::toString).toList());
+        Assertions.assertEquals(999, deduplicator.suppressed());
+
+        now.addAndGet(10 * SECOND);
+        passed.clear();
+        Assertions.assertTrue(deduplicator.submit(timeout()));
+        Assertions.assertEquals(List.of("After 5 seconds", "Repeated 999 times since it was last shown"),
+                                passed.get(0).notes());
+        Assertions.assertEquals(List.of("Retry"), passed.get(0).helps());
+    }
+
+    @org.junit.jupiter.api.Test
+    void flushTellsRepeatsOfExpiredWindows() {
+        AtomicLong now = new AtomicLong();
+        List<Diagnostic> passed = new ArrayList<>();
+        DiagnosticDeduplicator deduplicator = DiagnosticDeduplicator.builder(passed::add)
+                                                                    .window(Duration.ofSeconds(1))
+                                                                    .clock(now::get)
+                                                                    .build();
+        deduplicator.submit(timeout());
+        deduplicator.submit(timeout());
+        deduplicator.submit(new Diagnostic("Once"));
+        deduplicator.flush();
+        Assertions.assertEquals(2, passed.size());
+        Assertions.assertEquals(2, deduplicator.tracked());
+
+        now.addAndGet(SECOND);
+        deduplicator.flush();
+        Assertions.assertEquals(3, passed.size());
+        Assertions.assertEquals("Repeated 1 time since it was last shown", passed.get(2).notes().get(1));
+        Assertions.assertEquals(0, deduplicator.tracked());
+
+        deduplicator.submit(timeout());
+        deduplicator.submit(timeout());
+        deduplicator.drain();
+        Assertions.assertEquals(5, passed.size());
+        Assertions.assertEquals(0, deduplicator.tracked());
+    }
+
+    @org.junit.jupiter.api.Test
+    void evictsLeastRecentlySeenFingerprints() {
+        List<Diagnostic> passed = new ArrayList<>();
+        DiagnosticDeduplicator deduplicator = DiagnosticDeduplicator.builder(passed::add)
+                                                                    .maxFingerprints(1)
+                                                                    .build();
+        deduplicator.submit(new Diagnostic("First"));
+        deduplicator.submit(new Diagnostic("First"));
+        deduplicator.submit(new Diagnostic("Second"));
+        Assertions.assertEquals(1, deduplicator.tracked());
+        Assertions.assertEquals(List.of("Repeated 1 time since it was last shown"), passed.get(1).notes());
+        Assertions.assertEquals(new Diagnostic("Second").toString(), passed.get(2).toString());
+
+        for (int maxFingerprints : new int[]{5, 100, 1000}) {
+            DiagnosticDeduplicator bounded = DiagnosticDeduplicator.builder(diagnostic -> {})
+                                                                   .maxFingerprints(maxFingerprints)
+                                                                   .build();
+            for (int index = 0; index < 10_000; index++) {
+                bounded.submit(new Diagnostic("Diagnostic " + index));
+                Assertions.assertTrue(bounded.tracked() <= maxFingerprints);
+            }
+            Assertions.assertEquals(maxFingerprints, bounded.tracked());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import io.github.jorgericovivas.rust_essentials.codec.Varints;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class DiagnosticEncodersTest {
+
+    static DiagnosedException settingsException() {
+        var notFound = new FileNotFoundException("settings.json");
+        var io = new UncheckedIOException(null, notFound);
+        var inner = new DiagnosedException(new Diagnostic(Diagnostic.Level.WARNING, "Could not read"));
+        inner.initCause(io);
+        var outer = new DiagnosedException(new Diagnostic("Could not load the \"settings\"")
+                                                   .withNote("Tried\tthe home folder\n")
+                                                   .withHelp("Check the file exists ✓"));
+        outer.initCause(inner);
+        return outer;
+    }
+
+    @org.junit.jupiter.api.Test
+    void jsonLines() throws IOException {
+        StringWriter out = new StringWriter();
+        DiagnosticEncoders.writeJsonLine(new Diagnostic(), out);
+        DiagnosticEncoders.writeJsonLine(new Diagnostic("Escapes \\ \u0001 😀").withNote("A").withNote("B"), out);
+        DiagnosticEncoders.writeJsonLine(settingsException(), out);
+        Assertions.assertEquals(List.of(
+                "{\"level\":\"ERROR\",\"concept\":null,\"notes\":[],\"helps\":[],\"causes\":[]}",
+                "{\"level\":\"ERROR\",\"concept\":\"Escapes \\\\ \\u0001 😀\",\"notes\":[\"A\",\"B\"],\"helps\":[],"
+                + "\"causes\":[]}",
+                "{\"type\":\"" + DiagnosedException.class.getName() + "\",\"level\":\"ERROR\","
+                + "\"concept\":\"Could not load the \\\"settings\\\"\",\"notes\":[\"Tried\\tthe home folder\\n\"],"
+                + "\"helps\":[\"Check the file exists ✓\"],\"causes\":["
+                + "{\"type\":\"" + DiagnosedException.class.getName() + "\",\"level\":\"WARNING\","
+                + "\"concept\":\"Could not read\",\"notes\":[],\"helps\":[]},"
+                + "{\"type\":\"java.io.UncheckedIOException\",\"message\":null},"
+                + "{\"type\":\"java.io.FileNotFoundException\",\"message\":\"settings.json\"}]}"),
+                                out.toString().lines().toList());
+        Assertions.assertTrue(out.toString().endsWith("\n"));
+    }
+
+    /**
+     * Reads a binary frame back into lines describing each field, checking it takes exactly the prefixed length.
+     */
+    static List<String> readFrame(DataInputStream in) throws IOException {
+        int length = Varints.readUnsignedInt(in);
+        int before = in.available();
+        List<String> fields = new ArrayList<>();
+        readRecord(in, fields);
+        int causes = Varints.readUnsignedInt(in);
+        for (int cause = 0; cause < causes; cause++) {
+            readRecord(in, fields);
+        }
+        Assertions.assertEquals(length, before - in.available());
+        return fields;
+    }
+
+    static void readRecord(DataInputStream in, List<String> fields) throws IOException {
+        int kind = in.readByte();
+        if (kind != DiagnosticEncoders.DIAGNOSTIC_RECORD) {
+            fields.add("type " + readString(in));
+        }
+        if (kind == DiagnosticEncoders.THROWABLE_RECORD) {
+            fields.add("message " + (in.readByte() == 1 ? readString(in) : null));
+            return;
+        }
+        fields.add("level " + Diagnostic.Level.values()[in.readByte()]);
+        fields.add("concept " + (in.readByte() == 1 ? readString(in) : null));
+        for (String section : List.of("note ", "help ")) {
+            int count = Varints.readUnsignedInt(in);
+            for (int index = 0; index < count; index++) {
+                fields.add(section + readString(in));
+            }
+        }
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[Varints.readUnsignedInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @org.junit.jupiter.api.Test
+    void binaryFrames() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        String longNote = "Ünïcödé 😀 ".repeat(20);
+        DiagnosticEncoders.writeFrame(new Diagnostic(Diagnostic.Level.WARNING).withNote(longNote), out);
+        DiagnosticEncoders.writeFrame(settingsException(), out);
+        DiagnosticEncoders.writeFrame(DiagnosedException.stackless(new Diagnostic("Alone")), out);
+        DiagnosticEncoders.writeFrame(new Diagnostic("Lone \uD800 surrogates \uDC00\uD83D"), out);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals(List.of("level WARNING", "concept null", "note " + longNote), readFrame(in));
+        Assertions.assertEquals(List.of("type " + DiagnosedException.class.getName(), "level ERROR",
+                                        "concept Could not load the \"settings\"", "note Tried\tthe home folder\n",
+                                        "help Check the file exists ✓",
+                                        "type " + DiagnosedException.class.getName(), "level WARNING",
+                                        "concept Could not read",
+                                        "type java.io.UncheckedIOException", "message null",
+                                        "type java.io.FileNotFoundException", "message settings.json"),
+                                readFrame(in));
+        Assertions.assertEquals(List.of("type " + DiagnosedException.class.getName(), "level ERROR", "concept Alone"),
+                                readFrame(in));
+        Assertions.assertEquals(List.of("level ERROR", "concept Lone ? surrogates ??"), readFrame(in));
+        Assertions.assertEquals(0, in.available());
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class DiagnosticRendererTest {
+
+    static final List<Diagnostic> DIAGNOSTICS = List.of(
+            new Diagnostic(),
+            new Diagnostic(Diagnostic.Level.WARNING),
+            new Diagnostic("Single line"),
+            new Diagnostic(Diagnostic.Level.WARNING, "Warned\nabout this")
+                    .withNote("First note")
+                    .withNote("Second note\r\nover\rthree lines"),
+            new Diagnostic("Trailing line break\n")
+                    .withHelp("\n\nStarts with empty lines")
+                    .withHelp("Ends with empty lines\n\n")
+                    .withNote("Ünïcödé — 日本語 😀 and a lone \uD800 surrogate"),
+            new Diagnostic("Ends with a lone high surrogate \uD83D"));
+
+    /**
+     * How {@link Diagnostic#toString()} rendered diagnostics before {@link DiagnosticRenderer} existed.
+     */
+    static String streamRendered(Diagnostic diagnostic) {
+        boolean warning = diagnostic.level() == Diagnostic.Level.WARNING;
+        return Stream.of(Stream.of(diagnostic.concept().unwrapOr("An error has occurred"))
+                               .map(message -> prependWith(message,
+                                                           warning ? "\u001B[93;1mWarning: \u001B[0m"
+                                                                   : "\u001B[91;1mError: \u001B[0m",
+                                                           warning ? "         " : "       ")),
+                         diagnostic.notes().stream()
+                                         .map(message -> prependWith(message, "\u001B[94;1mNote: \u001B[0m", "      ")),
+                         diagnostic.helps().stream()
+                                         .map(message -> prependWith(message, "\u001B[92;1mHelp: \u001B[0m", "      ")))
+                     .flatMap(self -> self)
+                     .collect(Collectors.joining(System.lineSeparator() + System.lineSeparator()));
+    }
+
+    static String prependWith(String message, String first, String others) {
+        AtomicBoolean isFirstLine = new AtomicBoolean(true);
+        return message.lines()
+                      .map(line -> (isFirstLine.getAndSet(false) ? first : others) + line)
+                      .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @org.junit.jupiter.api.Test
+    void coloredMatchesToString() throws IOException {
+        for (Diagnostic diagnostic : DIAGNOSTICS) {
+            String expected = streamRendered(diagnostic);
+            Assertions.assertEquals(expected, diagnostic.toString());
+            Assertions.assertEquals(expected, DiagnosticRenderer.COLORED.render(diagnostic, new StringBuilder())
+                                                                        .toString());
+            Assertions.assertEquals(expected, DiagnosticRenderer.COLORED.render(diagnostic, new StringWriter())
+                                                                        .toString());
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void byteBuffersHoldUtf8() {
+        for (Diagnostic diagnostic : DIAGNOSTICS) {
+            byte[] expected = diagnostic.toString().getBytes(StandardCharsets.UTF_8);
+            Assertions.assertEquals(expected.length, DiagnosticRenderer.COLORED.encodedLength(diagnostic));
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+            DiagnosticRenderer.COLORED.render(diagnostic, buffer);
+            Assertions.assertFalse(buffer.hasRemaining());
+            Assertions.assertArrayEquals(expected, buffer.array());
+        }
+        Assertions.assertThrows(java.nio.BufferOverflowException.class,
+                                () -> DiagnosticRenderer.COLORED.render(DIAGNOSTICS.get(4), ByteBuffer.allocate(16)));
+    }
+
+    @org.junit.jupiter.api.Test
+    void plainHasNoEscapeCodes() {
+        Diagnostic diagnostic = new Diagnostic("Could not open\nthe file")
+                .withNote("It doesn't exist")
+                .withHelp("Create it");
+        Assertions.assertEquals("Error: Could not open\n       the file\n\nNote: It doesn't exist\n\nHelp: Create it",
+                                DiagnosticRenderer.PLAIN.withLineSeparator("\n").render(diagnostic));
+        Assertions.assertEquals(DiagnosticRenderer.COLORED.render(diagnostic).replaceAll("\u001B\\[[0-9;]*m", ""),
+                                DiagnosticRenderer.PLAIN.render(diagnostic));
+        Assertions.assertFalse(DiagnosticRenderer.PLAIN.colored());
+    }
+}
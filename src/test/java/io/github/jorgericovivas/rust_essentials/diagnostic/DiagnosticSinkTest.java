@@ -0,0 +1,158 @@
+package io.github.jorgericovivas.rust_essentials.diagnostic;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class DiagnosticSinkTest {
+
+    static final DiagnosticRenderer RENDERER = DiagnosticRenderer.PLAIN.withLineSeparator("\n");
+
+    /**
+     * Channel which blocks every write until released, telling when a write is entered.
+     */
+    static final class GatedChannel implements WritableByteChannel {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            int length = source.remaining();
+            while (source.hasRemaining()) {
+                written.write(source.get());
+            }
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @org.junit.jupiter.api.Test
+    void writesEveryDiagnosticInOrder() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        StringBuilder expected = new StringBuilder();
+        try (DiagnosticSink sink = DiagnosticSink.builder(Channels.newChannel(output))
+                                                 .renderer(RENDERER)
+                                                 .batchBytes(64)
+                                                 .build()) {
+            for (int index = 0; index < 100; index++) {
+                Diagnostic diagnostic = new Diagnostic("Diagnostic " + index).withNote("Note\nof " + index);
+                Assertions.assertTrue(sink.submit(diagnostic));
+                RENDERER.render(diagnostic, expected).append('\n');
+            }
+        }
+        Assertions.assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @org.junit.jupiter.api.Test
+    void blockingProducersLoseNothing() throws InterruptedException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DiagnosticSink sink = DiagnosticSink.builder(Channels.newChannel(output))
+                                            .renderer(RENDERER)
+                                            .capacity(8)
+                                            .overflowPolicy(DiagnosticSink.OverflowPolicy.BLOCK)
+                                            .build();
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < 4; producer++) {
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int index = 0; index < 1000; index++) {
+                    Assertions.assertTrue(sink.submit(new Diagnostic("Line")));
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        sink.close();
+        Assertions.assertEquals(4000, sink.written());
+        Assertions.assertEquals(0, sink.dropped());
+        Assertions.assertEquals(4000, output.toString(StandardCharsets.UTF_8).lines().count());
+        Assertions.assertFalse(sink.submit(new Diagnostic()));
+        Assertions.assertEquals(1, sink.dropped());
+    }
+
+    @org.junit.jupiter.api.Test
+    void droppingAndSamplingWhenFull() throws InterruptedException {
+        // Capacity 4 holds 4 diagnostics, while sampling accepts 2 until half full, and then only the first sampled
+        for (var policyAndAccepted : List.of(Map.entry(DiagnosticSink.OverflowPolicy.DROP, 4),
+                                             Map.entry(DiagnosticSink.OverflowPolicy.SAMPLE, 3))) {
+            GatedChannel channel = new GatedChannel();
+            DiagnosticSink sink = DiagnosticSink.builder(channel)
+                                                .renderer(RENDERER)
+                                                .capacity(4)
+                                                .overflowPolicy(policyAndAccepted.getKey())
+                                                .sampleOneIn(1000)
+                                                .build();
+            Assertions.assertTrue(sink.submit(new Diagnostic("Blocks the channel")));
+            channel.entered.await();
+            int accepted = 0;
+            for (int index = 0; index < 20; index++) {
+                accepted += sink.submit(new Diagnostic("Diagnostic " + index)) ? 1 : 0;
+            }
+            Assertions.assertEquals((int) policyAndAccepted.getValue(), accepted);
+            Assertions.assertEquals(accepted, sink.queued());
+            Assertions.assertEquals(20 - accepted, sink.dropped());
+            channel.gate.countDown();
+            sink.close();
+            Assertions.assertEquals(accepted + 1, sink.written());
+            Assertions.assertTrue(sink.failure().isNone());
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void failuresDontStopTheRenderingThread() throws InterruptedException {
+        WritableByteChannel failing = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) {
+                throw new NonWritableChannelException();
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {}
+        };
+        DiagnosticSink sink = DiagnosticSink.builder(failing)
+                                            .capacity(2)
+                                            .overflowPolicy(DiagnosticSink.OverflowPolicy.BLOCK)
+                                            .build();
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (int index = 0; index < 10; index++) {
+                sink.submit(new Diagnostic("Diagnostic " + index));
+            }
+        });
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        Assertions.assertFalse(producer.isAlive());
+        sink.close();
+        Assertions.assertEquals(0, sink.written());
+        Assertions.assertEquals(10, sink.dropped());
+        Assertions.assertTrue(sink.failure().unwrap() instanceof NonWritableChannelException);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.Result;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+class NoneTest {
+
+    @org.junit.jupiter.api.Test
+    void everyPathReturnsTheSharedNone() {
+        None<Object> none = None.instance();
+        Result<Integer, Exception> ok = Result.ok(6);
+        Result<Integer, Exception> err = Result.err(new Exception("Oh no, an error!"));
+        Option<Integer> noneInteger = Option.none();
+
+        Assertions.assertSame(none, Option.none());
+        Assertions.assertSame(none, Option.of((Integer) null));
+        Assertions.assertSame(none, Option.of(-1, -1));
+        Assertions.assertSame(none, Option.of(Optional.empty()));
+        Assertions.assertSame(none, Option.flatten(Option.none()));
+        Assertions.assertSame(none, Option.some(6).filter(number -> number > 10));
+        Assertions.assertSame(none, Option.some(6).xor(Option.some(7)));
+        Assertions.assertSame(none, noneInteger.map(number -> number + 1));
+        Assertions.assertSame(none, noneInteger.and(Option.some(7)));
+        Assertions.assertSame(none, noneInteger.andThen(Option::some));
+        Assertions.assertSame(none, Option.firstOf(noneInteger, noneInteger));
+        Assertions.assertSame(none, ok.err());
+        Assertions.assertSame(none, err.ok());
+        Assertions.assertSame(none, Result.transpose(Result.ok(Option.none())));
+        Assertions.assertSame(none, Result.joinOks(err, err));
+        Assertions.assertSame(none, Result.joinErrors(ok, ok));
+        Assertions.assertSame(none, Result.firstOk(err, err));
+        Assertions.assertSame(none, Result.firstError(ok, ok));
+        Assertions.assertSame(none, Option.transpose(Option.none()).unwrap());
+    }
+
+    @org.junit.jupiter.api.Test
+    void constructedNoneEqualsSharedNone() {
+        Assertions.assertEquals(new None<Integer>(), Option.none());
+        Assertions.assertEquals(Option.none(), new None<String>());
+        Assertions.assertEquals(new None<>().hashCode(), Option.none().hashCode());
+    }
+
+    @org.junit.jupiter.api.Test
+    void deserializationResolvesToSharedNone() throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(byteArrayOutputStream)) {
+            out.writeObject(new None<Integer>());
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            Assertions.assertSame(Option.none(), in.readObject());
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void nonePathsDoNotAllocate() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Result<Integer, Exception> ok = Result.ok(6);
+        Result<Integer, Exception> err = Result.err(new Exception("Oh no, an error!"));
+        Option<Integer> noneInteger = Option.none();
+        Option<Integer> six = Option.some(6);
+        Option<Integer> seven = Option.some(7);
+        int iterations = 100_000;
+        int nones = 0;
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            nones += Option.<Integer>none().isNone() ? 1 : 0;
+            nones += ok.err().isNone() ? 1 : 0;
+            nones += err.ok().isNone() ? 1 : 0;
+            nones += six.xor(seven).isNone() ? 1 : 0;
+            nones += noneInteger.and(six).isNone() ? 1 : 0;
+            nones += Option.firstOf(noneInteger, noneInteger).isNone() ? 1 : 0;
+            nones += Result.firstError(ok, ok).isNone() ? 1 : 0;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Assertions.assertEquals(iterations * 7, nones);
+        // Allocating a None on each call would take at least 12 bytes per call, so anything close to that is a leak.
+        Assertions.assertTrue(allocated < iterations, "None paths allocated " + allocated + " bytes");
+    }
+}
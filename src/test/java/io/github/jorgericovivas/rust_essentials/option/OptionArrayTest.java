@@ -0,0 +1,86 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class OptionArrayTest {
+
+    @org.junit.jupiter.api.Test
+    void storesOptions() {
+        OptionArray<String> names = new OptionArray<>(200);
+        names.setSome(0, "Alice");
+        names.setSome(63, "Belle");
+        names.setSome(64, "Claire");
+        names.set(199, Option.some("Diana"));
+        Assertions.assertEquals(200, names.length());
+        Assertions.assertEquals(4, names.countSome());
+        Assertions.assertTrue(names.isSome(63));
+        Assertions.assertTrue(names.isNone(62));
+        Assertions.assertEquals(Option.some("Claire"), names.get(64));
+        Assertions.assertSame(Option.none(), names.get(65));
+        Assertions.assertEquals("Nobody", names.unwrapOr(1, "Nobody"));
+
+        names.set(63, Option.none());
+        Assertions.assertTrue(names.isNone(63));
+        Assertions.assertEquals(3, names.countSome());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> names.isSome(200));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> names.setSome(-1, "Elena"));
+    }
+
+    @org.junit.jupiter.api.Test
+    void iteratesSomes() {
+        OptionArray<Integer> numbers = OptionArray.ofNullable(new Integer[]{null, 1, null, 3, null});
+        List<Integer> indexes = new ArrayList<>();
+        for (int index = numbers.nextSome(0); index >= 0; index = numbers.nextSome(index + 1)) {
+            indexes.add(index);
+        }
+        Assertions.assertEquals(List.of(1, 3), indexes);
+        Assertions.assertEquals(-1, numbers.nextSome(4));
+        Assertions.assertEquals(-1, numbers.nextSome(500));
+        Assertions.assertEquals(-1, new OptionArray<>(0).nextSome(0));
+    }
+
+    @org.junit.jupiter.api.Test
+    void bulkOperations() {
+        List<Option<Integer>> options = new ArrayList<>();
+        for (int index = 0; index < 1_000; index++) {
+            options.add(index % 3 == 0 ? Option.some(index) : Option.none());
+        }
+        OptionArray<Integer> numbers = OptionArray.of(options);
+        OptionArray<String> mapped = numbers.map(number -> "#" + number);
+        OptionArray<Integer> evens = numbers.filter(number -> number % 2 == 0);
+        for (int index = 0; index < 1_000; index++) {
+            Assertions.assertEquals(options.get(index).map(number -> "#" + number), mapped.get(index));
+            Assertions.assertEquals(options.get(index).filter(number -> number % 2 == 0), evens.get(index));
+        }
+        Assertions.assertEquals(numbers, OptionArray.of(options));
+        Assertions.assertEquals("[Some[value=0], None[], None[], Some[value=3]]",
+                                OptionArray.of(options.subList(0, 4)).toString());
+    }
+
+    @org.junit.jupiter.api.Test
+    void primitiveArrays() {
+        OptionIntArray counts = new OptionIntArray(130);
+        counts.setSome(5, 10);
+        counts.setSome(129, -3);
+        Assertions.assertEquals(OptionInt.some(10), counts.get(5));
+        Assertions.assertSame(OptionInt.none(), counts.get(6));
+        Assertions.assertEquals(-1, counts.unwrapOr(6, -1));
+        OptionIntArray positives = counts.map(value -> value * 2).filter(value -> value > 0);
+        Assertions.assertEquals(20, positives.unwrapOr(5, 0));
+        Assertions.assertTrue(positives.isNone(129));
+        Assertions.assertEquals(counts, OptionIntArray.from(counts.toOptionArray()));
+
+        OptionLongArray timestamps = OptionLongArray.of(List.of(OptionLong.some(1L), OptionLong.none()));
+        Assertions.assertEquals(OptionLong.some(2L), timestamps.map(value -> value + 1).get(0));
+        Assertions.assertEquals(1, timestamps.countSome());
+
+        OptionDoubleArray prices = OptionDoubleArray.of(List.of(OptionDouble.none(), OptionDouble.some(2.5)));
+        Assertions.assertEquals(1, prices.nextSome(0));
+        Assertions.assertEquals(5.0, prices.map(value -> value * 2).unwrapOr(1, 0));
+        prices.setNone(1);
+        Assertions.assertEquals(new OptionDoubleArray(2), prices);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.jorgericovivas.rust_essentials.option;
+
+import io.github.jorgericovivas.rust_essentials.result.IntResult;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+class OptionIntTest {
+
+    @org.junit.jupiter.api.Test
+    void chain() {
+        int doubledPrice = OptionInt.of(5, -1)
+                                    .map(price -> price * 2)
+                                    .filter(price -> price > 0)
+                                    .unwrapOr(0);
+        Assertions.assertEquals(10, doubledPrice);
+
+        int missingPrice = OptionInt.of(-1, -1)
+                                    .map(price -> price * 2)
+                                    .filter(price -> price > 0)
+                                    .unwrapOr(0);
+        Assertions.assertEquals(0, missingPrice);
+    }
+
+    @org.junit.jupiter.api.Test
+    void conversions() {
+        Assertions.assertEquals(OptionInt.some(5), OptionInt.from(Option.some(5)));
+        Assertions.assertSame(OptionInt.none(), OptionInt.from(Option.none()));
+        Assertions.assertEquals(Option.some(5), OptionInt.some(5).toOption());
+        Assertions.assertSame(Option.none(), OptionInt.none().toOption());
+
+        Assertions.assertEquals(OptionInt.some(5), OptionInt.of(OptionalInt.of(5)));
+        Assertions.assertSame(OptionInt.none(), OptionInt.of(OptionalInt.empty()));
+        Assertions.assertEquals(OptionalInt.of(5), OptionInt.some(5).toOptional());
+        Assertions.assertEquals(OptionalInt.empty(), OptionInt.none().toOptional());
+
+        Assertions.assertSame(OptionInt.none(), OptionInt.ofNullable(null));
+        Assertions.assertEquals(IntResult.ok(5), OptionInt.some(5).okOr("No value"));
+        Assertions.assertEquals(IntResult.err("No value"), OptionInt.none().okOr("No value"));
+    }
+
+    @org.junit.jupiter.api.Test
+    void doubleSpecialValues() {
+        Assertions.assertSame(OptionDouble.none(), OptionDouble.of(Double.NaN, Double.NaN));
+        Assertions.assertEquals(OptionDouble.some(2.5), OptionDouble.of(OptionalDouble.of(2.5)));
+    }
+
+    @org.junit.jupiter.api.Test
+    void patternMatching() {
+        OptionLong possibleCount = OptionLong.some(5L);
+        long count = switch (possibleCount) {
+            case NoneLong() -> 0L;
+            case SomeLong(var value) -> value;
+        };
+        Assertions.assertEquals(5L, count);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class AsyncResultTest {
+
+    static String slowly(String value, long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IOException("Interrupted while reading " + value, e);
+        }
+        return value;
+    }
+
+    @org.junit.jupiter.api.Test
+    void chain() {
+        AsyncResult<Integer, String> length = AsyncResult.checked(() -> slowly("Hello", 10))
+                                                         .mapError(Throwable::getMessage)
+                                                         .map(String::length)
+                                                         .andThen(count -> count > 3 ? Result.ok(count) : Result.err("Too short"))
+                                                         .andThenAsync(count -> AsyncResult.ok(count * 2));
+        Assertions.assertEquals(Result.ok(10), length.join());
+
+        AsyncResult<Integer, Integer> recovered = AsyncResult.<Integer, String>err("Not found")
+                                                             .orElse(error -> Result.err(error.length()))
+                                                             .orElseAsync(errorLength -> AsyncResult.ok(-errorLength));
+        Assertions.assertEquals(Result.ok(-9), recovered.join());
+    }
+
+    @org.junit.jupiter.api.Test
+    void timeoutIsTypedErr() {
+        AsyncResult<String, IOException> slow = AsyncResult.checked(() -> slowly("slow", 5_000))
+                                                           .timeout(Duration.ofMillis(20), () -> new IOException("Timed out"));
+        Assertions.assertEquals("Timed out", slow.join().unwrapErr().getMessage());
+
+        AsyncResult<String, IOException> fast = AsyncResult.checked(() -> slowly("fast", 0))
+                                                           .timeout(Duration.ofSeconds(5), () -> new IOException("Timed out"));
+        Assertions.assertEquals(Result.ok("fast"), fast.join());
+    }
+
+    @org.junit.jupiter.api.Test
+    void manyConcurrentCalls() {
+        List<AsyncResult<Integer, IOException>> calls = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int index = i;
+            calls.add(AsyncResult.checked(() -> slowly("call", 10)).map(ignored -> index));
+        }
+        for (int i = 0; i < calls.size(); i++) {
+            Assertions.assertEquals(Result.ok(i), calls.get(i).join());
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void exceptions() {
+        AsyncResult<Object, Throwable> failed = AsyncResult.catching(CompletableFuture.failedFuture(new IOException("Failed")));
+        Assertions.assertEquals("Failed", failed.join().unwrapErr().getMessage());
+
+        Assertions.assertTrue(AsyncResult.catching(CompletableFuture.runAsync(() -> {})).join().unwrapErr()
+                              instanceof NullPointerException);
+        Assertions.assertEquals(Result.ok(new Tuple0()),
+                                AsyncResult.catchingVoid(CompletableFuture.runAsync(() -> {})).join());
+        Assertions.assertEquals("Failed", AsyncResult.catchingVoid(CompletableFuture.failedFuture(
+                new IOException("Failed"))).join().unwrapErr().getMessage());
+        AsyncResult<Integer, IOException> broken = AsyncResult.<String, IOException>ok("value").map(value -> {
+            throw new IllegalStateException("Broken mapper");
+        });
+        Assertions.assertThrows(IllegalStateException.class, broken::join);
+    }
+}
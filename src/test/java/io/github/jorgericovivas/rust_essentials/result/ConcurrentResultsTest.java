@@ -0,0 +1,110 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ConcurrentResultsTest {
+
+    static String slowly(String value, long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IOException("Interrupted while reading " + value, e);
+        }
+        return value;
+    }
+
+    static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void joinOksKeepsOrder() throws InterruptedException {
+        Result<List<String>, IOException> joined = Result.joinOksConcurrently(
+                () -> slowly("first", 50),
+                () -> slowly("second", 0),
+                () -> slowly("third", 20)
+        );
+        Assertions.assertEquals(Result.ok(List.of("first", "second", "third")), joined);
+        Assertions.assertEquals(Result.ok(List.of()), Result.<String, IOException>joinOksConcurrently(List.of()));
+    }
+
+    @org.junit.jupiter.api.Test
+    void joinOksCancelsOnFirstErr() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        long start = System.nanoTime();
+        Result<List<String>, IOException> joined = Result.joinOksConcurrently(
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return "slow";
+                },
+                () -> {
+                    awaitUninterruptibly(started);
+                    throw new IOException("Could not read");
+                }
+        );
+        Assertions.assertEquals("Could not read", joined.unwrapErr().getMessage());
+        Assertions.assertTrue(interrupted.get());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @org.junit.jupiter.api.Test
+    void firstOkCancelsTheRest() throws InterruptedException {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Result<String, List<IOException>> first = Result.firstOkConcurrently(
+                () -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return "slow";
+                },
+                () -> slowly("fast", 10)
+        );
+        Assertions.assertEquals(Result.ok("fast"), first);
+        Assertions.assertTrue(interrupted.get());
+    }
+
+    @org.junit.jupiter.api.Test
+    void firstOkCollectsEveryErr() throws InterruptedException {
+        Result<String, List<IOException>> first = Result.firstOkConcurrently(
+                () -> {
+                    slowly("first", 30);
+                    throw new IOException("first");
+                },
+                () -> {
+                    throw new IOException("second");
+                }
+        );
+        Assertions.assertEquals(List.of("first", "second"),
+                                first.unwrapErr().stream().map(Throwable::getMessage).toList());
+    }
+
+    @org.junit.jupiter.api.Test
+    void runtimeExceptionsAreThrown() {
+        Assertions.assertThrows(IllegalStateException.class, () -> Result.<String, IOException>joinOksConcurrently(
+                () -> slowly("value", 0),
+                () -> {
+                    throw new IllegalStateException("Not an Err");
+                }
+        ));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple0;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ErrorClassifierTest {
+
+    static final ErrorClassifier<Exception> CLASSIFIER = ErrorClassifier.<Exception>builder()
+            .err(IOException.class)
+            .err(NumberFormatException.class)
+            .rethrow(FileNotFoundException.class)
+            .translate(UncheckedIOException.class, UncheckedIOException::getCause)
+            .build();
+
+    static <T> T thrower(Throwable thrown) throws Throwable {
+        throw thrown;
+    }
+
+    @org.junit.jupiter.api.Test
+    void turnsRegisteredClassesIntoErr() {
+        IOException io = new IOException("Oh no");
+        Assertions.assertEquals(Result.ok(5), CLASSIFIER.unchecked(() -> 5));
+        Assertions.assertEquals(Result.err(io), CLASSIFIER.unchecked(() -> thrower(io)));
+        Assertions.assertTrue(Result.unchecked(CLASSIFIER, () -> Integer.parseInt("x")).unwrapErr()
+                                      instanceof NumberFormatException);
+        Assertions.assertEquals(Result.ok(new Tuple0()), Result.unchecked(CLASSIFIER, () -> {}));
+    }
+
+    @org.junit.jupiter.api.Test
+    void mostSpecificRegistrationWins() {
+        FileNotFoundException notFound = new FileNotFoundException("missing.txt");
+        RuntimeException rethrown = Assertions.assertThrows(RuntimeException.class,
+                                                            () -> CLASSIFIER.unchecked(() -> thrower(notFound)));
+        Assertions.assertSame(notFound, rethrown.getCause());
+
+        IOException cause = new IOException("Wrapped");
+        Assertions.assertEquals(Result.err(cause),
+                                CLASSIFIER.unchecked(() -> thrower(new UncheckedIOException(cause))));
+    }
+
+    @org.junit.jupiter.api.Test
+    void unregisteredClassesAreThrownAgain() {
+        IllegalStateException illegalState = new IllegalStateException();
+        Assertions.assertSame(illegalState, Assertions.assertThrows(IllegalStateException.class,
+                                                                    () -> CLASSIFIER.classify(illegalState)));
+        Assertions.assertThrows(StackOverflowError.class, () -> CLASSIFIER.classify(new StackOverflowError()));
+        RuntimeException wrapped = Assertions.assertThrows(RuntimeException.class, () -> CLASSIFIER.classify(
+                new TimeoutException()));
+        Assertions.assertTrue(wrapped.getCause() instanceof TimeoutException);
+        Assertions.assertEquals(0, wrapped.getStackTrace().length);
+        wrapped.setStackTrace(new Throwable().getStackTrace());
+        Assertions.assertEquals(0, wrapped.getStackTrace().length);
+
+        ErrorClassifier<String> otherwise = ErrorClassifier.<String>builder()
+                .otherwise(thrown -> thrown.getClass().getSimpleName())
+                .build();
+        Assertions.assertEquals(Result.err("TimeoutException"),
+                                otherwise.unchecked(() -> thrower(new TimeoutException())));
+    }
+
+    @org.junit.jupiter.api.Test
+    void decisionsAreComputedOncePerClass() {
+        AtomicInteger translations = new AtomicInteger();
+        ErrorClassifier<String> classifier = ErrorClassifier.<String>builder()
+                .translate(IOException.class, exception -> "Translation " + translations.incrementAndGet())
+                .build();
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            Assertions.assertEquals("Translation " + attempt, classifier.classify(new FileNotFoundException()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> ErrorClassifier.<Object>builder().err(String.class));
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import io.github.jorgericovivas.rust_essentials.option.OptionDouble;
+import io.github.jorgericovivas.rust_essentials.option.OptionInt;
+import org.junit.jupiter.api.Assertions;
+
+class IntResultTest {
+
+    @org.junit.jupiter.api.Test
+    void chain() {
+        IntResult<String> five = IntResult.ok(5);
+        int doubled = five.map(number -> number * 2)
+                          .andThen(number -> number > 0 ? IntResult.ok(number) : IntResult.err("Negative"))
+                          .unwrapOr(0);
+        Assertions.assertEquals(10, doubled);
+
+        IntResult<String> negative = IntResult.ok(-5);
+        IntResult<Integer> errorLength = negative.andThen(number -> number > 0 ? IntResult.ok(number) : IntResult.err("Negative"))
+                                                 .map(number -> number * 2)
+                                                 .mapError(String::length);
+        Assertions.assertEquals(IntResult.err(8), errorLength);
+        Assertions.assertEquals(0, errorLength.unwrapOr(0));
+        Assertions.assertThrows(IllegalCallerException.class, errorLength::unwrap);
+    }
+
+    @org.junit.jupiter.api.Test
+    void conversions() {
+        Assertions.assertEquals(IntResult.ok(5), IntResult.from(Result.ok(5)));
+        Assertions.assertEquals(IntResult.err("Error"), IntResult.from(Result.err("Error")));
+        Assertions.assertEquals(Result.ok(5), IntResult.ok(5).toResult());
+        Assertions.assertEquals(Result.err("Error"), IntResult.err("Error").toResult());
+
+        Assertions.assertEquals(OptionInt.some(5), IntResult.ok(5).ok());
+        Assertions.assertSame(OptionInt.none(), IntResult.err("Error").ok());
+        Assertions.assertSame(Option.none(), IntResult.ok(5).err());
+        Assertions.assertEquals(Result.ok("5"), IntResult.ok(5).mapToObj(Integer::toString));
+        Assertions.assertEquals(LongResult.ok(5L), LongResult.from(Result.ok(5L)));
+        Assertions.assertEquals(DoubleResult.err("No value"), OptionDouble.none().okOr("No value"));
+    }
+
+    @org.junit.jupiter.api.Test
+    void patternMatching() {
+        DoubleResult<String> ratio = DoubleResult.ok(0.5);
+        String described = switch (ratio) {
+            case DoubleErr(var error) -> "Could not compute the ratio: " + error;
+            case DoubleOk(var value) -> "The ratio is " + value;
+        };
+        Assertions.assertEquals("The ratio is 0.5", described);
+    }
+}
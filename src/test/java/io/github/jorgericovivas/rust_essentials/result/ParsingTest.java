@@ -0,0 +1,111 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+
+class ParsingTest {
+
+    @org.junit.jupiter.api.Test
+    void parseIntegers() {
+        Assertions.assertEquals(IntResult.ok(-42), Parsing.parseInt("-42"));
+        Assertions.assertEquals(IntResult.ok(Integer.MIN_VALUE), Parsing.parseInt("-2147483648"));
+        Assertions.assertEquals(IntResult.ok(255), Parsing.parseInt("ff", 0, 2, 16));
+        Assertions.assertSame(Parsing.parseInt(""), Parsing.parseInt(""));
+        Assertions.assertEquals(IntResult.err(ParseError.EMPTY), Parsing.parseInt(""));
+        Assertions.assertEquals(IntResult.err(ParseError.INVALID_DIGIT), Parsing.parseInt("-"));
+        Assertions.assertEquals(IntResult.err(ParseError.INVALID_DIGIT), Parsing.parseInt("12a"));
+        Assertions.assertEquals(IntResult.err(ParseError.POSITIVE_OVERFLOW), Parsing.parseInt("2147483648"));
+        Assertions.assertEquals(IntResult.err(ParseError.NEGATIVE_OVERFLOW), Parsing.parseInt("-2147483649"));
+        Assertions.assertEquals(LongResult.ok(Long.MAX_VALUE), Parsing.parseLong("+9223372036854775807"));
+        Assertions.assertEquals(LongResult.err(ParseError.POSITIVE_OVERFLOW), Parsing.parseLong("9223372036854775808"));
+
+        StringBuilder buffer = new StringBuilder("id=1234;count=-7");
+        Assertions.assertEquals(IntResult.ok(1234), Parsing.parseInt(buffer, 3, 4));
+        Assertions.assertEquals(LongResult.ok(-7L), Parsing.parseLong(buffer, 14, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Parsing.parseInt(buffer, 14, 3));
+    }
+
+    @org.junit.jupiter.api.Test
+    void parseIntegersLikeTheJdk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String text = Long.toString(random.nextLong() >> random.nextInt(64));
+            Assertions.assertEquals(LongResult.ok(Long.parseLong(text)), Parsing.parseLong(text));
+            IntResult<ParseError> parsed = Parsing.parseInt(text);
+            try {
+                Assertions.assertEquals(IntResult.ok(Integer.parseInt(text)), parsed);
+            } catch (NumberFormatException e) {
+                Assertions.assertTrue(parsed.isErrAnd(error -> error == ParseError.POSITIVE_OVERFLOW ||
+                        error == ParseError.NEGATIVE_OVERFLOW), text);
+            }
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void parseDoublesLikeTheJdk() {
+        String[] texts = {"0", "-0", "1", "1.5", "-2.25", ".5", "5.", "1e10", "1E-10", "  3.14  ", "2.5f", "7d",
+                "0.1", "0.3", "123456789012345", "1234567890123456789", "9007199254740993", "1e22", "1e23", "4.9e-324",
+                "1.7976931348623157e308", "1e400", "1e-400", "NaN", "-Infinity", "+Infinity", "0x1p3", "-0x1.8p1",
+                "0x.8P-1d", "000000000000000000000001.25", "0.000000000000000000000000123"};
+        for (String text : texts) {
+            Assertions.assertEquals(DoubleResult.ok(Double.parseDouble(text)), Parsing.parseDouble(text), text);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            double value = switch (i % 3) {
+                case 0 -> random.nextDouble();
+                case 1 -> Math.round(random.nextDouble() * 1_000_000) / 100.0;
+                default -> Double.longBitsToDouble(random.nextLong());
+            };
+            String text = Double.toString(value);
+            Assertions.assertEquals(DoubleResult.ok(Double.parseDouble(text)), Parsing.parseDouble(text), text);
+        }
+        String[] invalid = {"", "   ", ".", "-", "e5", "1e", "1e+", "1.5.5", "1,5", "nan", "Inf", "0x1", "0xp1", "1ff"};
+        for (String text : invalid) {
+            Assertions.assertThrows(NumberFormatException.class, () -> Double.parseDouble(text), text);
+            Assertions.assertTrue(Parsing.parseDouble(text).isErr(), text);
+        }
+        Assertions.assertEquals(DoubleResult.ok(3.5), Parsing.parseDouble("price=3.5;", 6, 3));
+    }
+
+    @org.junit.jupiter.api.Test
+    void parseUuids() {
+        UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(Result.ok(uuid), Parsing.parseUuid(uuid.toString()));
+        Assertions.assertEquals(Result.ok(uuid), Parsing.parseUuid("id:" + uuid.toString().toUpperCase() + ";", 3, 36));
+        Assertions.assertEquals(Result.err(ParseError.EMPTY), Parsing.parseUuid(""));
+        Assertions.assertEquals(Result.err(ParseError.INVALID_FORMAT), Parsing.parseUuid("1-2-3-4-5"));
+        Assertions.assertEquals(Result.err(ParseError.INVALID_DIGIT),
+                                Parsing.parseUuid("123e4567-e89b-12d3-a456-42661417400g"));
+    }
+
+    @org.junit.jupiter.api.Test
+    void parseInstantsLikeTheJdk() {
+        String[] texts = {"2024-01-01T00:00:00Z", "1970-01-01T00:00:00Z", "1969-12-31T23:59:59.999999999Z",
+                "2024-02-29T12:30:45.5Z", "2024-01-01t00:00:00z", "2024-01-01T00:00:00.Z", "2024-01-01T00:00:00+01:00",
+                "2024-01-01T00:00:00-05:30", "2024-01-01T00:00:00+01:00:30", "2024-01-01T24:00:00Z",
+                "2024-12-31T23:59:60Z", "+12024-01-01T00:00:00Z", "-0001-01-01T00:00:00Z", "0000-03-01T00:00:00Z",
+                "+1000000000-12-31T23:59:59.999999999Z", "-1000000000-01-01T00:00:00Z", "1900-02-28T00:00:00Z"};
+        for (String text : texts) {
+            Assertions.assertEquals(Result.ok(Instant.parse(text)), Parsing.parseInstant(text), text);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 300_000_000_000L, random.nextInt(1_000_000_000));
+            Assertions.assertEquals(Result.ok(instant), Parsing.parseInstant(instant.toString()), instant.toString());
+        }
+        String[] invalid = {"", "2024-01-01", "2024-01-01T00:00Z", "2024-01-01T00:00:00", "+2024-01-01T00:00:00Z",
+                "12024-01-01T00:00:00Z", "2024-02-30T00:00:00Z", "2023-02-29T00:00:00Z", "2024-13-01T00:00:00Z",
+                "2024-01-01T12:30:60Z", "2024-01-01T24:00:01Z", "2024-01-01T00:00:00.1234567891Z",
+                "2024-01-01T00:00:00+01", "2024-01-01T00:00:00+19:00", "2024-01-01T00:00:00+01:60",
+                "+1000000001-01-01T00:00:00Z", "2024-01-01T00:00:00ZZ", "2024-0a-01T00:00:00Z"};
+        for (String text : invalid) {
+            Assertions.assertThrows(RuntimeException.class, () -> Instant.parse(text), text);
+            Assertions.assertTrue(Parsing.parseInstant(text).isErr(), text);
+        }
+        Assertions.assertEquals(Result.ok(Instant.EPOCH), Parsing.parseInstant("at 1970-01-01T00:00:00Z.", 3, 20));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class ResultPipelineTest {
+
+    static final ResultPipeline<String, Integer, String> PARSE_POSITIVE = ResultPipeline.<String, String>start()
+            .map(String::strip)
+            .andThen(text -> Parsing.parseInt(text).mapError(ParseError::description).toResult())
+            .andThen(number -> number > 0 ? Result.ok(number) : Result.err("The number is not positive"));
+
+    @org.junit.jupiter.api.Test
+    void sameResultAsChaining() {
+        Function<String, Result<Integer, String>> chained = text -> Result.<String, String>ok(text)
+                .map(String::strip)
+                .andThen(stripped -> Parsing.parseInt(stripped).mapError(ParseError::description).toResult())
+                .andThen(number -> number > 0 ? Result.ok(number) : Result.err("The number is not positive"));
+        for (String text : List.of(" 42 ", "-42", "forty-two", "")) {
+            Assertions.assertEquals(chained.apply(text), PARSE_POSITIVE.apply(text), text);
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void errorSteps() {
+        List<String> inspected = new ArrayList<>();
+        ResultPipeline<String, Integer, Integer> recovering = PARSE_POSITIVE
+                .inspectErr(inspected::add)
+                .orElse(error -> error.contains("positive") ? Result.ok(0) : Result.err(error))
+                .mapError(String::length)
+                .inspect(number -> inspected.add("Ok " + number));
+
+        Assertions.assertEquals(Result.ok(0), recovering.apply("-1"));
+        Assertions.assertEquals(Result.err(ParseError.INVALID_DIGIT.description().length()), recovering.apply("x"));
+        Assertions.assertEquals(Result.ok(7), recovering.apply("7"));
+        Assertions.assertEquals(List.of("The number is not positive", "Ok 0", ParseError.INVALID_DIGIT.description(),
+                                        "Ok 7"), inspected);
+        Assertions.assertEquals(3, PARSE_POSITIVE.steps());
+        Assertions.assertEquals(Result.ok("value"), ResultPipeline.<String, String>start().apply("value"));
+    }
+
+    @org.junit.jupiter.api.Test
+    void onlyTheLastResultIsAllocated() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        ResultPipeline<String, String, String> pipeline = ResultPipeline.start();
+        for (int i = 0; i < 10; i++) {
+            pipeline = pipeline.map(String::strip);
+        }
+        String input = "value";
+        int iterations = 100_000;
+        int oks = 0;
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            oks += pipeline.apply(input).isOk() ? 1 : 0;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Assertions.assertEquals(iterations, oks);
+        // A single Ok takes 16 bytes, while chaining 10 maps would create 10 of them on each call.
+        Assertions.assertTrue(allocated < iterations * 32L, "Pipeline allocated " + allocated + " bytes");
+    }
+}
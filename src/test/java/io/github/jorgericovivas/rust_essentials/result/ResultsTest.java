@@ -0,0 +1,59 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.tuples.Tuple2;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ResultsTest {
+
+    static Result<Integer, String> evenOnly(int number) {
+        return number % 2 == 0 ? Result.ok(number) : Result.err("Odd " + number);
+    }
+
+    @org.junit.jupiter.api.Test
+    void sequencing() {
+        List<Integer> evens = IntStream.range(0, 100_000).map(number -> number * 2).boxed().toList();
+        Assertions.assertEquals(Result.ok(evens), evens.stream().map(ResultsTest::evenOnly).collect(Results.sequencing()));
+        Assertions.assertEquals(Result.ok(evens), evens.parallelStream().map(ResultsTest::evenOnly)
+                                                       .collect(Results.sequencing()));
+        Assertions.assertEquals(Result.ok(evens), Results.sequence(evens.parallelStream().map(ResultsTest::evenOnly)));
+
+        for (int attempt = 0; attempt < 20; attempt++) {
+            Assertions.assertEquals(Result.err("Odd 50001"), IntStream.range(50_000, 100_000).boxed().parallel()
+                                                                      .map(ResultsTest::evenOnly)
+                                                                      .collect(Results.sequencing()));
+            Assertions.assertEquals(Result.err("Odd 50001"), Results.sequence(IntStream.range(50_000, 100_000).boxed()
+                                                                                       .parallel()
+                                                                                       .map(ResultsTest::evenOnly)));
+        }
+        Assertions.assertEquals(Result.ok(List.of()), Results.sequence(Stream.<Result<Integer, String>>empty()));
+    }
+
+    @org.junit.jupiter.api.Test
+    void sequenceStopsAtFirstErr() {
+        AtomicInteger consumed = new AtomicInteger();
+        Result<List<Integer>, String> sequence = Results.sequence(IntStream.range(0, 1_000).boxed()
+                                                                           .peek(ignored -> consumed.incrementAndGet())
+                                                                           .map(number -> number < 10
+                                                                                   ? Result.<Integer, String>ok(number)
+                                                                                   : Result.<Integer, String>err("Too big")));
+        Assertions.assertEquals(Result.err("Too big"), sequence);
+        Assertions.assertEquals(11, consumed.get());
+    }
+
+    @org.junit.jupiter.api.Test
+    void partitionCountAndErrors() {
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().toList();
+        Tuple2<List<Integer>, List<String>> partition = Results.partition(numbers.parallelStream().map(ResultsTest::evenOnly));
+        Assertions.assertEquals(numbers.stream().filter(number -> number % 2 == 0).toList(), partition.v0);
+        Assertions.assertEquals(numbers.stream().filter(number -> number % 2 != 0).map(number -> "Odd " + number).toList(),
+                                partition.v1);
+        Assertions.assertEquals(partition.v1, Results.errors(numbers.parallelStream().map(ResultsTest::evenOnly)));
+        Assertions.assertEquals(new Tuple2<>(5_000L, 5_000L), Results.count(numbers.parallelStream().map(ResultsTest::evenOnly)));
+        Assertions.assertEquals(new Tuple2<>(1L, 0L), Stream.of(Result.ok(1)).collect(Results.counting()));
+    }
+}
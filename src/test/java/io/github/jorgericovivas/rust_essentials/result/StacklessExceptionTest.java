@@ -0,0 +1,40 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.junit.jupiter.api.Assertions;
+
+class StacklessExceptionTest {
+
+    static class NotFound extends StacklessException {
+        NotFound(String name) {
+            super("Could not find " + name);
+        }
+    }
+
+    static String find(String name) throws NotFound {
+        throw new NotFound(name);
+    }
+
+    @org.junit.jupiter.api.Test
+    void capturedWithoutStackTrace() {
+        Result<String, NotFound> found = Result.checked(() -> find("Alice"));
+        NotFound error = found.unwrapErr();
+        Assertions.assertEquals("Could not find Alice", error.getMessage());
+        Assertions.assertEquals(0, error.getStackTrace().length);
+
+        Result<String, NotFound> uncheckedFound = Result.unchecked(NotFound.class, () -> find("Belle"));
+        Assertions.assertEquals(0, uncheckedFound.unwrapErr().getStackTrace().length);
+    }
+
+    @org.junit.jupiter.api.Test
+    void sharedInstancesStayStackless() {
+        StacklessException shared = new StacklessException("Invalid value");
+        shared.setStackTrace(new StackTraceElement[]{new StackTraceElement("Class", "method", "Class.java", 1)});
+        shared.addSuppressed(new Exception("Suppressed"));
+        Assertions.assertEquals(0, shared.getStackTrace().length);
+        Assertions.assertEquals(0, shared.getSuppressed().length);
+
+        Exception cause = new Exception("Cause");
+        Assertions.assertSame(cause, new StacklessException("Invalid value", cause).getCause());
+        Assertions.assertNotEquals(0, cause.getStackTrace().length);
+    }
+}
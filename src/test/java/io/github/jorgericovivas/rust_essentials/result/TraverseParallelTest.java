@@ -0,0 +1,77 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class TraverseParallelTest {
+
+    static Result<Integer, String> evenOnly(int number) {
+        return number % 2 == 0 ? Result.ok(number) : Result.err("Odd " + number);
+    }
+
+    @org.junit.jupiter.api.Test
+    void keepsEncounterOrder() {
+        List<Integer> evens = IntStream.range(0, 100_000).map(number -> number * 2).boxed().toList();
+        Assertions.assertEquals(Result.ok(evens), Result.traverseParallel(evens, TraverseParallelTest::evenOnly));
+        Assertions.assertEquals(Result.ok(evens.stream().map(String::valueOf).toList()),
+                                Result.traverseParallel(evens, number -> Result.ok(String.valueOf(number))));
+        Assertions.assertEquals(Result.ok(List.of()), Result.traverseParallel(List.of(),
+                                                                              TraverseParallelTest::evenOnly));
+    }
+
+    @org.junit.jupiter.api.Test
+    void getsFirstErrInEncounterOrder() {
+        List<Integer> withOdds = IntStream.range(0, 100_000)
+                                          .map(index -> index == 30_000 || index == 90_000 ? index + 1 : index * 2)
+                                          .boxed().toList();
+        for (int attempt = 0; attempt < 20; attempt++) {
+            Assertions.assertEquals(Result.err("Odd 30001"),
+                                    Result.traverseParallel(withOdds, TraverseParallelTest::evenOnly));
+        }
+    }
+
+    @org.junit.jupiter.api.Test
+    void stopsAfterErr() {
+        AtomicInteger applied = new AtomicInteger();
+        Result<List<Integer>, String> traversal = Result.traverseParallel(
+                IntStream.range(0, 1_000_000).boxed().toList(),
+                number -> {
+                    applied.incrementAndGet();
+                    return number == 0 ? Result.err("First") : Result.ok(number);
+                });
+        Assertions.assertEquals(Result.err("First"), traversal);
+        Assertions.assertTrue(applied.get() < 1_000_000);
+    }
+
+    @org.junit.jupiter.api.Test
+    void throwsRuntimeExceptions() {
+        Assertions.assertThrows(IllegalStateException.class, () -> Result.traverseParallel(
+                IntStream.range(0, 1_000).boxed().toList(),
+                number -> {
+                    if (number == 500) {
+                        throw new IllegalStateException();
+                    }
+                    return Result.ok(number);
+                }));
+    }
+
+    @org.junit.jupiter.api.Test
+    void optionStopsOnFirstNone() {
+        List<Integer> numbers = IntStream.range(0, 100_000).boxed().toList();
+        Assertions.assertEquals(Option.some(numbers), Option.traverseParallel(numbers, Option::some));
+
+        AtomicInteger applied = new AtomicInteger();
+        Option<List<Integer>> traversal = Option.traverseParallel(
+                IntStream.range(0, 1_000_000).boxed().toList(),
+                number -> {
+                    applied.incrementAndGet();
+                    return number == 0 ? Option.none() : Option.some(number);
+                });
+        Assertions.assertEquals(Option.none(), traversal);
+        Assertions.assertTrue(applied.get() < 1_000_000);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.jorgericovivas.rust_essentials.result;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class TryScopeTest {
+
+    static Result<Integer, String> parse(String text) {
+        try {
+            return Result.ok(Integer.parseInt(text));
+        } catch (NumberFormatException e) {
+            return Result.err("Not a number: " + text);
+        }
+    }
+
+    static Result<Integer, String> sum(String first, String second) {
+        return Result.tryScope(scope -> {
+            int firstNumber = scope.q(parse(first));
+            int secondNumber = scope.q(parse(second));
+            return Result.ok(firstNumber + secondNumber);
+        });
+    }
+
+    @org.junit.jupiter.api.Test
+    void unwrapsOksAndReturnsFirstErr() {
+        Assertions.assertEquals(Result.ok(12), sum("5", "7"));
+        Assertions.assertEquals(Result.err("Not a number: x"), sum("x", "y"));
+        Assertions.assertEquals(Result.err("Not a number: y"), sum("5", "y"));
+        Assertions.assertEquals(Result.err("Negative"), Result.<Integer, String>tryScope(scope -> {
+            int number = scope.q(parse("-5"));
+            return number < 0 ? Result.err("Negative") : Result.ok(number);
+        }));
+    }
+
+    @org.junit.jupiter.api.Test
+    void stopsRunningTheBodyOnErr() {
+        int[] reached = new int[1];
+        Result<Integer, String> result = Result.tryScope(scope -> {
+            scope.q(parse("x"));
+            reached[0]++;
+            return Result.ok(0);
+        });
+        Assertions.assertEquals(Result.err("Not a number: x"), result);
+        Assertions.assertEquals(0, reached[0]);
+    }
+
+    @org.junit.jupiter.api.Test
+    void exitsAreNotCaughtAsExceptions() {
+        Result<Integer, String> result = Result.tryScope(scope -> {
+            try {
+                return Result.ok(scope.q(parse("x")));
+            } catch (Exception e) {
+                return Result.err("Caught " + e);
+            }
+        });
+        Assertions.assertEquals(Result.err("Not a number: x"), result);
+    }
+
+    @org.junit.jupiter.api.Test
+    void nestedScopes() {
+        Result<Integer, String> innerFails = Result.tryScope(outer -> {
+            Result<Integer, String> inner = Result.tryScope(scope -> Result.ok(scope.q(parse("x"))));
+            Assertions.assertEquals(Result.err("Not a number: x"), inner);
+            return Result.ok(outer.q(parse("1")));
+        });
+        Assertions.assertEquals(Result.ok(1), innerFails);
+
+        Result<Integer, String> outerFails = Result.tryScope(outer -> {
+            Result.<Integer, String>tryScope(inner -> Result.ok(outer.q(parse("y"))));
+            return Result.ok(0);
+        });
+        Assertions.assertEquals(Result.err("Not a number: y"), outerFails);
+    }
+
+    @org.junit.jupiter.api.Test
+    void closedScopesCantBeUsed() {
+        AtomicReference<TryScope<String>> leaked = new AtomicReference<>();
+        Result.tryScope((TryScope<String> scope) -> {
+            leaked.set(scope);
+            return Result.ok(0);
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> leaked.get().q(parse("1")));
+        Assertions.assertThrows(NullPointerException.class, () -> Result.tryScope(scope -> null));
+    }
+}
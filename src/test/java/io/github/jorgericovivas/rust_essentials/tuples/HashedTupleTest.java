@@ -0,0 +1,45 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashSet;
+import java.util.Set;
+
+class HashedTupleTest {
+
+    @org.junit.jupiter.api.Test
+    void conversions() {
+        HashedTuple3<String, Integer, Double> hashed = Tuples.record("Alice", 1, 2.5).hashed();
+        Assertions.assertEquals(Tuples.record("Alice", 1, 2.5), hashed.toRecord());
+        Assertions.assertEquals(Tuples.of("Alice", 1, 2.5), hashed.toClass());
+        Assertions.assertEquals(hashed, Tuples.of("Alice", 1, 2.5).hashed());
+        Assertions.assertEquals(hashed.hashCode(), Tuples.of("Alice", 1, 2.5).hashed().hashCode());
+        Assertions.assertNotEquals(hashed, Tuples.record("Alice", 2, 2.5).hashed());
+        Assertions.assertEquals("HashedTuple3{v0=Alice, v1=1, v2=2.5}", hashed.toString());
+        Assertions.assertEquals(new HashedTuple7<>(1, 2, 3, 4, 5, 6, 7), Tuples.record(1, 2, 3, 4, 5, 6, 7).hashed());
+        Assertions.assertEquals(new HashedTuple2<>(null, 1), Tuples.of_nullables(null, 1).hashed());
+    }
+
+    @org.junit.jupiter.api.Test
+    void orderMatters() {
+        Assertions.assertNotEquals(new HashedTuple2<>(1, 2).hashCode(), new HashedTuple2<>(2, 1).hashCode());
+        Assertions.assertNotEquals(new HashedTuple3<>(0, 0, 1).hashCode(), new HashedTuple3<>(0, 1, 0).hashCode());
+    }
+
+    @org.junit.jupiter.api.Test
+    void smallComponentsDontCollide() {
+        int side = 32;
+        Set<Integer> recordHashes = new HashSet<>();
+        Set<Integer> hashedHashes = new HashSet<>();
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                for (int z = 0; z < side; z++) {
+                    recordHashes.add(new Tuple3Record<>(x, y, z).hashCode());
+                    hashedHashes.add(new HashedTuple3<>(x, y, z).hashCode());
+                }
+            }
+        }
+        Assertions.assertTrue(recordHashes.size() < hashedHashes.size(), "Distinct " + recordHashes.size());
+        Assertions.assertTrue(hashedHashes.size() > side * side * side - 16, "Distinct " + hashedHashes.size());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashSet;
+import java.util.Set;
+
+class PrimitiveTuplesTest {
+
+    @org.junit.jupiter.api.Test
+    void conversions() {
+        IntIntTuple2 ints = Tuples.of_ints(1, 2);
+        Assertions.assertEquals(new Tuple2<>(1, 2), ints.toTuple2());
+        Assertions.assertEquals(ints, IntIntTuple2.from(ints.toTuple2()));
+        Assertions.assertEquals(Tuples.record_of_ints(1, 2), ints.record());
+        Assertions.assertEquals(ints, ints.toRecord().toClass());
+
+        LongLongTuple2Record longs = Tuples.record_of_longs(1L, 2L);
+        Assertions.assertEquals(new Tuple2Record<>(1L, 2L), longs.toTuple2Record());
+        Assertions.assertEquals(longs, LongLongTuple2Record.from(longs.toTuple2Record()));
+
+        IntLongTuple2 mixed = Tuples.of_int_long(1, 2L);
+        Assertions.assertEquals(new Tuple2<>(1, 2L), mixed.toTuple2());
+        Assertions.assertEquals("IntLongTuple2{v0=1, v1=2}", mixed.toString());
+
+        DoubleDoubleTuple2Record doubles = Tuples.record_of_doubles(Double.NaN, -0.0);
+        Assertions.assertEquals(doubles, Tuples.record_of_doubles(Double.NaN, -0.0));
+        Assertions.assertNotEquals(doubles, Tuples.record_of_doubles(Double.NaN, 0.0));
+        Assertions.assertEquals(doubles.hashCode(), Tuples.of_doubles(Double.NaN, -0.0).hashCode());
+    }
+
+    @org.junit.jupiter.api.Test
+    void equalsMatchesHashCode() {
+        for (int first = -8; first < 8; first++) {
+            for (int second = -8; second < 8; second++) {
+                Assertions.assertEquals(Tuples.of_ints(first, second), Tuples.of_ints(first, second));
+                Assertions.assertEquals(Tuples.of_ints(first, second).hashCode(),
+                                        Tuples.record_of_ints(first, second).hashCode());
+                Assertions.assertEquals(Tuples.record_of_longs(first, second).hashCode(),
+                                        Tuples.record_of_longs(first, second).hashCode());
+            }
+        }
+        Assertions.assertNotEquals(Tuples.of_ints(1, 2), Tuples.of_ints(2, 1));
+    }
+
+    @org.junit.jupiter.api.Test
+    void hashIsWellMixed() {
+        int side = 64;
+        Set<Integer> boxedBuckets = new HashSet<>();
+        Set<Integer> primitiveBuckets = new HashSet<>();
+        Set<Integer> longBuckets = new HashSet<>();
+        for (int first = 0; first < side; first++) {
+            for (int second = 0; second < side; second++) {
+                boxedBuckets.add(new Tuple2Record<>(first, second).hashCode() & (side * side - 1));
+                primitiveBuckets.add(Tuples.record_of_ints(first, second).hashCode() & (side * side - 1));
+                longBuckets.add(Tuples.record_of_longs(first, second).hashCode() & (side * side - 1));
+            }
+        }
+        // A random hash fills about 63% of the buckets when there are as many keys as buckets.
+        Assertions.assertTrue(primitiveBuckets.size() > side * side / 2, "Used " + primitiveBuckets.size());
+        Assertions.assertTrue(longBuckets.size() > side * side / 2, "Used " + longBuckets.size());
+        Assertions.assertTrue(boxedBuckets.size() < primitiveBuckets.size());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+class TupleColumnsTest {
+
+    @org.junit.jupiter.api.Test
+    void storesRows() {
+        IntColumn ids = Column.ints();
+        DoubleColumn prices = Column.doubles();
+        Tuple3Columns<Integer, String, Double> rows = new Tuple3Columns<>(ids, Column.objects(), prices);
+        for (int row = 0; row < 1_000; row++) {
+            rows.add(row, "Row " + row, row * 0.5);
+        }
+        Assertions.assertEquals(1_000, rows.size());
+        Assertions.assertEquals(new Tuple3Record<>(10, "Row 10", 5.0), rows.get(10));
+        Assertions.assertEquals(999, ids.getInt(999));
+        Assertions.assertEquals(499.5, prices.getDouble(999));
+
+        ids.setInt(0, -1);
+        Assertions.assertEquals(Integer.valueOf(-1), rows.get(0).v0());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rows.get(1_000));
+
+        rows.clear();
+        Assertions.assertEquals(0, rows.size());
+    }
+
+    @org.junit.jupiter.api.Test
+    void convertsRecords() {
+        List<Tuple2Record<Long, String>> records = IntStream.range(0, 100)
+                                                            .mapToObj(row -> new Tuple2Record<>((long) row, "#" + row))
+                                                            .toList();
+        Tuple2Columns<Long, String> rows = new Tuple2Columns<Long, String>(Column.longs(), Column.objects())
+                .addAll(records.stream());
+        Assertions.assertEquals(records, rows.records().toList());
+        Assertions.assertEquals(records, Tuple2Columns.fromRecords(records.stream()).records().toList());
+
+        Tuple7Columns<Integer, Integer, Integer, Integer, Integer, Integer, Integer> sevenColumns = new Tuple7Columns<>();
+        sevenColumns.add(new Tuple7Record<>(0, 1, 2, 3, 4, 5, 6));
+        Assertions.assertEquals(new Tuple7Record<>(0, 1, 2, 3, 4, 5, 6), sevenColumns.get(0));
+    }
+
+    @org.junit.jupiter.api.Test
+    void cursorReusesTuple() {
+        Tuple2Columns<Integer, String> rows = new Tuple2Columns<>(Column.ints(), Column.objects());
+        rows.add(1, "one");
+        rows.add(2, "two");
+        List<Tuple2<Integer, String>> seen = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        rows.forEach(row -> {
+            seen.add(row);
+            values.add(row.v0 + "=" + row.v1);
+        });
+        Assertions.assertEquals(List.of("1=one", "2=two"), values);
+        Assertions.assertSame(seen.get(0), seen.get(1));
+
+        Tuple2<Integer, String> target = new Tuple2<>(null, null);
+        Assertions.assertSame(target, rows.read(1, target));
+        Assertions.assertEquals(new Tuple2<>(2, "two"), target);
+    }
+
+    @org.junit.jupiter.api.Test
+    void rejectedRowsLeaveColumnsInSync() {
+        Tuple3Columns<String, Integer, Long> rows = new Tuple3Columns<>(Column.objects(), Column.ints(), Column.longs());
+        rows.add("First", 1, 1L);
+        Assertions.assertThrows(NullPointerException.class, () -> rows.add("Second", 2, null));
+        Assertions.assertThrows(NullPointerException.class, () -> rows.add("Third", null, 3L));
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals(1, rows.column0().size());
+        Assertions.assertEquals(1, rows.column1().size());
+        rows.add("Fourth", 4, 4L);
+        Assertions.assertEquals(new Tuple3Record<>("Fourth", 4, 4L), rows.get(1));
+    }
+
+    @org.junit.jupiter.api.Test
+    void primitiveColumnsDoNotBox() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        IntColumn ids = Column.ints();
+        DoubleColumn prices = Column.doubles();
+        Tuple2Columns<Integer, Double> rows = new Tuple2Columns<>(ids, prices);
+        int iterations = 100_000;
+        rows.ensureCapacity(iterations);
+        double[] total = new double[1];
+        IntConsumer sum = row -> total[0] += ids.getInt(row) + prices.getDouble(row);
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int row = 0; row < iterations; row++) {
+            ids.addInt(1_000 + row);
+            prices.addDouble(row * 0.5);
+        }
+        rows.forEachRow(sum);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Assertions.assertEquals(iterations, rows.size());
+        Assertions.assertEquals(new Tuple2Record<>(1_010, 5.0), rows.get(10));
+        Assertions.assertTrue(total[0] > 0);
+        // Boxing each int and double would take at least 32 bytes per row, so anything close to that is a leak.
+        Assertions.assertTrue(allocated < iterations, "Unboxed rows allocated " + allocated + " bytes");
+    }
+
+    @org.junit.jupiter.api.Test
+    void columnsModifiedOnTheirOwnAreChecked() {
+        IntColumn ids = Column.ints();
+        Tuple2Columns<Integer, String> rows = new Tuple2Columns<>(ids, Column.objects());
+        rows.add(1, "one");
+        ids.addInt(2);
+        Assertions.assertThrows(IllegalStateException.class, rows::size);
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.get(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.read(0, new Tuple2<>(null, null)));
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.forEach(row -> {}));
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.forEachRow(row -> {}));
+        Assertions.assertThrows(IllegalStateException.class, () -> rows.add(3, "three"));
+        Assertions.assertEquals(2, ids.size());
+
+        rows.column1().add("two");
+        Assertions.assertEquals(new Tuple2Record<>(2, "two"), rows.get(1));
+    }
+
+    @org.junit.jupiter.api.Test
+    void mismatchedColumns() {
+        IntColumn ids = Column.ints();
+        ids.addInt(5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Tuple2Columns<>(ids, Column.objects()));
+    }
+}
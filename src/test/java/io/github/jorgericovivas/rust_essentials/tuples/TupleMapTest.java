@@ -0,0 +1,76 @@
+package io.github.jorgericovivas.rust_essentials.tuples;
+
+import io.github.jorgericovivas.rust_essentials.option.Option;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+class TupleMapTest {
+
+    @org.junit.jupiter.api.Test
+    void basicOperations() {
+        Tuple2Map<String, Integer, Double> prices = new Tuple2Map<>();
+        Assertions.assertTrue(prices.isEmpty());
+        Assertions.assertEquals(Option.none(), prices.put("Apple", 2024, 1.5));
+        Assertions.assertEquals(Option.some(1.5), prices.put("Apple", 2024, 1.75));
+        Assertions.assertEquals(Option.some(1.75), prices.get("Apple", 2024));
+        Assertions.assertEquals(Option.none(), prices.get("Apple", 2023));
+        Assertions.assertEquals(Double.valueOf(0.0), prices.getOrDefault("Pear", 2024, 0.0));
+        Assertions.assertEquals(Double.valueOf(2.0), prices.computeIfAbsent("Pear", 2024, (name, year) -> 2.0));
+        Assertions.assertEquals(Double.valueOf(2.0), prices.computeIfAbsent("Pear", 2024, (name, year) -> 3.0));
+        Assertions.assertTrue(prices.containsKey("Pear", 2024));
+        Assertions.assertEquals(2, prices.size());
+        Assertions.assertEquals(Option.some(2.0), prices.remove("Pear", 2024));
+        Assertions.assertEquals(Option.none(), prices.remove("Pear", 2024));
+        Assertions.assertEquals("Tuple2Map{Tuple3Record{v0=Apple, v1=2024, v2=1.75}}", prices.toString());
+        Assertions.assertThrows(NullPointerException.class, () -> prices.put(null, 2024, 1.0));
+
+        Tuple3Map<Integer, Integer, Integer, String> cells = new Tuple3Map<>();
+        cells.put(1, 2, 3, "a");
+        Assertions.assertEquals("a", cells.computeIfAbsent(1, 2, 3, key -> "b"));
+        Assertions.assertEquals("3,2,1", cells.computeIfAbsent(3, 2, 1,
+                                                               key -> key.v0() + "," + key.v1() + "," + key.v2()));
+        Assertions.assertEquals(Option.none(), cells.get(2, 1, 3));
+        cells.clear();
+        Assertions.assertEquals(0, cells.size());
+        Assertions.assertEquals(Option.none(), cells.get(1, 2, 3));
+    }
+
+    @org.junit.jupiter.api.Test
+    void behavesLikeHashMap() {
+        Random random = new Random(42);
+        Tuple2Map<Integer, Integer, Integer> map = new Tuple2Map<>();
+        Map<Tuple2Record<Integer, Integer>, Integer> reference = new HashMap<>();
+        for (int operation = 0; operation < 200_000; operation++) {
+            int a = random.nextInt(64);
+            int b = random.nextInt(64);
+            Tuple2Record<Integer, Integer> key = new Tuple2Record<>(a, b);
+            switch (random.nextInt(4)) {
+                case 0 -> Assertions.assertEquals(Option.of(reference.put(key, operation)), map.put(a, b, operation));
+                case 1 -> Assertions.assertEquals(Option.of(reference.remove(key)), map.remove(a, b));
+                case 2 -> Assertions.assertEquals(reference.computeIfAbsent(key, ignored -> -a),
+                                                  map.computeIfAbsent(a, b, (first, second) -> -first));
+                default -> Assertions.assertEquals(Option.of(reference.get(key)), map.get(a, b));
+            }
+            Assertions.assertEquals(reference.size(), map.size());
+        }
+        Map<Tuple2Record<Integer, Integer>, Integer> entries = map.entries().collect(Collectors.toMap(
+                entry -> new Tuple2Record<>(entry.v0(), entry.v1()), Tuple3Record::v2));
+        Assertions.assertEquals(reference, entries);
+    }
+
+    @org.junit.jupiter.api.Test
+    void grows() {
+        Tuple3Map<Long, Long, Long, Long> map = new Tuple3Map<>(4);
+        for (long value = 0; value < 100_000; value++) {
+            map.put(value, value >> 8, value & 0xFF, value);
+        }
+        Assertions.assertEquals(100_000, map.size());
+        for (long value = 0; value < 100_000; value++) {
+            Assertions.assertEquals(Long.valueOf(value), map.getOrDefault(value, value >> 8, value & 0xFF, -1L));
+        }
+    }
+}